@@ -41,6 +41,26 @@ public interface ElGamal {
 	ElGamalMultiRecipientCiphertext getCiphertext(final ElGamalMultiRecipientMessage message, final ZqElement exponent,
 			final ElGamalMultiRecipientPublicKey publicKey);
 
+	/**
+	 * Encrypts a message with the given precomputed public key and provided randomness. The resulting ciphertext is the same as the one obtained
+	 * with {@link #getCiphertext(ElGamalMultiRecipientMessage, ZqElement, ElGamalMultiRecipientPublicKey)} and the underlying public key, but
+	 * the key elements are exponentiated using their precomputed fixed-base tables.
+	 * <p>
+	 * The {@code message}, {@code exponent} and {@code precomputedPublicKey} parameters must comply with the following:
+	 * <ul>
+	 *     <li>the message size must be at most the number of precomputed public key elements.</li>
+	 *     <li>the message and the public key groups must be the same.</li>
+	 *     <li>the message and the exponent must belong to groups of same order.</li>
+	 * </ul>
+	 *
+	 * @param message              m, the plaintext message. Must be non null and not empty.
+	 * @param exponent             r, a random exponent. Must be non null.
+	 * @param precomputedPublicKey pk, the precomputed public key to use to encrypt the message. Must be non null.
+	 * @return A ciphertext containing the encrypted message.
+	 */
+	ElGamalMultiRecipientCiphertext getCiphertextWithPrecomputedKey(final ElGamalMultiRecipientMessage message, final ZqElement exponent,
+			final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey);
+
 	/**
 	 * Creates a neutral element for ciphertext multiplication.
 	 * <p>
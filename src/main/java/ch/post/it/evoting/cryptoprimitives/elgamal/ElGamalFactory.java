@@ -17,6 +17,7 @@
 package ch.post.it.evoting.cryptoprimitives.elgamal;
 
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalService;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 public class ElGamalFactory {
 
@@ -27,4 +28,11 @@ public class ElGamalFactory {
 	public static ElGamal createElGamal() {
 		return new ElGamalService();
 	}
+
+	/**
+	 * @param executionContext the execution context in which the returned service runs its operations. Not null.
+	 */
+	public static ElGamal createElGamal(final ExecutionContext executionContext) {
+		return new ElGamalService(executionContext);
+	}
 }
@@ -22,12 +22,13 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientObject;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -44,9 +45,6 @@ import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 @SuppressWarnings({ "java:S117", "java:S1117" })
 public final class ElGamalMultiRecipientCiphertext implements ElGamalMultiRecipientObject<GqElement, GqGroup>, HashableList {
 
-	private static final boolean ENABLE_PARALLEL_STREAMS = Boolean.parseBoolean(
-			System.getProperty("enable.parallel.streams", Boolean.TRUE.toString()));
-
 	private final GqElement gamma;
 	private final GroupVector<GqElement, GqGroup> phis;
 	private final GqGroup group;
@@ -109,12 +107,7 @@ public final class ElGamalMultiRecipientCiphertext implements ElGamalMultiRecipi
 		final GroupVector<GqElement, GqGroup> phi_a = C_a.phis;
 		final GroupVector<GqElement, GqGroup> phi_b = C_b.phis;
 
-		IntStream indices = IntStream.range(0, l);
-		if (ENABLE_PARALLEL_STREAMS) {
-			indices = indices.parallel();
-		}
-
-		final GroupVector<GqElement, GqGroup> phi = indices
+		final GroupVector<GqElement, GqGroup> phi = ParallelStreams.range(0, l, Workload.MULTIPLICATION.of(group))
 				.mapToObj(i -> phi_a.get(i).multiply(phi_b.get(i)))
 				.collect(toGroupVector());
 
@@ -139,16 +132,29 @@ public final class ElGamalMultiRecipientCiphertext implements ElGamalMultiRecipi
 		final ZqElement a = exponent;
 
 		final GqElement gamma = this.gamma.exponentiate(a);
+		final GroupVector<GqElement, GqGroup> phi = ParallelStreams.range(0, this.phis.size(), Workload.EXPONENTIATION.of(group))
+				.mapToObj(i -> this.phis.get(i).exponentiate(a))
+				.collect(toGroupVector());
 
-		Stream<GqElement> elementStream;
+		return new ElGamalMultiRecipientCiphertext(gamma, phi);
+	}
 
-		if (ENABLE_PARALLEL_STREAMS) {
-			elementStream = this.phis.parallelStream();
-		} else {
-			elementStream = this.phis.stream();
-		}
-		GroupVector<GqElement, GqGroup> phi = elementStream
-				.map(phi_i -> phi_i.exponentiate(a))
+	/**
+	 * Exponentiates each element of the multi-recipient ciphertext by a public exponent a, in variable time. The result is the same as
+	 * {@link #getCiphertextExponentiation(ZqElement)}, but this method must only be used when the exponent is public, for instance when verifying a
+	 * proof.
+	 *
+	 * @param exponent a, a public {@code ZqElement}. Must be non null and of the same group order as the ciphertext.
+	 * @return a ciphertext whose gamma and phis values are exponentiated with {@code exponent}.
+	 */
+	public ElGamalMultiRecipientCiphertext getCiphertextExponentiationPublic(final ZqElement exponent) {
+		checkNotNull(exponent);
+		checkArgument(this.group.hasSameOrderAs(exponent.getGroup()));
+		final ZqElement a = exponent;
+
+		final GqElement gamma = this.gamma.exponentiatePublic(a);
+		final GroupVector<GqElement, GqGroup> phi = ParallelStreams.range(0, this.phis.size(), Workload.EXPONENTIATION.of(group))
+				.mapToObj(i -> this.phis.get(i).exponentiatePublic(a))
 				.collect(toGroupVector());
 
 		return new ElGamalMultiRecipientCiphertext(gamma, phi);
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.elgamal;
+
+import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.integerToByteArray;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ByteArrays;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+
+/**
+ * A vector of N {@link ElGamalMultiRecipientCiphertext}s of size l, stored as an N &times; (l + 1) matrix of group element values. Row i holds the
+ * values of the ciphertext c<sub>i</sub> = (γ, 𝜙₀,..., 𝜙ₗ₋₁).
+ *
+ * <p>A GroupVector of ciphertexts holds a {@link GqElement} and a {@link BigInteger} per value, that is about 3(l + 1)N objects. This matrix
+ * instead stores each value as an unsigned big-endian integer of the byte length of p, in a few contiguous buffers allocated on or off the heap.
+ * The ciphertexts and their elements are decoded on access and are not retained. {@link #asGroupVector()}, {@link #getGammas()} and
+ * {@link #getPhis(int)} give GroupVector views of the matrix, which the algorithms operating on GroupVectors accept without copying it.</p>
+ *
+ * <p>Instances of this class are immutable.</p>
+ */
+public final class ElGamalMultiRecipientCiphertextMatrix {
+
+	// Maximal number of bytes of a buffer, below the limit of Integer.MAX_VALUE bytes of a ByteBuffer.
+	private static final int MAX_SEGMENT_LENGTH = 1 << 30;
+
+	private final GqGroup group;
+	private final int numberOfCiphertexts;
+	private final int ciphertextSize;
+	private final Storage storage;
+	private final int valueLength;
+	private final int rowLength;
+	private final int rowsPerSegment;
+	private final ByteBuffer[] segments;
+	private final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts;
+
+	private ElGamalMultiRecipientCiphertextMatrix(final Layout layout, final ByteBuffer[] segments) {
+		this.group = layout.group;
+		this.numberOfCiphertexts = layout.numberOfCiphertexts;
+		this.ciphertextSize = layout.ciphertextSize;
+		this.storage = layout.storage;
+		this.valueLength = layout.valueLength;
+		this.rowLength = layout.rowLength;
+		this.rowsPerSegment = layout.rowsPerSegment;
+		this.segments = segments;
+		this.ciphertexts = TrustedGroupVectors.vector(new IndexedList<>(numberOfCiphertexts, this::get));
+	}
+
+	/**
+	 * Returns a matrix of the given ciphertexts.
+	 *
+	 * @param ciphertexts the ciphertexts, which must respect the following:
+	 *                    <ul>
+	 *                    <li>the list must be non-null and non-empty</li>
+	 *                    <li>the list must not contain any nulls</li>
+	 *                    <li>all ciphertexts must be from the same group and of the same size</li>
+	 *                    </ul>
+	 * @param storage     where to allocate the values. Must be non-null.
+	 * @return the matrix of the ciphertexts.
+	 */
+	public static ElGamalMultiRecipientCiphertextMatrix from(final List<ElGamalMultiRecipientCiphertext> ciphertexts, final Storage storage) {
+		checkNotNull(storage);
+
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C = GroupVector.from(ciphertexts);
+		checkArgument(!C.isEmpty(), "There must be at least one ciphertext.");
+
+		final Builder builder = builder(C.getGroup(), C.size(), C.getElementSize(), storage);
+		// Setting a row converts its l + 1 values to bytes.
+		final long rowWork = (C.getElementSize() + 1L) * Workload.HASH.of(C.getGroup());
+		ParallelStreams.range(0, C.size(), rowWork).forEach(i -> builder.set(i, C.get(i)));
+
+		return builder.build();
+	}
+
+	/**
+	 * Returns a builder of a matrix of the given dimensions, whose rows are set one ciphertext at a time. This allows to produce a large matrix
+	 * without holding all its ciphertexts at once.
+	 *
+	 * @param group               the group of the ciphertexts. Must be non-null.
+	 * @param numberOfCiphertexts N, the number of ciphertexts. Must be strictly positive.
+	 * @param ciphertextSize      l, the number of phis of the ciphertexts. Must be strictly positive.
+	 * @param storage             where to allocate the values. Must be non-null.
+	 * @return the builder.
+	 */
+	public static Builder builder(final GqGroup group, final int numberOfCiphertexts, final int ciphertextSize, final Storage storage) {
+		checkNotNull(group);
+		checkNotNull(storage);
+		checkArgument(numberOfCiphertexts > 0, "The number of ciphertexts must be strictly positive.");
+		checkArgument(ciphertextSize > 0, "The size of the ciphertexts must be strictly positive.");
+
+		return new Builder(new Layout(group, numberOfCiphertexts, ciphertextSize, storage));
+	}
+
+	/**
+	 * @param i the index of the ciphertext. Must be in the range [0, N).
+	 * @return the ith ciphertext, decoded from the matrix.
+	 */
+	public ElGamalMultiRecipientCiphertext get(final int i) {
+		checkArgument(0 <= i && i < numberOfCiphertexts, "Trying to access index out of bound.");
+
+		// The values are read once, the elements of the row are views of them.
+		final GroupVector<GqElement, GqGroup> row = TrustedGroupVectors.gqElements(IntStream.rangeClosed(0, ciphertextSize)
+				.mapToObj(j -> value(i, j))
+				.toList(), group);
+
+		return ElGamalMultiRecipientCiphertext.create(row.get(0), row.subVector(1, ciphertextSize + 1));
+	}
+
+	/**
+	 * @return a view of the ciphertexts as a GroupVector. Its elements are decoded from the matrix on each access.
+	 */
+	public GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> asGroupVector() {
+		return ciphertexts;
+	}
+
+	/**
+	 * @return a view of the gammas of the ciphertexts as a GroupVector. Its elements are decoded from the matrix on each access.
+	 */
+	public GroupVector<GqElement, GqGroup> getGammas() {
+		return column(0);
+	}
+
+	/**
+	 * @param j the index of the phis. Must be in the range [0, l).
+	 * @return a view of the jth phis of the ciphertexts as a GroupVector. Its elements are decoded from the matrix on each access.
+	 */
+	public GroupVector<GqElement, GqGroup> getPhis(final int j) {
+		checkArgument(0 <= j && j < ciphertextSize, "Trying to access index out of bound.");
+
+		return column(j + 1);
+	}
+
+	/**
+	 * @return N, the number of ciphertexts.
+	 */
+	public int size() {
+		return numberOfCiphertexts;
+	}
+
+	/**
+	 * @return l, the number of phis of each ciphertext.
+	 */
+	public int getElementSize() {
+		return ciphertextSize;
+	}
+
+	public GqGroup getGroup() {
+		return group;
+	}
+
+	public Storage getStorage() {
+		return storage;
+	}
+
+	private GroupVector<GqElement, GqGroup> column(final int j) {
+		// The values were written from elements of the group.
+		return TrustedGroupVectors.gqElements(new IndexedList<>(numberOfCiphertexts, i -> value(i, j)), group);
+	}
+
+	private BigInteger value(final int i, final int j) {
+		final ByteBuffer segment = segments[i / rowsPerSegment];
+		final int offset = (i % rowsPerSegment) * rowLength + j * valueLength;
+
+		if (segment.hasArray()) {
+			return new BigInteger(1, segment.array(), segment.arrayOffset() + offset, valueLength);
+		}
+		final byte[] bytes = new byte[valueLength];
+		segment.get(offset, bytes);
+		return new BigInteger(1, bytes);
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final ElGamalMultiRecipientCiphertextMatrix that = (ElGamalMultiRecipientCiphertextMatrix) o;
+		return numberOfCiphertexts == that.numberOfCiphertexts && ciphertextSize == that.ciphertextSize && group.equals(that.group)
+				&& Arrays.equals(segments, that.segments);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(group, numberOfCiphertexts, ciphertextSize, Arrays.hashCode(segments));
+	}
+
+	@Override
+	public String toString() {
+		return "ElGamalMultiRecipientCiphertextMatrix{" + "N=" + numberOfCiphertexts + ", l=" + ciphertextSize + ", storage=" + storage + ", group="
+				+ group + '}';
+	}
+
+	/**
+	 * Where the values of a matrix are allocated.
+	 */
+	public enum Storage {
+		/**
+		 * In byte arrays on the heap.
+		 */
+		HEAP,
+		/**
+		 * In direct buffers outside the heap, which are released once the matrix is garbage collected. Their total size is limited by the
+		 * {@code -XX:MaxDirectMemorySize} option of the JVM.
+		 */
+		OFF_HEAP
+	}
+
+	/**
+	 * Builds an {@link ElGamalMultiRecipientCiphertextMatrix} by setting each of its rows exactly once.
+	 *
+	 * <p>Distinct rows may be set concurrently, for instance from a parallel stream, as long as {@link #build()} is called after all of them are
+	 * set. A builder can build a single matrix.</p>
+	 */
+	public static final class Builder {
+
+		private final Layout layout;
+		private final boolean[] isSet;
+		private ByteBuffer[] segments;
+
+		private Builder(final Layout layout) {
+			this.layout = layout;
+			this.isSet = new boolean[layout.numberOfCiphertexts];
+			this.segments = layout.allocate();
+		}
+
+		/**
+		 * Sets the ith row of the matrix.
+		 *
+		 * @param i          the index of the ciphertext. Must be in the range [0, N) and not already set.
+		 * @param ciphertext c<sub>i</sub>, the ciphertext. Must be non-null, of size l and of the group of the matrix.
+		 * @return this builder.
+		 */
+		public Builder set(final int i, final ElGamalMultiRecipientCiphertext ciphertext) {
+			checkNotNull(ciphertext);
+			checkState(segments != null, "The matrix is already built.");
+			checkArgument(0 <= i && i < layout.numberOfCiphertexts, "Trying to access index out of bound.");
+			checkArgument(!isSet[i], "The ciphertext %s is already set.", i);
+			checkArgument(ciphertext.size() == layout.ciphertextSize, "The ciphertext must be of size l.");
+			checkArgument(ciphertext.getGroup().equals(layout.group), "The ciphertext must be of the group of the matrix.");
+
+			final ByteBuffer segment = segments[i / layout.rowsPerSegment];
+			final int offset = (i % layout.rowsPerSegment) * layout.rowLength;
+			write(segment, offset, ciphertext.getGamma().getValue());
+			for (int j = 0; j < layout.ciphertextSize; j++) {
+				write(segment, offset + (j + 1) * layout.valueLength, ciphertext.get(j).getValue());
+			}
+			isSet[i] = true;
+
+			return this;
+		}
+
+		/**
+		 * @return the matrix of the set ciphertexts.
+		 * @throws IllegalStateException if not all rows are set or the matrix is already built.
+		 */
+		public ElGamalMultiRecipientCiphertextMatrix build() {
+			checkState(segments != null, "The matrix is already built.");
+			for (int i = 0; i < isSet.length; i++) {
+				checkState(isSet[i], "The ciphertext %s is not set.", i);
+			}
+
+			final ElGamalMultiRecipientCiphertextMatrix matrix = new ElGamalMultiRecipientCiphertextMatrix(layout, segments);
+			// The matrix owns the buffers from now on.
+			segments = null;
+			return matrix;
+		}
+
+		private void write(final ByteBuffer segment, final int offset, final BigInteger value) {
+			final byte[] bytes = integerToByteArray(value);
+			// The buffers are zero-initialized, hence the leading zeros are already in place.
+			segment.put(offset + layout.valueLength - bytes.length, bytes);
+		}
+	}
+
+	/**
+	 * The dimensions of a matrix and the position of its values in the buffers.
+	 */
+	private static final class Layout {
+
+		private final GqGroup group;
+		private final int numberOfCiphertexts;
+		private final int ciphertextSize;
+		private final Storage storage;
+		private final int valueLength;
+		private final int rowLength;
+		private final int rowsPerSegment;
+
+		private Layout(final GqGroup group, final int numberOfCiphertexts, final int ciphertextSize, final Storage storage) {
+			this.group = group;
+			this.numberOfCiphertexts = numberOfCiphertexts;
+			this.ciphertextSize = ciphertextSize;
+			this.storage = storage;
+			this.valueLength = ByteArrays.byteLength(group.getP());
+			this.rowLength = Math.multiplyExact(ciphertextSize + 1, valueLength);
+			checkArgument(rowLength <= MAX_SEGMENT_LENGTH, "The ciphertexts are too large to be stored in a matrix.");
+			this.rowsPerSegment = MAX_SEGMENT_LENGTH / rowLength;
+		}
+
+		private ByteBuffer[] allocate() {
+			final int numberOfSegments = (numberOfCiphertexts + rowsPerSegment - 1) / rowsPerSegment;
+			final ByteBuffer[] segments = new ByteBuffer[numberOfSegments];
+			for (int s = 0; s < numberOfSegments; s++) {
+				final int rows = Math.min(rowsPerSegment, numberOfCiphertexts - s * rowsPerSegment);
+				segments[s] = storage == Storage.HEAP ? ByteBuffer.allocate(rows * rowLength) : ByteBuffer.allocateDirect(rows * rowLength);
+			}
+			return segments;
+		}
+	}
+
+	/**
+	 * An unmodifiable list whose elements are computed from their index on each access.
+	 */
+	private static final class IndexedList<E> extends AbstractList<E> implements RandomAccess {
+
+		private final int size;
+		private final IntFunction<E> element;
+
+		private IndexedList(final int size, final IntFunction<E> element) {
+			this.size = size;
+			this.element = element;
+		}
+
+		@Override
+		public E get(final int index) {
+			Objects.checkIndex(index, size);
+			return element.apply(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
@@ -21,10 +21,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -67,8 +67,7 @@ public class ElGamalMultiRecipientKeyPair implements HashableList {
 		}
 
 		// Operation.
-		final List<KeyPairI> keyPairElements = IntStream.range(0, N) // Stream equivalent to for-loop.
-				.parallel()
+		final List<KeyPairI> keyPairElements = ParallelStreams.range(0, N) // Stream equivalent to for-loop.
 				.mapToObj(i -> {
 					final ZqElement sk_i = ZqElement.create(random.genRandomInteger(q), secretKeyGroup);
 					final GqElement pk_i = g.exponentiate(sk_i);
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.elgamal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.math.FixedBaseGqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+
+/**
+ * Encapsulates an {@link ElGamalMultiRecipientPublicKey} together with precomputed fixed-base tables for its first elements.
+ *
+ * <p>Encrypting many messages under the same public key, e.g. when re-encrypting the ciphertexts of a shuffle, exponentiates the same key elements
+ * over and over. This object pays the cost of the fixed-base tables once, after which every exponentiation of a precomputed key element is several
+ * times faster. The tables of a single element of a 3072-bit group take a few megabytes, hence only the elements actually needed for encryption
+ * should be precomputed.</p>
+ *
+ * <p>The tables are built for the longest prefix of these elements that fits in the memory budget given by the system property
+ * {@value #TABLES_MAXIMUM_SIZE_PROPERTY}, in bytes. The remaining elements are exponentiated without tables.</p>
+ *
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ */
+public final class ElGamalMultiRecipientPrecomputedPublicKey {
+
+	static final String TABLES_MAXIMUM_SIZE_PROPERTY = "elgamal.precomputed.key.tables.max.bytes";
+
+	private static final long DEFAULT_TABLES_MAXIMUM_SIZE = Long.parseLong(
+			System.getProperty(TABLES_MAXIMUM_SIZE_PROPERTY, String.valueOf(32L * 1024 * 1024)));
+
+	private final ElGamalMultiRecipientPublicKey publicKey;
+	private final int numElements;
+	private final List<FixedBaseGqElement> precomputedElements;
+
+	/**
+	 * Precomputes the fixed-base tables of the first {@code numElements} elements of the given public key, within the default memory budget.
+	 *
+	 * @param publicKey   the public key. Must be non-null.
+	 * @param numElements the number of key elements to precompute. Must be in the range [1, publicKey.size()].
+	 * @throws NullPointerException     if the public key is null.
+	 * @throws IllegalArgumentException if the number of elements is not in the range [1, publicKey.size()].
+	 */
+	public ElGamalMultiRecipientPrecomputedPublicKey(final ElGamalMultiRecipientPublicKey publicKey, final int numElements) {
+		this(publicKey, numElements, DEFAULT_TABLES_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Precomputes the fixed-base tables of all elements of the given public key, within the default memory budget.
+	 *
+	 * @param publicKey the public key. Must be non-null.
+	 * @throws NullPointerException if the public key is null.
+	 */
+	public ElGamalMultiRecipientPrecomputedPublicKey(final ElGamalMultiRecipientPublicKey publicKey) {
+		this(publicKey, checkNotNull(publicKey).size());
+	}
+
+	/**
+	 * Precomputes the fixed-base tables of the first {@code numElements} elements of the given public key, within the given memory budget.
+	 *
+	 * @param publicKey         the public key. Must be non-null.
+	 * @param numElements       the number of key elements to precompute. Must be in the range [1, publicKey.size()].
+	 * @param tablesMaximumSize the maximal size of the fixed-base tables, in bytes. Must be non-negative. Zero disables the tables.
+	 */
+	ElGamalMultiRecipientPrecomputedPublicKey(final ElGamalMultiRecipientPublicKey publicKey, final int numElements, final long tablesMaximumSize) {
+		checkNotNull(publicKey);
+		checkArgument(0 < numElements, "The number of precomputed elements must be strictly positive.");
+		checkArgument(numElements <= publicKey.size(), "There cannot be more precomputed elements than public key elements.");
+		checkArgument(tablesMaximumSize >= 0, "The maximum size of the tables must be non-negative.");
+
+		this.publicKey = publicKey;
+		this.numElements = numElements;
+
+		final int numberOfTables = (int) Math.min(numElements, tablesMaximumSize / FixedBaseGqElement.estimateSize(publicKey.getGroup()));
+		this.precomputedElements = ParallelStreams.range(0, numberOfTables)
+				.mapToObj(i -> new FixedBaseGqElement(publicKey.get(i)))
+				.toList();
+	}
+
+	/**
+	 * Exponentiates the i-th precomputed key element.
+	 *
+	 * @param i        the index of the key element. Must be in the range [0, size()).
+	 * @param exponent the exponent. Must be non-null and of the same group order as the public key.
+	 * @return pk<sub>i</sub><sup>exponent</sup>
+	 */
+	public GqElement exponentiate(final int i, final ZqElement exponent) {
+		checkElementIndex(i, numElements);
+		if (i < precomputedElements.size()) {
+			return precomputedElements.get(i).exponentiate(exponent);
+		}
+		return publicKey.get(i).exponentiate(exponent);
+	}
+
+	/**
+	 * Exponentiates the i-th precomputed key element by a public exponent. The result is the same as {@link #exponentiate(int, ZqElement)}, but
+	 * the exponentiation runs in variable time and must only be used when the exponent is public, for instance when verifying a proof.
+	 *
+	 * @param i        the index of the key element. Must be in the range [0, size()).
+	 * @param exponent the public exponent. Must be non-null and of the same group order as the public key.
+	 * @return pk<sub>i</sub><sup>exponent</sup>
+	 */
+	public GqElement exponentiatePublic(final int i, final ZqElement exponent) {
+		checkElementIndex(i, numElements);
+		if (i < precomputedElements.size()) {
+			return precomputedElements.get(i).exponentiatePublic(exponent);
+		}
+		return publicKey.get(i).exponentiatePublic(exponent);
+	}
+
+	public ElGamalMultiRecipientPublicKey getPublicKey() {
+		return publicKey;
+	}
+
+	public GqGroup getGroup() {
+		return publicKey.getGroup();
+	}
+
+	/**
+	 * @return the number of precomputed key elements.
+	 */
+	public int size() {
+		return numElements;
+	}
+
+	/**
+	 * @return the number of key elements whose fixed-base tables fit in the memory budget.
+	 */
+	int getNumberOfTables() {
+		return precomputedElements.size();
+	}
+}
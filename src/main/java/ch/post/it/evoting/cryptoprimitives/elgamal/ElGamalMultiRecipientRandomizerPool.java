@@ -0,0 +1,337 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.elgamal;
+
+import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.integerToByteArray;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.lang.ref.Cleaner;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ByteArrays;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.Random;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
+
+/**
+ * A bounded pool of precomputed encryption randomizers for an {@link ElGamalMultiRecipientPrecomputedPublicKey}.
+ *
+ * <p>Encrypting a message costs the exponentiations g<sup>r</sup> and pk<sub>i</sub><sup>r</sup>, none of which depends on the message. This pool
+ * computes them ahead of time and keeps them, as encryptions of the message of ones, in a queue of the configured depth. An encryption drawing
+ * from the pool then costs a single multiplication per message element. The pool is filled up to its depth when it is created, in the calling
+ * thread, and refilled asynchronously in its {@link ExecutionContext} whenever the number of available randomizers drops to the refill threshold,
+ * see {@link ExecutionContext#executeAsync(Runnable)}. At most one refill is pending at any time. An encryption finding the pool empty computes
+ * its randomizer directly, hence the pool never blocks.</p>
+ *
+ * <p>The resulting ciphertexts are distributed as the ones of
+ * {@link ElGamal#getCiphertext(ElGamalMultiRecipientMessage, ZqElement, ElGamalMultiRecipientPublicKey)} with a fresh random exponent. The
+ * exponent r itself is discarded as soon as its powers are computed. Each randomizer is removed from the pool when it is used, so that it is never
+ * used twice. The precomputed powers are as sensitive as the exponents, since they unmask the messages. They are therefore kept as byte arrays,
+ * which are overwritten with zeros once used or discarded. The pool must be closed once it is no longer needed, which stops the refilling and
+ * discards the unused randomizers. A pool becoming unreachable without being closed is closed by a {@link Cleaner}. The intermediate
+ * {@link BigInteger}s of the computations are immutable and left to the garbage collector.</p>
+ *
+ * <p>Instances of this class are thread-safe.</p>
+ */
+public final class ElGamalMultiRecipientRandomizerPool implements AutoCloseable {
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey;
+	private final int depth;
+	private final int refillThreshold;
+	private final Random random;
+	private final ExecutionContext executionContext;
+	private final int valueLength;
+	private final Randomizers randomizers;
+	private final Cleaner.Cleanable cleanable;
+	private final AtomicBoolean refilling = new AtomicBoolean();
+
+	/**
+	 * Creates a pool of the given depth, refilled once half of its randomizers are used in the {@link ExecutionContext#current() current context},
+	 * and fills it in the calling thread.
+	 *
+	 * @param precomputedPublicKey pk, the precomputed public key of the encryptions. Must be non-null.
+	 * @param depth                the maximal number of precomputed randomizers. Must be strictly positive.
+	 * @param random               the source of the random exponents. Must be non-null.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the depth is not strictly positive.
+	 */
+	public ElGamalMultiRecipientRandomizerPool(final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey, final int depth,
+			final Random random) {
+		this(precomputedPublicKey, depth, depth / 2, random, ExecutionContext.current());
+	}
+
+	/**
+	 * Creates a pool refilled in the {@link ExecutionContext#current() current context} and fills it up to its depth in the calling thread.
+	 *
+	 * @param precomputedPublicKey pk, the precomputed public key of the encryptions. Must be non-null.
+	 * @param depth                the maximal number of precomputed randomizers. Must be strictly positive.
+	 * @param refillThreshold      the number of available randomizers at or below which the pool is refilled up to its depth. Must be in the
+	 *                             range [0, depth).
+	 * @param random               the source of the random exponents. Must be non-null.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the depth is not strictly positive or the refill threshold not in the range [0, depth).
+	 */
+	public ElGamalMultiRecipientRandomizerPool(final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey, final int depth,
+			final int refillThreshold, final Random random) {
+		this(precomputedPublicKey, depth, refillThreshold, random, ExecutionContext.current());
+	}
+
+	/**
+	 * Creates a pool and fills it up to its depth in the calling thread.
+	 *
+	 * @param precomputedPublicKey pk, the precomputed public key of the encryptions. Must be non-null.
+	 * @param depth                the maximal number of precomputed randomizers. Must be strictly positive.
+	 * @param refillThreshold      the number of available randomizers at or below which the pool is refilled up to its depth. Must be in the
+	 *                             range [0, depth).
+	 * @param random               the source of the random exponents. Must be non-null.
+	 * @param executionContext     the context in which the pool is refilled. Must be non-null. The sequential context refills the pool in the
+	 *                             thread of the encryption triggering the refill.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the depth is not strictly positive or the refill threshold not in the range [0, depth).
+	 */
+	public ElGamalMultiRecipientRandomizerPool(final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey, final int depth,
+			final int refillThreshold, final Random random, final ExecutionContext executionContext) {
+		checkNotNull(precomputedPublicKey);
+		checkNotNull(random);
+		checkNotNull(executionContext);
+		checkArgument(depth > 0, "The depth of the pool must be strictly positive.");
+		checkArgument(0 <= refillThreshold && refillThreshold < depth, "The refill threshold must be in the range [0, depth).");
+
+		this.precomputedPublicKey = precomputedPublicKey;
+		this.depth = depth;
+		this.refillThreshold = refillThreshold;
+		this.random = random;
+		this.executionContext = executionContext;
+		this.valueLength = ByteArrays.byteLength(precomputedPublicKey.getGroup().getP());
+		this.randomizers = new Randomizers(depth);
+		this.cleanable = CLEANER.register(this, randomizers);
+
+		fillUpToDepth();
+	}
+
+	/**
+	 * Encrypts a message with a randomizer drawn from the pool. If the pool is empty, the randomizer is computed directly.
+	 * <p>
+	 * The message must comply with the following:
+	 * <ul>
+	 *     <li>the message size must be at most the number of precomputed public key elements.</li>
+	 *     <li>the message and the public key groups must be the same.</li>
+	 * </ul>
+	 *
+	 * @param message m, the plaintext message. Must be non null.
+	 * @return A ciphertext containing the encrypted message.
+	 * @throws NullPointerException     if the message is null.
+	 * @throws IllegalArgumentException if the message does not comply with the above.
+	 * @throws IllegalStateException    if the pool is closed.
+	 */
+	public ElGamalMultiRecipientCiphertext getCiphertext(final ElGamalMultiRecipientMessage message) {
+		checkNotNull(message);
+		checkArgument(message.getGroup().equals(precomputedPublicKey.getGroup()), "Message and public key must belong to the same group. ");
+		checkArgument(message.size() <= precomputedPublicKey.size(),
+				"There cannot be more message elements than precomputed public key elements.");
+		checkState(!randomizers.isClosed(), "The randomizer pool is closed.");
+
+		final ElGamalMultiRecipientMessage m = message;
+		final int l = m.size();
+
+		byte[] randomizer = randomizers.poll();
+		if (randomizers.size() <= refillThreshold) {
+			refill();
+		}
+		if (randomizer == null) {
+			randomizer = genRandomizer();
+		}
+
+		final GroupVector<GqElement, GqGroup> ones = decode(randomizer, l);
+		final List<GqElement> phis = IntStream.range(0, l)
+				.mapToObj(i -> ones.get(i + 1).multiply(m.get(i)))
+				.toList();
+
+		return ElGamalMultiRecipientCiphertext.create(ones.get(0), phis);
+	}
+
+	/**
+	 * Fills the pool up to its depth in the calling thread, e.g. to warm it up again after a burst of encryptions.
+	 *
+	 * @throws IllegalStateException if the pool is closed.
+	 */
+	public void fill() {
+		checkState(!randomizers.isClosed(), "The randomizer pool is closed.");
+		fillUpToDepth();
+	}
+
+	/**
+	 * @return the number of randomizers currently available in the pool.
+	 */
+	public int size() {
+		return randomizers.size();
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public GqGroup getGroup() {
+		return precomputedPublicKey.getGroup();
+	}
+
+	/**
+	 * Stops the refilling and discards the unused randomizers, overwriting them with zeros. Encrypting with a closed pool is not possible anymore.
+	 * A refill already running stops after its current randomizer.
+	 */
+	@Override
+	public void close() {
+		cleanable.clean();
+	}
+
+	private void refill() {
+		if (randomizers.isClosed() || !refilling.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			executionContext.executeAsync(() -> {
+				try {
+					fillUpToDepth();
+				} finally {
+					refilling.set(false);
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			// The execution context has been closed, the encryptions compute their randomizers directly from now on.
+			refilling.set(false);
+		}
+	}
+
+	private void fillUpToDepth() {
+		while (!randomizers.isClosed() && randomizers.remainingCapacity() > 0) {
+			if (!randomizers.offer(genRandomizer())) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Computes the encryption of the message of ones (g<sup>r</sup>, pk<sub>0</sub><sup>r</sup>, ..., pk<sub>k-1</sub><sup>r</sup>) for a fresh
+	 * random exponent r, k being the number of precomputed public key elements, and encodes it as k + 1 big-endian values of the byte length of p.
+	 */
+	@SuppressWarnings("java:S117")
+	private byte[] genRandomizer() {
+		final GqGroup gqGroup = precomputedPublicKey.getGroup();
+		final ZqGroup zqGroup = ZqGroup.sameOrderAs(gqGroup);
+		final ZqElement r = ZqElement.create(random.genRandomInteger(zqGroup.getQ()), zqGroup);
+		final int k = precomputedPublicKey.size();
+
+		final byte[] randomizer = new byte[(k + 1) * valueLength];
+		encode(randomizer, 0, gqGroup.getGenerator().exponentiate(r));
+		for (int i = 0; i < k; i++) {
+			encode(randomizer, i + 1, precomputedPublicKey.exponentiate(i, r));
+		}
+		return randomizer;
+	}
+
+	private void encode(final byte[] randomizer, final int index, final GqElement element) {
+		final byte[] bytes = integerToByteArray(element.getValue());
+		// The array is zero-initialized, hence the leading zeros are already in place.
+		System.arraycopy(bytes, 0, randomizer, (index + 1) * valueLength - bytes.length, bytes.length);
+		Arrays.fill(bytes, (byte) 0);
+	}
+
+	/**
+	 * Decodes the first l + 1 elements of a randomizer and overwrites it with zeros.
+	 */
+	private GroupVector<GqElement, GqGroup> decode(final byte[] randomizer, final int l) {
+		// The values were encoded from elements of the group.
+		final GroupVector<GqElement, GqGroup> elements = TrustedGroupVectors.gqElements(IntStream.rangeClosed(0, l)
+				.mapToObj(j -> new BigInteger(1, randomizer, j * valueLength, valueLength))
+				.toList(), precomputedPublicKey.getGroup());
+		Arrays.fill(randomizer, (byte) 0);
+		return elements;
+	}
+
+	/**
+	 * The queue of randomizers. As the cleaning action of the pool, it must not reference the pool.
+	 */
+	private static final class Randomizers implements Runnable {
+
+		private final BlockingQueue<byte[]> queue;
+		private volatile boolean closed;
+
+		private Randomizers(final int depth) {
+			this.queue = new ArrayBlockingQueue<>(depth);
+		}
+
+		private boolean offer(final byte[] randomizer) {
+			if (closed || !queue.offer(randomizer)) {
+				Arrays.fill(randomizer, (byte) 0);
+				return false;
+			}
+			if (closed) {
+				// The pool was closed concurrently, after discarding the randomizers.
+				discard();
+				return false;
+			}
+			return true;
+		}
+
+		private byte[] poll() {
+			return queue.poll();
+		}
+
+		private int size() {
+			return queue.size();
+		}
+
+		private int remainingCapacity() {
+			return queue.remainingCapacity();
+		}
+
+		private boolean isClosed() {
+			return closed;
+		}
+
+		/**
+		 * Closes the pool and discards its randomizers. Runs once, either when the pool is closed or when it becomes unreachable.
+		 */
+		@Override
+		public void run() {
+			closed = true;
+			discard();
+		}
+
+		private void discard() {
+			byte[] randomizer;
+			while ((randomizer = queue.poll()) != null) {
+				Arrays.fill(randomizer, (byte) 0);
+			}
+		}
+	}
+}
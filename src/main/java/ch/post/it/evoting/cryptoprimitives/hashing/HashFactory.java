@@ -18,6 +18,7 @@
 package ch.post.it.evoting.cryptoprimitives.hashing;
 
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 public class HashFactory {
 
@@ -28,4 +29,11 @@ public class HashFactory {
 	public static Hash createHash() {
 		return HashService.getInstance();
 	}
+
+	/**
+	 * @param executionContext the execution context in which the returned service runs its operations. Not null.
+	 */
+	public static Hash createHash(final ExecutionContext executionContext) {
+		return HashService.getInstance(executionContext);
+	}
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.hashing;
+
+/**
+ * Interface to be implemented by immutable objects whose hashable form is a list of {@link Hashable} objects, which never changes.
+ *
+ * <p>The recursive hash of such an object may be computed once per hash function and output length and reused as long as the object is
+ * reachable. Implementing this interface is therefore only correct if the hashable form of the object, and recursively of all its elements, is
+ * constant. It is meant for long-lived objects that are hashed many times, such as groups and commitment keys: memoizing the hashes of
+ * short-lived objects costs memory without saving any work.</p>
+ */
+public interface ImmutableHashableList extends HashableList {
+}
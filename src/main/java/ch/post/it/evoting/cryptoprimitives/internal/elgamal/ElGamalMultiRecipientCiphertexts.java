@@ -17,18 +17,26 @@
 package ch.post.it.evoting.cryptoprimitives.internal.elgamal;
 
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages.getMessage;
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.LinkedList;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrecomputedPublicKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -37,9 +45,6 @@ import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
 
 public class ElGamalMultiRecipientCiphertexts {
 
-	private static final boolean ENABLE_PARALLEL_STREAMS = Boolean.parseBoolean(
-			System.getProperty("enable.parallel.streams", Boolean.TRUE.toString()));
-
 	private ElGamalMultiRecipientCiphertexts() {
 		//Intentionally left blank
 	}
@@ -54,6 +59,52 @@ public class ElGamalMultiRecipientCiphertexts {
 		return ElGamalMultiRecipientCiphertext.create(group.getIdentity(), Stream.generate(group::getIdentity).limit(numPhi).toList());
 	}
 
+	/**
+	 * Returns a collector computing the product of the collected ciphertexts, as repeated {@link ElGamalMultiRecipientCiphertext#getCiphertextProduct}
+	 * would. Each component is multiplied out with {@link GqElement#toProduct}, which keeps the intermediate products in Montgomery form and, on a
+	 * parallel stream, combines the partial products in parallel.
+	 *
+	 * @param numPhi the number of phis of every ciphertext. Must be strictly positive.
+	 * @param group  the group of the ciphertexts. Must be non-null.
+	 * @return a collector whose result is the product of the ciphertexts, or the neutral element if there are none.
+	 * @throws NullPointerException     if the group is null.
+	 * @throws IllegalArgumentException if the number of phis is not strictly positive or, when collecting, if a ciphertext does not have the given
+	 *                                  number of phis or does not belong to the group.
+	 */
+	public static Collector<ElGamalMultiRecipientCiphertext, ?, ElGamalMultiRecipientCiphertext> toCiphertextProduct(final int numPhi,
+			final GqGroup group) {
+		checkNotNull(group);
+		checkArgument(numPhi > 0, "The ciphertext product must have at least one phi.");
+
+		return toCiphertextProduct(numPhi, GqElement.toProduct(group));
+	}
+
+	private static <A> Collector<ElGamalMultiRecipientCiphertext, ?, ElGamalMultiRecipientCiphertext> toCiphertextProduct(final int numPhi,
+			final Collector<GqElement, A, GqElement> elementProduct) {
+
+		// One running product per component: the gamma first, then the phis.
+		final Supplier<A> supplier = elementProduct.supplier();
+		final BiConsumer<A, GqElement> accumulator = elementProduct.accumulator();
+		final BinaryOperator<A> combiner = elementProduct.combiner();
+		final Function<A, GqElement> finisher = elementProduct.finisher();
+
+		return Collector.<ElGamalMultiRecipientCiphertext, List<A>, ElGamalMultiRecipientCiphertext>of(
+				() -> Stream.generate(supplier).limit(numPhi + 1L).toList(),
+				(products, ciphertext) -> {
+					checkArgument(ciphertext.size() == numPhi, "All the ciphertexts must have the same number of phis.");
+
+					accumulator.accept(products.get(0), ciphertext.getGamma());
+					for (int i = 0; i < numPhi; i++) {
+						accumulator.accept(products.get(i + 1), ciphertext.get(i));
+					}
+				},
+				(left, right) -> IntStream.rangeClosed(0, numPhi)
+						.mapToObj(i -> combiner.apply(left.get(i), right.get(i)))
+						.toList(),
+				products -> ElGamalMultiRecipientCiphertext.create(finisher.apply(products.get(0)),
+						products.stream().skip(1).map(finisher).toList()));
+	}
+
 	/**
 	 * See {@link ElGamalService#getMessage}
 	 **/
@@ -78,16 +129,43 @@ public class ElGamalMultiRecipientCiphertexts {
 		// Algorithm.
 		final GqElement gamma = g.exponentiate(r);
 
-		IntStream indices = IntStream.range(0, l);
-		if (ENABLE_PARALLEL_STREAMS) {
-			indices = indices.parallel();
-		}
-		final LinkedList<GqElement> phis = indices
-				.parallel()
+		final GroupVector<GqElement, GqGroup> phis = ParallelStreams.range(0, l, Workload.EXPONENTIATION.of(g.getGroup()))
 				.mapToObj(i -> pk.get(i).exponentiate(r).multiply(m.get(i)))
-				.collect(Collectors.toCollection(LinkedList::new));
+				.collect(toTrustedGroupVector());
 
-		return ElGamalMultiRecipientCiphertext.create(gamma, GroupVector.from(phis));
+		return ElGamalMultiRecipientCiphertext.create(gamma, phis);
+	}
+
+	/**
+	 * See {@link ch.post.it.evoting.cryptoprimitives.elgamal.ElGamal#getCiphertextWithPrecomputedKey}
+	 **/
+	public static ElGamalMultiRecipientCiphertext getCiphertextWithPrecomputedKey(final ElGamalMultiRecipientMessage message,
+			final ZqElement exponent, final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey) {
+
+		checkNotNull(message);
+		checkNotNull(exponent);
+		checkNotNull(precomputedPublicKey);
+		checkArgument(message.getGroup().hasSameOrderAs(exponent.getGroup()), "Exponent and message groups must be of the same order.");
+		checkArgument(message.getGroup().equals(precomputedPublicKey.getGroup()), "Message and public key must belong to the same group. ");
+		checkArgument(0 < message.size(), "The message must contain at least one element.");
+		checkArgument(message.size() <= precomputedPublicKey.size(),
+				"There cannot be more message elements than precomputed public key elements.");
+
+		final ElGamalMultiRecipientMessage m = message;
+		final ZqElement r = exponent;
+		final ElGamalMultiRecipientPrecomputedPublicKey pk = precomputedPublicKey;
+
+		final int l = m.size();
+		final GqElement g = pk.getGroup().getGenerator();
+
+		// Algorithm.
+		final GqElement gamma = g.exponentiate(r);
+
+		final GroupVector<GqElement, GqGroup> phis = ParallelStreams.range(0, l, Workload.EXPONENTIATION.of(g.getGroup()))
+				.mapToObj(i -> pk.exponentiate(i, r).multiply(m.get(i)))
+				.collect(toTrustedGroupVector());
+
+		return ElGamalMultiRecipientCiphertext.create(gamma, phis);
 	}
 
 	/**
@@ -119,14 +197,39 @@ public class ElGamalMultiRecipientCiphertexts {
 		final int l = C.getElementSize();
 		final int n = a.size();
 
-		final ElGamalMultiRecipientCiphertext neutralElement = neutralElement(l, C.getGroup());
-		IntStream indices = IntStream.range(0, n);
-		if (ENABLE_PARALLEL_STREAMS) {
-			indices = indices.parallel();
-		}
-		return indices
+		return ParallelStreams.range(0, n)
 				.mapToObj(i -> C.get(i).getCiphertextExponentiation(a.get(i)))
-				.reduce(neutralElement, ElGamalMultiRecipientCiphertext::getCiphertextProduct);
+				.collect(toCiphertextProduct(l, C.getGroup()));
+	}
+
+	/**
+	 * Takes a vector of ciphertexts, exponentiates them using the supplied public exponents and returns the product of the exponentiated
+	 * ciphertexts. The result is the same as {@link #getCiphertextVectorExponentiation(GroupVector, GroupVector)}, but the exponentiations run in
+	 * variable time and this method must therefore only be used when the exponents are public, for instance when verifying a proof.
+	 *
+	 * @param ciphertexts A List of {@code ElGamalMultiRecipientCiphertext}s, each element containing the same number of phis. Must be non null and
+	 *                    not empty.
+	 * @param exponents   A List of public {@code ZqElement}s, of the same size as the ciphertexts list. Must be non null and not empty.
+	 * @return the product of the exponentiated ciphertexts.
+	 */
+	@SuppressWarnings("java:S117")
+	public static ElGamalMultiRecipientCiphertext getCiphertextVectorExponentiationPublic(
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts, final GroupVector<ZqElement, ZqGroup> exponents) {
+
+		checkNotNull(ciphertexts);
+		checkNotNull(exponents);
+		checkArgument(!ciphertexts.isEmpty(), "Ciphertexts should not be empty");
+		checkArgument(ciphertexts.size() == exponents.size(), "There should be a matching ciphertext for every exponent.");
+		checkArgument(ciphertexts.getGroup().hasSameOrderAs(exponents.getGroup()), "Ciphertexts and exponents must be of the same group.");
+
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C = ciphertexts;
+		final GroupVector<ZqElement, ZqGroup> a = exponents;
+		final int l = C.getElementSize();
+		final int n = a.size();
+
+		return ParallelStreams.range(0, n)
+				.mapToObj(i -> C.get(i).getCiphertextExponentiationPublic(a.get(i)))
+				.collect(toCiphertextProduct(l, C.getGroup()));
 	}
 
 	/**
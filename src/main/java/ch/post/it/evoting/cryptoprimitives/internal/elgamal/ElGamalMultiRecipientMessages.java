@@ -16,18 +16,19 @@
 
 package ch.post.it.evoting.cryptoprimitives.internal.elgamal;
 
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.stream.Collectors.collectingAndThen;
 
 import java.math.BigInteger;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamal;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement.GqElementFactory;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -35,9 +36,6 @@ import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 
 public class ElGamalMultiRecipientMessages {
 
-	private static final boolean ENABLE_PARALLEL_STREAMS = Boolean.parseBoolean(
-			System.getProperty("enable.parallel.streams", Boolean.TRUE.toString()));
-
 	private ElGamalMultiRecipientMessages() {
 		//Intentionally left blank
 	}
@@ -62,7 +60,7 @@ public class ElGamalMultiRecipientMessages {
 
 		return Stream.generate(() -> constant)
 				.limit(size)
-				.collect(collectingAndThen(GroupVector.toGroupVector(), ElGamalMultiRecipientMessage::new));
+				.collect(collectingAndThen(toTrustedGroupVector(), ElGamalMultiRecipientMessage::new));
 	}
 
 	/**
@@ -83,15 +81,10 @@ public class ElGamalMultiRecipientMessages {
 		final int l = c.size();
 		final GqElement gamma = c.getGamma();
 
-		IntStream indices = IntStream.range(0, l);
-		if (ENABLE_PARALLEL_STREAMS) {
-			indices = indices.parallel();
-		}
-
 		// Algorithm.
-		final GroupVector<GqElement, GqGroup> messageElements = indices
+		final GroupVector<GqElement, GqGroup> messageElements = ParallelStreams.range(0, l)
 				.mapToObj(i -> c.get(i).multiply(gamma.exponentiate(sk.get(i).negate())))
-				.collect(GroupVector.toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		return new ElGamalMultiRecipientMessage(messageElements);
 	}
@@ -16,6 +16,7 @@
 
 package ch.post.it.evoting.cryptoprimitives.internal.elgamal;
 
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -52,7 +53,7 @@ public class ElGamalMultiRecipientPublicKeys {
 		return IntStream.range(0, N)
 				.mapToObj(i -> IntStream.range(0, s)
 						.mapToObj(j -> pk.get(j).get(i))
-						.reduce(group.getIdentity(), GqElement::multiply))
-				.collect(Collectors.collectingAndThen(GroupVector.toGroupVector(), ElGamalMultiRecipientPublicKey::new));
+						.collect(GqElement.toProduct(group)))
+				.collect(Collectors.collectingAndThen(toTrustedGroupVector(), ElGamalMultiRecipientPublicKey::new));
 	}
 }
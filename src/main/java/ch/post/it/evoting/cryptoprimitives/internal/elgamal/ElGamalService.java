@@ -16,10 +16,13 @@
  */
 package ch.post.it.evoting.cryptoprimitives.internal.elgamal;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamal;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrecomputedPublicKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
@@ -27,13 +30,38 @@ import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 import ch.post.it.evoting.cryptoprimitives.math.Random;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 public class ElGamalService implements ElGamal {
 
+	private final ExecutionContext executionContext;
+
+	/**
+	 * Instantiates an ElGamal service running its operations within the default execution context.
+	 */
+	public ElGamalService() {
+		this(ExecutionContext.getDefault());
+	}
+
+	/**
+	 * Instantiates an ElGamal service running its operations within the given execution context.
+	 *
+	 * @param executionContext the execution context of the parallel computations. Not null.
+	 */
+	public ElGamalService(final ExecutionContext executionContext) {
+		this.executionContext = checkNotNull(executionContext);
+	}
+
 	@Override
 	public ElGamalMultiRecipientCiphertext getCiphertext(ElGamalMultiRecipientMessage message, ZqElement exponent,
 			ElGamalMultiRecipientPublicKey publicKey) {
-		return ElGamalMultiRecipientCiphertexts.getCiphertext(message, exponent, publicKey);
+		return executionContext.execute(() -> ElGamalMultiRecipientCiphertexts.getCiphertext(message, exponent, publicKey));
+	}
+
+	@Override
+	public ElGamalMultiRecipientCiphertext getCiphertextWithPrecomputedKey(final ElGamalMultiRecipientMessage message, final ZqElement exponent,
+			final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey) {
+		return executionContext.execute(() -> ElGamalMultiRecipientCiphertexts.getCiphertextWithPrecomputedKey(message, exponent, precomputedPublicKey));
 	}
 
 	@Override
@@ -44,7 +72,7 @@ public class ElGamalService implements ElGamal {
 	@Override
 	public ElGamalMultiRecipientMessage getMessage(final ElGamalMultiRecipientCiphertext ciphertext,
 			final ElGamalMultiRecipientPrivateKey secretKey) {
-		return ElGamalMultiRecipientMessages.getMessage(ciphertext, secretKey);
+		return executionContext.execute(() -> ElGamalMultiRecipientMessages.getMessage(ciphertext, secretKey));
 	}
 
 	@Override
@@ -59,7 +87,7 @@ public class ElGamalService implements ElGamal {
 
 	@Override
 	public ElGamalMultiRecipientKeyPair genKeyPair(GqGroup group, int numElements, Random random) {
-		return ElGamalMultiRecipientKeyPair.genKeyPair(group, numElements, random);
+		return executionContext.execute(() -> ElGamalMultiRecipientKeyPair.genKeyPair(group, numElements, random));
 	}
 
 	@Override
@@ -69,6 +97,6 @@ public class ElGamalService implements ElGamal {
 
 	@Override
 	public ElGamalMultiRecipientPublicKey combinePublicKeys(GroupVector<ElGamalMultiRecipientPublicKey, GqGroup> publicKeyList) {
-		return ElGamalMultiRecipientPublicKeys.combinePublicKeys(publicKeyList);
+		return executionContext.execute(() -> ElGamalMultiRecipientPublicKeys.combinePublicKeys(publicKeyList));
 	}
 }
@@ -84,7 +84,7 @@ public final class EncryptionParameters {
 			g = BigInteger.valueOf(3);
 		}
 
-		return new GqGroup(p, q, g);
+		return GqGroup.of(p, q, g);
 	}
 
 	private byte[] shake128(final byte[] message, final int outputLength) {
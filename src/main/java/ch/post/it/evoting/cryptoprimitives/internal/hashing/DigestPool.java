@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.hashing;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+import org.bouncycastle.crypto.Digest;
+
+/**
+ * Per-thread pool of digests, reused across hashes instead of being created for each of them.
+ *
+ * <p>A recursive hash holds one digest per level of nesting, so each thread keeps a small stack of them. A digest is reset when released, so that
+ * no state of a previous hash remains in the pool.</p>
+ *
+ * <p>This class is thread safe.</p>
+ *
+ * @param <D> the type of the digests.
+ */
+final class DigestPool<D extends Digest> {
+
+	// Bounds the digests kept by a thread after hashing deeply nested values.
+	private static final int MAXIMUM_POOLED_DIGESTS = 16;
+
+	private final Supplier<D> factory;
+	private final ThreadLocal<Deque<D>> available = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * @param factory creates the digests when the pool of the current thread is empty. Must be non-null.
+	 */
+	DigestPool(final Supplier<D> factory) {
+		this.factory = checkNotNull(factory);
+	}
+
+	/**
+	 * @return a digest in its initial state, to be released by the current thread once done.
+	 */
+	D acquire() {
+		final D digest = available.get().poll();
+		return digest != null ? digest : factory.get();
+	}
+
+	/**
+	 * Resets the given digest and returns it to the pool of the current thread.
+	 *
+	 * @param digest a digest acquired from this pool. Must be non-null.
+	 */
+	void release(final D digest) {
+		checkNotNull(digest);
+		digest.reset();
+		final Deque<D> digests = available.get();
+		if (digests.size() < MAXIMUM_POOLED_DIGESTS) {
+			digests.push(digest);
+		}
+	}
+}
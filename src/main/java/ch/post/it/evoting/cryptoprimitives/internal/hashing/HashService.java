@@ -21,18 +21,21 @@ import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInte
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.stringToByteArray;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.primitives.Bytes.concat;
 
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
-import org.bouncycastle.crypto.digests.SHAKEDigest;
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.Xof;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.primitives.Bytes;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.Hash;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
@@ -40,11 +43,14 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableByteArray;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
-import ch.post.it.evoting.cryptoprimitives.internal.utils.ByteArrays;
+import ch.post.it.evoting.cryptoprimitives.hashing.ImmutableHashableList;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.HashFunction;
 import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SecurityLevelConfig;
 import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.XOF;
@@ -52,6 +58,13 @@ import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.XOF;
 /**
  * Recursive hash service using a default SHA3-256 message digest.
  *
+ * <p>The hash of a list is computed by feeding the hashes of its elements to the digest as they are computed, without concatenating them first.
+ * The digests are pooled per thread and reused across hashes.</p>
+ *
+ * <p>The hashes of {@link ImmutableHashableList} objects are memoized per output length, for as long as the objects are reachable. The memo is
+ * opt-in: only groups and commitment keys, which are part of every Fiat-Shamir challenge of a proof, implement this interface and are thus hashed
+ * only once.</p>
+ *
  * <p>This class is thread safe.</p>
  */
 public class HashService implements Hash {
@@ -60,68 +73,75 @@ public class HashService implements Hash {
 	private static final HashService INSTANCE = new HashService(SecurityLevelConfig.getSystemSecurityLevel().getRecursiveHashHashFunction(),
 			SecurityLevelConfig.getSystemSecurityLevel().getRecursiveHashToZqXOF());
 
-	private static final byte[] BYTE_ARRAY_PREFIX = new byte[] { 0x00 };
-	private static final byte[] BIG_INTEGER_PREFIX = new byte[] { 0x01 };
-	private static final byte[] STRING_PREFIX = new byte[] { 0x02 };
+	private static final byte BYTE_ARRAY_PREFIX = 0x00;
+	private static final byte BIG_INTEGER_PREFIX = 0x01;
+	private static final byte STRING_PREFIX = 0x02;
 
-	private static final byte[] ARRAY_PREFIX = new byte[] { 0x03 };
+	private static final byte ARRAY_PREFIX = 0x03;
 
 	private static final String VALUES_CONTAIN_NULL = "Values contain a null value which cannot be hashed.";
 	private static final String NO_VALUES = "Cannot hash no values.";
+	// Estimated work to hash an element of a list, assuming elements of the size of a group element. Nested lists run their own loop.
+	private static final long ELEMENT_HASHING_WORK = Workload.HASH.of(SecurityLevelConfig.getSystemSecurityLevel().getPBitLength());
 	private final HashFunction hashFunction;
 	private final XOF xof;
+	private final DigestPool<Xof> xofs;
+	private final NodeHash<Digest> recursiveHashNode;
+	private final ConcurrentMap<Integer, NodeHash<Xof>> recursiveHashOfLengthNodes;
+	private final ExecutionContext executionContext;
 
 	@VisibleForTesting
 	HashService(final HashFunction hashFunction, final XOF xof) {
+		this(hashFunction, xof, new DigestPool<>(xof::createXof), NodeHash.of(new DigestPool<>(hashFunction::createDigest)), new ConcurrentHashMap<>(),
+				ExecutionContext.getDefault());
+	}
+
+	private HashService(final HashFunction hashFunction, final XOF xof, final DigestPool<Xof> xofs, final NodeHash<Digest> recursiveHashNode,
+			final ConcurrentMap<Integer, NodeHash<Xof>> recursiveHashOfLengthNodes, final ExecutionContext executionContext) {
 		this.hashFunction = hashFunction;
 		this.xof = xof;
+		this.xofs = xofs;
+		this.recursiveHashNode = recursiveHashNode;
+		this.recursiveHashOfLengthNodes = recursiveHashOfLengthNodes;
+		this.executionContext = executionContext;
 	}
 
 	public static HashService getInstance() {
 		return INSTANCE;
 	}
 
+	/**
+	 * Gets a hash service running its operations within the given execution context.
+	 *
+	 * @param executionContext the execution context of the parallel computations. Not null.
+	 * @return a hash service with the same hash functions as {@link #getInstance()}.
+	 */
+	public static HashService getInstance(final ExecutionContext executionContext) {
+		checkNotNull(executionContext);
+		if (executionContext == ExecutionContext.getDefault()) {
+			return INSTANCE;
+		}
+		return new HashService(INSTANCE.hashFunction, INSTANCE.xof, INSTANCE.xofs, INSTANCE.recursiveHashNode, INSTANCE.recursiveHashOfLengthNodes,
+				executionContext);
+	}
+
 	/**
 	 * See {@link Hash#recursiveHash}
 	 */
 	@Override
 	public byte[] recursiveHash(final Hashable... values) {
+		return executionContext.execute(() -> computeRecursiveHash(values));
+	}
+
+	private byte[] computeRecursiveHash(final Hashable... values) {
 		checkNotNull(values);
 		checkArgument(Arrays.stream(values).allMatch(Objects::nonNull), VALUES_CONTAIN_NULL);
 		checkArgument(values.length != 0, NO_VALUES);
 
-		if (values.length > 1) {
-			final HashableList v = HashableList.from(List.of(values));
-			return recursiveHash(v);
-		} else {
-			final Hashable value = values[0];
-
-			if (value instanceof HashableByteArray hashableByteArray) {
-				final byte[] w = hashableByteArray.toHashableForm();
-				return hashFunction.hash(concat(BYTE_ARRAY_PREFIX, w));
-			} else if (value instanceof HashableBigInteger hashableBigInteger) {
-				final BigInteger w = hashableBigInteger.toHashableForm();
-				checkArgument(w.compareTo(BigInteger.ZERO) >= 0);
-				return hashFunction.hash(concat(BIG_INTEGER_PREFIX, integerToByteArray(w)));
-			} else if (value instanceof HashableString hashableString) {
-				final String w = hashableString.toHashableForm();
-				return hashFunction.hash(concat(STRING_PREFIX, stringToByteArray(w)));
-			} else if (value instanceof HashableList hashableList) {
-				final List<? extends Hashable> w = hashableList.toHashableForm();
-
-				return hashFunction.hash(
-						concat(
-							Stream.concat(
-								Stream.of(ARRAY_PREFIX),
-								w.stream().parallel().map(this::recursiveHash)
-							).toArray(byte[][]::new)
-						)
-				);
-
-			} else {
-				throw new IllegalArgumentException(String.format("Object of type %s cannot be hashed.", value.getClass()));
-			}
-		}
+		final Hashable value = values.length > 1 ? HashableList.from(List.of(values)) : values[0];
+		final byte[] hash = new byte[recursiveHashNode.length()];
+		hashInto(recursiveHashNode, value, hash, 0);
+		return hash;
 	}
 
 	/**
@@ -160,6 +180,11 @@ public class HashService implements Hash {
 		checkArgument(q.compareTo(BigInteger.ZERO) > 0, "The upper bound must be strictly positive.");
 		checkArgument(q.bitLength() >= 512, "The exclusive upper bound must have a bit length of at least 512.");
 
+		return executionContext.execute(() -> computeRecursiveHashToZq(q, v));
+	}
+
+	@SuppressWarnings("java:S117")
+	private ZqElement computeRecursiveHashToZq(final BigInteger q, final Hashable... v) {
 		BigInteger h = byteArrayToInteger(recursiveHashOfLength(q.bitLength(), v));
 		while (h.compareTo(q) >= 0) {
 			final HashableList h_prependedTo_v = Stream.concat(Stream.of(HashableBigInteger.from(h)), Arrays.stream(v))
@@ -167,7 +192,7 @@ public class HashService implements Hash {
 			h = byteArrayToInteger(recursiveHashOfLength(q.bitLength(), h_prependedTo_v));
 		}
 
-		return ZqElement.create(h, new ZqGroup(q));
+		return ZqElement.create(h, ZqGroup.of(q));
 	}
 
 	/**
@@ -196,31 +221,10 @@ public class HashService implements Hash {
 		checkArgument(l >= xof.getMinimumOutputLengthBits(), "The requested bit length must be at least %s.", xof.getMinimumOutputLengthBits());
 
 		final int L = (int) Math.ceil(l / 8.0);
-		if (k > 1) {
-			final HashableList v = HashableList.from(Arrays.asList(values));
-			return recursiveHashOfLength(l, v);
-		} else {
-			final Hashable value = values[0];
-
-			if (value instanceof HashableByteArray hashableByteArray) {
-				final byte[] w = hashableByteArray.toHashableForm();
-				return ByteArrays.cutToBitLength(shake256(L, concat(BYTE_ARRAY_PREFIX, w)), l);
-			} else if (value instanceof HashableBigInteger hashableBigInteger) {
-				final BigInteger w = hashableBigInteger.toHashableForm();
-				checkArgument(w.compareTo(BigInteger.ZERO) >= 0);
-				return ByteArrays.cutToBitLength(shake256(L, concat(BIG_INTEGER_PREFIX, integerToByteArray(w))), l);
-			} else if (value instanceof HashableString hashableString) {
-				final String w = hashableString.toHashableForm();
-				return ByteArrays.cutToBitLength(shake256(L, concat(STRING_PREFIX, stringToByteArray(w))), l);
-			} else if (value instanceof HashableList hashableList) {
-				final List<? extends Hashable> w = hashableList.toHashableForm();
-				final byte[] h = Stream.concat(Stream.of(ARRAY_PREFIX), w.parallelStream().map(w_i -> recursiveHashOfLength(l, w_i)))
-						.reduce(new byte[]{}, Bytes::concat);
-				return ByteArrays.cutToBitLength(shake256(L, h), l);
-			} else {
-				throw new IllegalArgumentException(String.format("Object of type %s cannot be hashed.", value.getClass()));
-			}
-		}
+		final Hashable value = k > 1 ? HashableList.from(Arrays.asList(values)) : values[0];
+		final byte[] hash = new byte[L];
+		hashInto(recursiveHashOfLengthNodes.computeIfAbsent(l, bitLength -> NodeHash.of(xofs, L, bitLength)), value, hash, 0);
+		return hash;
 	}
 
 	/**
@@ -230,13 +234,105 @@ public class HashService implements Hash {
 		return HASH_LENGTH_BYTES;
 	}
 
-	private byte[] shake256(final int outputLength, final byte[] message) {
-		final byte[] result = new byte[outputLength];
-		final SHAKEDigest shakeDigest = new SHAKEDigest(256);
+	/**
+	 * Writes the hash of the given value at the given offset of the output.
+	 */
+	private <D extends Digest> void hashInto(final NodeHash<D> nodeHash, final Hashable value, final byte[] output, final int offset) {
+		checkArgument(value != null, VALUES_CONTAIN_NULL);
+
+		if (value instanceof ImmutableHashableList immutableHashableList) {
+			byte[] hash = nodeHash.memo().getIfPresent(immutableHashableList);
+			if (hash == null) {
+				// Concurrent threads may compute the same hash, in which case the last one is kept.
+				hash = new byte[nodeHash.length()];
+				computeInto(nodeHash, value, hash, 0);
+				nodeHash.memo().put(immutableHashableList, hash);
+			}
+			System.arraycopy(hash, 0, output, offset, hash.length);
+		} else {
+			computeInto(nodeHash, value, output, offset);
+		}
+	}
+
+	private <D extends Digest> void computeInto(final NodeHash<D> nodeHash, final Hashable value, final byte[] output, final int offset) {
+		final D digest = nodeHash.digests().acquire();
+		try {
+			if (value instanceof HashableList hashableList) {
+				updateWithList(nodeHash, digest, hashableList.toHashableForm());
+			} else {
+				updateWithLeaf(digest, value);
+			}
+			nodeHash.doFinal(digest, output, offset);
+		} finally {
+			nodeHash.digests().release(digest);
+		}
+	}
 
-		shakeDigest.update(message, 0, message.length);
-		shakeDigest.doFinal(result, 0, outputLength);
+	private <D extends Digest> void updateWithList(final NodeHash<D> nodeHash, final D digest, final List<? extends Hashable> w) {
+		final int n = w.size();
+		final int length = nodeHash.length();
 
-		return result;
+		digest.update(ARRAY_PREFIX);
+		if (ParallelStreams.isParallel(n, ELEMENT_HASHING_WORK)) {
+			// The elements are hashed concurrently into consecutive slots, which are then fed to the digest in order.
+			final byte[] hashes = new byte[n * length];
+			ParallelStreams.range(0, n, ELEMENT_HASHING_WORK).forEach(i -> hashInto(nodeHash, w.get(i), hashes, i * length));
+			digest.update(hashes, 0, hashes.length);
+		} else {
+			final byte[] hash = new byte[length];
+			for (final Hashable w_i : w) {
+				hashInto(nodeHash, w_i, hash, 0);
+				digest.update(hash, 0, length);
+			}
+		}
+	}
+
+	private static void updateWithLeaf(final Digest digest, final Hashable value) {
+		if (value instanceof HashableByteArray hashableByteArray) {
+			final byte[] w = hashableByteArray.toHashableForm();
+			digest.update(BYTE_ARRAY_PREFIX);
+			digest.update(w, 0, w.length);
+		} else if (value instanceof HashableBigInteger hashableBigInteger) {
+			final BigInteger w = hashableBigInteger.toHashableForm();
+			checkArgument(w.compareTo(BigInteger.ZERO) >= 0);
+			final byte[] bytes = integerToByteArray(w);
+			digest.update(BIG_INTEGER_PREFIX);
+			digest.update(bytes, 0, bytes.length);
+		} else if (value instanceof HashableString hashableString) {
+			final byte[] bytes = stringToByteArray(hashableString.toHashableForm());
+			digest.update(STRING_PREFIX);
+			digest.update(bytes, 0, bytes.length);
+		} else {
+			throw new IllegalArgumentException(String.format("Object of type %s cannot be hashed.", value.getClass()));
+		}
+	}
+
+	/**
+	 * The hash applied to each node of a recursive hash: the pool of its digests, the length in bytes of its output, the bit length to which the
+	 * output is cut and the memoized hashes of immutable lists. The memoized hashes are weakly referenced by their lists, compared by identity.
+	 */
+	private record NodeHash<D extends Digest>(DigestPool<D> digests, int length, int bitLength, Cache<ImmutableHashableList, byte[]> memo) {
+
+		private static NodeHash<Digest> of(final DigestPool<Digest> digests) {
+			final Digest digest = digests.acquire();
+			final int length = digest.getDigestSize();
+			digests.release(digest);
+			return of(digests, length, length * Byte.SIZE);
+		}
+
+		private static <D extends Digest> NodeHash<D> of(final DigestPool<D> digests, final int length, final int bitLength) {
+			return new NodeHash<>(digests, length, bitLength, CacheBuilder.newBuilder().weakKeys().build());
+		}
+
+		private void doFinal(final D digest, final byte[] output, final int offset) {
+			if (digest instanceof Xof xofDigest) {
+				xofDigest.doFinal(output, offset, length);
+			} else {
+				digest.doFinal(output, offset);
+			}
+			if (bitLength % Byte.SIZE != 0) {
+				output[offset] &= (byte) ((1 << (bitLength % Byte.SIZE)) - 1);
+			}
+		}
 	}
 }
@@ -48,29 +48,39 @@ public interface BigIntegerOperations {
 	 */
 	BigInteger modExponentiate(BigInteger base, BigInteger exponent, BigInteger modulus);
 
+	/**
+	 * Exponentiates a {@link BigInteger} by another and take the modulus, in variable time. If the exponent is negative, base and modulus must be
+	 * relatively prime.
+	 * <p>
+	 * The running time of this operation depends on the values of its arguments. It must therefore only be used when the base, the exponent and
+	 * the modulus are all public, for instance when verifying a proof, and never on secret values. The result is the same as
+	 * {@link #modExponentiate}.
+	 *
+	 * @param base     the base
+	 * @param exponent the exponent
+	 * @param modulus  the modulus &gt; 1 and odd
+	 * @return the power base<sup>exponent</sup> mod modulus
+	 */
+	default BigInteger modExponentiatePublic(final BigInteger base, final BigInteger exponent, final BigInteger modulus) {
+		return modExponentiate(base, exponent, modulus);
+	}
+
 	/**
 	 * Exponentiates the elements of a list of {@link BigInteger}s by the elements of a second list and multiply the resulting terms. If an exponent
 	 * is negative, then the corresponding base must be relatively prime to the modulus. This operations needs both lists to be of equal size.
+	 * <p>
+	 * Every power is computed with {@link #modExponentiate}, hence this operation is suited for secret exponents.
 	 *
 	 * @param bases     the list of base values
 	 * @param exponents the list of exponent values
-	 * @param modulus   the modulus &gt; 1
+	 * @param modulus   the modulus &gt; 1 and odd
 	 * @return the product of the powers b[0]^e[0] * b[1]^e[1] * ... * b[n-1]^e[n-1] mod modulus
 	 */
 	default BigInteger multiModExp(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
-		checkNotNull(bases);
-		checkArgument(bases.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkMultiModExpArguments(bases, exponents, modulus);
 		final List<BigInteger> basesCopy = List.copyOf(bases);
-		checkArgument(!basesCopy.isEmpty(), "Bases must be non empty.");
-
-		checkNotNull(exponents);
-		checkArgument(exponents.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
 		final List<BigInteger> exponentsCopy = List.copyOf(exponents);
 
-		// The next check assures also that exponentsCopy is not empty
-		checkArgument(basesCopy.size() == exponentsCopy.size(), "Bases and exponents must have the same size");
-		checkArgument(modulus.compareTo(BigInteger.ONE) > 0, MODULUS_CHECK_MESSAGE);
-
 		final int numElements = basesCopy.size();
 
 		return IntStream.range(0, numElements)
@@ -78,6 +88,174 @@ public interface BigIntegerOperations {
 				.reduce(BigInteger.ONE, (a, b) -> modMultiply(a, b, modulus));
 	}
 
+	/**
+	 * Exponentiates the elements of a list of {@link BigInteger}s by the elements of a second list and multiply the resulting terms, in variable
+	 * time. The result is the same as {@link #multiModExp} and the same restriction applies as for {@link #modExponentiatePublic}: all the
+	 * arguments must be public.
+	 * <p>
+	 * From {@value MultiExponentiation#SIMULTANEOUS_THRESHOLD} bases on, the powers are computed simultaneously, sharing a single chain of
+	 * squarings, with Straus' method for few bases and Pippenger's method for many bases. Below, the powers are computed with
+	 * {@link #modExponentiatePublic}, which is faster.
+	 *
+	 * @param bases     the list of base values
+	 * @param exponents the list of exponent values
+	 * @param modulus   the modulus &gt; 1 and odd
+	 * @return the product of the powers b[0]^e[0] * b[1]^e[1] * ... * b[n-1]^e[n-1] mod modulus
+	 */
+	default BigInteger multiModExpPublic(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		checkMultiModExpArguments(bases, exponents, modulus);
+
+		return MultiExponentiation.multiModExp(List.copyOf(bases), List.copyOf(exponents), new MontgomeryForm(modulus), this);
+	}
+
+	/**
+	 * Same as {@link #multiModExpPublic(List, List, BigInteger)}, with the modulus of the given Montgomery form. Callers that already hold the
+	 * Montgomery form of the modulus save its recomputation.
+	 *
+	 * @param bases          the list of base values
+	 * @param exponents      the list of exponent values
+	 * @param montgomeryForm the Montgomery form of the modulus. Must be non-null.
+	 * @return the product of the powers b[0]^e[0] * b[1]^e[1] * ... * b[n-1]^e[n-1] mod modulus
+	 */
+	default BigInteger multiModExpPublic(final List<BigInteger> bases, final List<BigInteger> exponents, final MontgomeryForm montgomeryForm) {
+		checkNotNull(montgomeryForm);
+		checkMultiModExpArguments(bases, exponents, montgomeryForm.getModulus());
+
+		return MultiExponentiation.multiModExp(List.copyOf(bases), List.copyOf(exponents), montgomeryForm, this);
+	}
+
+	/**
+	 * Exponentiates each base by its corresponding exponent with respect to the same modulus. The result is the same as calling
+	 * {@link #modExponentiate} for every pair, but implementations may share the per-call overhead, such as preparing the modulus, across the
+	 * whole batch.
+	 *
+	 * @param bases     the list of base values. Must be non-null and not contain nulls.
+	 * @param exponents the list of exponent values. Must be non-null, not contain nulls and have the same size as the bases.
+	 * @param modulus   the modulus &gt; 1 and odd
+	 * @return the list of powers (b[0]^e[0], ..., b[n-1]^e[n-1]) mod modulus
+	 */
+	default List<BigInteger> batchModExponentiate(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		checkBatchArguments(bases, exponents, modulus);
+
+		return IntStream.range(0, bases.size())
+				.mapToObj(i -> modExponentiate(bases.get(i), exponents.get(i), modulus))
+				.toList();
+	}
+
+	/**
+	 * Exponentiates each base by its corresponding exponent with respect to the same modulus, in variable time. The result is the same as calling
+	 * {@link #modExponentiatePublic} for every pair and the same restriction applies: all the arguments must be public.
+	 *
+	 * @param bases     the list of base values. Must be non-null and not contain nulls.
+	 * @param exponents the list of exponent values. Must be non-null, not contain nulls and have the same size as the bases.
+	 * @param modulus   the modulus &gt; 1 and odd
+	 * @return the list of powers (b[0]^e[0], ..., b[n-1]^e[n-1]) mod modulus
+	 */
+	default List<BigInteger> batchModExponentiatePublic(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		checkBatchArguments(bases, exponents, modulus);
+
+		return IntStream.range(0, bases.size())
+				.mapToObj(i -> modExponentiatePublic(bases.get(i), exponents.get(i), modulus))
+				.toList();
+	}
+
+	/**
+	 * Multiplies each pair of {@link BigInteger}s with respect to the same modulus. The result is the same as calling {@link #modMultiply} for
+	 * every pair.
+	 *
+	 * @param multipliers   the list of multipliers. Must be non-null and not contain nulls.
+	 * @param multiplicands the list of multiplicands. Must be non-null, not contain nulls and have the same size as the multipliers.
+	 * @param modulus       the modulus &gt; 1
+	 * @return the list of products (n1[0] &times; n2[0], ..., n1[n-1] &times; n2[n-1]) mod modulus
+	 */
+	default List<BigInteger> batchModMultiply(final List<BigInteger> multipliers, final List<BigInteger> multiplicands, final BigInteger modulus) {
+		checkBatchArguments(multipliers, multiplicands, modulus);
+
+		return IntStream.range(0, multipliers.size())
+				.mapToObj(i -> modMultiply(multipliers.get(i), multiplicands.get(i), modulus))
+				.toList();
+	}
+
+	/**
+	 * Inverts each element with respect to the same modulus. The result is the same as calling {@link #modInvert} for every element.
+	 *
+	 * <p>The inverses are computed with Montgomery's trick: a single inversion of the product of all elements followed by 3(n-1) modular
+	 * multiplications.</p>
+	 *
+	 * @param values  the numbers to be inverted. Must be non-null, not contain nulls and all be relatively prime to the modulus.
+	 * @param modulus the modulus &gt; 1
+	 * @return the list of inverses (n[0]<sup>-1</sup>, ..., n[n-1]<sup>-1</sup>) mod modulus
+	 */
+	default List<BigInteger> batchModInvert(final List<BigInteger> values, final BigInteger modulus) {
+		checkBatchArguments(values, values, modulus);
+
+		final int n = values.size();
+		if (n == 0) {
+			return List.of();
+		}
+
+		// prefixProducts[i] = values[0] * ... * values[i] mod modulus.
+		final BigInteger[] prefixProducts = new BigInteger[n];
+		prefixProducts[0] = values.get(0).mod(modulus);
+		for (int i = 1; i < n; i++) {
+			prefixProducts[i] = modMultiply(prefixProducts[i - 1], values.get(i), modulus);
+		}
+
+		// The product is invertible if and only if every factor is.
+		BigInteger inverse = modInvert(prefixProducts[n - 1], modulus);
+
+		final BigInteger[] inverses = new BigInteger[n];
+		for (int i = n - 1; i > 0; i--) {
+			inverses[i] = modMultiply(inverse, prefixProducts[i - 1], modulus);
+			inverse = modMultiply(inverse, values.get(i), modulus);
+		}
+		inverses[0] = inverse;
+
+		return List.of(inverses);
+	}
+
+	/**
+	 * Calculates the Jacobi symbols (a[i] | n) for the same n. The result is the same as calling {@link #getJacobi} for every element.
+	 *
+	 * @param values the positive integers a[i]. Must be non-null and not contain nulls.
+	 * @param n      the modulus. Must be non-null.
+	 * @return the list of Jacobi symbols, each of value -1, 0 or 1
+	 */
+	default List<Integer> batchGetJacobi(final List<BigInteger> values, final BigInteger n) {
+		checkNotNull(values);
+		checkArgument(values.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkNotNull(n);
+
+		return values.stream()
+				.map(value -> getJacobi(value, n))
+				.toList();
+	}
+
+	private static void checkMultiModExpArguments(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		checkNotNull(bases);
+		checkArgument(bases.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkArgument(!bases.isEmpty(), "Bases must be non empty.");
+
+		checkNotNull(exponents);
+		checkArgument(exponents.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+
+		// The next check assures also that the exponents are not empty
+		checkArgument(bases.size() == exponents.size(), "Bases and exponents must have the same size");
+		checkNotNull(modulus);
+		checkArgument(modulus.compareTo(BigInteger.ONE) > 0, MODULUS_CHECK_MESSAGE);
+		checkArgument(modulus.testBit(0), "The modulus must be odd");
+	}
+
+	private static void checkBatchArguments(final List<BigInteger> first, final List<BigInteger> second, final BigInteger modulus) {
+		checkNotNull(first);
+		checkNotNull(second);
+		checkNotNull(modulus);
+		checkArgument(first.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkArgument(second.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkArgument(first.size() == second.size(), "Both lists must have the same size");
+		checkArgument(modulus.compareTo(BigInteger.ONE) > 0, MODULUS_CHECK_MESSAGE);
+	}
+
 	/**
 	 * Inverts an element with respect to a modulus.
 	 *
@@ -19,18 +19,30 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 import com.squareup.jnagmp.Gmp;
+import com.squareup.jnagmp.GmpInteger;
 
 /**
  * Optimized BigIntegerOperations using GMP.
  *
+ * <p>The jnagmp binding only exposes single exponentiations, inversions and Jacobi symbols. Every native operation is therefore a separate call,
+ * also within a batch: the batches only share the native copies of their common arguments. Modular multiplications are computed in Java, as
+ * the binding has no native modular multiplication, and the batched multiplications and inversions use the defaults of
+ * {@link BigIntegerOperations}.</p>
+ *
  * <p>This class is thread-safe.</p>
  */
 public class BigIntegerOperationsGMP implements BigIntegerOperations {
 
 	private final BigIntegerOperations bigIntegerOperationsJava = new BigIntegerOperationsJava();
 
+	/**
+	 * Delegates to {@link BigIntegerOperationsJava}, the binding has no native modular multiplication.
+	 */
 	@Override
 	public BigInteger modMultiply(final BigInteger n1, final BigInteger n2, final BigInteger modulus) {
 		return bigIntegerOperationsJava.modMultiply(n1, n2, modulus);
@@ -38,6 +50,35 @@ public class BigIntegerOperationsGMP implements BigIntegerOperations {
 
 	@Override
 	public BigInteger modExponentiate(final BigInteger base, final BigInteger exponent, final BigInteger modulus) {
+		return modExponentiate(base, exponent, modulus, false);
+	}
+
+	/**
+	 * Uses the faster variable-time GMP exponentiation, which is only safe because all the arguments are public.
+	 */
+	@Override
+	public BigInteger modExponentiatePublic(final BigInteger base, final BigInteger exponent, final BigInteger modulus) {
+		return modExponentiate(base, exponent, modulus, true);
+	}
+
+	/**
+	 * Exponentiates the batch against a single native copy of the modulus, with one native exponentiation per element. Consecutive identical
+	 * exponents, such as when exponentiating a vector by a scalar, share their native copy as well.
+	 */
+	@Override
+	public List<BigInteger> batchModExponentiate(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		return batchModExponentiate(bases, exponents, modulus, false);
+	}
+
+	/**
+	 * Same as {@link #batchModExponentiate(List, List, BigInteger)} but with the variable-time GMP exponentiation.
+	 */
+	@Override
+	public List<BigInteger> batchModExponentiatePublic(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		return batchModExponentiate(bases, exponents, modulus, true);
+	}
+
+	private BigInteger modExponentiate(final BigInteger base, final BigInteger exponent, final BigInteger modulus, final boolean isPublic) {
 		checkNotNull(base);
 		checkNotNull(exponent);
 		checkNotNull(modulus);
@@ -50,10 +91,63 @@ public class BigIntegerOperationsGMP implements BigIntegerOperations {
 		int exponentSignum = exponent.signum();
 
 		if (exponentSignum < 0) {
-			return Gmp.modPowSecure(modInvert(base, modulus), exponent.negate(), modulus);
+			return modPow(modInvert(base, modulus), exponent.negate(), modulus, isPublic);
 		}
 
-		return Gmp.modPowSecure(base, exponent, modulus);
+		return modPow(base, exponent, modulus, isPublic);
+	}
+
+	private static List<BigInteger> batchModExponentiate(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus,
+			final boolean isPublic) {
+		checkNotNull(bases);
+		checkNotNull(exponents);
+		checkNotNull(modulus);
+		checkArgument(bases.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkArgument(exponents.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+		checkArgument(bases.size() == exponents.size(), "Both lists must have the same size");
+		checkArgument(modulus.compareTo(BigInteger.ONE) > 0, MODULUS_CHECK_MESSAGE);
+		checkArgument(modulus.testBit(0), "The modulus must be odd");
+
+		final BigInteger nativeModulus = new GmpInteger(modulus);
+		final List<BigInteger> results = new ArrayList<>(bases.size());
+		BigInteger previousExponent = null;
+		BigInteger nativeExponent = null;
+		for (int i = 0; i < bases.size(); i++) {
+			final BigInteger base = bases.get(i);
+			final BigInteger exponent = exponents.get(i);
+			checkArgument(exponent.signum() >= 0 || base.gcd(modulus).equals(BigInteger.ONE),
+					"When the exponent is negative, base and modulus must be relatively prime");
+
+			if (exponent != previousExponent) {
+				previousExponent = exponent;
+				nativeExponent = new GmpInteger(exponent.abs());
+			}
+			final BigInteger actualBase = exponent.signum() < 0 ? Gmp.modInverse(base, nativeModulus) : base;
+			results.add(modPow(actualBase, nativeExponent, nativeModulus, isPublic));
+		}
+		return results;
+	}
+
+	private static BigInteger modPow(final BigInteger base, final BigInteger exponent, final BigInteger modulus, final boolean isPublic) {
+		return isPublic ? Gmp.modPowInsecure(base, exponent, modulus) : Gmp.modPowSecure(base, exponent, modulus);
+	}
+
+	/**
+	 * Computes the whole batch of symbols against a single native copy of n.
+	 */
+	@Override
+	public List<Integer> batchGetJacobi(final List<BigInteger> values, final BigInteger n) {
+		checkNotNull(values);
+		checkNotNull(n);
+		checkArgument(values.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+
+		final BigInteger nativeN = new GmpInteger(n);
+		return values.stream()
+				.map(a -> {
+					checkArgument(a.compareTo(BigInteger.ZERO) > 0, "a must be positive");
+					return Gmp.kronecker(a, nativeN);
+				})
+				.toList();
 	}
 
 	@Override
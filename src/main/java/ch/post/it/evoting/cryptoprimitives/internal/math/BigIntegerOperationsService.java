@@ -24,28 +24,48 @@ import org.slf4j.LoggerFactory;
 import com.squareup.jnagmp.Gmp;
 
 /**
+ * Static access to the {@link BigIntegerOperations} backend.
+ *
+ * <p>By default, the GMP backend is used if the native library is installed and the {@link BigIntegerOperationsJava} backend otherwise. The
+ * system property {@value #BACKEND_PROPERTY} selects the backend: {@code gmp}, the default, or {@code java} to skip GMP. Any other value is
+ * logged and ignored.</p>
+ *
  * <p>This class is thread-safe.</p>
  */
 public class BigIntegerOperationsService {
 
+	static final String BACKEND_PROPERTY = "big.integer.operations.backend";
+
 	private static final Logger LOG = LoggerFactory.getLogger(BigIntegerOperationsService.class);
 	private static final BigIntegerOperations bigIntegerOperations;
 
 	private static boolean gmpInstalled = false;
 
 	static {
-		try {
-			Gmp.checkLoaded();
-			gmpInstalled = true;
-			LOG.info("GMP is installed and ready to use");
-		} catch (final UnsatisfiedLinkError e) {
-			LOG.warn("GMP is not installed, native code optimisations are not available, integer operations will now take longer");
+		final String backend = System.getProperty(BACKEND_PROPERTY, "gmp");
+
+		// Failing here would fail the initialization of this class, and every later integer operation with an obscure error.
+		if (!"gmp".equals(backend) && !"java".equals(backend)) {
+			LOG.error("Unknown integer operations backend {}. The property {} must be gmp or java, falling back to gmp.", backend, BACKEND_PROPERTY);
 		}
 
-		if (gmpInstalled) {
-			bigIntegerOperations = new BigIntegerOperationsGMP();
-		} else {
+		if ("java".equals(backend)) {
 			bigIntegerOperations = new BigIntegerOperationsJava();
+			LOG.info("Using the Java backend for integer operations");
+		} else {
+			try {
+				Gmp.checkLoaded();
+				gmpInstalled = true;
+				LOG.info("GMP is installed and ready to use");
+			} catch (final UnsatisfiedLinkError e) {
+				LOG.warn("GMP is not installed, native code optimisations are not available, integer operations will now take longer");
+			}
+
+			if (gmpInstalled) {
+				bigIntegerOperations = new BigIntegerOperationsGMP();
+			} else {
+				bigIntegerOperations = new BigIntegerOperationsJava();
+			}
 		}
 	}
 
@@ -61,10 +81,44 @@ public class BigIntegerOperationsService {
 		return bigIntegerOperations.modExponentiate(base, exponent, modulus);
 	}
 
+	public static BigInteger modExponentiatePublic(final BigInteger base, final BigInteger exponent, final BigInteger modulus) {
+		return bigIntegerOperations.modExponentiatePublic(base, exponent, modulus);
+	}
+
 	public static BigInteger multiModExp(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
 		return bigIntegerOperations.multiModExp(bases, exponents, modulus);
 	}
 
+	public static BigInteger multiModExpPublic(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		return bigIntegerOperations.multiModExpPublic(bases, exponents, modulus);
+	}
+
+	public static BigInteger multiModExpPublic(final List<BigInteger> bases, final List<BigInteger> exponents, final MontgomeryForm montgomeryForm) {
+		return bigIntegerOperations.multiModExpPublic(bases, exponents, montgomeryForm);
+	}
+
+	public static List<BigInteger> batchModExponentiate(final List<BigInteger> bases, final List<BigInteger> exponents, final BigInteger modulus) {
+		return bigIntegerOperations.batchModExponentiate(bases, exponents, modulus);
+	}
+
+	public static List<BigInteger> batchModExponentiatePublic(final List<BigInteger> bases, final List<BigInteger> exponents,
+			final BigInteger modulus) {
+		return bigIntegerOperations.batchModExponentiatePublic(bases, exponents, modulus);
+	}
+
+	public static List<BigInteger> batchModMultiply(final List<BigInteger> multipliers, final List<BigInteger> multiplicands,
+			final BigInteger modulus) {
+		return bigIntegerOperations.batchModMultiply(multipliers, multiplicands, modulus);
+	}
+
+	public static List<BigInteger> batchModInvert(final List<BigInteger> values, final BigInteger modulus) {
+		return bigIntegerOperations.batchModInvert(values, modulus);
+	}
+
+	public static List<Integer> batchGetJacobi(final List<BigInteger> values, final BigInteger n) {
+		return bigIntegerOperations.batchGetJacobi(values, n);
+	}
+
 	public static BigInteger modInvert(final BigInteger n, final BigInteger modulus) {
 		return bigIntegerOperations.modInvert(n, modulus);
 	}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-base exponentiation engine using precomputed windowed tables.
+ *
+ * <p>For a base b, a modulus p and a maximal exponent bit length l, the table holds, for every window i of {@value #WINDOW_BITS} bits of the
+ * exponent, the powers b<sup>j &middot; 2<sup>i &middot; w</sup></sup> mod p for j &isin; [0, 2<sup>w</sup>). An exponentiation then reduces to
+ * one modular multiplication per window and needs no squaring at all. The tables are kept in {@link MontgomeryForm}, so that the whole chain of
+ * multiplications is carried out with Montgomery products and converted back only once.</p>
+ *
+ * <p>The entries are stored as fixed-length limbs. {@link #exponentiate(BigInteger)} reads every entry of a row and selects the one of the current
+ * digit with masks, so that the memory accessed does not depend on the exponent. {@link #exponentiatePublic(BigInteger)} reads the entry of the
+ * digit directly and must only be used with public exponents.</p>
+ *
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ */
+public final class FixedBaseExponentiation {
+
+	static final int WINDOW_BITS = 4;
+	private static final int WINDOW_SIZE = 1 << WINDOW_BITS;
+
+	private final BigInteger base;
+	private final BigInteger modulus;
+	private final int exponentBitLength;
+	private final MontgomeryForm montgomeryForm;
+	private final int limbs;
+	// table[i][j * limbs + k] is the k-th least significant limb of the j-th entry of the i-th window.
+	private final long[][] table;
+
+	/**
+	 * Precomputes the tables for the given base.
+	 *
+	 * @param base              the fixed base. Must be non-null and in the range [1, modulus).
+	 * @param modulus           the modulus. Must be non-null and greater than 1.
+	 * @param exponentBitLength the maximal bit length of the exponents this engine accepts. Must be strictly positive.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the base is not in [1, modulus), the modulus is not greater than one or the bit length is not strictly
+	 *                                  positive.
+	 */
+	public FixedBaseExponentiation(final BigInteger base, final BigInteger modulus, final int exponentBitLength) {
+		checkNotNull(base);
+		checkNotNull(modulus);
+		checkArgument(modulus.compareTo(BigInteger.ONE) > 0, BigIntegerOperations.MODULUS_CHECK_MESSAGE);
+		checkArgument(base.signum() > 0 && base.compareTo(modulus) < 0, "The base must be in the range [1, modulus).");
+		checkArgument(exponentBitLength > 0, "The exponent bit length must be strictly positive.");
+
+		this.base = base;
+		this.modulus = modulus;
+		this.exponentBitLength = exponentBitLength;
+		this.montgomeryForm = new MontgomeryForm(modulus);
+		this.limbs = numberOfLimbs(modulus.bitLength());
+
+		final int numberOfWindows = numberOfWindows(exponentBitLength);
+		this.table = new long[numberOfWindows][WINDOW_SIZE * limbs];
+
+		BigInteger windowBase = montgomeryForm.toMontgomery(base);
+		for (int i = 0; i < numberOfWindows; i++) {
+			BigInteger entry = montgomeryForm.one();
+			for (int j = 0; j < WINDOW_SIZE; j++) {
+				store(entry, table[i], j);
+				entry = montgomeryForm.multiply(entry, windowBase);
+			}
+			windowBase = entry;
+		}
+	}
+
+	/**
+	 * Computes base<sup>exponent</sup> mod modulus using the precomputed tables. Every entry of the tables is read regardless of the exponent.
+	 *
+	 * @param exponent the exponent. Must be non-null, non-negative and of bit length at most {@link #getExponentBitLength()}.
+	 * @return the power base<sup>exponent</sup> mod modulus.
+	 * @throws NullPointerException     if the exponent is null.
+	 * @throws IllegalArgumentException if the exponent is negative or too large for the precomputed tables.
+	 */
+	public BigInteger exponentiate(final BigInteger exponent) {
+		checkExponent(exponent);
+
+		final long[] selected = new long[limbs];
+		BigInteger result = montgomeryForm.one();
+		for (int i = 0; i < table.length; i++) {
+			result = montgomeryForm.multiply(result, select(table[i], digit(exponent, i), selected));
+		}
+		return montgomeryForm.fromMontgomery(result);
+	}
+
+	/**
+	 * Computes base<sup>exponent</sup> mod modulus using the precomputed tables. Only the entries of the exponent's digits are read, hence the
+	 * memory accessed depends on the exponent and this method must only be used with public exponents.
+	 *
+	 * @param exponent the public exponent. Must be non-null, non-negative and of bit length at most {@link #getExponentBitLength()}.
+	 * @return the power base<sup>exponent</sup> mod modulus.
+	 * @throws NullPointerException     if the exponent is null.
+	 * @throws IllegalArgumentException if the exponent is negative or too large for the precomputed tables.
+	 */
+	public BigInteger exponentiatePublic(final BigInteger exponent) {
+		checkExponent(exponent);
+
+		BigInteger result = montgomeryForm.one();
+		for (int i = 0; i < table.length; i++) {
+			result = montgomeryForm.multiply(result, entry(table[i], digit(exponent, i)));
+		}
+		return montgomeryForm.fromMontgomery(result);
+	}
+
+	/**
+	 * Computes the product of the powers b<sub>i</sub><sup>e<sub>i</sub></sup> mod modulus, where b<sub>i</sub> is the base of the i-th engine.
+	 * All the table lookups are multiplied into a single Montgomery product, which is converted back only once. As in
+	 * {@link #exponentiate(BigInteger)}, every entry of the tables is read regardless of the exponents.
+	 *
+	 * @param engines   the engines of the bases. Must be non-null, non-empty and of the same modulus.
+	 * @param exponents the exponents. Must be non-null, of the same size as the engines and valid for the corresponding engine.
+	 * @return the product of the powers mod modulus.
+	 * @throws NullPointerException     if any of the arguments or their elements is null.
+	 * @throws IllegalArgumentException if the engines are empty, do not share the same modulus, the sizes differ or an exponent is invalid.
+	 */
+	public static BigInteger multiExponentiate(final List<FixedBaseExponentiation> engines, final List<BigInteger> exponents) {
+		checkNotNull(engines);
+		checkNotNull(exponents);
+		checkArgument(!engines.isEmpty(), "The engines must not be empty.");
+		checkArgument(engines.size() == exponents.size(), "There must be as many exponents as engines.");
+
+		final FixedBaseExponentiation first = checkNotNull(engines.get(0));
+		final MontgomeryForm montgomeryForm = first.montgomeryForm;
+		final long[] selected = new long[first.limbs];
+		BigInteger result = montgomeryForm.one();
+		for (int k = 0; k < engines.size(); k++) {
+			final FixedBaseExponentiation engine = checkNotNull(engines.get(k));
+			final BigInteger exponent = checkNotNull(exponents.get(k));
+			checkArgument(engine.modulus.equals(first.modulus), "All engines must have the same modulus.");
+			engine.checkExponent(exponent);
+
+			for (int i = 0; i < engine.table.length; i++) {
+				result = montgomeryForm.multiply(result, engine.select(engine.table[i], digit(exponent, i), selected));
+			}
+		}
+		return montgomeryForm.fromMontgomery(result);
+	}
+
+	/**
+	 * Estimates the memory occupied by the tables of an engine, without building them.
+	 *
+	 * @param modulusBitLength  the bit length of the modulus. Must be strictly positive.
+	 * @param exponentBitLength the maximal bit length of the exponents. Must be strictly positive.
+	 * @return the estimated size of the tables in bytes.
+	 */
+	public static long estimateTableSize(final int modulusBitLength, final int exponentBitLength) {
+		checkArgument(modulusBitLength > 0, "The modulus bit length must be strictly positive.");
+		checkArgument(exponentBitLength > 0, "The exponent bit length must be strictly positive.");
+
+		// One array of limbs per window, plus its header.
+		final long rowBytes = (long) WINDOW_SIZE * numberOfLimbs(modulusBitLength) * Long.BYTES + 16;
+		return numberOfWindows(exponentBitLength) * rowBytes;
+	}
+
+	public BigInteger getBase() {
+		return base;
+	}
+
+	public BigInteger getModulus() {
+		return modulus;
+	}
+
+	public int getExponentBitLength() {
+		return exponentBitLength;
+	}
+
+	private void checkExponent(final BigInteger exponent) {
+		checkNotNull(exponent);
+		checkArgument(exponent.signum() >= 0, "The exponent must be non-negative.");
+		checkArgument(exponent.bitLength() <= exponentBitLength, "The exponent bit length must be at most %s.", exponentBitLength);
+	}
+
+	private void store(final BigInteger value, final long[] row, final int j) {
+		// The value is in [0, modulus), hence its big-endian encoding has at most one leading sign byte beyond the limbs.
+		final byte[] bytes = value.toByteArray();
+		for (int b = 0; b < Math.min(bytes.length, limbs * Long.BYTES); b++) {
+			final int k = j * limbs + b / Long.BYTES;
+			row[k] |= (bytes[bytes.length - 1 - b] & 0xFFL) << ((b % Long.BYTES) * Byte.SIZE);
+		}
+	}
+
+	/**
+	 * Copies the j-th entry of the row into the buffer by masking all the entries of the row, and returns its value.
+	 */
+	private BigInteger select(final long[] row, final int j, final long[] buffer) {
+		Arrays.fill(buffer, 0L);
+		for (int e = 0; e < WINDOW_SIZE; e++) {
+			// All ones if e == j, zero otherwise, since e ^ j is in [0, WINDOW_SIZE).
+			final long mask = (long) ((e ^ j) - 1) >> (Long.SIZE - 1);
+			for (int k = 0; k < limbs; k++) {
+				buffer[k] |= row[e * limbs + k] & mask;
+			}
+		}
+		return toBigInteger(buffer, 0);
+	}
+
+	private BigInteger entry(final long[] row, final int j) {
+		return toBigInteger(row, j * limbs);
+	}
+
+	private BigInteger toBigInteger(final long[] source, final int offset) {
+		final byte[] bytes = new byte[limbs * Long.BYTES];
+		for (int k = 0; k < limbs; k++) {
+			final long limb = source[offset + k];
+			final int end = bytes.length - k * Long.BYTES;
+			for (int b = 0; b < Long.BYTES; b++) {
+				bytes[end - 1 - b] = (byte) (limb >>> (b * Byte.SIZE));
+			}
+		}
+		return new BigInteger(1, bytes);
+	}
+
+	private static int numberOfLimbs(final int bitLength) {
+		return (bitLength + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	private static int numberOfWindows(final int exponentBitLength) {
+		return (exponentBitLength + WINDOW_BITS - 1) / WINDOW_BITS;
+	}
+
+	private static int digit(final BigInteger exponent, final int window) {
+		final int offset = window * WINDOW_BITS;
+		int digit = 0;
+		for (int k = WINDOW_BITS - 1; k >= 0; k--) {
+			digit = (digit << 1) | (exponent.testBit(offset + k) ? 1 : 0);
+		}
+		return digit;
+	}
+}
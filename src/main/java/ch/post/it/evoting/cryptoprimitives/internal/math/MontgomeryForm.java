@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Montgomery representation of the integers modulo an odd modulus N.
+ *
+ * <p>With R = 2<sup>k</sup> &gt; N, the Montgomery form of x is x &middot; R mod N. The Montgomery product of two values in this form,
+ * a &middot; b &middot; R<sup>-1</sup> mod N, is again in Montgomery form and is computed with shifts and masks instead of a division by N, which
+ * makes long chains of modular multiplications cheaper. Values are converted into and out of the form only at the ends of such a chain.</p>
+ *
+ * <p>All the methods expect their arguments to be in the range [0, N).</p>
+ *
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ */
+public final class MontgomeryForm {
+
+	private static final int LIMB_BITS = 64;
+
+	private final BigInteger modulus;
+	private final int shift;
+	private final BigInteger mask;
+	private final BigInteger r;
+	private final BigInteger rSquared;
+	private final BigInteger nPrime;
+
+	/**
+	 * Precomputes the constants R, R<sup>2</sup> mod N and N' = -N<sup>-1</sup> mod R for the given modulus N.
+	 *
+	 * @param modulus N, the modulus. Must be non-null, odd and greater than one.
+	 * @throws NullPointerException     if the modulus is null.
+	 * @throws IllegalArgumentException if the modulus is not odd or not greater than one.
+	 */
+	public MontgomeryForm(final BigInteger modulus) {
+		checkNotNull(modulus);
+		checkArgument(modulus.compareTo(BigInteger.ONE) > 0, BigIntegerOperations.MODULUS_CHECK_MESSAGE);
+		checkArgument(modulus.testBit(0), "The modulus must be odd");
+
+		this.modulus = modulus;
+		this.shift = (modulus.bitLength() + LIMB_BITS - 1) / LIMB_BITS * LIMB_BITS;
+
+		final BigInteger bigR = BigInteger.ONE.shiftLeft(shift);
+		this.mask = bigR.subtract(BigInteger.ONE);
+		this.r = bigR.mod(modulus);
+		this.rSquared = bigR.multiply(bigR).mod(modulus);
+		this.nPrime = modulus.modInverse(bigR).negate().mod(bigR);
+	}
+
+	/**
+	 * @return the Montgomery product a &middot; b &middot; R<sup>-1</sup> mod N.
+	 */
+	public BigInteger multiply(final BigInteger a, final BigInteger b) {
+		return reduce(a.multiply(b));
+	}
+
+	/**
+	 * @return x &middot; R mod N, the Montgomery form of x.
+	 */
+	public BigInteger toMontgomery(final BigInteger x) {
+		return reduce(x.multiply(rSquared));
+	}
+
+	/**
+	 * @return x &middot; R<sup>-1</sup> mod N, the value whose Montgomery form is x.
+	 */
+	public BigInteger fromMontgomery(final BigInteger x) {
+		return reduce(x);
+	}
+
+	/**
+	 * @return R mod N, the Montgomery form of one.
+	 */
+	public BigInteger one() {
+		return r;
+	}
+
+	/**
+	 * Computes the product of the given values modulo N. The values are not converted to Montgomery form: every Montgomery product introduces a
+	 * factor R<sup>-1</sup>, which is compensated once at the end.
+	 *
+	 * @param values the factors, each in the range [0, N). Must be non-null and not contain nulls.
+	 * @return the product of the values mod N, or one if there are no values.
+	 * @throws NullPointerException     if the values are null.
+	 * @throws IllegalArgumentException if the values contain nulls.
+	 */
+	public BigInteger product(final List<BigInteger> values) {
+		checkNotNull(values);
+		checkArgument(values.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
+
+		final Product product = newProduct();
+		values.forEach(product::multiply);
+		return product.get();
+	}
+
+	/**
+	 * @return a new, empty running product modulo N.
+	 */
+	public Product newProduct() {
+		return new Product(this);
+	}
+
+	public BigInteger getModulus() {
+		return modulus;
+	}
+
+	/**
+	 * A running product of values modulo N, suited as the mutable container of a collector. As in {@link #product(List)}, the values are not
+	 * converted to Montgomery form and the factors R<sup>-1</sup> of the Montgomery products are compensated once, by {@link #get()}.
+	 *
+	 * <p>Instances of this class are not thread-safe.</p>
+	 */
+	public static final class Product {
+
+		private final MontgomeryForm montgomeryForm;
+		private BigInteger accumulator;
+		private int numberOfFactors;
+
+		private Product(final MontgomeryForm montgomeryForm) {
+			this.montgomeryForm = montgomeryForm;
+		}
+
+		/**
+		 * Multiplies the given value into this product.
+		 *
+		 * @param value the factor, in the range [0, N). Must be non-null.
+		 */
+		public void multiply(final BigInteger value) {
+			checkNotNull(value);
+			accumulator = numberOfFactors == 0 ? value : montgomeryForm.multiply(accumulator, value);
+			numberOfFactors++;
+		}
+
+		/**
+		 * Multiplies the factors of the other product into this product.
+		 *
+		 * @param other the other product, of the same modulus. Must be non-null.
+		 * @return this product.
+		 */
+		public Product combine(final Product other) {
+			checkNotNull(other);
+			checkArgument(montgomeryForm.modulus.equals(other.montgomeryForm.modulus), "Both products must have the same modulus.");
+
+			if (other.numberOfFactors > 0) {
+				accumulator = numberOfFactors == 0 ? other.accumulator : montgomeryForm.multiply(accumulator, other.accumulator);
+				numberOfFactors += other.numberOfFactors;
+			}
+			return this;
+		}
+
+		/**
+		 * @return the product of the factors mod N, or one if there are none.
+		 */
+		public BigInteger get() {
+			final BigInteger modulus = montgomeryForm.modulus;
+			if (numberOfFactors == 0) {
+				return BigInteger.ONE.mod(modulus);
+			}
+
+			final int missingFactors = numberOfFactors - 1;
+			if (missingFactors == 0) {
+				return accumulator;
+			}
+			// A Montgomery product with R^(k + 1) mod N multiplies by R^k.
+			return montgomeryForm.multiply(accumulator, montgomeryForm.powerOfR(missingFactors + 1));
+		}
+	}
+
+	/**
+	 * Computes R<sup>k</sup> mod N, for k &ge; 2, by a square and multiply of Montgomery products, starting from R<sup>2</sup> mod N, the Montgomery
+	 * form of R. This is cheaper than a modular exponentiation, which would convert R into and out of its own Montgomery form.
+	 */
+	private BigInteger powerOfR(final int k) {
+		// The Montgomery form of R^(k - 1) is R^k mod N.
+		final int exponent = k - 1;
+		BigInteger result = rSquared;
+		for (int bit = Integer.highestOneBit(exponent) >>> 1; bit != 0; bit >>>= 1) {
+			result = multiply(result, result);
+			if ((exponent & bit) != 0) {
+				result = multiply(result, rSquared);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Montgomery reduction of t &lt; N &middot; R: returns t &middot; R<sup>-1</sup> mod N.
+	 */
+	private BigInteger reduce(final BigInteger t) {
+		final BigInteger m = t.and(mask).multiply(nPrime).and(mask);
+		final BigInteger u = t.add(m.multiply(modulus)).shiftRight(shift);
+		return u.compareTo(modulus) >= 0 ? u.subtract(modulus) : u;
+	}
+}
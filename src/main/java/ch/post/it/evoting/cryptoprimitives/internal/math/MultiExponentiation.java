@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+
+/**
+ * Simultaneous multi-exponentiation algorithms computing b<sub>0</sub><sup>e<sub>0</sub></sup> &middot; ... &middot;
+ * b<sub>n-1</sub><sup>e<sub>n-1</sub></sup> mod p with a single chain of squarings.
+ *
+ * <ul>
+ *     <li>Straus' interleaved method with fixed windows, which precomputes small tables for every base and is best for few bases.</li>
+ *     <li>Pippenger's bucket method, which sorts the bases into buckets per window and is best for many bases. Its windows are independent and
+ *     are evaluated in parallel.</li>
+ * </ul>
+ * The method and window size with the lowest estimated number of modular multiplications is chosen for every call. Below
+ * {@value #SIMULTANEOUS_THRESHOLD} bases, the separate exponentiations of the backend are faster and are used instead.
+ *
+ * <p>The bases are converted once into the given {@link MontgomeryForm}, typically the one cached by the group, and all the multiplications of
+ * the chain are Montgomery products. The inversions are delegated to the given {@link BigIntegerOperations}, hence this class serves all
+ * backends. The tables are indexed by the digits of the exponents, hence the exponents must be public.</p>
+ */
+final class MultiExponentiation {
+
+	// Number of bases from which the simultaneous methods are faster than separate exponentiations. Measured with 3072-bit moduli and the Java
+	// backend, Straus' method is 2.1 times slower for 2 bases, 1.2 times slower for 8 bases, and 6% faster for 10 bases.
+	static final int SIMULTANEOUS_THRESHOLD = 10;
+
+	private static final int MAX_STRAUS_WINDOW_BITS = 6;
+	private static final int MAX_PIPPENGER_WINDOW_BITS = 16;
+
+	private MultiExponentiation() {
+		// Intentionally left blank
+	}
+
+	/**
+	 * Computes the product of the powers b<sub>i</sub><sup>e<sub>i</sub></sup> mod modulus, in variable time, where the modulus is the one of the
+	 * given Montgomery form. The arguments are expected to have been validated by the caller: both lists are non-empty, of equal size and without
+	 * nulls, and the modulus is odd and greater than one.
+	 *
+	 * @throws IllegalArgumentException if an exponent is negative and the corresponding base is not relatively prime to the modulus.
+	 */
+	static BigInteger multiModExp(final List<BigInteger> bases, final List<BigInteger> exponents, final MontgomeryForm montgomeryForm,
+			final BigIntegerOperations operations) {
+		final BigInteger modulus = montgomeryForm.getModulus();
+		final int n = bases.size();
+		if (n < SIMULTANEOUS_THRESHOLD) {
+			return IntStream.range(0, n)
+					.mapToObj(i -> operations.modExponentiatePublic(bases.get(i), exponents.get(i), modulus))
+					.reduce(BigInteger.ONE, (a, b) -> operations.modMultiply(a, b, modulus));
+		}
+
+		// Negative exponents are handled by inverting the corresponding base.
+		final BigInteger[] b = new BigInteger[n];
+		final BigInteger[] e = new BigInteger[n];
+		int bitLength = 0;
+		for (int i = 0; i < n; i++) {
+			final BigInteger exponent = exponents.get(i);
+			if (exponent.signum() < 0) {
+				b[i] = montgomeryForm.toMontgomery(operations.modInvert(bases.get(i), modulus));
+				e[i] = exponent.negate();
+			} else {
+				b[i] = montgomeryForm.toMontgomery(bases.get(i).mod(modulus));
+				e[i] = exponent;
+			}
+			bitLength = Math.max(bitLength, e[i].bitLength());
+		}
+
+		if (bitLength == 0) {
+			return BigInteger.ONE;
+		}
+
+		final int strausWindowBits = bestStrausWindowBits(n, bitLength);
+		final int pippengerWindowBits = bestPippengerWindowBits(n, bitLength);
+		final BigInteger result;
+		if (strausCost(n, bitLength, strausWindowBits) <= pippengerCost(n, bitLength, pippengerWindowBits)) {
+			result = straus(b, e, bitLength, strausWindowBits, montgomeryForm);
+		} else {
+			result = pippenger(b, e, bitLength, pippengerWindowBits, montgomeryForm);
+		}
+		return montgomeryForm.fromMontgomery(result);
+	}
+
+	private static BigInteger straus(final BigInteger[] bases, final BigInteger[] exponents, final int bitLength, final int windowBits,
+			final MontgomeryForm montgomeryForm) {
+		final int n = bases.length;
+		final int windowSize = 1 << windowBits;
+		final int numberOfWindows = (bitLength + windowBits - 1) / windowBits;
+
+		final BigInteger[][] tables = new BigInteger[n][windowSize];
+		for (int i = 0; i < n; i++) {
+			tables[i][0] = montgomeryForm.one();
+			tables[i][1] = bases[i];
+			for (int j = 2; j < windowSize; j++) {
+				tables[i][j] = montgomeryForm.multiply(tables[i][j - 1], bases[i]);
+			}
+		}
+
+		BigInteger result = montgomeryForm.one();
+		for (int k = numberOfWindows - 1; k >= 0; k--) {
+			if (k != numberOfWindows - 1) {
+				for (int s = 0; s < windowBits; s++) {
+					result = montgomeryForm.multiply(result, result);
+				}
+			}
+			for (int i = 0; i < n; i++) {
+				result = montgomeryForm.multiply(result, tables[i][digit(exponents[i], k, windowBits)]);
+			}
+		}
+		return result;
+	}
+
+	private static BigInteger pippenger(final BigInteger[] bases, final BigInteger[] exponents, final int bitLength, final int windowBits,
+			final MontgomeryForm montgomeryForm) {
+		final int numberOfWindows = (bitLength + windowBits - 1) / windowBits;
+
+		final BigInteger[] windowSums = ParallelStreams.range(0, numberOfWindows)
+				.mapToObj(k -> pippengerWindowSum(bases, exponents, k, windowBits, montgomeryForm))
+				.toArray(BigInteger[]::new);
+
+		BigInteger result = windowSums[numberOfWindows - 1];
+		for (int k = numberOfWindows - 2; k >= 0; k--) {
+			for (int s = 0; s < windowBits; s++) {
+				result = montgomeryForm.multiply(result, result);
+			}
+			result = montgomeryForm.multiply(result, windowSums[k]);
+		}
+		return result;
+	}
+
+	/**
+	 * Computes Π<sub>j</sub> B<sub>j</sub><sup>j</sup>, where the bucket B<sub>j</sub> is the product of the bases whose exponent has the digit j
+	 * in the given window.
+	 */
+	private static BigInteger pippengerWindowSum(final BigInteger[] bases, final BigInteger[] exponents, final int window, final int windowBits,
+			final MontgomeryForm montgomeryForm) {
+		final BigInteger[] buckets = new BigInteger[1 << windowBits];
+		Arrays.fill(buckets, montgomeryForm.one());
+		for (int i = 0; i < bases.length; i++) {
+			final int d = digit(exponents[i], window, windowBits);
+			buckets[d] = montgomeryForm.multiply(buckets[d], bases[i]);
+		}
+
+		BigInteger running = montgomeryForm.one();
+		BigInteger windowSum = montgomeryForm.one();
+		for (int j = buckets.length - 1; j > 0; j--) {
+			running = montgomeryForm.multiply(running, buckets[j]);
+			windowSum = montgomeryForm.multiply(windowSum, running);
+		}
+		return windowSum;
+	}
+
+	private static int digit(final BigInteger exponent, final int window, final int windowBits) {
+		final int offset = window * windowBits;
+		int digit = 0;
+		for (int k = windowBits - 1; k >= 0; k--) {
+			digit = (digit << 1) | (exponent.testBit(offset + k) ? 1 : 0);
+		}
+		return digit;
+	}
+
+	private static int bestStrausWindowBits(final int n, final int bitLength) {
+		int best = 1;
+		for (int w = 2; w <= MAX_STRAUS_WINDOW_BITS; w++) {
+			if (strausCost(n, bitLength, w) < strausCost(n, bitLength, best)) {
+				best = w;
+			}
+		}
+		return best;
+	}
+
+	private static int bestPippengerWindowBits(final int n, final int bitLength) {
+		int best = 1;
+		for (int c = 2; c <= MAX_PIPPENGER_WINDOW_BITS; c++) {
+			if (pippengerCost(n, bitLength, c) < pippengerCost(n, bitLength, best)) {
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	// Estimated number of modular multiplications: table precomputation, squarings and one multiplication per base and window.
+	private static long strausCost(final int n, final int bitLength, final int windowBits) {
+		final long numberOfWindows = (bitLength + windowBits - 1) / windowBits;
+		return (long) n * ((1L << windowBits) - 2) + bitLength + n * numberOfWindows;
+	}
+
+	// Estimated number of modular multiplications: squarings, and per window one multiplication per base plus the bucket aggregation.
+	private static long pippengerCost(final int n, final int bitLength, final int windowBits) {
+		final long numberOfWindows = (bitLength + windowBits - 1) / windowBits;
+		return bitLength + numberOfWindows * (n + (2L << windowBits));
+	}
+}
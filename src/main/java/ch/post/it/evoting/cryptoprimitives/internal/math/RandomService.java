@@ -176,7 +176,7 @@ public class RandomService implements Random {
 		final BigInteger q = upperBound;
 		final int n = length;
 
-		final ZqGroup zqGroup = new ZqGroup(q);
+		final ZqGroup zqGroup = ZqGroup.of(q);
 
 		return Stream.generate(() -> ZqElement.create(genRandomInteger(q), zqGroup))
 				.limit(n)
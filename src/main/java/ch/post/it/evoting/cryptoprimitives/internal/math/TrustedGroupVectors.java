@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupMatrix;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVectorElement;
+
+/**
+ * Creates {@link GroupVector}s and {@link GroupMatrix}es from elements that are valid by construction, without copying nor validating them, and
+ * vectors of {@link GqElement}s from values that are known to be group members.
+ *
+ * <p>The elements must satisfy the constraints of {@link GroupVector#from(List)} and {@link GroupMatrix#fromRows(List)}: no nulls, a single group
+ * and a single element size, and non-empty rows of the same size for matrices. This holds for the intermediate results of the algorithms of this
+ * library, which compute them from already validated vectors. Inputs from callers must still go through the validating factories.</p>
+ *
+ * <p>This class is not exported by the module. The math package registers the construction on its initialization.</p>
+ */
+public final class TrustedGroupVectors {
+
+	private static volatile Construction construction;
+
+	private TrustedGroupVectors() {
+		// Intentionally left blank.
+	}
+
+	/**
+	 * Registers the trusted construction of the math package. Called once, when initializing {@link GroupVector}.
+	 *
+	 * @param construction the construction. Must be non-null.
+	 */
+	public static synchronized void register(final Construction construction) {
+		checkNotNull(construction);
+		checkState(TrustedGroupVectors.construction == null, "The trusted construction is already registered.");
+		TrustedGroupVectors.construction = construction;
+	}
+
+	/**
+	 * Returns a GroupVector of {@code elements}, without copying nor validating them.
+	 *
+	 * @param elements the elements, valid by construction. The list must not be modified afterwards.
+	 */
+	public static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupVector<E, G> vector(final List<E> elements) {
+		return construction().vector(Collections.unmodifiableList(elements));
+	}
+
+	/**
+	 * Returns a GroupMatrix of {@code rows}, without copying nor validating them.
+	 *
+	 * @param rows the rows, valid by construction. The list must not be modified afterwards.
+	 */
+	public static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupMatrix<E, G> matrix(
+			final List<GroupVector<E, G>> rows) {
+		return construction().matrix(Collections.unmodifiableList(rows));
+	}
+
+	/**
+	 * Returns a view of {@code values} as a GroupVector of elements of {@code group}, without checking their membership to the group. The elements
+	 * are created on each access.
+	 *
+	 * @param values the values of elements of {@code group}, for instance read back from previously validated elements. The list must not be
+	 *               modified afterwards.
+	 * @param group  the group of the elements.
+	 */
+	public static GroupVector<GqElement, GqGroup> gqElements(final List<BigInteger> values, final GqGroup group) {
+		return construction().gqElements(Collections.unmodifiableList(values), group);
+	}
+
+	/**
+	 * Returns a Collector that accumulates elements valid by construction into a GroupVector, without copying nor validating them.
+	 */
+	public static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> Collector<E, ?, GroupVector<E, G>> toTrustedGroupVector() {
+		return Collectors.collectingAndThen(Collectors.toList(), TrustedGroupVectors::vector);
+	}
+
+	private static Construction construction() {
+		if (construction == null) {
+			// Initializing GroupVector registers the construction. This is not done in a static initializer of this class, which would deadlock with
+			// a concurrent initialization of GroupVector.
+			try {
+				Class.forName(GroupVector.class.getName(), true, GroupVector.class.getClassLoader());
+			} catch (final ClassNotFoundException e) {
+				throw new IllegalStateException("Failed to initialize the group vectors.", e);
+			}
+		}
+		return construction;
+	}
+
+	/**
+	 * The construction of group vectors, matrices and elements without validation, implemented by the math package.
+	 */
+	public interface Construction {
+
+		<E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupVector<E, G> vector(List<E> elements);
+
+		<E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupMatrix<E, G> matrix(List<GroupVector<E, G>> rows);
+
+		GroupVector<GqElement, GqGroup> gqElements(List<BigInteger> values, GqGroup group);
+	}
+}
@@ -85,7 +85,7 @@ public class Vectors {
 		checkNotNull(vector);
 		checkNotNull(exponent);
 
-		return vector.stream().map(element -> element.exponentiate(exponent)).collect(toGroupVector());
+		return GqElement.vectorExponentiation(vector, exponent);
 	}
 
 	/**
@@ -24,7 +24,9 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
-import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.ImmutableHashableList;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.math.FixedBaseGqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -34,13 +36,25 @@ import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
  *
  * <p>A commitment key is of the form (h, g<sub>1</sub>, ..., g<sub>ν</sub>)</p>
  *
+ * <p>A commitment key can carry fixed-base tables for a prefix (h, g<sub>1</sub>, ..., g<sub>k</sub>) of its elements, built lazily on the first
+ * call to {@link #getFixedBaseTables()}. The prefix is the longest one of at most {@value CommitmentService#MAXIMUM_TABLES_BASES} elements whose
+ * tables fit in the memory budget given by the system property {@value #TABLES_MAXIMUM_SIZE_PROPERTY}, in bytes. Commitments to more elements
+ * are faster with a multi-exponentiation. The tables do not take part in the equality of commitment keys.</p>
+ *
  * <p>Instances of this class are immutable. </p>
  */
-final class CommitmentKey implements HashableList {
+final class CommitmentKey implements ImmutableHashableList {
+
+	static final String TABLES_MAXIMUM_SIZE_PROPERTY = "commitment.key.tables.max.bytes";
+
+	private static final long DEFAULT_TABLES_MAXIMUM_SIZE = Long.parseLong(
+			System.getProperty(TABLES_MAXIMUM_SIZE_PROPERTY, String.valueOf(32L * 1024 * 1024)));
 
 	private final GqGroup group;
 	private final GqElement h;
 	private final GroupVector<GqElement, GqGroup> gElements;
+	private final long tablesMaximumSize;
+	private volatile List<FixedBaseGqElement> fixedBaseTables;
 
 	/**
 	 * Creates a {@link CommitmentKey} object.
@@ -57,6 +71,18 @@ final class CommitmentKey implements HashableList {
 	 * @param gElements the list of g elements contained by this commitment key
 	 */
 	CommitmentKey(GqElement h, GroupVector<GqElement, GqGroup> gElements) {
+		this(h, gElements, DEFAULT_TABLES_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Creates a {@link CommitmentKey} object with the given memory budget for its fixed-base tables.
+	 *
+	 * @param h                 the h element of this commitment key
+	 * @param gElements         the list of g elements contained by this commitment key
+	 * @param tablesMaximumSize the maximal size of the fixed-base tables, in bytes. Must be non-negative. Zero disables the tables.
+	 */
+	CommitmentKey(GqElement h, GroupVector<GqElement, GqGroup> gElements, final long tablesMaximumSize) {
+		checkArgument(tablesMaximumSize >= 0, "The maximum size of the tables must be non-negative.");
 		//Validate h
 		checkNotNull(h);
 		checkArgument(!h.equals(h.getGroup().getIdentity()), "h cannot be 1");
@@ -74,6 +100,7 @@ final class CommitmentKey implements HashableList {
 		this.h = h;
 		this.group = h.getGroup();
 		this.gElements = gs;
+		this.tablesMaximumSize = tablesMaximumSize;
 	}
 
 	/**
@@ -98,6 +125,54 @@ final class CommitmentKey implements HashableList {
 		return gElements;
 	}
 
+	/**
+	 * Returns the fixed-base tables of the commitment key, building them on the first call.
+	 *
+	 * @return the tables of h, g<sub>1</sub>, ..., g<sub>k</sub> in that order, with k &le; ν determined by the memory budget. Empty if not even
+	 * the table of h fits in the budget.
+	 */
+	List<FixedBaseGqElement> getFixedBaseTables() {
+		List<FixedBaseGqElement> tables = fixedBaseTables;
+		if (tables == null) {
+			synchronized (this) {
+				tables = fixedBaseTables;
+				if (tables == null) {
+					final long numberOfTables = numberOfTables(size(), group, tablesMaximumSize);
+					tables = ParallelStreams.parallel(stream().limit(numberOfTables), numberOfTables)
+							.map(FixedBaseGqElement::new)
+							.toList();
+					fixedBaseTables = tables;
+				}
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * Estimates the memory the fixed-base tables of a commitment key with the default budget occupy once built.
+	 *
+	 * @param numberOfElements ν, the number of g elements of the key.
+	 * @param gqGroup          the group of the key. Must be non-null.
+	 * @return the estimated size of the tables in bytes.
+	 */
+	static long estimateTablesSize(final int numberOfElements, final GqGroup gqGroup) {
+		checkNotNull(gqGroup);
+		return numberOfTables(numberOfElements, gqGroup, DEFAULT_TABLES_MAXIMUM_SIZE) * FixedBaseGqElement.estimateSize(gqGroup);
+	}
+
+	private static long numberOfTables(final int numberOfElements, final GqGroup gqGroup, final long tablesMaximumSize) {
+		final long affordable = tablesMaximumSize / FixedBaseGqElement.estimateSize(gqGroup);
+		return Math.min(Math.min(numberOfElements + 1L, CommitmentService.MAXIMUM_TABLES_BASES), affordable);
+	}
+
+	/**
+	 * @return the fixed-base tables if {@link #getFixedBaseTables()} has already built them, an empty list otherwise.
+	 */
+	List<FixedBaseGqElement> getFixedBaseTablesIfBuilt() {
+		final List<FixedBaseGqElement> tables = fixedBaseTables;
+		return tables == null ? List.of() : tables;
+	}
+
 	/**
 	 * Creates a stream of the elements of the commitment key.
 	 *
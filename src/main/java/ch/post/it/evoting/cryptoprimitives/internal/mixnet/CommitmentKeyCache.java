@@ -0,0 +1,307 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
+
+import static ch.post.it.evoting.cryptoprimitives.math.GqElement.GqElementFactory;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+
+/**
+ * Bounded cache of the commitment keys generated by a {@link CommitmentKeyService}, indexed by group and number of elements.
+ *
+ * <p>The cache evicts the least recently used keys once the estimated memory footprint of its entries, fixed-base tables included, exceeds the
+ * configured maximum. It can optionally be backed by a local file to which the keys generated by {@link #get} are appended, so that a restarted
+ * process reads the keys back instead of regenerating them. The keys read from the file are checked again for group membership and for the
+ * invariants of a {@link CommitmentKey}, but a key that was not derived from the group would pass these checks, and checking a key against its
+ * derivation costs as much as deriving it. {@link #getDerived}, the accessor to use when verifying arguments, therefore does not use the file
+ * at all. The file must nevertheless be kept in a location only trusted processes can write to.</p>
+ *
+ * <p>The lines of the file are tagged with the security level, which determines the hash function the keys are generated with, so that keys
+ * generated at another security level are never read back.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+final class CommitmentKeyCache {
+
+	static final String MAXIMUM_WEIGHT_PROPERTY = "commitment.key.cache.max.bytes";
+	static final String FILE_PROPERTY = "commitment.key.cache.file";
+
+	private static final Logger LOG = LoggerFactory.getLogger(CommitmentKeyCache.class);
+	private static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+	// Rough footprint of a GqElement and its BigInteger besides the magnitude itself.
+	private static final long ELEMENT_OVERHEAD_BYTES = 64;
+	private static final String SEPARATOR = ";";
+	private static final int RADIX = 16;
+
+	private final long maximumWeight;
+	private final Path file;
+	private final String tag;
+	private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long weight;
+
+	/**
+	 * Creates an in-memory cache.
+	 *
+	 * @param maximumWeight the maximal estimated memory footprint of the cached keys, in bytes. Must be non-negative. Zero disables the cache.
+	 */
+	CommitmentKeyCache(final long maximumWeight) {
+		checkArgument(maximumWeight >= 0, "The maximum weight must be non-negative.");
+		this.maximumWeight = maximumWeight;
+		this.file = null;
+		this.tag = null;
+	}
+
+	/**
+	 * Creates a cache backed by the given file.
+	 *
+	 * @param maximumWeight the maximal estimated memory footprint of the cached keys, in bytes. Must be non-negative.
+	 * @param file          the file in which the generated keys are persisted. Must be non-null. Created on the first write if absent.
+	 * @param tag           identifies the security level the keys are generated with. Must be non-null, non-blank and without separators.
+	 */
+	CommitmentKeyCache(final long maximumWeight, final Path file, final String tag) {
+		checkArgument(maximumWeight >= 0, "The maximum weight must be non-negative.");
+		checkNotNull(file);
+		checkNotNull(tag);
+		checkArgument(!tag.isBlank() && !tag.contains(SEPARATOR) && tag.lines().count() == 1, "The tag must be a non-blank single token.");
+		this.maximumWeight = maximumWeight;
+		this.file = file;
+		this.tag = tag;
+	}
+
+	/**
+	 * Creates a cache configured by the system properties {@value #MAXIMUM_WEIGHT_PROPERTY}, in bytes, and {@value #FILE_PROPERTY}, the optional
+	 * file in which the keys are persisted.
+	 *
+	 * @param tag identifies the security level the keys are generated with. Must be non-null.
+	 */
+	static CommitmentKeyCache fromSystemProperties(final String tag) {
+		checkNotNull(tag);
+		final long maximumWeight = Long.parseLong(System.getProperty(MAXIMUM_WEIGHT_PROPERTY, String.valueOf(DEFAULT_MAXIMUM_WEIGHT)));
+		final String fileName = System.getProperty(FILE_PROPERTY);
+		if (fileName == null || fileName.isBlank()) {
+			return new CommitmentKeyCache(maximumWeight);
+		}
+		return new CommitmentKeyCache(maximumWeight, Path.of(fileName), tag);
+	}
+
+	/**
+	 * Returns the commitment key of the given size in the given group, generating it with {@code generator} if it is neither in memory nor in
+	 * the backing file.
+	 * <p>
+	 * The generation happens outside the lock. Two threads missing the same key may both generate it, which is harmless since the generation is
+	 * deterministic.
+	 *
+	 * @param numberOfElements ν, the number of g elements of the key.
+	 * @param gqGroup          the group of the key. Must be non-null.
+	 * @param generator        generates the key on a miss. Must be non-null.
+	 * @return the commitment key.
+	 */
+	CommitmentKey get(final int numberOfElements, final GqGroup gqGroup, final Supplier<CommitmentKey> generator) {
+		return get(numberOfElements, gqGroup, generator, true);
+	}
+
+	/**
+	 * Returns the commitment key of the given size in the given group, which is never a key read from the backing file. The file is neither read
+	 * nor written: a key that is not already generated in memory is generated with {@code generator}. It replaces in memory a key read from the
+	 * file by {@link #get}.
+	 *
+	 * @param numberOfElements ν, the number of g elements of the key.
+	 * @param gqGroup          the group of the key. Must be non-null.
+	 * @param generator        generates the key if no generated key is in memory. Must be non-null.
+	 * @return the commitment key.
+	 */
+	CommitmentKey getDerived(final int numberOfElements, final GqGroup gqGroup, final Supplier<CommitmentKey> generator) {
+		return get(numberOfElements, gqGroup, generator, false);
+	}
+
+	private CommitmentKey get(final int numberOfElements, final GqGroup gqGroup, final Supplier<CommitmentKey> generator,
+			final boolean persistedAllowed) {
+		checkNotNull(gqGroup);
+		checkNotNull(generator);
+
+		final CacheKey cacheKey = new CacheKey(gqGroup, numberOfElements);
+		final Entry cached;
+		synchronized (entries) {
+			cached = entries.get(cacheKey);
+		}
+		if (cached != null && (persistedAllowed || cached.derived())) {
+			return cached.commitmentKey();
+		}
+
+		if (persistedAllowed) {
+			final Optional<CommitmentKey> persisted = read(numberOfElements, gqGroup);
+			if (persisted.isPresent()) {
+				put(cacheKey, new Entry(persisted.get(), false));
+				return persisted.get();
+			}
+		}
+
+		final CommitmentKey generated = generator.get();
+		if (persistedAllowed) {
+			write(generated);
+		} else if (cached != null && !cached.commitmentKey().equals(generated)) {
+			LOG.warn("The persisted commitment key of size {} differs from the generated one and is not used", numberOfElements);
+		}
+
+		put(cacheKey, new Entry(generated, true));
+		return generated;
+	}
+
+	/**
+	 * @return the number of keys currently held in memory.
+	 */
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return the estimated memory footprint of the keys currently held in memory, in bytes.
+	 */
+	long weight() {
+		synchronized (entries) {
+			return weight;
+		}
+	}
+
+	/**
+	 * Estimates the memory footprint of a cached key, including the fixed-base tables it may build while it is in use.
+	 */
+	static long estimateWeight(final int numberOfElements, final GqGroup gqGroup) {
+		final long elementBytes = (gqGroup.getP().bitLength() + Byte.SIZE - 1) / Byte.SIZE + ELEMENT_OVERHEAD_BYTES;
+		return (numberOfElements + 1L) * elementBytes + CommitmentKey.estimateTablesSize(numberOfElements, gqGroup);
+	}
+
+	private void put(final CacheKey cacheKey, final Entry entry) {
+		final long entryWeight = estimateWeight(cacheKey.numberOfElements(), cacheKey.group());
+		if (entryWeight > maximumWeight) {
+			return;
+		}
+
+		synchronized (entries) {
+			final Entry existing = entries.putIfAbsent(cacheKey, entry);
+			if (existing != null) {
+				// A generated key replaces a key read from the file, with the same weight.
+				if (!existing.derived() && entry.derived()) {
+					entries.put(cacheKey, entry);
+				}
+				return;
+			}
+			weight += entryWeight;
+
+			final Iterator<Map.Entry<CacheKey, Entry>> leastRecentlyUsed = entries.entrySet().iterator();
+			while (weight > maximumWeight) {
+				final CacheKey evicted = leastRecentlyUsed.next().getKey();
+				leastRecentlyUsed.remove();
+				weight -= estimateWeight(evicted.numberOfElements(), evicted.group());
+			}
+		}
+	}
+
+	private Optional<CommitmentKey> read(final int numberOfElements, final GqGroup gqGroup) {
+		if (file == null || !Files.exists(file)) {
+			return Optional.empty();
+		}
+
+		final String prefix = linePrefix(numberOfElements, gqGroup);
+		try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith(prefix)) {
+					final Optional<CommitmentKey> commitmentKey = parse(line.substring(prefix.length()), numberOfElements, gqGroup);
+					if (commitmentKey.isPresent()) {
+						return commitmentKey;
+					}
+				}
+			}
+		} catch (final IOException e) {
+			LOG.warn("Could not read the commitment keys from {}, the keys will be regenerated", file, e);
+		}
+		return Optional.empty();
+	}
+
+	private static Optional<CommitmentKey> parse(final String values, final int numberOfElements, final GqGroup gqGroup) {
+		try {
+			final List<BigInteger> v = Arrays.stream(values.split(SEPARATOR))
+					.map(value -> new BigInteger(value, RADIX))
+					.toList();
+			checkArgument(v.size() == numberOfElements + 1, "The persisted key does not have the expected size.");
+			checkArgument(new HashSet<>(v).size() == v.size(), "The persisted key contains duplicated elements.");
+
+			final GroupVector<GqElement, GqGroup> v_elements = GqElementFactory.fromValues(v, gqGroup);
+			return Optional.of(new CommitmentKey(v_elements.get(0), v_elements.subVector(1, v_elements.size())));
+		} catch (final IllegalArgumentException e) {
+			LOG.warn("Ignoring an invalid persisted commitment key of size {}: {}", numberOfElements, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void write(final CommitmentKey commitmentKey) {
+		if (file == null) {
+			return;
+		}
+
+		final String line = linePrefix(commitmentKey.size(), commitmentKey.getGroup()) + commitmentKey.stream()
+				.map(element -> element.getValue().toString(RADIX))
+				.collect(Collectors.joining(SEPARATOR)) + System.lineSeparator();
+		synchronized (this) {
+			try {
+				Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			} catch (final IOException e) {
+				LOG.warn("Could not persist the commitment key to {}", file, e);
+			}
+		}
+	}
+
+	private String linePrefix(final int numberOfElements, final GqGroup gqGroup) {
+		return String.join(SEPARATOR, tag, gqGroup.getP().toString(RADIX), gqGroup.getQ().toString(RADIX),
+				gqGroup.getGenerator().getValue().toString(RADIX), String.valueOf(numberOfElements)) + SEPARATOR;
+	}
+
+	private record CacheKey(GqGroup group, int numberOfElements) {
+	}
+
+	/**
+	 * A cached key and whether it was generated by this process rather than read from the file.
+	 */
+	private record Entry(CommitmentKey commitmentKey, boolean derived) {
+	}
+}
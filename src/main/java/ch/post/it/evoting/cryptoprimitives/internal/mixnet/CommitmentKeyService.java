@@ -23,11 +23,13 @@ import java.math.BigInteger;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.BigIntegerOperationsService;
+import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SecurityLevelConfig;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -36,6 +38,9 @@ import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 /**
  * Creates commitment keys.
  *
+ * <p>The keys are deterministic in the group and the number of elements. A service created with a {@link CommitmentKeyCache} returns the cached
+ * key instead of generating it again.</p>
+ *
  * <p>This class is thread safe.</p>
  */
 @SuppressWarnings("java:S117")
@@ -43,10 +48,27 @@ public class CommitmentKeyService {
 
 	private static final String HASH_CONSTANT = "commitmentKey";
 
+	private static final CommitmentKeyService INSTANCE = new CommitmentKeyService(HashService.getInstance(),
+			CommitmentKeyCache.fromSystemProperties(SecurityLevelConfig.getSystemSecurityLevel().name()));
+
 	private final HashService hashService;
+	private final CommitmentKeyCache commitmentKeyCache;
 
 	CommitmentKeyService(final HashService hashService) {
+		this(hashService, new CommitmentKeyCache(0));
+	}
+
+	CommitmentKeyService(final HashService hashService, final CommitmentKeyCache commitmentKeyCache) {
 		this.hashService = checkNotNull(hashService);
+		this.commitmentKeyCache = checkNotNull(commitmentKeyCache);
+	}
+
+	/**
+	 * Returns the service shared by all mixnet services, which uses the default {@link HashService} and a cache configured by the system
+	 * properties {@value CommitmentKeyCache#MAXIMUM_WEIGHT_PROPERTY} and {@value CommitmentKeyCache#FILE_PROPERTY}.
+	 */
+	static CommitmentKeyService getInstance() {
+		return INSTANCE;
 	}
 
 	/**
@@ -73,15 +95,37 @@ public class CommitmentKeyService {
 	 * @return the created commitment key.
 	 */
 	CommitmentKey getVerifiableCommitmentKey(final int numberOfElements, final GqGroup gqGroup) {
+		return getVerifiableCommitmentKey(numberOfElements, gqGroup, true);
+	}
+
+	/**
+	 * Same as {@link #getVerifiableCommitmentKey(int, GqGroup)}, but the returned key is never one read back from the file backing the cache: it
+	 * is always derived from the group by this process, without reading the file. To be used when verifying arguments.
+	 *
+	 * @param numberOfElements ν, the desired number of elements of the commitment key. Must be strictly positive and smaller or equal to q - 3, where
+	 *                         q is the order of the {@code gqGroup}.
+	 * @param gqGroup          the quadratic residue group to which the commitment key belongs. Must be non null.
+	 * @return the derived commitment key.
+	 */
+	CommitmentKey getDerivedVerifiableCommitmentKey(final int numberOfElements, final GqGroup gqGroup) {
+		return getVerifiableCommitmentKey(numberOfElements, gqGroup, false);
+	}
+
+	private CommitmentKey getVerifiableCommitmentKey(final int numberOfElements, final GqGroup gqGroup, final boolean persistedAllowed) {
 		checkNotNull(gqGroup);
 
 		final int nu = numberOfElements;
+		checkArgument(canGenerateKey(nu, gqGroup), "The desired number of commitment elements must be in the range (0, q - 3]");
+
+		final Supplier<CommitmentKey> generator = () -> generateCommitmentKey(nu, gqGroup);
+		return persistedAllowed ? commitmentKeyCache.get(nu, gqGroup, generator) : commitmentKeyCache.getDerived(nu, gqGroup, generator);
+	}
+
+	private CommitmentKey generateCommitmentKey(final int nu, final GqGroup gqGroup) {
 		final BigInteger p = gqGroup.getP();
 		final BigInteger q = gqGroup.getQ();
 		final BigInteger g = gqGroup.getGenerator().getValue();
 
-		checkArgument(canGenerateKey(nu, gqGroup), "The desired number of commitment elements must be in the range (0, q - 3]");
-
 		int count = 0;
 		int i = 0;
 
@@ -111,12 +155,10 @@ public class CommitmentKeyService {
 
 		}
 
-		final List<GqElement> v_elements = v.stream()
-				.map(e -> GqElementFactory.fromValue(e, gqGroup))
-				.toList();
+		final GroupVector<GqElement, GqGroup> v_elements = GqElementFactory.fromValues(List.copyOf(v), gqGroup);
 
 		final GqElement h = v_elements.get(0);
-		final GroupVector<GqElement, GqGroup> g_vector = GroupVector.from(v_elements.subList(1, v_elements.size()));
+		final GroupVector<GqElement, GqGroup> g_vector = v_elements.subVector(1, v_elements.size());
 		return new CommitmentKey(h, g_vector);
 	}
 }
@@ -15,13 +15,16 @@
  */
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Collections;
-import java.util.stream.IntStream;
+import java.util.List;
 
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
+import ch.post.it.evoting.cryptoprimitives.math.FixedBaseGqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupMatrix;
@@ -35,6 +38,11 @@ import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
 @SuppressWarnings("java:S117")
 public class CommitmentService {
 
+	// Minimal number of commitments under the same key for which building the fixed-base tables of the key pays off.
+	static final int PRECOMPUTATION_THRESHOLD = 16;
+	// Above this number of bases, the multi-exponentiation is faster than the fixed-base tables.
+	static final int MAXIMUM_TABLES_BASES = 16;
+
 	private CommitmentService() {
 		// intentionally left blank
 	}
@@ -58,6 +66,27 @@ public class CommitmentService {
 	 * @return the commitment to the provided elements as a {@link GqElement}
 	 */
 	static GqElement getCommitment(final GroupVector<ZqElement, ZqGroup> elements, final ZqElement randomElement, final CommitmentKey commitmentKey) {
+		return getCommitment(elements, randomElement, commitmentKey, false);
+	}
+
+	/**
+	 * Computes a commitment to the given public elements with the given public random element and <code>CommitmentKey</code>, in variable time.
+	 * The result and the requirements on the arguments are the same as for {@link #getCommitment(GroupVector, ZqElement, CommitmentKey)}, but the
+	 * exponentiations are those of {@link GqElement#multiModExpPublic(GroupVector, GroupVector)}. This method must therefore only be used when all
+	 * the arguments are public, for instance when verifying an argument.
+	 *
+	 * @param elements      a, the public {@link ZqElement}s to be committed (a<sub>0</sub>, ..., a<sub>l</sub>)
+	 * @param randomElement r, the public random {@link ZqElement}
+	 * @param commitmentKey <b>ck</b>, a {@link CommitmentKey} (h, g<sub>1</sub>, ..., g<sub>ν</sub>)
+	 * @return the commitment to the provided elements as a {@link GqElement}
+	 */
+	static GqElement getCommitmentPublic(final GroupVector<ZqElement, ZqGroup> elements, final ZqElement randomElement,
+			final CommitmentKey commitmentKey) {
+		return getCommitment(elements, randomElement, commitmentKey, true);
+	}
+
+	private static GqElement getCommitment(final GroupVector<ZqElement, ZqGroup> elements, final ZqElement randomElement,
+			final CommitmentKey commitmentKey, final boolean isPublic) {
 		// Null checks.
 		checkNotNull(elements);
 		checkNotNull(randomElement);
@@ -76,10 +105,29 @@ public class CommitmentService {
 		checkArgument(r.getGroup().hasSameOrderAs(ck.getGroup()),
 				"The commitment key must have the same order (q) as the elements to be committed to and the random value");
 
+		return commit(a, r, ck, ck.getFixedBaseTablesIfBuilt(), isPublic);
+	}
+
+	/**
+	 * Computes h<sup>r</sup> &middot; g<sub>1</sub><sup>a<sub>1</sub></sup> &middot; ... &middot; g<sub>l</sub><sup>a<sub>l</sub></sup>, using the
+	 * fixed-base tables if they cover all the bases. Otherwise, public exponents are combined with a multi-exponentiation and secret exponents are
+	 * exponentiated separately, in parallel.
+	 */
+	private static GqElement commit(final GroupVector<ZqElement, ZqGroup> a, final ZqElement r, final CommitmentKey ck,
+			final List<FixedBaseGqElement> tables, final boolean isPublic) {
+		final int l = a.size();
+		if (tables.size() > l) {
+			return FixedBaseGqElement.multiExponentiate(tables.subList(0, l + 1), a.prepend(r));
+		}
+
 		final GqElement h = ck.getH();
 		final GroupVector<GqElement, GqGroup> g = ck.getG();
 		// Due to 0 indexing of the gs, the indexes used deviate from the spec
-		return h.exponentiate(r).multiply(IntStream.range(0, l).parallel().mapToObj(i -> g.get(i).exponentiate(a.get(i)))
+		if (isPublic) {
+			return GqElement.multiModExpPublic(g.subVector(0, l).prepend(h), a.prepend(r));
+		}
+		return h.exponentiate(r).multiply(ParallelStreams.range(0, l, Workload.EXPONENTIATION.of(ck.getGroup()))
+				.mapToObj(i -> g.get(i).exponentiate(a.get(i)))
 				.reduce(ck.getGroup().getIdentity(), GqElement::multiply));
 	}
 
@@ -127,14 +175,16 @@ public class CommitmentService {
 				"The commitment key must have the same order (q) than the elements to be committed to and the random values");
 
 		// Algorithm.
-		return IntStream.range(0, m)
-				.parallel()
+		final List<FixedBaseGqElement> tables = m >= PRECOMPUTATION_THRESHOLD && n < MAXIMUM_TABLES_BASES
+				? ck.getFixedBaseTables()
+				: ck.getFixedBaseTablesIfBuilt();
+		return ParallelStreams.range(0, m)
 				.mapToObj(i -> {
 					final GroupVector<ZqElement, ZqGroup> a_i = A.getColumn(i);
 					final ZqElement r_i = r.get(i);
-					return getCommitment(a_i, r_i, ck);
+					return commit(a_i, r_i, ck, tables, false);
 				})
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 
 	/**
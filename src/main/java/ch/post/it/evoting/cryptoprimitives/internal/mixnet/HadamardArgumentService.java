@@ -15,8 +15,8 @@
  */
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable.create;
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -33,7 +33,10 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -158,7 +161,7 @@ public class HadamardArgumentService {
 		// Calculate b_0, ..., b_(m-1)
 		final GroupVector<GroupVector<ZqElement, ZqGroup>, ZqGroup> b_vectors = IntStream.range(0, m)
 				.mapToObj(j -> getHadamardProduct(A, j))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate s_0, ..., s_(m-1)
 		final List<ZqElement> s_vector_mutable = new ArrayList<>(m);
@@ -167,17 +170,16 @@ public class HadamardArgumentService {
 			s_vector_mutable.addAll(1, randomService.genRandomVector(q, m - 2));
 		}
 		s_vector_mutable.add(m - 1, s);
-		final GroupVector<ZqElement, ZqGroup> s_vector = GroupVector.from(s_vector_mutable);
+		final GroupVector<ZqElement, ZqGroup> s_vector = TrustedGroupVectors.vector(s_vector_mutable);
 
 		// Calculate c_(B_0), ..., c_(B_(m-1))
 		final List<GqElement> c_B_mutable = new ArrayList<>(m);
 		c_B_mutable.add(0, c_A.get(0));
-		c_B_mutable.addAll(1, IntStream.range(1, m - 1)
-				.parallel()
+		c_B_mutable.addAll(1, ParallelStreams.range(1, m - 1)
 				.mapToObj(j -> CommitmentService.getCommitment(b_vectors.get(j), s_vector.get(j), ck))
 				.toList());
 		c_B_mutable.add(m - 1, c_b);
-		final GroupVector<GqElement, GqGroup> c_B = GroupVector.from(c_B_mutable);
+		final GroupVector<GqElement, GqGroup> c_B = TrustedGroupVectors.vector(c_B_mutable);
 
 		// Calculate x
 		final byte[] x_bytes = hashService.recursiveHash(HashableBigInteger.from(p), HashableBigInteger.from(q), pk, ck, c_A, c_b, c_B);
@@ -197,58 +199,52 @@ public class HadamardArgumentService {
 		final ZqElement y = ZqElement.create(ConversionsInternal.byteArrayToInteger(y_bytes), zqGroup);
 
 		// To avoid computing multiple times the powers of x.
-		final GroupVector<ZqElement, ZqGroup> xPowers = IntStream.range(0, m)
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> xPowers = ParallelStreams.range(0, m)
 				.mapToObj(i -> x.exponentiate(BigInteger.valueOf(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate d_0, ..., d_(m-2)
-		final GroupVector<GroupVector<ZqElement, ZqGroup>, ZqGroup> d_matrix = IntStream.range(0, m - 1)
-				.parallel()
+		final long multiplicationWork = Workload.MULTIPLICATION.of(zqGroup);
+		final GroupVector<GroupVector<ZqElement, ZqGroup>, ZqGroup> d_matrix = ParallelStreams.range(0, m - 1, n * multiplicationWork)
 				.mapToObj(i -> b_vectors.get(i).stream()
 						.map(element -> xPowers.get(i + 1).multiply(element))
-						.collect(toGroupVector()))
-				.collect(toGroupVector());
+						.collect(toTrustedGroupVector()))
+				.collect(toTrustedGroupVector());
 
 		// Calculate c_(D_0), ..., c_(D_(m-2))
-		final GroupVector<GqElement, GqGroup> c_D_vector = IntStream.range(0, m - 1)
-				.parallel()
+		final GroupVector<GqElement, GqGroup> c_D_vector = ParallelStreams.range(0, m - 1)
 				.mapToObj(i -> c_B.get(i).exponentiate(xPowers.get(i + 1)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate t_0, ..., t_(m-2)
-		final GroupVector<ZqElement, ZqGroup> t_vector = IntStream.range(0, m - 1)
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> t_vector = ParallelStreams.range(0, m - 1, multiplicationWork)
 				.mapToObj(i -> xPowers.get(i + 1).multiply(s_vector.get(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate d
-		final GroupVector<ZqElement, ZqGroup> d = IntStream.range(0, n)
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> d = ParallelStreams.range(0, n, (m - 1) * multiplicationWork)
 				.mapToObj(j ->
 						//Scalar multiplication
 						IntStream.range(1, m)
 								.mapToObj(i -> xPowers.get(i).multiply(b_vectors.get(i).get(j)))
 								//Sum
 								.reduce(zqGroup.getIdentity(), ZqElement::add))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate c_D
-		final GqElement c_D = IntStream.range(1, m)
-				.parallel()
+		final GqElement c_D = ParallelStreams.range(1, m)
 				.mapToObj(i -> c_B.get(i).exponentiate(xPowers.get(i)))
-				.reduce(gqGroup.getIdentity(), GqElement::multiply);
+				.collect(GqElement.toProduct(gqGroup));
 
 		// Calculate t
-		final ZqElement t = IntStream.range(1, m)
-				.parallel()
+		final ZqElement t = ParallelStreams.range(1, m, multiplicationWork)
 				.mapToObj(i -> xPowers.get(i).multiply(s_vector.get(i)))
 				.reduce(zqGroup.getIdentity(), ZqElement::add);
 
 		// (-1, ..., -1) and c_(-1)
 		final GroupVector<ZqElement, ZqGroup> minus_one = getMinusOnes(n, zqGroup);
 		final ZqElement zero = zqGroup.getIdentity();
-		final GqElement c_minus_one = CommitmentService.getCommitment(minus_one, zero, ck);
+		final GqElement c_minus_one = CommitmentService.getCommitmentPublic(minus_one, zero, ck);
 
 		// Calculate and return the zero argument.
 		// Create statement
@@ -283,13 +279,66 @@ public class HadamardArgumentService {
 		final GroupVector<GqElement, GqGroup> c_A = statement.get_c_A();
 		final GqElement c_b = statement.get_c_b();
 		final GroupVector<GqElement, GqGroup> c_B = argument.get_c_B();
-		final GroupVector<ZqElement, ZqGroup> a_prime = argument.get_zeroArgument().get_a_prime();
 
 		// Cross-check groups and dimensions
 		checkArgument(statement.getGroup().equals(argument.getGroup()),
 				"The statement's and the argument's groups must have the same order.");
 		checkArgument(statement.get_m() == argument.get_m(), "The statement and the argument must have the same size m.");
 
+		final int m = c_A.size();
+
+		// Algorithm
+		final ZeroStatement zeroStatement = getZeroStatement(statement, argument);
+		final ZeroArgument zeroArgument = argument.get_zeroArgument();
+
+		return create(() -> c_B.get(0).equals(c_A.get(0)), "c_B_0 must equal c_A_0.")
+				.and(create(() -> c_B.get(m - 1).equals(c_b), "c_B_m_minus_1 must equal c_b."))
+				.and(zeroArgumentService.verifyZeroArgument(zeroStatement, zeroArgument).addErrorMessage("Failed to verify the ZeroArgument."));
+	}
+
+	/**
+	 * Adds the verification equations of a {@link HadamardArgument} with respect to a given {@link HadamardStatement} to a batch. The argument is
+	 * valid iff the equations hold. See {@link #verifyHadamardArgument(HadamardStatement, HadamardArgument)} for the requirements on the statement
+	 * and the argument.
+	 *
+	 * @param statement the statement for which the argument is to be verified.
+	 * @param argument  the argument to be verified.
+	 * @param equations the batch of equations to add to. Must be non-null.
+	 */
+	void addVerificationEquations(final HadamardStatement statement, final HadamardArgument argument, final VerificationEquations equations) {
+		checkNotNull(statement);
+		checkNotNull(argument);
+		checkNotNull(equations);
+
+		// Retrieve elements for verification
+		final GroupVector<GqElement, GqGroup> c_A = statement.get_c_A();
+		final GqElement c_b = statement.get_c_b();
+		final GroupVector<GqElement, GqGroup> c_B = argument.get_c_B();
+
+		// Cross-check groups and dimensions
+		checkArgument(statement.getGroup().equals(argument.getGroup()),
+				"The statement's and the argument's groups must have the same order.");
+		checkArgument(statement.get_m() == argument.get_m(), "The statement and the argument must have the same size m.");
+
+		final int m = c_A.size();
+
+		// Algorithm
+		final ZeroStatement zeroStatement = getZeroStatement(statement, argument);
+
+		equations.addCondition(c_B.get(0).equals(c_A.get(0)));
+		equations.addCondition(c_B.get(m - 1).equals(c_b));
+		zeroArgumentService.addVerificationEquations(zeroStatement, argument.get_zeroArgument(), equations);
+	}
+
+	/**
+	 * Computes the statement of the zero argument the Hadamard argument reduces to.
+	 */
+	private ZeroStatement getZeroStatement(final HadamardStatement statement, final HadamardArgument argument) {
+		final GroupVector<GqElement, GqGroup> c_A = statement.get_c_A();
+		final GqElement c_b = statement.get_c_b();
+		final GroupVector<GqElement, GqGroup> c_B = argument.get_c_B();
+		final GroupVector<ZqElement, ZqGroup> a_prime = argument.get_zeroArgument().get_a_prime();
+
 		final ZqGroup zqGroup = a_prime.getGroup();
 		final GqGroup gqGroup = c_A.getGroup();
 		final BigInteger p = gqGroup.getP();
@@ -297,7 +346,6 @@ public class HadamardArgumentService {
 		final int m = c_A.size();
 		final int n = a_prime.size();
 
-		// Algorithm
 		// Calculate x
 		final byte[] x_bytes = hashService.recursiveHash(
 				HashableBigInteger.from(p),
@@ -324,37 +372,29 @@ public class HadamardArgumentService {
 		final ZqElement y = ZqElement.create(ConversionsInternal.byteArrayToInteger(y_bytes), zqGroup);
 
 		// Pre-calculate the powers of x
-		final GroupVector<ZqElement, ZqGroup> xPowers = IntStream.range(0, m)
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> xPowers = ParallelStreams.range(0, m)
 				.mapToObj(i -> x.exponentiate(BigInteger.valueOf(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate c_(D_0), ..., c_(D_(m-2))
-		final GroupVector<GqElement, GqGroup> c_D_vector = IntStream.range(0, m - 1)
-				.parallel()
-				.mapToObj(i -> c_B.get(i).exponentiate(xPowers.get(i + 1)))
-				.collect(toGroupVector());
+		final GroupVector<GqElement, GqGroup> c_D_vector = ParallelStreams.range(0, m - 1)
+				.mapToObj(i -> c_B.get(i).exponentiatePublic(xPowers.get(i + 1)))
+				.collect(toTrustedGroupVector());
 
 		// Calculate c_D
-		final GqElement c_D = IntStream.range(1, m)
-				.parallel()
-				.mapToObj(i -> c_B.get(i).exponentiate(xPowers.get(i)))
-				.reduce(gqGroup.getIdentity(), GqElement::multiply);
+		final GqElement c_D = ParallelStreams.range(1, m)
+				.mapToObj(i -> c_B.get(i).exponentiatePublic(xPowers.get(i)))
+				.collect(GqElement.toProduct(gqGroup));
 
 		// (-1, ..., -1) and c_(-1)
 		final GroupVector<ZqElement, ZqGroup> minus_one = getMinusOnes(n, zqGroup);
 		final ZqElement zero = zqGroup.getIdentity();
-		final GqElement c_minus_1 = CommitmentService.getCommitment(minus_one, zero, ck);
+		final GqElement c_minus_1 = CommitmentService.getCommitmentPublic(minus_one, zero, ck);
 
 		// Create zero statement
 		final GroupVector<GqElement, GqGroup> c_A_zero_argument = c_A.subVector(1, m).append(c_minus_1);
 		final GroupVector<GqElement, GqGroup> c_D_zero_argument = c_D_vector.append(c_D);
-		final ZeroStatement zeroStatement = new ZeroStatement(c_A_zero_argument, c_D_zero_argument, y);
-		final ZeroArgument zeroArgument = argument.get_zeroArgument();
-
-		return create(() -> c_B.get(0).equals(c_A.get(0)), "c_B_0 must equal c_A_0.")
-				.and(create(() -> c_B.get(m - 1).equals(c_b), "c_B_m_minus_1 must equal c_b."))
-				.and(zeroArgumentService.verifyZeroArgument(zeroStatement, zeroArgument).addErrorMessage("Failed to verify the ZeroArgument."));
+		return new ZeroStatement(c_A_zero_argument, c_D_zero_argument, y);
 	}
 
 	/**
@@ -375,12 +415,11 @@ public class HadamardArgumentService {
 
 		final ZqElement one = ZqElement.create(1, matrix.getGroup());
 		final int n = matrix.numRows();
-		return IntStream.range(0, n)
-				.parallel()
+		return ParallelStreams.range(0, n, (bound + 1L) * Workload.MULTIPLICATION.of(matrix.getGroup()))
 				.mapToObj(i -> matrix.getRow(i).stream()
 						.limit(bound + 1L)
 						.reduce(one, ZqElement::multiply))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 
 	/**
@@ -394,6 +433,6 @@ public class HadamardArgumentService {
 		final BigInteger q = zqGroup.getQ();
 
 		return Stream.generate(() -> ZqElement.create(q.subtract(BigInteger.ONE), zqGroup)).limit(size)
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 }
@@ -24,6 +24,7 @@ import java.math.BigInteger;
 import com.google.common.annotations.VisibleForTesting;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
@@ -35,9 +36,11 @@ import ch.post.it.evoting.cryptoprimitives.mixnet.Mixnet;
 import ch.post.it.evoting.cryptoprimitives.mixnet.Permutation;
 import ch.post.it.evoting.cryptoprimitives.mixnet.Shuffle;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleArgument;
+import ch.post.it.evoting.cryptoprimitives.mixnet.ShufflePrecomputation;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleStatement;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleWitness;
 import ch.post.it.evoting.cryptoprimitives.mixnet.VerifiableShuffle;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 import ch.post.it.evoting.cryptoprimitives.utils.VerificationResult;
 
 /**
@@ -51,17 +54,22 @@ public final class MixnetService implements Mixnet {
 	private final HashService hashService;
 	private final HashService shuffleHashService;
 	private final CommitmentKeyService commitmentKeyService;
+	private final ExecutionContext executionContext;
 
 	/**
 	 * Instantiates a mixnet service.
 	 */
 	public MixnetService() {
-		this.hashService = HashService.getInstance();
-		this.commitmentKeyService = new CommitmentKeyService(hashService);
-		this.shuffleHashService = hashService; //Two separate hash services are needed for checking the hash length
-		this.randomService = new RandomService();
-		final PermutationService permutationService = new PermutationService(randomService);
-		this.shuffleService = new ShuffleService(randomService, permutationService);
+		this(ExecutionContext.getDefault());
+	}
+
+	/**
+	 * Instantiates a mixnet service running its operations within the given execution context.
+	 *
+	 * @param executionContext the execution context of the parallel computations. Not null.
+	 */
+	public MixnetService(final ExecutionContext executionContext) {
+		this(HashService.getInstance(), executionContext);
 	}
 
 	/**
@@ -71,13 +79,19 @@ public final class MixnetService implements Mixnet {
 	 */
 	@VisibleForTesting
 	public MixnetService(final HashService shuffleHashService) {
+		this(shuffleHashService, ExecutionContext.getDefault());
+	}
+
+	private MixnetService(final HashService shuffleHashService, final ExecutionContext executionContext) {
 		checkNotNull(shuffleHashService);
+		checkNotNull(executionContext);
 		this.hashService = HashService.getInstance();
-		this.commitmentKeyService = new CommitmentKeyService(hashService);
-		this.shuffleHashService = shuffleHashService;
+		this.commitmentKeyService = CommitmentKeyService.getInstance();
+		this.shuffleHashService = shuffleHashService; //Two separate hash services are needed for checking the hash length
 		this.randomService = new RandomService();
 		final PermutationService permutationService = new PermutationService(randomService);
 		this.shuffleService = new ShuffleService(randomService, permutationService);
+		this.executionContext = executionContext;
 	}
 
 	@Override
@@ -104,13 +118,55 @@ public final class MixnetService implements Mixnet {
 
 		//Group checking
 		checkArgument(pk.getGroup().equals(C.getGroup()), "Ciphertexts must have the same group as the publicKey");
-		final GqGroup gqGroup = pk.getGroup();
 
-		//Algorithm
-		final Shuffle shuffle = shuffleService.genShuffle(C, pk);
+		return executionContext.execute(() -> {
+			//Algorithm
+			final Shuffle shuffle = shuffleService.genShuffle(C, pk);
+
+			return proveShuffle(C, shuffle, pk);
+		});
+	}
+
+	@Override
+	public VerifiableShuffle genVerifiableShuffle(final ElGamalMultiRecipientCiphertextMatrix inputCiphertexts,
+			final ElGamalMultiRecipientPublicKey publicKey) {
+		checkNotNull(inputCiphertexts);
+		checkNotNull(publicKey);
+
+		final ElGamalMultiRecipientCiphertextMatrix C = inputCiphertexts;
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+		final int N = C.size();
+		final int l = C.getElementSize();
+		final int k = pk.size();
+
+		//Ensure
+		checkArgument(2 <= N, "N must be >= 2");
+		checkArgument(l <= k, "Ciphertexts must not contain more elements than the publicKey");
+		checkArgument(canGenerateKey(N, C.getGroup()), "N must be smaller or equal to q - 3");
+
+		final BigInteger q = C.getGroup().getQ();
+		checkArgument(shuffleHashService.getHashLength() * Byte.SIZE < q.bitLength(),
+				"The hash service's bit length must be smaller than the bit length of q.");
+
+		//Group checking
+		checkArgument(pk.getGroup().equals(C.getGroup()), "Ciphertexts must have the same group as the publicKey");
+
+		return executionContext.execute(() -> {
+			//Algorithm
+			final Shuffle shuffle = shuffleService.genShuffle(C, pk);
+
+			// The shuffle argument reads the ciphertexts through the views of the matrices.
+			return proveShuffle(C.asGroupVector(), shuffle, pk);
+		});
+	}
+
+	private VerifiableShuffle proveShuffle(final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C, final Shuffle shuffle,
+			final ElGamalMultiRecipientPublicKey pk) {
 		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_prime = GroupVector.from(shuffle.getCiphertexts());
 		final Permutation pi = shuffle.getPermutation();
 		final GroupVector<ZqElement, ZqGroup> r = GroupVector.from(shuffle.getReEncryptionExponents());
+		final GqGroup gqGroup = pk.getGroup();
+		final int N = C.size();
 
 		final int[] matrixDimensions = MatrixUtils.getMatrixDimensions(N);
 		final int m = matrixDimensions[0];
@@ -128,6 +184,99 @@ public final class MixnetService implements Mixnet {
 		return new VerifiableShuffle(C_prime, shuffleArgument);
 	}
 
+	@Override
+	public ShufflePrecomputation genShufflePrecomputation(final int numberOfCiphertexts, final int ciphertextSize,
+			final ElGamalMultiRecipientPublicKey publicKey) {
+		checkNotNull(publicKey);
+
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+		final int N = numberOfCiphertexts;
+		final int l = ciphertextSize;
+		final int k = pk.size();
+		final GqGroup gqGroup = pk.getGroup();
+
+		//Ensure
+		checkArgument(2 <= N, "N must be >= 2");
+		checkArgument(0 < l, "Ciphertexts must contain at least one element.");
+		checkArgument(l <= k, "Ciphertexts must not contain more elements than the publicKey");
+		checkArgument(canGenerateKey(N, gqGroup), "N must be smaller or equal to q - 3");
+
+		final BigInteger q = gqGroup.getQ();
+		checkArgument(shuffleHashService.getHashLength() * Byte.SIZE < q.bitLength(),
+				"The hash service's bit length must be smaller than the bit length of q.");
+
+		return executionContext.execute(() -> {
+			//Algorithm
+			final ShuffleService.PrecomputedShuffle precomputedShuffle = shuffleService.precomputeShuffle(N, l, pk);
+
+			final int[] matrixDimensions = MatrixUtils.getMatrixDimensions(N);
+			final int m = matrixDimensions[0];
+			final int n = matrixDimensions[1];
+
+			final CommitmentKey ck = commitmentKeyService.getVerifiableCommitmentKey(n, gqGroup);
+			final ShuffleArgumentService shuffleArgumentService = new ShuffleArgumentService(pk, ck, randomService, shuffleHashService);
+
+			return shuffleArgumentService.precompute(precomputedShuffle.permutation(), GroupVector.from(precomputedShuffle.reEncryptionExponents()),
+					GroupVector.from(precomputedShuffle.encryptedOnes()), m, n);
+		});
+	}
+
+	@Override
+	public VerifiableShuffle genVerifiableShuffle(final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> inputCiphertexts,
+			final ElGamalMultiRecipientPublicKey publicKey, final ShufflePrecomputation precomputation) {
+		checkNotNull(inputCiphertexts);
+		checkNotNull(publicKey);
+		checkNotNull(precomputation);
+
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C = GroupVector.from(inputCiphertexts);
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+		final int N = C.size();
+		final int l = C.getElementSize();
+		final int k = pk.size();
+
+		//Ensure
+		checkArgument(2 <= N, "N must be >= 2");
+		checkArgument(0 < l, "Ciphertexts must contain at least one element.");
+		checkArgument(l <= k, "Ciphertexts must not contain more elements than the publicKey");
+		checkArgument(canGenerateKey(N, C.getGroup()), "N must be smaller or equal to q - 3");
+
+		final BigInteger q = C.getGroup().getQ();
+		checkArgument(shuffleHashService.getHashLength() * Byte.SIZE < q.bitLength(),
+				"The hash service's bit length must be smaller than the bit length of q.");
+
+		//Group checking
+		checkArgument(pk.getGroup().equals(C.getGroup()), "Ciphertexts must have the same group as the publicKey");
+		final GqGroup gqGroup = pk.getGroup();
+
+		//Precomputation checking
+		checkArgument(precomputation.publicKey().equals(pk), "The precomputation must have been computed for the publicKey");
+		checkArgument(precomputation.size() == N, "The precomputation must have been computed for N ciphertexts");
+		checkArgument(precomputation.getCiphertextSize() == l, "The precomputation must have been computed for ciphertexts of size l");
+		// Shuffling twice with the same precomputation would reveal the permutation.
+		precomputation.markUsed();
+
+		return executionContext.execute(() -> {
+			//Algorithm
+			final ShuffleService.PrecomputedShuffle precomputedShuffle = new ShuffleService.PrecomputedShuffle(precomputation.permutation(),
+					precomputation.reEncryptionExponents(), precomputation.encryptedOnes());
+			final Shuffle shuffle = shuffleService.genShuffleFromPrecomputation(C, precomputedShuffle);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_prime = GroupVector.from(shuffle.getCiphertexts());
+
+			final int[] matrixDimensions = MatrixUtils.getMatrixDimensions(N);
+			final int m = matrixDimensions[0];
+			final int n = matrixDimensions[1];
+
+			final CommitmentKey ck = commitmentKeyService.getVerifiableCommitmentKey(n, gqGroup);
+			final ShuffleStatement shuffleStatement = new ShuffleStatement(C, C_prime);
+
+			//shuffleArgument
+			final ShuffleArgumentService shuffleArgumentService = new ShuffleArgumentService(pk, ck, randomService, shuffleHashService);
+			final ShuffleArgument shuffleArgument = shuffleArgumentService.getShuffleArgumentFromPrecomputation(shuffleStatement, precomputation, m, n);
+
+			return new VerifiableShuffle(C_prime, shuffleArgument);
+		});
+	}
+
 	@Override
 	public VerificationResult verifyShuffle(final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts,
 			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> shuffledCiphertexts, final ShuffleArgument shuffleArgument,
@@ -161,17 +310,18 @@ public final class MixnetService implements Mixnet {
 		checkArgument(C.size() == C_prime.size(), "There must be as many shuffled and re-encrypted ciphertexts, as un-shuffled ciphertexts.");
 		final GqGroup gqGroup = C.getGroup();
 
-		// Operations
-		final int[] matrixDimensions = MatrixUtils.getMatrixDimensions(N);
-		final int m = matrixDimensions[0];
-		final int n = matrixDimensions[1];
+		return executionContext.execute(() -> {
+			// Operations
+			final int[] matrixDimensions = MatrixUtils.getMatrixDimensions(N);
+			final int m = matrixDimensions[0];
+			final int n = matrixDimensions[1];
 
-		final CommitmentKey ck = commitmentKeyService.getVerifiableCommitmentKey(n, gqGroup);
-		final ShuffleStatement shuffleStatement = new ShuffleStatement(C, C_prime);
+			final CommitmentKey ck = commitmentKeyService.getDerivedVerifiableCommitmentKey(n, gqGroup);
+			final ShuffleStatement shuffleStatement = new ShuffleStatement(C, C_prime);
 
-		final ShuffleArgumentService shuffleArgumentService = new ShuffleArgumentService(pk, ck, randomService, shuffleHashService);
+			final ShuffleArgumentService shuffleArgumentService = new ShuffleArgumentService(pk, ck, randomService, shuffleHashService);
 
-		return shuffleArgumentService.verifyShuffleArgument(shuffleStatement, shuffleArgument, m, n);
+			return shuffleArgumentService.verifyShuffleArgument(shuffleStatement, shuffleArgument, m, n);
+		});
 	}
-
 }
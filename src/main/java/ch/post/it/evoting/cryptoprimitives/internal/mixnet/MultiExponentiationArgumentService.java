@@ -17,12 +17,15 @@ package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertext;
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertextVectorExponentiation;
+import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertextVectorExponentiationPublic;
+import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.toCiphertextProduct;
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages.constantMessage;
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitment;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentMatrix;
+import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentPublic;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.byteArrayToInteger;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable.create;
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.MoreCollectors.onlyElement;
@@ -48,6 +51,9 @@ import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipien
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -181,9 +187,9 @@ final class MultiExponentiationArgumentService {
 		b_mutable.set(m, zero);
 		s_mutable.set(m, zero);
 		tau_mutable.set(m, rho);
-		final GroupVector<ZqElement, ZqGroup> b_vector = GroupVector.from(b_mutable);
-		final GroupVector<ZqElement, ZqGroup> s_vector = GroupVector.from(s_mutable);
-		final GroupVector<ZqElement, ZqGroup> tau_vector = GroupVector.from(tau_mutable);
+		final GroupVector<ZqElement, ZqGroup> b_vector = TrustedGroupVectors.vector(b_mutable);
+		final GroupVector<ZqElement, ZqGroup> s_vector = TrustedGroupVectors.vector(s_mutable);
+		final GroupVector<ZqElement, ZqGroup> tau_vector = TrustedGroupVectors.vector(tau_mutable);
 
 		//Compute c_A_0
 		final GqElement c_A_0 = getCommitment(a_0, r_0, ck);
@@ -195,19 +201,18 @@ final class MultiExponentiationArgumentService {
 		//Compute commitments to individual values of b
 		final GroupVector<GqElement, GqGroup> c_B = IntStream.range(0, 2 * m)
 				.mapToObj(k -> getCommitment(GroupVector.of(b_vector.get(k)), s_vector.get(k), ck))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		//Compute re-encrypted diagonal products
 		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> E =
-				IntStream.range(0, 2 * m)
-						.parallel()
+				ParallelStreams.range(0, 2 * m)
 						.boxed()
 						.flatMap(k -> Stream.of(k)
 								.map(b_vector::get)
 								.map(gqGroup.getGenerator()::exponentiate)
 								.map(g_b_k -> constantMessage(g_b_k, l))
 								.map(g_b_k_vector -> getCiphertext(g_b_k_vector, tau_vector.get(k), pk).getCiphertextProduct(D.get(k))))
-						.collect(toGroupVector());
+						.collect(toTrustedGroupVector());
 
 		//Compute challenge hash
 		final byte[] x_bytes = hashService.recursiveHash(
@@ -236,30 +241,26 @@ final class MultiExponentiationArgumentService {
 		// is 1.
 		final GroupVector<ZqElement, ZqGroup> neutralVector = Stream.generate(() -> zero)
 				.limit(n)
-				.collect(toGroupVector());
-		final GroupVector<ZqElement, ZqGroup> a = IntStream.range(0, m + 1)
-				.parallel()
+				.collect(toTrustedGroupVector());
+		final long multiplicationWork = Workload.MULTIPLICATION.of(zqGroup);
+		final GroupVector<ZqElement, ZqGroup> a = ParallelStreams.range(0, m + 1, n * multiplicationWork)
 				.mapToObj(i -> vectorScalarMultiplication(xPowers.get(i), A_prepended.getColumn(i)))
 				.reduce(neutralVector, MultiExponentiationArgumentService::vectorSum);
 
 		final GroupVector<ZqElement, ZqGroup> r_vector_prepended = r_vector.prepend(r_0);
-		final ZqElement r = IntStream.range(0, m + 1)
-				.parallel()
+		final ZqElement r = ParallelStreams.range(0, m + 1, multiplicationWork)
 				.mapToObj(i -> xPowers.get(i).multiply(r_vector_prepended.get(i)))
 				.reduce(zqGroup.getIdentity(), ZqElement::add);
 
-		final ZqElement b = IntStream.range(0, 2 * m)
-				.parallel()
+		final ZqElement b = ParallelStreams.range(0, 2 * m, multiplicationWork)
 				.mapToObj(k -> xPowers.get(k).multiply(b_vector.get(k)))
 				.reduce(zqGroup.getIdentity(), ZqElement::add);
 
-		final ZqElement s = IntStream.range(0, 2 * m)
-				.parallel()
+		final ZqElement s = ParallelStreams.range(0, 2 * m, multiplicationWork)
 				.mapToObj(k -> xPowers.get(k).multiply(s_vector.get(k)))
 				.reduce(zqGroup.getIdentity(), ZqElement::add);
 
-		final ZqElement tau = IntStream.range(0, 2 * m)
-				.parallel()
+		final ZqElement tau = ParallelStreams.range(0, 2 * m, multiplicationWork)
 				.mapToObj(k -> xPowers.get(k).multiply(tau_vector.get(k)))
 				.reduce(zqGroup.getIdentity(), ZqElement::add);
 
@@ -280,17 +281,14 @@ final class MultiExponentiationArgumentService {
 	ElGamalMultiRecipientCiphertext multiExponentiation(final GroupMatrix<ElGamalMultiRecipientCiphertext, GqGroup> C,
 			final GroupMatrix<ZqElement, ZqGroup> AMatrix, final ZqElement rho, final int m, final int l) {
 
-		final ElGamalMultiRecipientCiphertext neutralElement = ElGamalMultiRecipientCiphertexts.neutralElement(l, gqGroup);
-
-		final ElGamalMultiRecipientCiphertext multiExponentiationProduct = IntStream.range(0, m)
-				.parallel()
+		final ElGamalMultiRecipientCiphertext multiExponentiationProduct = ParallelStreams.range(0, m)
 				.mapToObj(i -> {
 					final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_i = C.getRow(i);
 					//Due to 0 indexing the index i+1 in the spec on the matrix A becomes index i here
 					final GroupVector<ZqElement, ZqGroup> a_i_plus_1 = AMatrix.getColumn(i);
 					return getCiphertextVectorExponentiation(C_i, a_i_plus_1);
 				})
-				.reduce(neutralElement, ElGamalMultiRecipientCiphertext::getCiphertextProduct);
+				.collect(toCiphertextProduct(l, gqGroup));
 
 		final ElGamalMultiRecipientMessage one = ElGamalMultiRecipientMessages.ones(gqGroup, l);
 		final ElGamalMultiRecipientCiphertext oneCiphertext = getCiphertext(one, rho, pk);
@@ -341,12 +339,8 @@ final class MultiExponentiationArgumentService {
 		final int l = C.getElementSize();
 
 		// Algorithm.
-		// Corresponds to the dk of the specifications.
-		final ElGamalMultiRecipientCiphertext d_k = ElGamalMultiRecipientCiphertexts.neutralElement(l, gqGroup);
-
 		// Compute the diagonal products D.
-		return IntStream.range(0, 2 * m)
-				.parallel()
+		return ParallelStreams.range(0, 2 * m)
 				.mapToObj(k -> {
 					int lowerBound;
 					int upperBound;
@@ -365,9 +359,9 @@ final class MultiExponentiationArgumentService {
 								final GroupVector<ZqElement, ZqGroup> a_j = A.getColumn(j);
 								return getCiphertextVectorExponentiation(C_i, a_j);
 							})
-							.reduce(d_k, ElGamalMultiRecipientCiphertext::getCiphertextProduct);
+							.collect(toCiphertextProduct(l, gqGroup));
 				})
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 
 	/**
@@ -406,24 +400,9 @@ final class MultiExponentiationArgumentService {
 		final ZqElement b = argument.get_b();
 		final ZqElement s = argument.get_s();
 		final ZqElement tau = argument.get_tau();
-		final BigInteger p = this.gqGroup.getP();
-		final BigInteger q = this.gqGroup.getQ();
 
 		//Algorithm
-		final byte[] x_bytes = hashService.recursiveHash(
-				HashableBigInteger.from(p),
-				HashableBigInteger.from(q),
-				pk,
-				ck,
-				C_matrix,
-				C,
-				c_A,
-				c_A_0,
-				c_B,
-				E);
-
-		// The constructor ensures that the hash value is smaller than q.
-		final ZqElement x = ZqElement.create(byteArrayToInteger(x_bytes), zqGroup);
+		final ZqElement x = computeVerificationChallenge(statement, argument);
 
 		final Verifiable verifCbm = create(() -> c_B.get(m).equals(gqGroup.getIdentity()), "cB_m must equal one.");
 		final Verifiable verifEm = create(() -> E.get(m).equals(C), "E_m must equal C.");
@@ -431,53 +410,142 @@ final class MultiExponentiationArgumentService {
 		final Memoizer<ZqElement> xPowers = new Memoizer<>(i -> x.exponentiate(BigInteger.valueOf(i)));
 
 		final GqElement prodCa = prodExp(c_A.prepend(c_A_0), xPowers);
-		final GqElement commA = getCommitment(a, r, ck);
+		final GqElement commA = getCommitmentPublic(a, r, ck);
 		final Verifiable verifA = create(() -> prodCa.equals(commA), "product Ca must equal commitment A.");
 
 		final GqElement prodCb = prodExp(c_B, xPowers);
-		final GqElement commB = getCommitment(GroupVector.of(b), s, ck);
+		final GqElement commB = getCommitmentPublic(GroupVector.of(b), s, ck);
 		final Verifiable verifB = create(() -> prodCb.equals(commB), "product Cb must equal commitment B.");
 
-		final ElGamalMultiRecipientCiphertext prodE = IntStream.range(0, E.size())
-				.parallel()
+		final ElGamalMultiRecipientCiphertext prodE = ParallelStreams.range(0, E.size())
 				.boxed()
 				.flatMap(i -> Stream.of(i)
 						.map(E::get)
-						.map(E_k -> E_k.getCiphertextExponentiation(xPowers.apply(i))))
-				.reduce(ElGamalMultiRecipientCiphertexts.neutralElement(l, gqGroup), ElGamalMultiRecipientCiphertext::getCiphertextProduct);
+						.map(E_k -> E_k.getCiphertextExponentiationPublic(xPowers.apply(i))))
+				.collect(toCiphertextProduct(l, gqGroup));
 		final ElGamalMultiRecipientCiphertext encryptedGb = Stream.of(b)
 				.map(gqGroup.getGenerator()::exponentiate)
 				.map(g_b -> constantMessage(g_b, l))
 				.map(g_b_vector -> getCiphertext(g_b_vector, tau, pk))
 				.collect(onlyElement());
-		final ElGamalMultiRecipientCiphertext prodC = IntStream.range(0, m)
-				.parallel()
+		final ElGamalMultiRecipientCiphertext prodC = ParallelStreams.range(0, m)
 				.boxed()
 				.flatMap(i -> Stream.of(i)
 						.map(__ -> xPowers.apply(m - i - 1))
 						.map(x_m_minus_i_minus_1 -> vectorScalarMultiplication(x_m_minus_i_minus_1, a))
-						.map(powers -> getCiphertextVectorExponentiation(C_matrix.getRow(i), powers)))
-				.reduce(ElGamalMultiRecipientCiphertexts.neutralElement(l, gqGroup), ElGamalMultiRecipientCiphertext::getCiphertextProduct);
+						.map(powers -> getCiphertextVectorExponentiationPublic(C_matrix.getRow(i), powers)))
+				.collect(toCiphertextProduct(l, gqGroup));
 		final Verifiable verifEC = create(() -> prodE.equals(encryptedGb.getCiphertextProduct(prodC)),
 				"product E must equal ciphertext product of Gb and product C.");
 
 		return verifCbm.and(verifEm).and(verifA).and(verifB).and(verifEC);
 	}
 
+	/**
+	 * Adds the verification equations of a {@link MultiExponentiationArgument} with respect to a given {@link MultiExponentiationStatement} to a
+	 * batch. The argument is valid iff the equations hold. See
+	 * {@link #verifyMultiExponentiationArgument(MultiExponentiationStatement, MultiExponentiationArgument)} for the requirements on the statement
+	 * and the argument.
+	 * <p>
+	 * The ciphertext equation &prod; E<sub>k</sub><sup>x<sup>k</sup></sup> = Enc(g<sup>b</sup>; &tau;) &middot; &prod;
+	 * <b>C</b><sub>i</sub><sup>x<sup>m-i-1</sup><b>a</b></sup> is added as one equation per ciphertext element.
+	 *
+	 * @param statement the statement for which the argument is to be verified.
+	 * @param argument  the argument to be verified.
+	 * @param equations the batch of equations to add to. Must be non-null.
+	 */
+	void addVerificationEquations(final MultiExponentiationStatement statement, final MultiExponentiationArgument argument,
+			final VerificationEquations equations) {
+		checkNotNull(statement);
+		checkNotNull(argument);
+		checkNotNull(equations);
+
+		//Group checking
+		checkArgument(statement.getGroup().equals(argument.getGroup()), "Statement and argument must belong to the same group.");
+
+		//Size checking
+		checkArgument(statement.get_m() == argument.get_m(), "m dimension doesn't match.");
+		checkArgument(statement.get_n() == argument.get_n(), "n dimension doesn't match.");
+		checkArgument(argument.get_l() == statement.get_l(), "l dimension doesn't match.");
+
+		//Extract variables from statement and argument
+		final int m = statement.get_m();
+		final int n = statement.get_n();
+		final int l = statement.get_l();
+		final GroupMatrix<ElGamalMultiRecipientCiphertext, GqGroup> C_matrix = statement.get_C_matrix();
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> E = argument.get_E();
+		final GroupVector<GqElement, GqGroup> c_B = argument.get_c_B();
+		final GroupVector<ZqElement, ZqGroup> a = argument.get_a();
+		final ZqElement b = argument.get_b();
+		final ZqElement tau = argument.get_tau();
+
+		//Algorithm
+		final ZqElement x = computeVerificationChallenge(statement, argument);
+
+		equations.addCondition(c_B.get(m).equals(gqGroup.getIdentity()));
+		equations.addCondition(E.get(m).equals(statement.get_C()));
+
+		final List<ZqElement> xPowers = IntStream.range(0, E.size())
+				.mapToObj(i -> x.exponentiate(BigInteger.valueOf(i)))
+				.toList();
+
+		equations.addCommitmentEquation(statement.get_c_A().prepend(argument.getc_A_0()), xPowers.subList(0, m + 1), a, argument.get_r(), ck);
+		equations.addCommitmentEquation(c_B, xPowers.subList(0, c_B.size()), GroupVector.of(b), argument.get_s(), ck);
+
+		// Exponents x^(m-i-1) * a_j of the ciphertexts C_(i,j), in row-major order.
+		final List<ZqElement> C_exponents = ParallelStreams.range(0, m * n)
+				.mapToObj(k -> xPowers.get(m - k / n - 1).multiply(a.get(k % n)))
+				.toList();
+		final GqElement g = gqGroup.getGenerator();
+
+		// The gammas, for which Enc(g^b; tau) is g^tau.
+		equations.addEquation(
+				E.stream().map(ElGamalMultiRecipientCiphertext::getGamma).toList(), xPowers,
+				Stream.concat(Stream.of(g), IntStream.range(0, m * n).mapToObj(k -> C_matrix.get(k / n, k % n).getGamma())).toList(),
+				Stream.concat(Stream.of(tau), C_exponents.stream()).toList());
+
+		// The phis, for which Enc(g^b; tau) is pk_j^tau * g^b.
+		IntStream.range(0, l).forEach(j -> equations.addEquation(
+				E.stream().map(E_k -> E_k.get(j)).toList(), xPowers,
+				Stream.concat(Stream.of(pk.get(j), g), IntStream.range(0, m * n).mapToObj(k -> C_matrix.get(k / n, k % n).get(j))).toList(),
+				Stream.concat(Stream.of(tau, b), C_exponents.stream()).toList()));
+	}
+
+	private ZqElement computeVerificationChallenge(final MultiExponentiationStatement statement, final MultiExponentiationArgument argument) {
+		final BigInteger p = this.gqGroup.getP();
+		final BigInteger q = this.gqGroup.getQ();
+
+		final byte[] x_bytes = hashService.recursiveHash(
+				HashableBigInteger.from(p),
+				HashableBigInteger.from(q),
+				pk,
+				ck,
+				statement.get_C_matrix(),
+				statement.get_C(),
+				statement.get_c_A(),
+				argument.getc_A_0(),
+				argument.get_c_B(),
+				argument.get_E());
+
+		// The constructor ensures that the hash value is smaller than q.
+		return ZqElement.create(byteArrayToInteger(x_bytes), zqGroup);
+	}
+
 	private static GroupVector<ZqElement, ZqGroup> vectorSum(final GroupVector<ZqElement, ZqGroup> first,
 			final GroupVector<ZqElement, ZqGroup> second) {
 		checkNotNull(first);
 		checkNotNull(second);
 		checkArgument(first.size() == second.size(), "Cannot sum vectors of different dimensions.");
 		checkArgument(first.getGroup().equals(second.getGroup()), "Cannot sum vectors of different groups.");
-		return IntStream.range(0, first.size())
-				.parallel()
+		return ParallelStreams.range(0, first.size(), Workload.MULTIPLICATION.of(first.getGroup()))
 				.mapToObj(i -> first.get(i).add(second.get(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 
 	private static GroupVector<ZqElement, ZqGroup> vectorScalarMultiplication(final ZqElement value, final GroupVector<ZqElement, ZqGroup> vector) {
-		return vector.parallelStream().map(element -> element.multiply(value)).collect(toGroupVector());
+		return ParallelStreams.stream(vector, Workload.MULTIPLICATION.of(value.getGroup()))
+				.map(element -> element.multiply(value))
+				.collect(toTrustedGroupVector());
 	}
 
 	/**
@@ -488,13 +556,10 @@ final class MultiExponentiationArgumentService {
 	 * @return the product of the bases exponentiated to the matching power.
 	 */
 	private GqElement prodExp(final GroupVector<GqElement, GqGroup> bases, final IntFunction<ZqElement> powers) {
-		return IntStream.range(0, bases.size())
-				.boxed()
-				.parallel()
-				.flatMap(i -> Stream.of(i)
-						.map(bases::get)
-						.map(base -> base.exponentiate(powers.apply(i))))
-				.reduce(gqGroup.getIdentity(), GqElement::multiply);
+		final GroupVector<ZqElement, ZqGroup> exponents = IntStream.range(0, bases.size())
+				.mapToObj(powers)
+				.collect(toTrustedGroupVector());
+		return GqElement.multiModExpPublic(bases, exponents);
 	}
 
 	/**
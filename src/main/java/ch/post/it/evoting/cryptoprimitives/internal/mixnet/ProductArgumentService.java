@@ -15,9 +15,9 @@
  */
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitment;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentMatrix;
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -27,6 +27,8 @@ import java.util.stream.IntStream;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -145,12 +147,11 @@ final class ProductArgumentService {
 			// In that case, the Product Argument consists of a Hadamard Argument and a Single Value Product Argument.
 
 			final ZqElement s = ZqElement.create(randomService.genRandomInteger(q), zqGroup);
-			final GroupVector<ZqElement, ZqGroup> b_vector = IntStream.range(0, n)
-					.parallel()
+			final GroupVector<ZqElement, ZqGroup> b_vector = ParallelStreams.range(0, n, m * Workload.MULTIPLICATION.of(zqGroup))
 					.mapToObj(i -> IntStream.range(0, m)
 							.mapToObj(j -> A.get(i, j))
 							.reduce(one, ZqElement::multiply))
-					.collect(toGroupVector());
+					.collect(toTrustedGroupVector());
 			final GqElement c_b = getCommitment(b_vector, s, ck);
 
 			// Get the Hadamard argument
@@ -237,4 +238,54 @@ final class ProductArgumentService {
 					.addErrorMessage("Failed to verify Single Value Product Argument.");
 		}
 	}
+
+	/**
+	 * Adds the verification equations of a {@link ProductArgument} with respect to a given {@link ProductStatement} to a batch. The argument is
+	 * valid iff the equations hold. See {@link #verifyProductArgument(ProductStatement, ProductArgument)} for the requirements on the statement and
+	 * the argument.
+	 *
+	 * @param statement the statement for which the argument is to be verified.
+	 * @param argument  the argument to be verified.
+	 * @param equations the batch of equations to add to. Must be non-null.
+	 */
+	void addVerificationEquations(final ProductStatement statement, final ProductArgument argument, final VerificationEquations equations) {
+		checkNotNull(statement, "The statement must be non-null.");
+		checkNotNull(argument, "The argument must be non-null.");
+		checkNotNull(equations);
+
+		final GroupVector<GqElement, GqGroup> c_A = statement.get_c_A();
+		final ZqElement b = statement.get_b();
+		final SingleValueProductArgument singleValueProductArg = argument.getSingleValueProductArgument();
+
+		// cross-check groups and dimensions
+		checkArgument(statement.getGroup().equals(singleValueProductArg.getGroup()),
+				"The statement and the argument must have compatible groups.");
+		checkArgument(statement.get_m() == argument.get_m(),
+				"The statement and the argument must have the same m.");
+
+		// Require.
+		final int n = argument.get_n();
+		final int m = argument.get_m();
+		final int nu = ck.size();
+		checkArgument(2 <= n, "The number of rows n must be greater than or equal to 2.");
+		checkArgument(n <= nu,
+				"The matrix' number of rows cannot be greater than the commitment key size.");
+		checkArgument(m > 0, "The number of columns m must be strictly positive.");
+
+		// Operation
+		if (m > 1) {
+			final GqElement c_b = argument.get_c_b()
+					.orElseThrow(() -> new IllegalArgumentException("The product argument must contain a commitment b for m > 1."));
+			final HadamardArgument hadamardArg = argument.getHadamardArgument()
+					.orElseThrow(() -> new IllegalArgumentException("The product argument must contain a Hadamard argument for m > 1."));
+
+			hadamardArgumentService.addVerificationEquations(new HadamardStatement(c_A, c_b), hadamardArg, equations);
+			singleValueProductArgumentService.addVerificationEquations(new SingleValueProductStatement(c_b, b), singleValueProductArg, equations);
+		} else {
+			// corresponds to the case m=1 (number of ciphertexts is prime), where we omit the Hadamard Argument.
+			// Because of 0 indexing c_A_1 in the spec becomes c_A_0 here
+			singleValueProductArgumentService.addVerificationEquations(new SingleValueProductStatement(c_A.get(0), b), singleValueProductArg,
+					equations);
+		}
+	}
 }
@@ -17,8 +17,9 @@ package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertext;
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertextVectorExponentiation;
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
+import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentPublic;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentMatrix;
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -38,7 +39,11 @@ import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipien
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ForkedComputation;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.VerificationSuccess;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupMatrix;
@@ -53,6 +58,7 @@ import ch.post.it.evoting.cryptoprimitives.mixnet.ProductArgument;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ProductStatement;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ProductWitness;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleArgument;
+import ch.post.it.evoting.cryptoprimitives.mixnet.ShufflePrecomputation;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleStatement;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleWitness;
 import ch.post.it.evoting.cryptoprimitives.utils.VerificationResult;
@@ -65,6 +71,9 @@ import ch.post.it.evoting.cryptoprimitives.utils.VerificationResult;
 @SuppressWarnings("java:S117")
 class ShuffleArgumentService {
 
+	private static final boolean ENABLE_BATCH_VERIFICATION = Boolean.parseBoolean(
+			System.getProperty("enable.batch.verification", Boolean.TRUE.toString()));
+
 	private final ElGamalMultiRecipientPublicKey pk;
 	private final CommitmentKey ck;
 
@@ -151,40 +160,119 @@ class ShuffleArgumentService {
 
 		// Ensure the statement corresponds to the witness.
 		final GqGroup gqGroup = C_vector.getGroup();
-		final ZqGroup zqGroup = rho_vector.getGroup();
 		checkArgument(0 < l, "The ciphertexts must have at least 1 element.");
 		checkArgument(l <= k, "The ciphertexts must be smaller than the public key.");
 
 		final ElGamalMultiRecipientMessage one = ElGamalMultiRecipientMessages.ones(gqGroup, l);
-		final List<ElGamalMultiRecipientCiphertext> encryptedOnes = rho_vector.parallelStream()
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> encryptedOnes = ParallelStreams.stream(rho_vector)
 				.map(rho_i -> getCiphertext(one, rho_i, pk))
-				.toList();
+				.collect(toTrustedGroupVector());
+
+		checkArgument(N == n * m, String.format("The ciphertexts vectors must be decomposable into m * n matrices: %d != %d * %d.", N, m, n));
+
+		return getShuffleArgumentFromPrecomputation(statement, precompute(pi, rho_vector, encryptedOnes, m, n), m, n);
+	}
+
+	/**
+	 * Computes the commitment to the permutation, the part of the shuffle argument that does not depend on the statement, and bundles it with
+	 * the given shuffle randomness.
+	 *
+	 * @param pi            &#120587;, the permutation of size N = m * n. Must be non null.
+	 * @param rho_vector    &#961;, the re-encryption exponents. Must be non null and of size N.
+	 * @param encryptedOnes the encryptions of ones under the public key and &#961;. Must be non null and of size N.
+	 * @param m             the number of rows to use for ciphertext matrices. Strictly positive integer.
+	 * @param n             the number of columns to use for ciphertext matrices. Strictly greater than one.
+	 * @return the {@link ShufflePrecomputation}.
+	 */
+	ShufflePrecomputation precompute(final Permutation pi, final GroupVector<ZqElement, ZqGroup> rho_vector,
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> encryptedOnes, final int m, final int n) {
+		checkNotNull(pi);
+		checkNotNull(rho_vector);
+		checkNotNull(encryptedOnes);
+
+		final int N = pi.size();
+		checkArgument(m > 0, "The number of rows for the ciphertext matrices must be strictly positive.");
+		checkArgument(n > 1, "The number of columns for the ciphertext matrices must be greater than or equal to 2.");
+		checkArgument(n <= ck.size(),
+				"The number of columns for the ciphertext matrices must be smaller than or equal to the commitment key size.");
+		checkArgument(N == n * m, String.format("The ciphertexts vectors must be decomposable into m * n matrices: %d != %d * %d.", N, m, n));
+		checkArgument(ck.getGroup().hasSameOrderAs(rho_vector.getGroup()), "The randomness group must have the order of the commitment key group.");
+
+		final ZqGroup zqGroup = rho_vector.getGroup();
+		final BigInteger q = zqGroup.getQ();
+
+		// Compute vector r, matrix A and vector c_A
+		final GroupVector<ZqElement, ZqGroup> r = randomService.genRandomVector(q, m);
+		final GroupVector<ZqElement, ZqGroup> pi_vector = ParallelStreams.parallel(pi.stream(), pi.size(), Workload.MULTIPLICATION.of(zqGroup))
+				.map(BigInteger::valueOf)
+				.map(value -> ZqElement.create(value, zqGroup))
+				.collect(toTrustedGroupVector());
+		final GroupMatrix<ZqElement, ZqGroup> A = pi_vector.toMatrix(m, n).transpose();
+		final GroupVector<GqElement, GqGroup> c_A = getCommitmentMatrix(A, r, ck);
+
+		return new ShufflePrecomputation(pk, pi, rho_vector, encryptedOnes, r, c_A);
+	}
+
+	/**
+	 * Computes a cryptographic argument for the validity of the shuffle from a precomputation. The statement and precomputation must comply with
+	 * the following:
+	 *
+	 * <ul>
+	 *     <li>be non null</li>
+	 *     <li>the precomputation must have been computed for the public key of this service, with the dimensions m and n</li>
+	 *     <li>re-encrypting and shuffling the statement ciphertexts C with the precomputation must give the statement ciphertexts C'</li>
+	 * </ul>
+	 *
+	 * @param statement      the {@link ShuffleStatement} for the shuffle argument.
+	 * @param precomputation the {@link ShufflePrecomputation} the shuffle was generated with.
+	 * @param m              the number of rows to use for ciphertext matrices. Strictly positive integer.
+	 * @param n              the number of columns to use for ciphertext matrices. Strictly greater than one.
+	 * @return a {@link ShuffleArgument}.
+	 */
+	ShuffleArgument getShuffleArgumentFromPrecomputation(final ShuffleStatement statement, final ShufflePrecomputation precomputation, final int m,
+			final int n) {
+		checkNotNull(statement);
+		checkNotNull(precomputation);
+
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_vector = statement.get_C();
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_prime = statement.get_C_prime();
+		final Permutation pi = precomputation.permutation();
+		final GroupVector<ZqElement, ZqGroup> rho_vector = precomputation.reEncryptionExponents();
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> encryptedOnes = precomputation.encryptedOnes();
+		final GroupVector<ZqElement, ZqGroup> r = precomputation.commitmentExponents();
+		final GroupVector<GqElement, GqGroup> c_A = precomputation.permutationCommitment();
+		final int N = pi.size();
+
+		checkArgument(precomputation.publicKey().equals(pk), "The precomputation must have been computed for the public key.");
+		checkArgument(C_vector.size() == N, "The statement ciphertexts must have the same size as the permutation.");
+		checkArgument(N == n * m && r.size() == m, "The precomputation must have been computed for the dimensions m and n.");
+		checkArgument(c_A.size() == m, "The commitment to the permutation must have size m.");
+		checkArgument(c_A.getGroup().equals(ck.getGroup()), "The commitment to the permutation must have the group of the commitment key.");
+		checkArgument(C_vector.getElementSize() == precomputation.getCiphertextSize(),
+				"The statement ciphertexts must have the ciphertext size of the precomputation.");
+
+		// Ensure the statement corresponds to the precomputation.
+		final GqGroup gqGroup = C_vector.getGroup();
+		final ZqGroup zqGroup = rho_vector.getGroup();
 		final List<ElGamalMultiRecipientCiphertext> C_pi = pi.stream()
 				.map(C_vector::get)
 				.toList();
-		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> computed_C_prime = IntStream.range(0, N)
-				.parallel()
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> computed_C_prime = ParallelStreams.range(0, N)
 				.mapToObj(i -> encryptedOnes.get(i).getCiphertextProduct(C_pi.get(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 		checkArgument(C_prime.equals(computed_C_prime),
 				"The shuffled ciphertexts provided in the statement do not correspond to the re-encryption and shuffle of C under pi and rho.");
 
-		checkArgument(N == n * m, String.format("The ciphertexts vectors must be decomposable into m * n matrices: %d != %d * %d.", N, m, n));
-
 		// Algorithm operations.
 
 		final BigInteger p = gqGroup.getP();
 		final BigInteger q = gqGroup.getQ();
-
-		// Compute vector r, matrix A and vector c_A
-		final GroupVector<ZqElement, ZqGroup> r = randomService.genRandomVector(q, m);
-		final GroupVector<ZqElement, ZqGroup> pi_vector = pi.stream()
-				.parallel()
+		final GroupMatrix<ZqElement, ZqGroup> A = pi.stream()
 				.map(BigInteger::valueOf)
 				.map(value -> ZqElement.create(value, zqGroup))
-				.collect(toGroupVector());
-		final GroupMatrix<ZqElement, ZqGroup> A = pi_vector.toMatrix(m, n).transpose();
-		final GroupVector<GqElement, GqGroup> c_A = getCommitmentMatrix(A, r, ck);
+				.collect(toTrustedGroupVector())
+				.toMatrix(m, n)
+				.transpose();
 
 		// Compute x.
 		final byte[] x_bytes = hashService.recursiveHash(
@@ -200,11 +288,10 @@ class ShuffleArgumentService {
 
 		// Compute vector s, vector b, matrix B and vector c_B.
 		final GroupVector<ZqElement, ZqGroup> s = randomService.genRandomVector(q, m);
-		final GroupVector<ZqElement, ZqGroup> b_vector = pi.stream()
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> b_vector = ParallelStreams.parallel(pi.stream(), pi.size())
 				.map(BigInteger::valueOf)
 				.map(x::exponentiate)
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 		final GroupMatrix<ZqElement, ZqGroup> B = b_vector.toMatrix(m, n).transpose();
 		final GroupVector<GqElement, GqGroup> c_B = getCommitmentMatrix(B, s, ck);
 
@@ -237,14 +324,14 @@ class ShuffleArgumentService {
 		// Compute Zneg, c_{-z}.
 		final GroupMatrix<ZqElement, ZqGroup> negativeZ = Stream.generate(z::negate)
 				.limit(N)
-				.collect(toGroupVector())
+				.collect(toTrustedGroupVector())
 				.toMatrix(m, n)
 				.transpose();
-		final GroupVector<ZqElement, ZqGroup> zero = Stream.generate(zqGroup::getIdentity).limit(m).collect(toGroupVector());
+		final GroupVector<ZqElement, ZqGroup> zero = Stream.generate(zqGroup::getIdentity).limit(m).collect(toTrustedGroupVector());
 		final GroupVector<GqElement, GqGroup> c_minus_z = getCommitmentMatrix(negativeZ, zero, ck);
 
 		// Compute c_D.
-		final GroupVector<GqElement, GqGroup> c_A_y = c_A.parallelStream().map(element -> element.exponentiate(y)).collect(toGroupVector());
+		final GroupVector<GqElement, GqGroup> c_A_y = ParallelStreams.stream(c_A).map(element -> element.exponentiate(y)).collect(toTrustedGroupVector());
 		final GroupVector<GqElement, GqGroup> c_D = vectorEntryWiseProduct(c_A_y, c_B);
 
 		// Compute matrix D.
@@ -254,10 +341,9 @@ class ShuffleArgumentService {
 		final GroupMatrix<ZqElement, ZqGroup> D = matrixSum(yTimesA, B);
 
 		// Compute vector t.
-		final GroupVector<ZqElement, ZqGroup> t = IntStream.range(0, r.size())
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> t = ParallelStreams.range(0, r.size(), Workload.MULTIPLICATION.of(zqGroup))
 				.mapToObj(i -> y.multiply(r.get(i)).add(s.get(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Pre-compute x^i for i=0..N used multiple times.
 		final GroupVector<ZqElement, ZqGroup> xPowers = precomputeXPowers(x, N);
@@ -272,12 +358,12 @@ class ShuffleArgumentService {
 		final GroupMatrix<ZqElement, ZqGroup> pWitnessMatrix = matrixSum(D, negativeZ);
 		final ProductWitness pWitness = new ProductWitness(pWitnessMatrix, t);
 
-		// Compute productArgument.
-		final ProductArgument productArgument = productArgumentService.getProductArgument(pStatement, pWitness);
+		// Compute productArgument, concurrently with the multi-exponentiation argument which does not depend on it.
+		final ForkedComputation<ProductArgument> productArgumentComputation = ForkedComputation.fork(
+				() -> productArgumentService.getProductArgument(pStatement, pWitness));
 
 		// Compute rho.
-		final ZqElement rho = IntStream.range(0, rho_vector.size())
-				.parallel()
+		final ZqElement rho = ParallelStreams.range(0, rho_vector.size(), Workload.MULTIPLICATION.of(zqGroup))
 				.mapToObj(i -> rho_vector.get(i).multiply(b_vector.get(i)))
 				.reduce(zqGroup.getIdentity(), ZqElement::add)
 				.negate();
@@ -295,6 +381,7 @@ class ShuffleArgumentService {
 		// Compute multiExponentiationArgument.
 		final MultiExponentiationArgument multiExponentiationArgument = multiExponentiationArgumentService
 				.getMultiExponentiationArgument(mStatement, mWitness);
+		final ProductArgument productArgument = productArgumentComputation.join();
 
 		final ShuffleArgument.Builder builder = new ShuffleArgument.Builder();
 		return builder
@@ -314,6 +401,10 @@ class ShuffleArgumentService {
 	 *     <li>the statement and argument must be part of the same group</li>
 	 *     <li>m * n must be equal to the statement's ciphertexts size</li>
 	 * </ul>
+	 * <p>
+	 * Unless the system property {@code enable.batch.verification} is false, the verification equations of all the sub-arguments are first
+	 * checked at once as a {@link VerificationEquations batch}, which is considerably faster. The sub-arguments are only verified separately if the
+	 * batch fails, to report which of them is invalid.
 	 *
 	 * @param statement the statement for which the argument is to be verified. Non null.
 	 * @param argument  the argument to be verified. Non null.
@@ -391,40 +482,57 @@ class ShuffleArgumentService {
 		);
 		final ZqElement z = ZqElement.create(ConversionsInternal.byteArrayToInteger(z_bytes), zqGroup);
 
-		// Compute Zneg, c_{-z}.
-		final GroupMatrix<ZqElement, ZqGroup> Z_neg = Stream.generate(z::negate)
-				.limit(N)
-				.collect(toGroupVector())
-				.toMatrix(m, n)
-				.transpose();
-		final GroupVector<ZqElement, ZqGroup> zero = Stream.generate(zqGroup::getIdentity).limit(m).collect(toGroupVector());
-		final GroupVector<GqElement, GqGroup> c_minus_z = getCommitmentMatrix(Z_neg, zero, ck);
-
-		// Compute c_D.
-		final GroupVector<GqElement, GqGroup> c_A_y = c_A.parallelStream().map(element -> element.exponentiate(y)).collect(toGroupVector());
-		final GroupVector<GqElement, GqGroup> c_D = vectorEntryWiseProduct(c_A_y, c_B);
-
 		// Pre-compute x^i for i=0..N used multiple times.
 		final GroupVector<ZqElement, ZqGroup> x_vector = precomputeXPowers(x, N);
 
-		// Compute b.
-		final ZqElement b = computeProductB(N, y, x_vector, z, zqGroup);
+		// Compute pStatement, concurrently with mStatement which does not depend on it.
+		final ForkedComputation<ProductStatement> pStatementComputation = ForkedComputation.fork(() -> {
+			// Compute Zneg, c_{-z}. All the columns of Zneg are equal, hence so are their commitments.
+			final GroupVector<ZqElement, ZqGroup> Z_neg_column = Stream.generate(z::negate).limit(n).collect(toTrustedGroupVector());
+			final GqElement c_minus_z_column = getCommitmentPublic(Z_neg_column, zqGroup.getIdentity(), ck);
+			final GroupVector<GqElement, GqGroup> c_minus_z = Stream.generate(() -> c_minus_z_column).limit(m).collect(toTrustedGroupVector());
 
-		// Compute pStatement.
-		final ProductStatement pStatement = new ProductStatement(vectorEntryWiseProduct(c_D, c_minus_z), b);
+			// Compute c_D.
+			final GroupVector<GqElement, GqGroup> c_A_y = ParallelStreams.stream(c_A).map(element -> element.exponentiatePublic(y))
+					.collect(toTrustedGroupVector());
+			final GroupVector<GqElement, GqGroup> c_D = vectorEntryWiseProduct(c_A_y, c_B);
+
+			// Compute b.
+			final ZqElement b = computeProductB(N, y, x_vector, z, zqGroup);
 
-		// Verify product argument.
-		final Verifiable productVerif = productArgumentService.verifyProductArgument(pStatement, productArgument)
-				.addErrorMessage("Failed to verify Product Argument.");
+			return new ProductStatement(vectorEntryWiseProduct(c_D, c_minus_z), b);
+		});
 
 		// Compute ciphertext C. The vector x is computed previously as xPowers.
 		final ElGamalMultiRecipientCiphertext C = getCiphertextVectorExponentiation(C_vector, x_vector);
 
 		// Compute mStatement.
 		final MultiExponentiationStatement mStatement = new MultiExponentiationStatement(C_prime.toMatrix(m, n), C, c_B);
+		final ProductStatement pStatement = pStatementComputation.join();
+
+		// Check all the equations of the sub-arguments at once, and only check them separately to find the failing one.
+		if (ENABLE_BATCH_VERIFICATION && VerificationEquations.isApplicable(gqGroup)) {
+			final ForkedComputation<VerificationEquations> productEquationsComputation = ForkedComputation.fork(() -> {
+				final VerificationEquations productEquations = new VerificationEquations(gqGroup, randomService);
+				productArgumentService.addVerificationEquations(pStatement, productArgument, productEquations);
+				return productEquations;
+			});
+			final VerificationEquations equations = new VerificationEquations(gqGroup, randomService);
+			multiExponentiationArgumentService.addVerificationEquations(mStatement, multiExponentiationArgument, equations);
+			equations.addAll(productEquationsComputation.join());
+			if (equations.verify()) {
+				return VerificationSuccess.INSTANCE;
+			}
+		}
+
+		// Verify the product and multi-exponentiation arguments concurrently.
+		final ForkedComputation<Verifiable> productVerifComputation = ForkedComputation.fork(
+				() -> productArgumentService.verifyProductArgument(pStatement, productArgument)
+						.addErrorMessage("Failed to verify Product Argument."));
 
 		final Verifiable multiVerif = multiExponentiationArgumentService.verifyMultiExponentiationArgument(mStatement, multiExponentiationArgument)
 				.addErrorMessage("Failed to verify MultiExponentiation Argument.");
+		final Verifiable productVerif = productVerifComputation.join();
 
 		return productVerif.and(multiVerif).verify();
 	}
@@ -437,11 +545,10 @@ class ShuffleArgumentService {
 	 * Computes <code>x<sup>i</<sup></code> for <code>i</code> in <code>[0, N)</code>.
 	 */
 	private GroupVector<ZqElement, ZqGroup> precomputeXPowers(final ZqElement x, final int N) {
-		return IntStream.range(0, N)
-				.parallel()
+		return ParallelStreams.range(0, N)
 				.mapToObj(BigInteger::valueOf)
 				.map(x::exponentiate)
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 
 	/**
@@ -450,9 +557,8 @@ class ShuffleArgumentService {
 	private ZqElement computeProductB(final int N, final ZqElement y, final GroupVector<ZqElement, ZqGroup> xPowers,
 			final ZqElement z, final ZqGroup zqGroup) {
 
-		return IntStream.range(0, N)
+		return ParallelStreams.range(0, N, Workload.MULTIPLICATION.of(zqGroup))
 				.boxed()
-				.parallel()
 				.flatMap(i -> Stream.of(i)
 						.map(value -> ZqElement.create(value, zqGroup))
 						.map(y::multiply)
@@ -473,10 +579,9 @@ class ShuffleArgumentService {
 		checkArgument(first.size() == second.size());
 		checkArgument(first.getGroup().equals(second.getGroup()));
 
-		return IntStream.range(0, first.size())
-				.parallel()
+		return ParallelStreams.range(0, first.size(), Workload.MULTIPLICATION.of(first.getGroup()))
 				.mapToObj(i -> first.get(i).multiply(second.get(i)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 	}
 
 	/**
@@ -491,8 +596,7 @@ class ShuffleArgumentService {
 		checkArgument(first.numColumns() == second.numColumns());
 		checkArgument(first.getGroup().equals(second.getGroup()));
 
-		return IntStream.range(0, first.numRows())
-				.parallel()
+		return ParallelStreams.range(0, first.numRows(), first.numColumns() * Workload.MULTIPLICATION.of(first.getGroup()))
 				.mapToObj(i -> IntStream.range(0, first.numColumns())
 						.mapToObj(j -> first.get(i, j).add(second.get(i, j)))
 						.toList())
@@ -16,20 +16,24 @@
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
 import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertext;
+import static ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts.getCiphertextWithPrecomputedKey;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.IntStream;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrecomputedPublicKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
@@ -45,6 +49,9 @@ import ch.post.it.evoting.cryptoprimitives.mixnet.Shuffle;
 @SuppressWarnings("java:S117")
 public class ShuffleService {
 
+	// Minimal number of ciphertexts for which the public key elements are precomputed before re-encryption.
+	static final int PRECOMPUTATION_THRESHOLD = 16;
+
 	private final RandomService randomService;
 	private final PermutationService permutationService;
 
@@ -81,33 +88,159 @@ public class ShuffleService {
 		checkArgument(l <= k);
 		checkArgument(C.getGroup().equals(publicKey.getGroup()));
 
-		final GqGroup group = C.getGroup();
-		final ZqGroup exponentGroup = ZqGroup.sameOrderAs(group);
-		final BigInteger q = exponentGroup.getQ();
+		final PrecomputedShuffle precomputedShuffle = precomputeShuffle(N, l, pk);
+
+		return genShuffleFromPrecomputation(C, precomputedShuffle);
+	}
+
+	/**
+	 * Shuffles and re-encrypts a matrix of ciphertexts with the given key. The result is distributed as the one of
+	 * {@link #genShuffle(List, ElGamalMultiRecipientPublicKey)}, but the shuffled ciphertexts are stored in a matrix of the same storage as
+	 * {@code ciphertexts}. The ciphertexts of the returned {@link Shuffle} are a view of this matrix. Each encryption of ones is consumed as soon as
+	 * it is computed, hence no vector of ciphertexts is held during the shuffle.
+	 *
+	 * @param ciphertexts the ciphertexts to re-encrypt and shuffle. Must be non null.
+	 * @param publicKey   the public key with which to re-encrypt the ciphertexts. Must be non null.
+	 * @return a {@link Shuffle} with the result of the re-encrypting shuffle.
+	 */
+	Shuffle genShuffle(final ElGamalMultiRecipientCiphertextMatrix ciphertexts, final ElGamalMultiRecipientPublicKey publicKey) {
+		checkNotNull(ciphertexts);
+		checkNotNull(publicKey);
+
+		final ElGamalMultiRecipientCiphertextMatrix C = ciphertexts;
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+		final int N = C.size();
+		final int l = C.getElementSize();
+		final int k = publicKey.size();
+
+		//Verify combination of ciphertext and public key inputs
+		checkArgument(l <= k);
+		checkArgument(C.getGroup().equals(publicKey.getGroup()));
+
+		//Generate shuffle
+		final Permutation pi = this.permutationService.genPermutation(N);
+		final List<ZqElement> r = genReEncryptionExponents(N, pk.getGroup());
+		final Function<ZqElement, ElGamalMultiRecipientCiphertext> encryptOne = encryptionOfOnes(N, l, pk);
+
+		final ElGamalMultiRecipientCiphertextMatrix.Builder C_prime = ElGamalMultiRecipientCiphertextMatrix.builder(C.getGroup(), N, l,
+				C.getStorage());
+		ParallelStreams.range(0, N)
+				.forEach(i -> {
+					final ElGamalMultiRecipientCiphertext e = encryptOne.apply(r.get(i));
+
+					final int pi_i = pi.get(i);
+					final ElGamalMultiRecipientCiphertext C_pi_i = C.get(pi_i);
+					C_prime.set(i, e.getCiphertextProduct(C_pi_i));
+				});
+
+		return new Shuffle(C_prime.build().asGroupVector(), pi, r);
+	}
+
+	/**
+	 * Generates the part of a shuffle that does not depend on the ciphertexts: the permutation, the re-encryption exponents and the encryptions
+	 * of ones under these exponents.
+	 *
+	 * @param numberOfCiphertexts N, the number of ciphertexts to shuffle. Must be strictly positive.
+	 * @param ciphertextSize      l, the number of elements of the ciphertexts to shuffle. Must be in the range (0, k], with k the size of the
+	 *                            public key.
+	 * @param publicKey           the public key with which to re-encrypt the ciphertexts. Must be non null.
+	 * @return the {@link PrecomputedShuffle}.
+	 */
+	PrecomputedShuffle precomputeShuffle(final int numberOfCiphertexts, final int ciphertextSize, final ElGamalMultiRecipientPublicKey publicKey) {
+		checkNotNull(publicKey);
+
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+		final int N = numberOfCiphertexts;
+		final int l = ciphertextSize;
+		checkArgument(0 < N);
+		checkArgument(0 < l);
+		checkArgument(l <= pk.size());
 
 		//Generate shuffle
 		final Permutation pi = this.permutationService.genPermutation(N);
-		final ElGamalMultiRecipientMessage one = ElGamalMultiRecipientMessages.ones(group, l);
+		final List<ZqElement> r = genReEncryptionExponents(N, pk.getGroup());
 
-		final List<ZqElement> r =
-				Stream.generate(() -> randomService.genRandomInteger(q))
-						.map(value -> ZqElement.create(value, exponentGroup))
-						.limit(N)
-						.toList();
+		final List<ElGamalMultiRecipientCiphertext> encryptedOnes = ParallelStreams.stream(r)
+				.map(encryptionOfOnes(N, l, pk))
+				.toList();
+
+		return new PrecomputedShuffle(pi, r, encryptedOnes);
+	}
+
+	private List<ZqElement> genReEncryptionExponents(final int N, final GqGroup group) {
+		final ZqGroup exponentGroup = ZqGroup.sameOrderAs(group);
+		final BigInteger q = exponentGroup.getQ();
+
+		return Stream.generate(() -> randomService.genRandomInteger(q))
+				.map(value -> ZqElement.create(value, exponentGroup))
+				.limit(N)
+				.toList();
+	}
+
+	private static Function<ZqElement, ElGamalMultiRecipientCiphertext> encryptionOfOnes(final int N, final int l,
+			final ElGamalMultiRecipientPublicKey pk) {
+		final ElGamalMultiRecipientMessage one = ElGamalMultiRecipientMessages.ones(pk.getGroup(), l);
+
+		// The re-encryptions exponentiate the same l key elements N times, which amortizes their fixed-base tables for all but tiny shuffles.
+		if (N >= PRECOMPUTATION_THRESHOLD) {
+			final ElGamalMultiRecipientPrecomputedPublicKey precomputedPk = new ElGamalMultiRecipientPrecomputedPublicKey(pk, l);
+			return r_i -> getCiphertextWithPrecomputedKey(one, r_i, precomputedPk);
+		} else {
+			return r_i -> getCiphertext(one, r_i, pk);
+		}
+	}
+
+	/**
+	 * Shuffles and re-encrypts a list of ciphertexts with a precomputed permutation and precomputed encryptions of ones. This step only
+	 * multiplies ciphertexts.
+	 *
+	 * @param ciphertexts        the ciphertexts to re-encrypt and shuffle. Must be non null, non-empty and of the size of the precomputation.
+	 * @param precomputedShuffle the {@link PrecomputedShuffle}. Must be non null and its encryptions of ones must have the same size and group as
+	 *                           the ciphertexts.
+	 * @return a {@link Shuffle} with the result of the re-encrypting shuffle.
+	 */
+	Shuffle genShuffleFromPrecomputation(final List<ElGamalMultiRecipientCiphertext> ciphertexts, final PrecomputedShuffle precomputedShuffle) {
+		checkNotNull(ciphertexts);
+		checkNotNull(precomputedShuffle);
+
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C = GroupVector.from(ciphertexts);
+		final Permutation pi = precomputedShuffle.permutation();
+		final List<ElGamalMultiRecipientCiphertext> encryptedOnes = precomputedShuffle.encryptedOnes();
+		final int N = C.size();
+
+		checkArgument(0 < N);
+		checkArgument(N == pi.size(), "The precomputed shuffle must have the size of the ciphertexts.");
+		checkArgument(encryptedOnes.get(0).size() == C.getElementSize(), "The precomputed shuffle must have the ciphertext size of the ciphertexts.");
+		checkArgument(encryptedOnes.get(0).getGroup().equals(C.getGroup()), "The precomputed shuffle must have the group of the ciphertexts.");
 
 		final List<ElGamalMultiRecipientCiphertext> C_prime =
-				IntStream.range(0, N)
-						.parallel()
+				ParallelStreams.range(0, N)
 						.mapToObj(i -> {
-							final ZqElement r_i = r.get(i);
-
-							final ElGamalMultiRecipientCiphertext e = getCiphertext(one, r_i, pk);
+							final ElGamalMultiRecipientCiphertext e = encryptedOnes.get(i);
 
 							final int pi_i = pi.get(i);
 							final ElGamalMultiRecipientCiphertext C_pi_i = C.get(pi_i);
 							return e.getCiphertextProduct(C_pi_i);
 						}).toList();
 
-		return new Shuffle(C_prime, pi, r);
+		return new Shuffle(C_prime, pi, precomputedShuffle.reEncryptionExponents());
+	}
+
+	/**
+	 * The part of a shuffle that does not depend on the ciphertexts.
+	 *
+	 * @param permutation           &#120587;, the permutation.
+	 * @param reEncryptionExponents &#961;, the re-encryption exponents.
+	 * @param encryptedOnes         the encryptions of ones under the re-encryption exponents.
+	 */
+	record PrecomputedShuffle(Permutation permutation, List<ZqElement> reEncryptionExponents, List<ElGamalMultiRecipientCiphertext> encryptedOnes) {
+
+		PrecomputedShuffle {
+			checkNotNull(permutation);
+			reEncryptionExponents = List.copyOf(reEncryptionExponents);
+			encryptedOnes = List.copyOf(encryptedOnes);
+			checkArgument(permutation.size() == reEncryptionExponents.size() && permutation.size() == encryptedOnes.size(),
+					"The permutation, the re-encryption exponents and the encryptions of ones must have the same size.");
+		}
 	}
 }
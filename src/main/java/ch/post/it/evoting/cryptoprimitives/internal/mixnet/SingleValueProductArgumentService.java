@@ -15,10 +15,11 @@
  */
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitment;
+import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentPublic;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.byteArrayToInteger;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable.create;
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -31,6 +32,7 @@ import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKe
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -133,7 +135,7 @@ class SingleValueProductArgumentService {
 			delta_mutable.addAll(1, randomService.genRandomVector(q, n - 2));
 		}
 		delta_mutable.add(n - 1, zqGroup.getIdentity());
-		final GroupVector<ZqElement, ZqGroup> delta = GroupVector.from(delta_mutable);
+		final GroupVector<ZqElement, ZqGroup> delta = TrustedGroupVectors.vector(delta_mutable);
 
 		// Calculate s_0 and s_x
 		final ZqElement s_0 = ZqElement.create(randomService.genRandomInteger(q), zqGroup);
@@ -142,12 +144,12 @@ class SingleValueProductArgumentService {
 		// Calculate δ' and Δ
 		final GroupVector<ZqElement, ZqGroup> delta_prime = IntStream.range(0, n - 1)
 				.mapToObj(k -> delta.get(k).negate().multiply(d.get(k + 1)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 		final GroupVector<ZqElement, ZqGroup> Delta = IntStream.range(0, n - 1)
 				.mapToObj(k -> delta.get(k + 1)
 						.add(a.get(k + 1).negate().multiply(delta.get(k)))
 						.add(b_vector.get(k).negate().multiply(d.get(k + 1))))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Calculate c_d, c_δ and c_Δ
 		final GqElement c_d = getCommitment(d, r_d, ck);
@@ -172,10 +174,10 @@ class SingleValueProductArgumentService {
 		// Calculate aTilde, bTilde, rTilde and sTilde
 		final GroupVector<ZqElement, ZqGroup> a_tilde = IntStream.range(0, n)
 				.mapToObj(k -> x.multiply(a.get(k)).add(d.get(k)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 		final GroupVector<ZqElement, ZqGroup> b_tilde = IntStream.range(0, n)
 				.mapToObj(k -> x.multiply(b_vector.get(k)).add(delta.get(k)))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 		final ZqElement r_tilde = x.multiply(r).add(r_d);
 		final ZqElement s_tilde = x.multiply(s_x).add(s_0);
 
@@ -217,38 +219,22 @@ class SingleValueProductArgumentService {
 		final ZqElement s_tilde = argument.get_s_tilde();
 
 		final int n = a_tilde.size();
-		final GqGroup gqGroup = c_a.getGroup();
-		final BigInteger p = gqGroup.getP();
-		final BigInteger q = gqGroup.getQ();
-		final ZqGroup zqGroup = b.getGroup();
 
 		// Calculate x
-		final byte[] x_bytes = hashService.recursiveHash(
-				HashableBigInteger.from(p),
-				HashableBigInteger.from(q),
-				pk,
-				ck,
-				c_Delta,
-				c_delta,
-				c_d,
-				b,
-				c_a);
-
-		// The constructor ensures that the hash value is smaller than q.
-		final ZqElement x = ZqElement.create(byteArrayToInteger(x_bytes), zqGroup);
+		final ZqElement x = computeVerificationChallenge(statement, argument);
 
 		// Verify A
-		final GqElement prodCa = c_a.exponentiate(x).multiply(c_d);
-		final GqElement commA = getCommitment(a_tilde, r_tilde, ck);
+		final GqElement prodCa = c_a.exponentiatePublic(x).multiply(c_d);
+		final GqElement commA = getCommitmentPublic(a_tilde, r_tilde, ck);
 		final Verifiable verifA = create(() -> prodCa.equals(commA), String.format("prodCa %s and commA %s are not equal", prodCa, commA));
 
 		// Verify Delta
-		final GqElement prodDelta = c_Delta.exponentiate(x).multiply(c_delta);
+		final GqElement prodDelta = c_Delta.exponentiatePublic(x).multiply(c_delta);
 		final GroupVector<ZqElement, ZqGroup> e = IntStream.range(0, n - 1)
 				.mapToObj(i -> x.multiply(b_tilde.get(i + 1))
 						.subtract(b_tilde.get(i).multiply(a_tilde.get(i + 1))))
-				.collect(toGroupVector());
-		final GqElement commDelta = getCommitment(e, s_tilde, ck);
+				.collect(toTrustedGroupVector());
+		final GqElement commDelta = getCommitmentPublic(e, s_tilde, ck);
 		final Verifiable verifDelta = create(() -> prodDelta.equals(commDelta),
 				String.format("prodDelta %s and commDelta %s are not equal", prodDelta, commDelta));
 
@@ -260,4 +246,66 @@ class SingleValueProductArgumentService {
 		return verifA.and(verifDelta).and(verifB);
 	}
 
+	/**
+	 * Adds the verification equations of a {@link SingleValueProductArgument} with respect to a given {@link SingleValueProductStatement} to a
+	 * batch. The argument is valid iff the equations hold. See
+	 * {@link #verifySingleValueProductArgument(SingleValueProductStatement, SingleValueProductArgument)} for the requirements on the statement and
+	 * the argument.
+	 *
+	 * @param statement the statement for which the argument is to be verified.
+	 * @param argument  the argument to be verified.
+	 * @param equations the batch of equations to add to. Must be non-null.
+	 */
+	void addVerificationEquations(final SingleValueProductStatement statement, final SingleValueProductArgument argument,
+			final VerificationEquations equations) {
+		checkNotNull(statement);
+		checkNotNull(argument);
+		checkNotNull(equations);
+
+		checkArgument(statement.getGroup().equals(argument.getGroup()), "The statement and the argument must have compatible groups.");
+
+		final ZqElement b = statement.get_b();
+		final GroupVector<ZqElement, ZqGroup> a_tilde = argument.get_a_tilde();
+		final GroupVector<ZqElement, ZqGroup> b_tilde = argument.get_b_tilde();
+		final int n = a_tilde.size();
+		final ZqElement one = ZqElement.create(1, b.getGroup());
+
+		// Calculate x
+		final ZqElement x = computeVerificationChallenge(statement, argument);
+
+		// Verify A
+		equations.addCommitmentEquation(List.of(statement.get_c_a(), argument.get_c_d()), List.of(x, one), a_tilde, argument.get_r_tilde(), ck);
+
+		// Verify Delta
+		final GroupVector<ZqElement, ZqGroup> e = IntStream.range(0, n - 1)
+				.mapToObj(i -> x.multiply(b_tilde.get(i + 1))
+						.subtract(b_tilde.get(i).multiply(a_tilde.get(i + 1))))
+				.collect(toTrustedGroupVector());
+		equations.addCommitmentEquation(List.of(argument.get_c_Delta(), argument.get_c_delta()), List.of(x, one), e, argument.get_s_tilde(), ck);
+
+		// Verify B
+		equations.addCondition(b_tilde.get(0).equals(a_tilde.get(0)) && b_tilde.get(n - 1).equals(x.multiply(b)));
+	}
+
+	private ZqElement computeVerificationChallenge(final SingleValueProductStatement statement, final SingleValueProductArgument argument) {
+		final ZqElement b = statement.get_b();
+		final GqGroup gqGroup = statement.getGroup();
+		final BigInteger p = gqGroup.getP();
+		final BigInteger q = gqGroup.getQ();
+
+		final byte[] x_bytes = hashService.recursiveHash(
+				HashableBigInteger.from(p),
+				HashableBigInteger.from(q),
+				pk,
+				ck,
+				argument.get_c_Delta(),
+				argument.get_c_delta(),
+				argument.get_c_d(),
+				b,
+				statement.get_c_a());
+
+		// The constructor ensures that the hash value is smaller than q.
+		return ZqElement.create(byteArrayToInteger(x_bytes), b.getGroup());
+	}
+
 }
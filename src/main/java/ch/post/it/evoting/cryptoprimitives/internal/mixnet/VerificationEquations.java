@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+
+/**
+ * Collects the verification equations of an argument to check them all at once with a single multi-exponentiation.
+ *
+ * <p>Every equation &prod; b<sub>i</sub><sup>e<sub>i</sub></sup> = &prod; b'<sub>j</sub><sup>e'<sub>j</sub></sup> is raised to a fresh random
+ * weight &alpha; of {@value #WEIGHT_BIT_LENGTH} bits, and the exponents of equal bases are summed across all equations. The equations all hold iff
+ * the resulting product is one, except with probability at most 2<sup>-{@value #WEIGHT_BIT_LENGTH}</sup> over the choice of the weights. Since
+ * the commitments of the sub-arguments share the bases of the commitment key, the batch is considerably cheaper than checking the equations
+ * separately. This is only sound if the order q of the group exceeds the weights, see {@link #isApplicable(GqGroup)}.</p>
+ *
+ * <p>A batch only tells whether all the equations hold. Callers needing to know which equation failed must check them again separately.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ */
+final class VerificationEquations {
+
+	// Bit length of the random weights, bounding the probability of accepting a false equation.
+	static final int WEIGHT_BIT_LENGTH = 128;
+
+	private static final BigInteger WEIGHT_BOUND = BigInteger.ONE.shiftLeft(WEIGHT_BIT_LENGTH);
+
+	private final GqGroup gqGroup;
+	private final ZqGroup zqGroup;
+	private final RandomService randomService;
+	private final Map<GqElement, BigInteger> exponents = new LinkedHashMap<>();
+	private boolean conditionsHold = true;
+
+	/**
+	 * @param gqGroup       the group of the equations. Must be non-null and {@link #isApplicable(GqGroup) applicable}.
+	 * @param randomService the source of the random weights. Must be non-null.
+	 */
+	VerificationEquations(final GqGroup gqGroup, final RandomService randomService) {
+		checkNotNull(gqGroup);
+		checkNotNull(randomService);
+		checkArgument(isApplicable(gqGroup), "The group order must be larger than the random weights.");
+
+		this.gqGroup = gqGroup;
+		this.zqGroup = ZqGroup.sameOrderAs(gqGroup);
+		this.randomService = randomService;
+	}
+
+	/**
+	 * @return true if the order of the group is large enough for the batch to be sound.
+	 */
+	static boolean isApplicable(final GqGroup gqGroup) {
+		return gqGroup.getQ().bitLength() > WEIGHT_BIT_LENGTH;
+	}
+
+	/**
+	 * Adds a condition that does not involve any exponentiation, such as the equality of two elements of the argument.
+	 */
+	void addCondition(final boolean condition) {
+		conditionsHold &= condition;
+	}
+
+	/**
+	 * Adds the equation &prod; leftBases<sub>i</sub><sup>leftExponents<sub>i</sub></sup> = &prod;
+	 * rightBases<sub>j</sub><sup>rightExponents<sub>j</sub></sup>.
+	 */
+	void addEquation(final List<GqElement> leftBases, final List<ZqElement> leftExponents, final List<GqElement> rightBases,
+			final List<ZqElement> rightExponents) {
+		checkNotNull(leftBases);
+		checkNotNull(leftExponents);
+		checkNotNull(rightBases);
+		checkNotNull(rightExponents);
+		checkArgument(leftBases.size() == leftExponents.size(), "There must be as many exponents as bases on the left side.");
+		checkArgument(rightBases.size() == rightExponents.size(), "There must be as many exponents as bases on the right side.");
+
+		final BigInteger q = zqGroup.getQ();
+		final BigInteger alpha = randomService.genRandomInteger(WEIGHT_BOUND);
+		for (int i = 0; i < leftBases.size(); i++) {
+			accumulate(leftBases.get(i), alpha.multiply(leftExponents.get(i).getValue()));
+		}
+		for (int j = 0; j < rightBases.size(); j++) {
+			accumulate(rightBases.get(j), q.subtract(alpha).multiply(rightExponents.get(j).getValue()));
+		}
+	}
+
+	/**
+	 * Adds the equation &prod; bases<sub>i</sub><sup>exponents<sub>i</sub></sup> = h<sup>r</sup> &middot; g<sub>1</sub><sup>a<sub>1</sub></sup>
+	 * &middot; ... &middot; g<sub>l</sub><sup>a<sub>l</sub></sup>, i.e. that the product is the commitment to <b>a</b> with randomness r under
+	 * <b>ck</b>.
+	 */
+	void addCommitmentEquation(final List<GqElement> bases, final List<ZqElement> exponents, final GroupVector<ZqElement, ZqGroup> a,
+			final ZqElement r, final CommitmentKey ck) {
+		checkNotNull(a);
+		checkNotNull(r);
+		checkNotNull(ck);
+		checkArgument(a.size() <= ck.size(), "The commitment key must be at least as long as the committed values.");
+
+		// Due to 0 indexing of the gs, the indexes used deviate from the spec
+		addEquation(bases, exponents, ck.getG().subVector(0, a.size()).prepend(ck.getH()), a.prepend(r));
+	}
+
+	/**
+	 * Adds all the conditions and equations of another batch of the same group, for instance collected concurrently.
+	 */
+	void addAll(final VerificationEquations other) {
+		checkNotNull(other);
+		checkArgument(other.gqGroup.equals(gqGroup), "The equations must belong to the same group.");
+
+		conditionsHold &= other.conditionsHold;
+		other.exponents.forEach(this::accumulate);
+	}
+
+	/**
+	 * Checks all the added conditions and equations at once.
+	 *
+	 * @return true if all the conditions and equations hold, false if at least one of them does not, except with negligible probability.
+	 */
+	boolean verify() {
+		if (!conditionsHold) {
+			return false;
+		}
+
+		final BigInteger q = zqGroup.getQ();
+		final List<Map.Entry<GqElement, BigInteger>> terms = exponents.entrySet().stream()
+				.filter(term -> term.getValue().mod(q).signum() != 0)
+				.toList();
+		if (terms.isEmpty()) {
+			return true;
+		}
+
+		final GroupVector<GqElement, GqGroup> bases = terms.stream().map(Map.Entry::getKey).collect(GroupVector.toGroupVector());
+		final GroupVector<ZqElement, ZqGroup> weightedExponents = terms.stream()
+				.map(term -> ZqElement.create(term.getValue().mod(q), zqGroup))
+				.collect(GroupVector.toGroupVector());
+
+		return GqElement.multiModExpPublic(bases, weightedExponents).equals(gqGroup.getIdentity());
+	}
+
+	private void accumulate(final GqElement base, final BigInteger exponent) {
+		checkArgument(base.getGroup().equals(gqGroup), "The bases must belong to the group of the equations.");
+		exponents.merge(base, exponent, (sum, summand) -> sum.add(summand).mod(zqGroup.getQ()));
+	}
+}
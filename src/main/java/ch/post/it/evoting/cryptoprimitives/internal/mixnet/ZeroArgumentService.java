@@ -15,12 +15,13 @@
  */
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitment;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentMatrix;
+import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentPublic;
 import static ch.post.it.evoting.cryptoprimitives.internal.mixnet.CommitmentService.getCommitmentVector;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.byteArrayToInteger;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable.create;
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -37,6 +38,9 @@ import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKe
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.Workload;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -157,7 +161,7 @@ final class ZeroArgumentService {
 		// Compute t and c_d.
 		final List<ZqElement> t_mutable = new ArrayList<>(randomService.genRandomVector(q, (2 * m) + 1));
 		t_mutable.set(m + 1, ZqElement.create(BigInteger.ZERO, zqGroup));
-		final GroupVector<ZqElement, ZqGroup> t = GroupVector.from(t_mutable);
+		final GroupVector<ZqElement, ZqGroup> t = TrustedGroupVectors.vector(t_mutable);
 		final GroupVector<GqElement, GqGroup> c_d = getCommitmentVector(d, t, ck);
 
 		// Compute x, later used to compute a', b', r', s' and t'.
@@ -175,27 +179,25 @@ final class ZeroArgumentService {
 		final ZqElement x = ZqElement.create(byteArrayToInteger(x_bytes), zqGroup);
 
 		// To avoid computing multiple times the powers of x.
-		final List<ZqElement> xPowers = IntStream.range(0, 2 * m + 1)
-				.parallel()
+		final List<ZqElement> xPowers = ParallelStreams.range(0, 2 * m + 1)
 				.mapToObj(i -> x.exponentiate(BigInteger.valueOf(i)))
 				.collect(Collectors.toCollection(ArrayList::new));
 
 		// Compute vectors a' and b'.
-		final GroupVector<ZqElement, ZqGroup> a_prime = IntStream.range(0, n)
-				.parallel()
+		final long rowWork = (m + 1L) * Workload.MULTIPLICATION.of(zqGroup);
+		final GroupVector<ZqElement, ZqGroup> a_prime = ParallelStreams.range(0, n, rowWork)
 				.mapToObj(j ->
 						IntStream.range(0, m + 1)
 								.mapToObj(i -> xPowers.get(i).multiply(A_prepended.get(j, i)))
 								.reduce(zqGroup.getIdentity(), ZqElement::add))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
-		final GroupVector<ZqElement, ZqGroup> b_prime = IntStream.range(0, n)
-				.parallel()
+		final GroupVector<ZqElement, ZqGroup> b_prime = ParallelStreams.range(0, n, rowWork)
 				.mapToObj(j ->
 						IntStream.range(0, m + 1)
 								.mapToObj(i -> xPowers.get(m - i).multiply(B_appended.get(j, i)))
 								.reduce(zqGroup.getIdentity(), ZqElement::add))
-				.collect(toGroupVector());
+				.collect(toTrustedGroupVector());
 
 		// Compute r', s' and t'.
 		final GroupVector<ZqElement, ZqGroup> r_prepended = r.prepend(r_0);
@@ -322,8 +324,7 @@ final class ZeroArgumentService {
 
 		// StarMap computing.
 		final int n = firstVector.size();
-		return IntStream.range(0, n)
-				.parallel()
+		return ParallelStreams.range(0, n)
 				.mapToObj(j -> a.get(j)
 						.multiply(b.get(j))
 						.multiply(y.exponentiate(BigInteger.valueOf(j + 1L))))
@@ -357,24 +358,9 @@ final class ZeroArgumentService {
 		final ZqElement t_prime = argument.get_t_prime();
 
 		final int m = statement.get_m();
-		final GqGroup group = statement.getGroup();
-		final BigInteger p = group.getP();
-		final BigInteger q = group.getQ();
 
 		//Algorithm
-		final byte[] x_bytes = hashService.recursiveHash(
-				HashableBigInteger.from(p),
-				HashableBigInteger.from(q),
-				pk,
-				ck,
-				c_A_0,
-				c_B_m,
-				c_d,
-				c_B,
-				c_A
-		);
-
-		final ZqElement x = ZqElement.create(byteArrayToInteger(x_bytes), ZqGroup.sameOrderAs(group));
+		final ZqElement x = computeVerificationChallenge(statement, argument);
 
 		final Verifiable verifCd = create(() -> BigInteger.ONE.equals(c_d.get(m + 1).getValue()),
 				String.format("cd.get(m + 1).getValue() %s should equal BigInteger.ONE", c_d.get(m + 1).getValue()));
@@ -383,42 +369,104 @@ final class ZeroArgumentService {
 				.mapToObj(i -> x.exponentiate(BigInteger.valueOf(i)))
 				.toList();
 
-		final GqElement identity = c_A.getGroup().getIdentity();
-
-		final GroupVector<GqElement, GqGroup> c_A_prepended = c_A.prepend(argument.get_c_A_0());
+		final GroupVector<GqElement, GqGroup> c_A_prepended = c_A.prepend(c_A_0);
 
-		final GqElement prodCa = IntStream.range(0, m + 1)
-				.mapToObj(i -> c_A_prepended.get(i).exponentiate(xPowers.get(i)))
-				.reduce(identity, GqElement::multiply);
+		final GqElement prodCa = GqElement.multiModExpPublic(c_A_prepended, TrustedGroupVectors.vector(xPowers.subList(0, m + 1)));
 
 		final GroupVector<ZqElement, ZqGroup> a_prime = argument.get_a_prime();
 		final ZqElement r_prime = argument.get_r_prime();
 
-		final GqElement commA = getCommitment(a_prime, r_prime, ck);
+		final GqElement commA = getCommitmentPublic(a_prime, r_prime, ck);
 		final Verifiable verifA = create(() -> prodCa.equals(commA), String.format("commA %s and prodCa %s are not equal", commA, prodCa));
 
-		final GroupVector<GqElement, GqGroup> c_B_appended = c_B.append(argument.get_c_B_m());
+		final GroupVector<GqElement, GqGroup> c_B_appended = c_B.append(c_B_m);
 
-		final GqElement prodCb = IntStream.range(0, m + 1)
-				.mapToObj(i -> c_B_appended.get(m - i).exponentiate(xPowers.get(i)))
-				.reduce(identity, GqElement::multiply);
+		final GroupVector<GqElement, GqGroup> c_B_appended_reversed = IntStream.range(0, m + 1)
+				.mapToObj(i -> c_B_appended.get(m - i))
+				.collect(toTrustedGroupVector());
+		final GqElement prodCb = GqElement.multiModExpPublic(c_B_appended_reversed, TrustedGroupVectors.vector(xPowers.subList(0, m + 1)));
 
 		final GroupVector<ZqElement, ZqGroup> b_prime = argument.get_b_prime();
 		final ZqElement s_prime = argument.get_s_prime();
 
-		final GqElement commB = getCommitment(b_prime, s_prime, ck);
+		final GqElement commB = getCommitmentPublic(b_prime, s_prime, ck);
 		final Verifiable verifB = create(() -> prodCb.equals(commB), String.format("prodCb %s and commB %s are not equal", prodCb, commB));
 
-		final GqElement prodCd = IntStream.range(0, (2 * m) + 1)
-				.parallel()
-				.mapToObj(i -> c_d.get(i).exponentiate(xPowers.get(i)))
-				.reduce(identity, GqElement::multiply);
+		final GqElement prodCd = GqElement.multiModExpPublic(c_d, TrustedGroupVectors.vector(xPowers));
 
 		final GroupVector<ZqElement, ZqGroup> prod = GroupVector.of(starMap(a_prime, b_prime, statement.get_y()));
-		final GqElement commD = getCommitment(prod, t_prime, ck);
+		final GqElement commD = getCommitmentPublic(prod, t_prime, ck);
 		final Verifiable verifD = create(() -> prodCd.equals(commD), String.format("prodCd %s and commD %s are not equal", prodCd, commD));
 
 		return verifCd.and(verifA).and(verifB).and(verifD);
 	}
 
+	/**
+	 * Adds the verification equations of a {@link ZeroArgument} with respect to a given {@link ZeroStatement} to a batch. The argument is valid iff
+	 * the equations hold. See {@link #verifyZeroArgument(ZeroStatement, ZeroArgument)} for the requirements on the statement and the argument.
+	 *
+	 * @param statement the statement for which the argument is to be verified.
+	 * @param argument  the argument to be verified.
+	 * @param equations the batch of equations to add to. Must be non-null.
+	 */
+	void addVerificationEquations(final ZeroStatement statement, final ZeroArgument argument, final VerificationEquations equations) {
+		checkNotNull(statement);
+		checkNotNull(argument);
+		checkNotNull(equations);
+
+		// Cross dimension checking.
+		checkArgument(statement.get_m() == argument.get_m(), "The statement and argument must have the same dimension m.");
+
+		// Cross group checking.
+		checkArgument(statement.getGroup().equals(argument.getGroup()), "Statement and argument must belong to the same group.");
+
+		final GroupVector<GqElement, GqGroup> c_A = statement.get_c_A();
+		final GroupVector<GqElement, GqGroup> c_B = statement.get_c_B();
+		final GroupVector<GqElement, GqGroup> c_d = argument.get_c_d();
+		final GroupVector<ZqElement, ZqGroup> a_prime = argument.get_a_prime();
+		final GroupVector<ZqElement, ZqGroup> b_prime = argument.get_b_prime();
+
+		final int m = statement.get_m();
+
+		//Algorithm
+		final ZqElement x = computeVerificationChallenge(statement, argument);
+
+		equations.addCondition(BigInteger.ONE.equals(c_d.get(m + 1).getValue()));
+
+		final List<ZqElement> xPowers = IntStream.range(0, (2 * m) + 1)
+				.mapToObj(i -> x.exponentiate(BigInteger.valueOf(i)))
+				.toList();
+
+		equations.addCommitmentEquation(c_A.prepend(argument.get_c_A_0()), xPowers.subList(0, m + 1), a_prime, argument.get_r_prime(), ck);
+
+		final GroupVector<GqElement, GqGroup> c_B_appended = c_B.append(argument.get_c_B_m());
+		final List<GqElement> c_B_appended_reversed = IntStream.range(0, m + 1)
+				.mapToObj(i -> c_B_appended.get(m - i))
+				.toList();
+		equations.addCommitmentEquation(c_B_appended_reversed, xPowers.subList(0, m + 1), b_prime, argument.get_s_prime(), ck);
+
+		final GroupVector<ZqElement, ZqGroup> prod = GroupVector.of(starMap(a_prime, b_prime, statement.get_y()));
+		equations.addCommitmentEquation(c_d, xPowers, prod, argument.get_t_prime(), ck);
+	}
+
+	private ZqElement computeVerificationChallenge(final ZeroStatement statement, final ZeroArgument argument) {
+		final GqGroup group = statement.getGroup();
+		final BigInteger p = group.getP();
+		final BigInteger q = group.getQ();
+
+		final byte[] x_bytes = hashService.recursiveHash(
+				HashableBigInteger.from(p),
+				HashableBigInteger.from(q),
+				pk,
+				ck,
+				argument.get_c_A_0(),
+				argument.get_c_B_m(),
+				argument.get_c_d(),
+				statement.get_c_B(),
+				statement.get_c_A()
+		);
+
+		return ZqElement.create(byteArrayToInteger(x_bytes), ZqGroup.sameOrderAs(group));
+	}
+
 }
@@ -17,9 +17,18 @@
 
 package ch.post.it.evoting.cryptoprimitives.internal.securitylevel;
 
+import org.bouncycastle.crypto.Digest;
+
 /**
  * Cryptographic hash function
  */
 public interface HashFunction {
 	byte[] hash(final byte[] input);
+
+	/**
+	 * Creates a digest computing this hash function incrementally, for inputs too large or too scattered to be concatenated first.
+	 *
+	 * @return a new digest, not thread safe.
+	 */
+	Digest createDigest();
 }
@@ -22,6 +22,8 @@ import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.Security;
 
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 /*
@@ -53,4 +55,9 @@ public class SHA3_256 implements HashFunction {
 			throw new IllegalStateException("Failed to create the SHA3-256 message digest for the HashService instantiation.");
 		}
 	}
+
+	@Override
+	public Digest createDigest() {
+		return new SHA3Digest(256);
+	}
 }
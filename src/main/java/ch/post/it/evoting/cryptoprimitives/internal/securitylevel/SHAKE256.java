@@ -17,6 +17,7 @@
 
 package ch.post.it.evoting.cryptoprimitives.internal.securitylevel;
 
+import org.bouncycastle.crypto.Xof;
 import org.bouncycastle.crypto.digests.SHAKEDigest;
 
 /**
@@ -45,6 +46,11 @@ public class SHAKE256 implements XOF {
 		return result;
 	}
 
+	@Override
+	public Xof createXof() {
+		return new SHAKEDigest(256);
+	}
+
 	@Override
 	public int getMinimumOutputLengthBits() {
 		return 512;
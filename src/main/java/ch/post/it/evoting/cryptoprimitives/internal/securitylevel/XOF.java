@@ -17,6 +17,8 @@
 
 package ch.post.it.evoting.cryptoprimitives.internal.securitylevel;
 
+import org.bouncycastle.crypto.Xof;
+
 /**
  * Extendable Output Function (XOF)
  */
@@ -24,6 +26,13 @@ public interface XOF {
 
 	byte[] xof(final Integer outputLength, final byte[] message);
 
+	/**
+	 * Creates a digest computing this XOF incrementally, for inputs too large or too scattered to be concatenated first.
+	 *
+	 * @return a new digest, not thread safe.
+	 */
+	Xof createXof();
+
 	/**
 	 * Returns the minimum output lengths in bits of this algorithm
 	 * @return
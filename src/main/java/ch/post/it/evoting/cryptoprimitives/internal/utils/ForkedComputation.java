@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.utils;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
+
+/**
+ * A computation forked to run concurrently with the calling thread, which later joins it to get its result.
+ *
+ * <p>The computation is forked as a {@link java.util.concurrent.ForkJoinTask}: within a fork/join pool it is pushed to the queue of the current
+ * worker, so that idle workers can steal it while the worker proceeds, and joining it helps running pending tasks instead of blocking. Outside a
+ * pool it runs in the common pool, which also executes the parallel streams it may contain. If the {@link ExecutionContext#current() current
+ * execution context} is sequential, the computation runs directly in the calling thread.</p>
+ *
+ * <p>Unlike {@link java.util.concurrent.ForkJoinTask#join()}, {@link #join()} rethrows the original runtime exception of the computation.</p>
+ *
+ * @param <T> the type of the result of the computation.
+ */
+public final class ForkedComputation<T> {
+
+	private final ComputationTask<T> task;
+
+	private ForkedComputation(final ComputationTask<T> task) {
+		this.task = task;
+	}
+
+	/**
+	 * Forks the given computation.
+	 *
+	 * @param computation the computation to run concurrently. Must be non-null.
+	 * @param <T>         the type of the result of the computation.
+	 * @return the forked computation, to be joined.
+	 */
+	public static <T> ForkedComputation<T> fork(final Supplier<T> computation) {
+		checkNotNull(computation);
+
+		final ComputationTask<T> task = new ComputationTask<>(computation);
+		if (ExecutionContext.current().isParallel()) {
+			task.fork();
+		} else {
+			task.invoke();
+		}
+		return new ForkedComputation<>(task);
+	}
+
+	/**
+	 * Waits for the computation to complete.
+	 *
+	 * @return the result of the computation.
+	 * @throws RuntimeException the exception thrown by the computation, if any.
+	 */
+	public T join() {
+		final T result = task.join();
+		if (task.failure != null) {
+			throw task.failure;
+		}
+		return result;
+	}
+
+	private static final class ComputationTask<T> extends RecursiveTask<T> {
+
+		private final transient Supplier<T> computation;
+		private transient RuntimeException failure;
+
+		private ComputationTask(final Supplier<T> computation) {
+			this.computation = computation;
+		}
+
+		@Override
+		protected T compute() {
+			try {
+				return computation.get();
+			} catch (final RuntimeException e) {
+				failure = e;
+				return null;
+			}
+		}
+	}
+}
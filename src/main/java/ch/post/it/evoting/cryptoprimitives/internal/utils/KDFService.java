@@ -132,6 +132,6 @@ public class KDFService implements KeyDerivation {
 			u = byteArrayToInteger(cutToBitLength(h, q.bitLength()));
 		}
 
-		return ZqElement.create(u, new ZqGroup(q));
+		return ZqElement.create(u, ZqGroup.of(q));
 	}
 }
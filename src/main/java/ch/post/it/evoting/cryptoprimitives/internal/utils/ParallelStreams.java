@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.utils;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.stream.BaseStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
+
+/**
+ * Streams for the loops of the library, parallel or sequential according to the {@link ExecutionContext#current() current execution context}
+ * and their number of elements.
+ *
+ * <p>Every loop of the library that may run in parallel must be started through this class rather than with {@link BaseStream#parallel()}, so
+ * that it follows the execution context of the operation.</p>
+ *
+ * <p>Splitting a loop, forking its tasks and merging their results costs tens of microseconds, more than a few modular multiplications or
+ * hashes. Loops doing such light work per element therefore state their {@link Workload workload}: they only run in parallel if their estimated
+ * total work reaches {@link #MINIMAL_PARALLEL_WORK}. Loops without a stated workload are assumed to do at least an exponentiation per element
+ * and only follow the sequential threshold of the context.</p>
+ */
+public final class ParallelStreams {
+
+	/**
+	 * The minimal estimated work of a loop, in the units of {@link Workload}, to run it in parallel. Can be tuned with the system property
+	 * {@code parallel.streams.minimal.work}.
+	 */
+	public static final long MINIMAL_PARALLEL_WORK = Long.getLong("parallel.streams.minimal.work", 50_000L);
+
+	private ParallelStreams() {
+		// Intentionally left blank.
+	}
+
+	/**
+	 * @param collection the elements to loop over. Must be non-null.
+	 * @return a stream of the elements, parallel if the current context runs loops of this size in parallel.
+	 */
+	public static <E> Stream<E> stream(final Collection<E> collection) {
+		checkNotNull(collection);
+		return ExecutionContext.current().isParallel(collection.size()) ? collection.parallelStream() : collection.stream();
+	}
+
+	/**
+	 * @param startInclusive the first index of the loop.
+	 * @param endExclusive   the upper bound of the indices of the loop.
+	 * @return a stream of the indices, parallel if the current context runs loops of this size in parallel.
+	 */
+	public static IntStream range(final int startInclusive, final int endExclusive) {
+		return parallel(IntStream.range(startInclusive, endExclusive), Math.max(0L, (long) endExclusive - startInclusive));
+	}
+
+	/**
+	 * @param stream the stream to loop over. Must be non-null.
+	 * @param size   the number of elements of the stream. Must be positive.
+	 * @return the stream, parallel if the current context runs loops of this size in parallel and sequential otherwise.
+	 */
+	public static <S extends BaseStream<?, S>> S parallel(final S stream, final long size) {
+		checkNotNull(stream);
+		checkArgument(size >= 0, "The size of a stream must be positive.");
+		return ExecutionContext.current().isParallel(size) ? stream.parallel() : stream.sequential();
+	}
+
+	/**
+	 * @param collection     the elements to loop over. Must be non-null.
+	 * @param workPerElement the estimated work per element, see {@link Workload}. Must be positive.
+	 * @return a stream of the elements, parallel if the current context runs loops of this size in parallel and the loop does enough work.
+	 */
+	public static <E> Stream<E> stream(final Collection<E> collection, final long workPerElement) {
+		checkNotNull(collection);
+		return isParallel(collection.size(), workPerElement) ? collection.parallelStream() : collection.stream();
+	}
+
+	/**
+	 * @param startInclusive the first index of the loop.
+	 * @param endExclusive   the upper bound of the indices of the loop.
+	 * @param workPerElement the estimated work per index, see {@link Workload}. Must be positive.
+	 * @return a stream of the indices, parallel if the current context runs loops of this size in parallel and the loop does enough work.
+	 */
+	public static IntStream range(final int startInclusive, final int endExclusive, final long workPerElement) {
+		return parallel(IntStream.range(startInclusive, endExclusive), Math.max(0L, (long) endExclusive - startInclusive), workPerElement);
+	}
+
+	/**
+	 * @param stream         the stream to loop over. Must be non-null.
+	 * @param size           the number of elements of the stream. Must be positive.
+	 * @param workPerElement the estimated work per element, see {@link Workload}. Must be positive.
+	 * @return the stream, parallel if the current context runs loops of this size in parallel and the loop does enough work, and sequential
+	 * otherwise.
+	 */
+	public static <S extends BaseStream<?, S>> S parallel(final S stream, final long size, final long workPerElement) {
+		checkNotNull(stream);
+		checkArgument(size >= 0, "The size of a stream must be positive.");
+		return isParallel(size, workPerElement) ? stream.parallel() : stream.sequential();
+	}
+
+	/**
+	 * @param size           the number of elements of a loop. Must be positive.
+	 * @param workPerElement the estimated work per element, see {@link Workload}. Must be positive.
+	 * @return true if a loop of the given size and work runs in parallel in the current context.
+	 */
+	public static boolean isParallel(final long size, final long workPerElement) {
+		checkArgument(size >= 0, "The size of a loop must be positive.");
+		checkArgument(workPerElement >= 0, "The work per element must be positive.");
+		// Compares size * workPerElement to the minimal work without overflowing.
+		return ExecutionContext.current().isParallel(size) && size > 0 && workPerElement >= (MINIMAL_PARALLEL_WORK + size - 1) / size;
+	}
+}
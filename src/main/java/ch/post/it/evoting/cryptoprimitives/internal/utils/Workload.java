@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.utils;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.MathematicalGroup;
+
+/**
+ * The kind of work done on each element of a loop, used by {@link ParallelStreams} to estimate whether the loop is worth running in parallel.
+ *
+ * <p>The work is estimated in units of roughly one multiplication of two machine words, that is about a nanosecond on current hardware. The
+ * estimates only need to be accurate to a small factor: they decide on which side of {@link ParallelStreams#MINIMAL_PARALLEL_WORK} a loop
+ * falls. The crossover points are measured by the {@code ParallelStreamsBenchmark}.</p>
+ */
+public enum Workload {
+
+	/**
+	 * A modular multiplication, or an addition or a few other operations of similar or lower cost, quadratic in the size of the operands.
+	 */
+	MULTIPLICATION {
+		@Override
+		long estimate(final int bitLength) {
+			final long words = (bitLength + Long.SIZE - 1L) / Long.SIZE;
+			// Schoolbook product followed by the reduction of the double length result.
+			return 2 * words * words;
+		}
+	},
+
+	/**
+	 * A modular exponentiation with an exponent of the size of the modulus. Montgomery multiplication and windowing bring its cost down to about
+	 * a sixth of the bit length times a modular multiplication.
+	 */
+	EXPONENTIATION {
+		@Override
+		long estimate(final int bitLength) {
+			return MULTIPLICATION.estimate(bitLength) * Math.max(1, bitLength / 6);
+		}
+	},
+
+	/**
+	 * The hashing of a value of the given size, including its conversion to bytes. Linear in the size of the value, with a fixed overhead for
+	 * the digest and the intermediate arrays.
+	 */
+	HASH {
+		@Override
+		long estimate(final int bitLength) {
+			return 500 + bitLength / 4L;
+		}
+	};
+
+	/**
+	 * Estimates the work per element of a loop operating on elements of the given group.
+	 *
+	 * @param group the group of the elements. Must be non-null.
+	 * @return the estimated work per element.
+	 */
+	public long of(final MathematicalGroup<?> group) {
+		checkNotNull(group);
+		return of(group.getQ().bitLength());
+	}
+
+	/**
+	 * Estimates the work per element of a loop operating on values of the given bit length.
+	 *
+	 * @param bitLength the bit length of the values. Must be strictly positive.
+	 * @return the estimated work per element.
+	 */
+	public long of(final int bitLength) {
+		checkArgument(bitLength > 0, "The bit length must be strictly positive.");
+		return estimate(bitLength);
+	}
+
+	abstract long estimate(final int bitLength);
+}
@@ -26,12 +26,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrecomputedPublicKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
@@ -40,6 +42,7 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalService;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -57,6 +60,9 @@ public class DecryptionProofService {
 
 	private static final String DECRYPTION_PROOF = "DecryptionProof";
 
+	// Minimal number of proofs for which the public key elements are precomputed before a batch verification.
+	static final int PRECOMPUTATION_THRESHOLD = 16;
+
 	private final ElGamalService elGamalService = new ElGamalService();
 	private final RandomService randomService;
 	private final HashService hashService;
@@ -149,7 +155,7 @@ public class DecryptionProofService {
 		final GroupVector<GqElement, GqGroup> phi = C.getPhis();
 		final GroupVector<GqElement, GqGroup> y = Stream.concat(
 						pk.stream().limit(l),
-						IntStream.range(0, l).mapToObj(i -> phi.get(i).divide(m.get(i))))
+						GqElement.vectorDivision(phi, m.getElements()).stream())
 				.collect(toGroupVector());
 		final HashableList h_aux;
 		if (!i_aux.isEmpty()) {
@@ -196,8 +202,85 @@ public class DecryptionProofService {
 		checkNotNull(decryptionProof);
 		checkNotNull(auxiliaryInformation);
 		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null elements.");
+		checkVerificationArguments(ciphertext, publicKey, message, decryptionProof);
+
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+
+		return verifyDecryption(ciphertext, pk, message, decryptionProof, List.copyOf(auxiliaryInformation),
+				(i, exponent) -> pk.get(i).exponentiatePublic(exponent));
+	}
+
+	/**
+	 * Verifies the validity of the {@link DecryptionProof}s of several ciphertexts decrypted under the same public key. The result is the same as
+	 * calling {@link #verifyDecryption} for every ciphertext, but the work that does not depend on the individual proofs is shared by the whole
+	 * batch: the used public key elements are precomputed once for large batches and the powers of γ and of the partial decryptions are computed
+	 * as simultaneous exponentiations.
+	 * <p>
+	 * Every ciphertext, message and decryption proof must comply with the requirements of {@link #verifyDecryption}.
+	 *
+	 * @param ciphertexts          (C<sub>0</sub>, ..., C<sub>N-1</sub>), the ciphertexts that were used to generate the proofs. Must be non null.
+	 * @param publicKey            pk, the public key that was used to generate the proofs. Must be non null.
+	 * @param messages             (m<sub>0</sub>, ..., m<sub>N-1</sub>), the messages that were used to generate the proofs. Must be non null
+	 *                             and of the same size as the ciphertexts.
+	 * @param decryptionProofs     the decryption proofs to be verified. Must be non null and of the same size as the ciphertexts.
+	 * @param auxiliaryInformation i<sub>aux</sub>, auxiliary information that was used during proofs generation. Must be non null.
+	 * @return a Verifiable which verifies only if all decryption proofs are valid. Its error message identifies the first invalid proof.
+	 */
+	public Verifiable verifyDecryptions(final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts,
+			final ElGamalMultiRecipientPublicKey publicKey, final List<ElGamalMultiRecipientMessage> messages,
+			final GroupVector<DecryptionProof, ZqGroup> decryptionProofs, final List<String> auxiliaryInformation) {
+		checkNotNull(ciphertexts);
+		checkNotNull(publicKey);
+		checkNotNull(messages);
+		checkNotNull(decryptionProofs);
+		checkNotNull(auxiliaryInformation);
+		checkArgument(messages.stream().allMatch(Objects::nonNull), "The messages must not contain null elements.");
+		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null elements.");
+
+		final int N = ciphertexts.size();
+		checkArgument(N > 0, "There must be at least one ciphertext.");
+		checkArgument(messages.size() == N && decryptionProofs.size() == N,
+				"There must be as many messages and decryption proofs as ciphertexts.");
+		IntStream.range(0, N).forEach(i -> checkVerificationArguments(ciphertexts.get(i), publicKey, messages.get(i), decryptionProofs.get(i)));
 
 		final List<String> i_aux = List.copyOf(auxiliaryInformation);
+		final ElGamalMultiRecipientPublicKey pk = publicKey;
+		final int l = ciphertexts.getElementSize();
+
+		// Every proof exponentiates the same l key elements, which amortizes their fixed-base tables for all but tiny batches.
+		final BiFunction<Integer, ZqElement, GqElement> publicKeyExponentiation;
+		if (N >= PRECOMPUTATION_THRESHOLD) {
+			final ElGamalMultiRecipientPrecomputedPublicKey precomputedPk = new ElGamalMultiRecipientPrecomputedPublicKey(pk, l);
+			publicKeyExponentiation = precomputedPk::exponentiatePublic;
+		} else {
+			publicKeyExponentiation = (i, exponent) -> pk.get(i).exponentiatePublic(exponent);
+		}
+
+		return ParallelStreams.range(0, N)
+				.mapToObj(i -> verifyDecryption(ciphertexts.get(i), pk, messages.get(i), decryptionProofs.get(i), i_aux, publicKeyExponentiation))
+				.reduce(Verifiable.create(() -> true, "This state is impossible to reach and indicates a bug."), Verifiable::and);
+	}
+
+	private static void checkVerificationArguments(final ElGamalMultiRecipientCiphertext C, final ElGamalMultiRecipientPublicKey pk,
+			final ElGamalMultiRecipientMessage m, final DecryptionProof ez) {
+		checkArgument(allEqual(Stream.of((GroupVectorElement<GqGroup>) C, pk, m), GroupVectorElement::getGroup),
+				"The ciphertext, the public key and the message must have the same group.");
+		checkArgument(C.getGroup().hasSameOrderAs(ez.getGroup()),
+				"The decryption proof must have the same group order as the ciphertext, the message and the public key.");
+		checkArgument(allEqual(Stream.of((GroupVectorElement<GqGroup>) C, m, ez), GroupVectorElement::size),
+				"The ciphertext, the message and the decryption proof must have the same size.");
+		checkArgument(C.size() <= pk.size(), "The ciphertext, the message and the decryption proof must be smaller than or equal to the public key.");
+	}
+
+	/**
+	 * Computes c' = x &middot; y<sup>-e</sup> without the intermediate phi-function image x. The first l elements g<sup>z<sub>i</sub></sup>
+	 * &middot; pk<sub>i</sub><sup>-e</sup> use the given exponentiation of the public key elements, the last l elements
+	 * &gamma;<sup>z<sub>i</sub></sup> &middot; (&phi;<sub>i</sub> / m<sub>i</sub>)<sup>-e</sup> are simultaneous exponentiations.
+	 */
+	private Verifiable verifyDecryption(final ElGamalMultiRecipientCiphertext ciphertext, final ElGamalMultiRecipientPublicKey publicKey,
+			final ElGamalMultiRecipientMessage message, final DecryptionProof decryptionProof, final List<String> i_aux,
+			final BiFunction<Integer, ZqElement, GqElement> publicKeyExponentiation) {
+
 		final ElGamalMultiRecipientCiphertext C = ciphertext;
 		final ElGamalMultiRecipientPublicKey pk = publicKey;
 		final ElGamalMultiRecipientMessage m = message;
@@ -218,24 +301,15 @@ public class DecryptionProofService {
 		checkArgument(hashService.getHashLength() * Byte.SIZE < q.bitLength(),
 				"The hash service's bit length must be smaller than the bit length of q.");
 
-		// Cross-checks
-		checkArgument(allEqual(Stream.of((GroupVectorElement<GqGroup>) C, pk, m), GroupVectorElement::getGroup),
-				"The ciphertext, the public key and the message must have the same group.");
-		checkArgument(C.getGroup().hasSameOrderAs(ez.getGroup()),
-				"The decryption proof must have the same group order as the ciphertext, the message and the public key.");
-		checkArgument(allEqual(Stream.of((GroupVectorElement<GqGroup>) C, m, ez), GroupVectorElement::size),
-				"The ciphertext, the message and the decryption proof must have the same size.");
-		checkArgument(C.size() <= pk.size(), "The ciphertext, the message and the decryption proof must be smaller than or equal to the public key.");
-
 		// Algorithm.
-		final GroupVector<GqElement, GqGroup> x = computePhiDecryption(z, gamma);
 		final HashableList f = HashableList.of(HashableBigInteger.from(p), HashableBigInteger.from(q), g, gamma);
-		final GroupVector<GqElement, GqGroup> y = Stream.concat(
-						pk.stream().limit(l),
-						IntStream.range(0, l).mapToObj(i -> phi.get(i).divide(m.get(i))))
-				.collect(toGroupVector());
-		final GroupVector<GqElement, GqGroup> c_prime = IntStream.range(0, 2 * l)
-				.mapToObj(i -> x.get(i).multiply(y.get(i).exponentiate(e.negate())))
+		final GroupVector<GqElement, GqGroup> phi_over_m = GqElement.vectorDivision(phi, m.getElements());
+		final GroupVector<GqElement, GqGroup> y = Stream.concat(pk.stream().limit(l), phi_over_m.stream()).collect(toGroupVector());
+		final ZqElement minus_e = e.negate();
+		final GroupVector<GqElement, GqGroup> c_prime = Stream.concat(
+						IntStream.range(0, l).mapToObj(i -> g.exponentiate(z.get(i)).multiply(publicKeyExponentiation.apply(i, minus_e))),
+						IntStream.range(0, l)
+								.mapToObj(i -> GqElement.multiModExpPublic(GroupVector.of(gamma, phi_over_m.get(i)), GroupVector.of(z.get(i), minus_e))))
 				.collect(toGroupVector());
 		final HashableList h_aux;
 		if (!i_aux.isEmpty()) {
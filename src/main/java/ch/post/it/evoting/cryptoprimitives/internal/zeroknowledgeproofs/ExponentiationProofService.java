@@ -23,6 +23,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
@@ -30,12 +31,15 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.math.FixedBaseGqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableExponentiationProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 
 /**
@@ -46,6 +50,12 @@ public class ExponentiationProofService {
 
 	private static final String EXPONENTIATION_PROOF = "ExponentiationProof";
 
+	// Minimal number of proofs for which the bases are precomputed before a batch verification.
+	static final int PRECOMPUTATION_THRESHOLD = 16;
+
+	// Maximal size of the fixed-base tables of the bases in a batch verification, in bytes.
+	static final long TABLES_MAXIMUM_SIZE = 32L * 1024 * 1024;
+
 	private final RandomService randomService;
 	private final HashService hashService;
 
@@ -149,33 +159,79 @@ public class ExponentiationProofService {
 
 		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null elements.");
 
-		final List<String> i_aux = List.copyOf(auxiliaryInformation);
+		checkVerificationArguments(bases, exponentiations, proof);
+
 		final GroupVector<GqElement, GqGroup> g = bases;
-		final GroupVector<GqElement, GqGroup> y = exponentiations;
-		final ZqElement e = proof.get_e();
-		final ZqElement z = proof.get_z();
-		final int n = g.size();
+		return verifyExponentiation(g, exponentiations, proof, List.copyOf(auxiliaryInformation), z -> computePhiExponentiation(z, g));
+	}
+
+	/**
+	 * @see ZeroKnowledgeProof#verifyExponentiations(GroupVector, List)
+	 */
+	public List<Integer> verifyExponentiations(final GroupVector<GqElement, GqGroup> bases,
+			final List<VerifiableExponentiationProof> verifiableExponentiationProofs) {
+		checkNotNull(bases);
+		checkNotNull(verifiableExponentiationProofs);
+		checkArgument(verifiableExponentiationProofs.stream().allMatch(Objects::nonNull), "The proofs must not contain null elements.");
+
+		final List<VerifiableExponentiationProof> proofs = List.copyOf(verifiableExponentiationProofs);
+		proofs.forEach(proof -> checkVerificationArguments(bases, proof.exponentiations(), proof.proof()));
+
+		final GroupVector<GqElement, GqGroup> g = bases;
+
+		// Every proof exponentiates the same bases, which amortizes their fixed-base tables for all but tiny batches. Only the bases whose tables fit
+		// in the memory budget are precomputed.
+		final Function<ZqElement, GroupVector<GqElement, GqGroup>> phi;
+		if (proofs.size() >= PRECOMPUTATION_THRESHOLD) {
+			final int numberOfTables = (int) Math.min(g.size(), TABLES_MAXIMUM_SIZE / FixedBaseGqElement.estimateSize(g.getGroup()));
+			final List<FixedBaseGqElement> g_tables = g.stream().limit(numberOfTables).map(FixedBaseGqElement::new).toList();
+			phi = z -> IntStream.range(0, g.size())
+					.mapToObj(i -> i < numberOfTables ? g_tables.get(i).exponentiatePublic(z) : g.get(i).exponentiatePublic(z))
+					.collect(toGroupVector());
+		} else {
+			phi = z -> computePhiExponentiation(z, g);
+		}
 
+		return ParallelStreams.range(0, proofs.size())
+				.filter(i -> {
+					final VerifiableExponentiationProof proof = proofs.get(i);
+					return !verifyExponentiation(g, proof.exponentiations(), proof.proof(), proof.auxiliaryInformation(), phi);
+				})
+				.boxed()
+				.toList();
+	}
+
+	private void checkVerificationArguments(final GroupVector<GqElement, GqGroup> g, final GroupVector<GqElement, GqGroup> y,
+			final ExponentiationProof proof) {
 		// Cross-dimension checking
 		checkArgument(!g.isEmpty(), "The bases must contain at least 1 element.");
 		checkArgument(g.size() == y.size(), "Bases and exponentiations must have the same size.");
 
 		// Cross-group checking
 		checkArgument(g.getGroup().equals(y.getGroup()), "Bases and exponentiations must belong to the same group.");
-		checkArgument(proof.getGroup().hasSameOrderAs(bases.getGroup()), "The proof must have the same group order as the bases.");
+		checkArgument(proof.getGroup().hasSameOrderAs(g.getGroup()), "The proof must have the same group order as the bases.");
+
+		checkArgument(hashService.getHashLength() * Byte.SIZE < g.getGroup().getQ().bitLength(),
+				"The hash service's bit length must be smaller than the bit length of q.");
+	}
+
+	private boolean verifyExponentiation(final GroupVector<GqElement, GqGroup> g, final GroupVector<GqElement, GqGroup> y,
+			final ExponentiationProof proof, final List<String> i_aux, final Function<ZqElement, GroupVector<GqElement, GqGroup>> phi) {
+		final ZqElement e = proof.get_e();
+		final ZqElement z = proof.get_z();
+		final int n = g.size();
 
 		// Context
 		final ZqGroup zqGroup = e.getGroup();
 		final BigInteger p = g.getGroup().getP();
 		final BigInteger q = g.getGroup().getQ();
-		checkArgument(hashService.getHashLength() * Byte.SIZE < q.bitLength(),
-				"The hash service's bit length must be smaller than the bit length of q.");
 
 		// Operations
-		final GroupVector<GqElement, GqGroup> x = computePhiExponentiation(z, g);
+		final GroupVector<GqElement, GqGroup> x = phi.apply(z);
 		final HashableList f = HashableList.of(HashableBigInteger.from(p), HashableBigInteger.from(q), g);
+		final GroupVector<GqElement, GqGroup> y_minus_e = GqElement.vectorExponentiationPublic(y, e.negate());
 		final GroupVector<GqElement, GqGroup> c_prime = IntStream.range(0, n)
-				.mapToObj(i -> x.get(i).multiply(y.get(i).exponentiate(e.negate())))
+				.mapToObj(i -> x.get(i).multiply(y_minus_e.get(i)))
 				.collect(toGroupVector());
 		final HashableList h_aux;
 		if (!i_aux.isEmpty()) {
@@ -16,7 +16,6 @@
 package ch.post.it.evoting.cryptoprimitives.internal.zeroknowledgeproofs;
 
 import static ch.post.it.evoting.cryptoprimitives.internal.math.Vectors.vectorAddition;
-import static ch.post.it.evoting.cryptoprimitives.internal.math.Vectors.vectorExponentiation;
 import static ch.post.it.evoting.cryptoprimitives.internal.math.Vectors.vectorMultiplication;
 import static ch.post.it.evoting.cryptoprimitives.internal.math.Vectors.vectorScalarMultiplication;
 import static ch.post.it.evoting.cryptoprimitives.internal.utils.ConversionsInternal.byteArrayToInteger;
@@ -28,6 +27,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
@@ -35,6 +35,8 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+import ch.post.it.evoting.cryptoprimitives.math.FixedBaseGqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -42,12 +44,17 @@ import ch.post.it.evoting.cryptoprimitives.math.GroupVectorElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiablePlaintextEqualityProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 
 @SuppressWarnings("java:S117")
 public class PlaintextEqualityProofService {
 
 	private static final String PLAINTEXT_EQUALITY_PROOF = "PlaintextEqualityProof";
+
+	// Minimal number of proofs for which the public keys are precomputed before a batch verification.
+	static final int PRECOMPUTATION_THRESHOLD = 16;
+
 	private final RandomService randomService;
 	private final HashService hashService;
 
@@ -179,6 +186,57 @@ public class PlaintextEqualityProofService {
 
 		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null objects.");
 
+		checkVerificationArguments(firstCiphertext, secondCiphertext, firstPublicKey, secondPublicKey, plaintextEqualityProof);
+
+		final GqElement h = firstPublicKey;
+		final GqElement h_prime = secondPublicKey;
+		return verifyPlaintextEquality(firstCiphertext, secondCiphertext, h, h_prime, plaintextEqualityProof, List.copyOf(auxiliaryInformation),
+				z -> computePhiPlaintextEquality(z, h, h_prime));
+	}
+
+	/**
+	 * @see ZeroKnowledgeProof#verifyPlaintextEqualities(GqElement, GqElement, List)
+	 */
+	public List<Integer> verifyPlaintextEqualities(final GqElement firstPublicKey, final GqElement secondPublicKey,
+			final List<VerifiablePlaintextEqualityProof> verifiablePlaintextEqualityProofs) {
+		checkNotNull(firstPublicKey);
+		checkNotNull(secondPublicKey);
+		checkNotNull(verifiablePlaintextEqualityProofs);
+		checkArgument(verifiablePlaintextEqualityProofs.stream().allMatch(Objects::nonNull), "The proofs must not contain null objects.");
+
+		final List<VerifiablePlaintextEqualityProof> proofs = List.copyOf(verifiablePlaintextEqualityProofs);
+		proofs.forEach(proof -> checkVerificationArguments(proof.firstCiphertext(), proof.secondCiphertext(), firstPublicKey, secondPublicKey,
+				proof.proof()));
+
+		final GqElement h = firstPublicKey;
+		final GqElement h_prime = secondPublicKey;
+
+		// Every proof exponentiates the same public keys, which amortizes their fixed-base tables for all but tiny batches. With the tables,
+		// h^x / h'^x' is computed as h^x * h'^-x' and needs no inversion.
+		final Function<GroupVector<ZqElement, ZqGroup>, GroupVector<GqElement, GqGroup>> phi;
+		if (proofs.size() >= PRECOMPUTATION_THRESHOLD) {
+			final GqElement g = h.getGroup().getGenerator();
+			final FixedBaseGqElement h_table = new FixedBaseGqElement(h);
+			final FixedBaseGqElement h_prime_table = new FixedBaseGqElement(h_prime);
+			phi = z -> GroupVector.of(g.exponentiatePublic(z.get(0)), g.exponentiatePublic(z.get(1)),
+					h_table.exponentiatePublic(z.get(0)).multiply(h_prime_table.exponentiatePublic(z.get(1).negate())));
+		} else {
+			phi = z -> computePhiPlaintextEquality(z, h, h_prime);
+		}
+
+		return ParallelStreams.range(0, proofs.size())
+				.filter(i -> {
+					final VerifiablePlaintextEqualityProof proof = proofs.get(i);
+					return !verifyPlaintextEquality(proof.firstCiphertext(), proof.secondCiphertext(), h, h_prime, proof.proof(),
+							proof.auxiliaryInformation(), phi);
+				})
+				.boxed()
+				.toList();
+	}
+
+	private static void checkVerificationArguments(final ElGamalMultiRecipientCiphertext firstCiphertext,
+			final ElGamalMultiRecipientCiphertext secondCiphertext, final GqElement firstPublicKey, final GqElement secondPublicKey,
+			final PlaintextEqualityProof plaintextEqualityProof) {
 		// Dimensions checking.
 		checkArgument(firstCiphertext.size() == 1, "The first ciphertext must have exactly one phi.");
 		checkArgument(secondCiphertext.size() == 1, "The second ciphertext must have exactly one phi.");
@@ -189,6 +247,12 @@ public class PlaintextEqualityProofService {
 				"The ciphertexts and public keys must all belong to the same group.");
 		checkArgument(firstCiphertext.getGroup().hasSameOrderAs(plaintextEqualityProof.get_z().getGroup()),
 				"The plaintext equality proof must have the same group order as the ciphertexts and the public keys.");
+	}
+
+	private boolean verifyPlaintextEquality(final ElGamalMultiRecipientCiphertext firstCiphertext,
+			final ElGamalMultiRecipientCiphertext secondCiphertext, final GqElement h, final GqElement h_prime,
+			final PlaintextEqualityProof plaintextEqualityProof, final List<String> i_aux,
+			final Function<GroupVector<ZqElement, ZqGroup>, GroupVector<GqElement, GqGroup>> phi) {
 
 		// Context.
 		final GqGroup gqGroup = firstCiphertext.getGroup();
@@ -201,18 +265,15 @@ public class PlaintextEqualityProofService {
 		final GqElement c_1 = firstCiphertext.get(0);
 		final GqElement c_0_prime = secondCiphertext.getGamma();
 		final GqElement c_1_prime = secondCiphertext.get(0);
-		final GqElement h = firstPublicKey;
-		final GqElement h_prime = secondPublicKey;
 		final PlaintextEqualityProof ez = plaintextEqualityProof;
-		final List<String> i_aux = List.copyOf(auxiliaryInformation);
 		final GroupVector<ZqElement, ZqGroup> z = ez.get_z();
 		final ZqElement e = ez.get_e();
 
 		// Operation.
-		final GroupVector<GqElement, GqGroup> x = computePhiPlaintextEquality(z, h, h_prime);
+		final GroupVector<GqElement, GqGroup> x = phi.apply(z);
 		final HashableList f = HashableList.of(HashableBigInteger.from(p), HashableBigInteger.from(q), g, h, h_prime);
 		final GroupVector<GqElement, GqGroup> y = GroupVector.of(c_0, c_0_prime, c_1.divide(c_1_prime));
-		final GroupVector<GqElement, GqGroup> c_prime = vectorMultiplication(x, vectorExponentiation(y, e.negate()));
+		final GroupVector<GqElement, GqGroup> c_prime = vectorMultiplication(x, GqElement.vectorExponentiationPublic(y, e.negate()));
 
 		final HashableList h_aux;
 		if (!i_aux.isEmpty()) {
@@ -28,11 +28,13 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.SchnorrProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableSchnorrProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 
 @SuppressWarnings("java:S117")
@@ -139,17 +141,56 @@ public class SchnorrProofService {
 		final BigInteger p = gqGroup.getP();
 		final BigInteger q = gqGroup.getQ();
 		final GqElement g = gqGroup.getGenerator();
+		final HashableList f = HashableList.of(HashableBigInteger.from(p), HashableBigInteger.from(q), g);
+
+		return verifySchnorrProof(proof, statement, List.copyOf(auxiliaryInformation), f);
+	}
+
+	/**
+	 * @see ZeroKnowledgeProof#verifySchnorrProofs(List)
+	 */
+	public List<Integer> verifySchnorrProofs(final List<VerifiableSchnorrProof> verifiableSchnorrProofs) {
+		checkNotNull(verifiableSchnorrProofs);
+		checkArgument(verifiableSchnorrProofs.stream().allMatch(Objects::nonNull), "The proofs must not contain null objects.");
+
+		final List<VerifiableSchnorrProof> proofs = List.copyOf(verifiableSchnorrProofs);
+		if (proofs.isEmpty()) {
+			return List.of();
+		}
+
+		// Context.
+		final GqGroup gqGroup = proofs.get(0).statement().getGroup();
+		checkArgument(proofs.stream().allMatch(proof -> proof.statement().getGroup().equals(gqGroup)), "All statements must have the same group.");
+		final BigInteger p = gqGroup.getP();
+		final BigInteger q = gqGroup.getQ();
+		final GqElement g = gqGroup.getGenerator();
+
+		// The hashable context is shared by all proofs of the batch and g^z uses the generator tables of the group.
+		final HashableList f = HashableList.of(HashableBigInteger.from(p), HashableBigInteger.from(q), g);
+
+		return ParallelStreams.range(0, proofs.size())
+				.filter(i -> {
+					final VerifiableSchnorrProof proof = proofs.get(i);
+					return !verifySchnorrProof(proof.proof(), proof.statement(), proof.auxiliaryInformation(), f);
+				})
+				.boxed()
+				.toList();
+	}
+
+	private boolean verifySchnorrProof(final SchnorrProof proof, final GqElement statement, final List<String> i_aux, final HashableList f) {
+
+		// Context.
+		final GqGroup gqGroup = statement.getGroup();
+		final GqElement g = gqGroup.getGenerator();
 
 		// Variables.
-		final List<String> i_aux = List.copyOf(auxiliaryInformation);
 		final ZqElement e = proof.get_e();
 		final ZqElement z = proof.get_z();
 		final GqElement y = statement;
 
 		// Operation.
 		final GqElement x = computePhiSchnorr(z, g);
-		final HashableList f = HashableList.of(HashableBigInteger.from(p), HashableBigInteger.from(q), g);
-		final GqElement c_prime = x.multiply(y.exponentiate(e.negate()));
+		final GqElement c_prime = x.multiply(y.exponentiatePublic(e.negate()));
 
 		final HashableList h_aux;
 		if (!i_aux.isEmpty()) {
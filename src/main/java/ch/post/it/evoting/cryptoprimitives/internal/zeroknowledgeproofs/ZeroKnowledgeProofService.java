@@ -28,24 +28,30 @@ import java.util.stream.IntStream;
 import com.google.common.annotations.VisibleForTesting;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
 import ch.post.it.evoting.cryptoprimitives.internal.utils.Verifiable;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 import ch.post.it.evoting.cryptoprimitives.utils.VerificationResult;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.DecryptionProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.SchnorrProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableDecryptions;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableExponentiationProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiablePlaintextEqualityProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableSchnorrProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 
 /**
@@ -58,26 +64,36 @@ public class ZeroKnowledgeProofService implements ZeroKnowledgeProof {
 	private final ExponentiationProofService exponentiationProofService;
 	private final PlaintextEqualityProofService plaintextEqualityProofService;
 	private final SchnorrProofService schnorrProofService;
+	private final ExecutionContext executionContext;
 
 	/**
 	 * Instantiates a zero knowledge proof service which operates in a given group.
 	 */
 	public ZeroKnowledgeProofService() {
-		final RandomService randomService = new RandomService();
-		final HashService hashService = HashService.getInstance();
+		this(ExecutionContext.getDefault());
+	}
 
-		decryptionProofService = new DecryptionProofService(randomService, hashService);
-		exponentiationProofService = new ExponentiationProofService(randomService, hashService);
-		plaintextEqualityProofService = new PlaintextEqualityProofService(randomService, hashService);
-		schnorrProofService = new SchnorrProofService(randomService, hashService);
+	/**
+	 * Instantiates a zero knowledge proof service running its operations within the given execution context.
+	 *
+	 * @param executionContext the execution context of the parallel computations. Not null.
+	 */
+	public ZeroKnowledgeProofService(final ExecutionContext executionContext) {
+		this(new RandomService(), HashService.getInstance(), executionContext);
 	}
 
 	@VisibleForTesting
 	public ZeroKnowledgeProofService(final RandomService randomService, final HashService hashService) {
+		this(randomService, hashService, ExecutionContext.getDefault());
+	}
+
+	private ZeroKnowledgeProofService(final RandomService randomService, final HashService hashService, final ExecutionContext executionContext) {
+		checkNotNull(executionContext);
 		decryptionProofService = new DecryptionProofService(randomService, hashService);
 		exponentiationProofService = new ExponentiationProofService(randomService, hashService);
 		plaintextEqualityProofService = new PlaintextEqualityProofService(randomService, hashService);
 		schnorrProofService = new SchnorrProofService(randomService, hashService);
+		this.executionContext = executionContext;
 	}
 
 	@Override
@@ -98,20 +114,56 @@ public class ZeroKnowledgeProofService implements ZeroKnowledgeProof {
 		checkArgument(l <= k, "The ciphertexts must be at most as long as the keys in the key pair.");
 		checkArgument(C.getGroup().equals(keyPair.getGroup()), "The ciphertexts and the key pair must have the same group.");
 
-		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_prime = C.stream()
-				.parallel()
-				.map(c_i -> getPartialDecryption(c_i, sk))
-				.collect(toGroupVector());
-		final GroupVector<DecryptionProof, ZqGroup> pi_dec = IntStream.range(0, C.size())
-				.parallel()
-				.mapToObj(i -> {
-					final ElGamalMultiRecipientCiphertext c_i = C.get(i);
-					final ElGamalMultiRecipientMessage phi_prime = new ElGamalMultiRecipientMessage(C_prime.get(i).getPhis());
-					return decryptionProofService.genDecryptionProof(c_i, keyPair, phi_prime, i_aux);
-				})
-				.collect(toGroupVector());
+		return executionContext.execute(() -> {
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> C_prime = ParallelStreams.stream(C)
+					.map(c_i -> getPartialDecryption(c_i, sk))
+					.collect(toGroupVector());
+			final GroupVector<DecryptionProof, ZqGroup> pi_dec = ParallelStreams.range(0, C.size())
+					.mapToObj(i -> {
+						final ElGamalMultiRecipientCiphertext c_i = C.get(i);
+						final ElGamalMultiRecipientMessage phi_prime = new ElGamalMultiRecipientMessage(C_prime.get(i).getPhis());
+						return decryptionProofService.genDecryptionProof(c_i, keyPair, phi_prime, i_aux);
+					})
+					.collect(toGroupVector());
+
+			return new VerifiableDecryptions(C_prime, pi_dec);
+		});
+	}
+
+	@Override
+	public VerifiableDecryptions genVerifiableDecryptions(final ElGamalMultiRecipientCiphertextMatrix ciphertexts,
+			final ElGamalMultiRecipientKeyPair keyPair, final List<String> auxiliaryInformation) {
+		checkNotNull(ciphertexts);
+		checkNotNull(keyPair);
+		checkNotNull(auxiliaryInformation);
+
+		final ElGamalMultiRecipientCiphertextMatrix C = ciphertexts;
+		final ElGamalMultiRecipientPrivateKey sk = keyPair.getPrivateKey();
+		final List<String> i_aux = auxiliaryInformation;
+		final int N = C.size();
+		final int l = C.getElementSize();
+		final int k = sk.size();
+
+		// Cross-checks
+		checkArgument(l <= k, "The ciphertexts must be at most as long as the keys in the key pair.");
+		checkArgument(C.getGroup().equals(keyPair.getGroup()), "The ciphertexts and the key pair must have the same group.");
+
+		return executionContext.execute(() -> {
+			// Each partial decryption is stored in the matrix and proven while at hand, instead of being decoded back from the matrix.
+			final ElGamalMultiRecipientCiphertextMatrix.Builder C_prime = ElGamalMultiRecipientCiphertextMatrix.builder(C.getGroup(), N, l,
+					C.getStorage());
+			final GroupVector<DecryptionProof, ZqGroup> pi_dec = ParallelStreams.range(0, N)
+					.mapToObj(i -> {
+						final ElGamalMultiRecipientCiphertext c_i = C.get(i);
+						final ElGamalMultiRecipientCiphertext c_i_prime = getPartialDecryption(c_i, sk);
+						C_prime.set(i, c_i_prime);
+						final ElGamalMultiRecipientMessage phi_prime = new ElGamalMultiRecipientMessage(c_i_prime.getPhis());
+						return decryptionProofService.genDecryptionProof(c_i, keyPair, phi_prime, i_aux);
+					})
+					.collect(toGroupVector());
 
-		return new VerifiableDecryptions(C_prime, pi_dec);
+			return new VerifiableDecryptions(C_prime.build().asGroupVector(), pi_dec);
+		});
 	}
 
 	@Override
@@ -145,61 +197,76 @@ public class ZeroKnowledgeProofService implements ZeroKnowledgeProof {
 		checkArgument(pk.getGroup().equals(gqGroup), "The public key must have the same group as the ciphertexts.");
 
 		// Algorithm
-		final Verifiable result = IntStream.range(0, N)
-				.parallel()
-				.mapToObj(i -> {
-					final ElGamalMultiRecipientCiphertext c_i = C.get(i);
-					final ElGamalMultiRecipientCiphertext c_i_prime = C_prime.get(i);
-					final GqElement gamma = c_i.getGamma();
-					final GqElement gamma_prime = c_i_prime.getGamma();
-					if (!gamma.equals(gamma_prime)) {
-						return Verifiable.create(() -> false, "γ is different from γ'.");
-					}
-
-					final DecryptionProof pi_dec_i = pi_dec.get(i);
-					final ElGamalMultiRecipientMessage m = new ElGamalMultiRecipientMessage(c_i_prime.getPhis());
-					return decryptionProofService.verifyDecryption(c_i, pk, m, pi_dec_i, i_aux);
-				}).reduce(Verifiable.create(() -> true, "This state is impossible to reach and indicates a bug."), Verifiable::and);
+		final VerificationResult gammasResult = IntStream.range(0, N)
+				.mapToObj(i -> Verifiable.create(() -> C.get(i).getGamma().equals(C_prime.get(i).getGamma()), "γ is different from γ'."))
+				.reduce(Verifiable.create(() -> true, "This state is impossible to reach and indicates a bug."), Verifiable::and)
+				.verify();
+		if (!gammasResult.isVerified()) {
+			return gammasResult;
+		}
 
-		return result.verify();
+		final List<ElGamalMultiRecipientMessage> m = C_prime.stream()
+				.map(c_i_prime -> new ElGamalMultiRecipientMessage(c_i_prime.getPhis()))
+				.toList();
+		return executionContext.execute(() -> decryptionProofService.verifyDecryptions(C, pk, m, pi_dec, i_aux).verify());
 	}
 
 	@Override
 	public ExponentiationProof genExponentiationProof(final GroupVector<GqElement, GqGroup> bases, final ZqElement exponent,
 			final GroupVector<GqElement, GqGroup> exponentiations, final List<String> auxiliaryInformation) {
-		return exponentiationProofService.genExponentiationProof(bases, exponent, exponentiations, auxiliaryInformation);
+		return executionContext.execute(
+				() -> exponentiationProofService.genExponentiationProof(bases, exponent, exponentiations, auxiliaryInformation));
 	}
 
 	@Override
 	public boolean verifyExponentiation(final GroupVector<GqElement, GqGroup> bases, final GroupVector<GqElement, GqGroup> exponentiations,
 			final ExponentiationProof proof, final List<String> auxiliaryInformation) {
-		return exponentiationProofService.verifyExponentiation(bases, exponentiations, proof, auxiliaryInformation);
+		return executionContext.execute(
+				() -> exponentiationProofService.verifyExponentiation(bases, exponentiations, proof, auxiliaryInformation));
+	}
+
+	@Override
+	public List<Integer> verifyExponentiations(final GroupVector<GqElement, GqGroup> bases,
+			final List<VerifiableExponentiationProof> verifiableExponentiationProofs) {
+		return executionContext.execute(() -> exponentiationProofService.verifyExponentiations(bases, verifiableExponentiationProofs));
 	}
 
 	@Override
 	public PlaintextEqualityProof genPlaintextEqualityProof(final ElGamalMultiRecipientCiphertext firstCiphertext,
 			final ElGamalMultiRecipientCiphertext secondCiphertext, final GqElement firstPublicKey, final GqElement secondPublicKey,
 			final GroupVector<ZqElement, ZqGroup> randomness, final List<String> auxiliaryInformation) {
-		return plaintextEqualityProofService
-				.genPlaintextEqualityProof(firstCiphertext, secondCiphertext, firstPublicKey, secondPublicKey, randomness, auxiliaryInformation);
+		return executionContext.execute(() -> plaintextEqualityProofService
+				.genPlaintextEqualityProof(firstCiphertext, secondCiphertext, firstPublicKey, secondPublicKey, randomness, auxiliaryInformation));
 	}
 
 	@Override
 	public boolean verifyPlaintextEquality(final ElGamalMultiRecipientCiphertext firstCiphertext,
 			final ElGamalMultiRecipientCiphertext secondCiphertext, final GqElement firstPublicKey, final GqElement secondPublicKey,
 			final PlaintextEqualityProof plaintextEqualityProof, final List<String> auxiliaryInformation) {
-		return plaintextEqualityProofService.verifyPlaintextEquality(firstCiphertext, secondCiphertext, firstPublicKey, secondPublicKey,
-				plaintextEqualityProof, auxiliaryInformation);
+		return executionContext.execute(() -> plaintextEqualityProofService.verifyPlaintextEquality(firstCiphertext, secondCiphertext, firstPublicKey,
+				secondPublicKey, plaintextEqualityProof, auxiliaryInformation));
+	}
+
+	@Override
+	public List<Integer> verifyPlaintextEqualities(final GqElement firstPublicKey, final GqElement secondPublicKey,
+			final List<VerifiablePlaintextEqualityProof> verifiablePlaintextEqualityProofs) {
+		return executionContext.execute(
+				() -> plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, secondPublicKey, verifiablePlaintextEqualityProofs));
 	}
 
 	@Override
 	public SchnorrProof genSchnorrProof(final ZqElement witness, final GqElement statement, final List<String> auxiliaryInformation) {
-		return schnorrProofService.genSchnorrProof(witness, statement, auxiliaryInformation);
+		return executionContext.execute(() -> schnorrProofService.genSchnorrProof(witness, statement, auxiliaryInformation));
 	}
 
 	@Override
 	public boolean verifySchnorrProof(final SchnorrProof proof, final GqElement statement, final List<String> auxiliaryInformation) {
-		return schnorrProofService.verifySchnorrProof(proof, statement, auxiliaryInformation);
+		return executionContext.execute(() -> schnorrProofService.verifySchnorrProof(proof, statement, auxiliaryInformation));
+	}
+
+	@Override
+	public List<Integer> verifySchnorrProofs(final List<VerifiableSchnorrProof> verifiableSchnorrProofs) {
+		return executionContext.execute(() -> schnorrProofService.verifySchnorrProofs(verifiableSchnorrProofs));
 	}
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.math;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.FixedBaseExponentiation;
+
+/**
+ * A {@link GqElement} together with precomputed fixed-base tables, which speed up repeated exponentiations of this same element.
+ *
+ * <p>The tables occupy roughly (|q| / 4) &times; 16 elements of G<sub>q</sub>, i.e. a few megabytes for a 3072-bit group. Building them costs
+ * about as much as a handful of regular exponentiations, hence they should only be used for bases that are exponentiated many times.</p>
+ *
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ */
+public final class FixedBaseGqElement {
+
+	private final GqElement base;
+	private final FixedBaseExponentiation tables;
+
+	/**
+	 * Precomputes the fixed-base tables of the given element.
+	 *
+	 * @param base the element to be exponentiated repeatedly. Must be non-null.
+	 * @throws NullPointerException if the base is null.
+	 */
+	public FixedBaseGqElement(final GqElement base) {
+		checkNotNull(base);
+
+		final GqGroup group = base.getGroup();
+		this.base = base;
+		this.tables = new FixedBaseExponentiation(base.getValue(), group.getP(), group.getQ().bitLength());
+	}
+
+	/**
+	 * Exponentiates the base by the given exponent using the precomputed tables. Every entry of the tables is read regardless of the exponent.
+	 *
+	 * @param exponent the exponent. Must be non-null and of the same group order as the base.
+	 * @return the base raised to the exponent, equal to {@code getBase().exponentiate(exponent)}.
+	 * @throws NullPointerException     if the exponent is null.
+	 * @throws IllegalArgumentException if the exponent does not have the same group order as the base.
+	 */
+	public GqElement exponentiate(final ZqElement exponent) {
+		checkNotNull(exponent);
+		checkArgument(base.getGroup().hasSameOrderAs(exponent.getGroup()));
+
+		final BigInteger valueExponentiated = tables.exponentiate(exponent.getValue());
+		return new GqElement(valueExponentiated, base.getGroup());
+	}
+
+	/**
+	 * Exponentiates the base by the given public exponent using the precomputed tables. The result is the same as
+	 * {@link #exponentiate(ZqElement)}, but only the table entries of the exponent's digits are read. This method must therefore only be used when
+	 * the exponent is public, for instance when verifying a proof.
+	 *
+	 * @param exponent the public exponent. Must be non-null and of the same group order as the base.
+	 * @return the base raised to the exponent, equal to {@code getBase().exponentiatePublic(exponent)}.
+	 * @throws NullPointerException     if the exponent is null.
+	 * @throws IllegalArgumentException if the exponent does not have the same group order as the base.
+	 */
+	public GqElement exponentiatePublic(final ZqElement exponent) {
+		checkNotNull(exponent);
+		checkArgument(base.getGroup().hasSameOrderAs(exponent.getGroup()));
+
+		final BigInteger valueExponentiated = tables.exponentiatePublic(exponent.getValue());
+		return new GqElement(valueExponentiated, base.getGroup());
+	}
+
+	/**
+	 * Computes the product of the powers of the given bases using their precomputed tables. The result is the same as
+	 * {@link GqElement#multiModExp(GroupVector, GroupVector)} over the bases of the given elements.
+	 *
+	 * @param bases     the precomputed bases. Must be non-null, non-empty and of the same group.
+	 * @param exponents the exponents. Must be non-null, of the same size as the bases and of the same group order.
+	 * @return the product b<sub>0</sub><sup>e<sub>0</sub></sup> &middot; ... &middot; b<sub>n-1</sub><sup>e<sub>n-1</sub></sup>.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the bases are empty or not of the same group, or the exponents are of another size or group order.
+	 */
+	public static GqElement multiExponentiate(final List<FixedBaseGqElement> bases, final GroupVector<ZqElement, ZqGroup> exponents) {
+		checkNotNull(bases);
+		checkNotNull(exponents);
+		checkArgument(!bases.isEmpty(), "The bases must not be empty.");
+		checkArgument(bases.size() == exponents.size(), "The bases and exponents must have the same size.");
+
+		final GqGroup group = bases.get(0).getGroup();
+		checkArgument(bases.stream().allMatch(base -> base.getGroup().equals(group)), "All bases must have the same group.");
+		checkArgument(group.hasSameOrderAs(exponents.getGroup()), "The bases and exponents must have the same group order.");
+
+		final BigInteger valueExponentiated = FixedBaseExponentiation.multiExponentiate(
+				bases.stream().map(base -> base.tables).toList(),
+				exponents.stream().map(ZqElement::getValue).toList());
+		return new GqElement(valueExponentiated, group);
+	}
+
+	/**
+	 * Estimates the memory occupied by the tables of an element of the given group, without building them.
+	 *
+	 * @param group the group of the element. Must be non-null.
+	 * @return the estimated size of the tables in bytes.
+	 */
+	public static long estimateSize(final GqGroup group) {
+		checkNotNull(group);
+		return FixedBaseExponentiation.estimateTableSize(group.getP().bitLength(), group.getQ().bitLength());
+	}
+
+	public GqElement getBase() {
+		return base;
+	}
+
+	public GqGroup getGroup() {
+		return base.getGroup();
+	}
+}
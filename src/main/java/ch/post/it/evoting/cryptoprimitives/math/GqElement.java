@@ -19,8 +19,14 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
 
 import ch.post.it.evoting.cryptoprimitives.internal.math.BigIntegerOperationsService;
+import ch.post.it.evoting.cryptoprimitives.internal.math.MontgomeryForm;
 
 /**
  * Defines a Gq group element, ie elements of the quadratic residue group of order q and mod p.
@@ -30,9 +36,9 @@ import ch.post.it.evoting.cryptoprimitives.internal.math.BigIntegerOperationsSer
 @SuppressWarnings("java:S117")
 public final class GqElement extends MultiplicativeGroupElement {
 
-	// Private constructor without input validation. Used only for operations that provide a mathematical guarantee that the element is within the
-	// group (such as multiplying two elements of the same group).
-	private GqElement(final BigInteger value, final GqGroup group) {
+	// Package-private constructor without input validation. Used only for operations that provide a mathematical guarantee that the element is within
+	// the group (such as multiplying two elements of the same group).
+	GqElement(final BigInteger value, final GqGroup group) {
 		super(value, group);
 	}
 
@@ -56,10 +62,165 @@ public final class GqElement extends MultiplicativeGroupElement {
 		checkNotNull(exponent);
 		checkArgument(isOfSameOrderGroup(exponent));
 
-		final BigInteger valueExponentiated = BigIntegerOperationsService.modExponentiate(value, exponent.getValue(), this.group.getP());
+		final BigInteger valueExponentiated;
+		if (value.equals(this.group.getGenerator().value)) {
+			valueExponentiated = this.group.exponentiateGenerator(exponent.getValue());
+		} else {
+			valueExponentiated = BigIntegerOperationsService.modExponentiate(value, exponent.getValue(), this.group.getP());
+		}
 		return new GqElement(valueExponentiated, this.group);
 	}
 
+	/**
+	 * Exponentiates this element in variable time. The result is the same as {@link #exponentiate(ZqElement)}.
+	 * <p>
+	 * The running time depends on the value of the exponent. This method must therefore only be used when both this element and the exponent are
+	 * public, for instance when verifying a proof, and never with a secret exponent.
+	 *
+	 * @param exponent the public exponent. Must be non-null and of the same group order as this element.
+	 * @return this element raised to the exponent.
+	 * @throws NullPointerException     if the exponent is null.
+	 * @throws IllegalArgumentException if the exponent does not have the same group order as this element.
+	 */
+	public GqElement exponentiatePublic(final ZqElement exponent) {
+		checkNotNull(exponent);
+		checkArgument(isOfSameOrderGroup(exponent));
+
+		final BigInteger valueExponentiated;
+		if (value.equals(this.group.getGenerator().value)) {
+			valueExponentiated = this.group.exponentiateGeneratorPublic(exponent.getValue());
+		} else {
+			valueExponentiated = BigIntegerOperationsService.modExponentiatePublic(value, exponent.getValue(), this.group.getP());
+		}
+		return new GqElement(valueExponentiated, this.group);
+	}
+
+	/**
+	 * Computes the product of the bases raised to their corresponding exponent, b<sub>0</sub><sup>e<sub>0</sub></sup> &middot; ... &middot;
+	 * b<sub>n-1</sub><sup>e<sub>n-1</sub></sup>. Every power is computed as by {@link #exponentiate(ZqElement)}, hence the exponents may be secret.
+	 *
+	 * @param bases     (b<sub>0</sub>, ..., b<sub>n-1</sub>), the bases. Must be non-null and non-empty.
+	 * @param exponents (e<sub>0</sub>, ..., e<sub>n-1</sub>), the exponents. Must be non-null, of the same size as the bases and of the same group
+	 *                  order.
+	 * @return the product of the powers.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the bases are empty, the sizes differ or the groups do not have the same order.
+	 */
+	public static GqElement multiModExp(final GroupVector<GqElement, GqGroup> bases, final GroupVector<ZqElement, ZqGroup> exponents) {
+		return multiModExp(bases, exponents, false);
+	}
+
+	/**
+	 * Computes the product of the bases raised to their corresponding exponent in variable time. The result is the same as
+	 * {@link #multiModExp(GroupVector, GroupVector)}, but from a handful of bases on the powers are computed with a simultaneous
+	 * multi-exponentiation, which is considerably cheaper. As for {@link #exponentiatePublic(ZqElement)}, the bases and the exponents must be
+	 * public.
+	 *
+	 * @param bases     (b<sub>0</sub>, ..., b<sub>n-1</sub>), the bases. Must be non-null and non-empty.
+	 * @param exponents (e<sub>0</sub>, ..., e<sub>n-1</sub>), the public exponents. Must be non-null, of the same size as the bases and of the same
+	 *                  group order.
+	 * @return the product of the powers.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the bases are empty, the sizes differ or the groups do not have the same order.
+	 */
+	public static GqElement multiModExpPublic(final GroupVector<GqElement, GqGroup> bases, final GroupVector<ZqElement, ZqGroup> exponents) {
+		return multiModExp(bases, exponents, true);
+	}
+
+	private static GqElement multiModExp(final GroupVector<GqElement, GqGroup> bases, final GroupVector<ZqElement, ZqGroup> exponents,
+			final boolean isPublic) {
+		checkNotNull(bases);
+		checkNotNull(exponents);
+		checkArgument(!bases.isEmpty(), "The bases must not be empty.");
+		checkArgument(bases.size() == exponents.size(), "The bases and exponents must have the same size.");
+		checkArgument(bases.getGroup().hasSameOrderAs(exponents.getGroup()), "The bases and exponents must have the same group order.");
+
+		final GqGroup group = bases.getGroup();
+		final List<BigInteger> baseValues = bases.stream().map(GqElement::getValue).toList();
+		final List<BigInteger> exponentValues = exponents.stream().map(ZqElement::getValue).toList();
+
+		final BigInteger resultValue = isPublic
+				? BigIntegerOperationsService.multiModExpPublic(baseValues, exponentValues, group.getMontgomeryForm())
+				: BigIntegerOperationsService.multiModExp(baseValues, exponentValues, group.getP());
+		return new GqElement(resultValue, group);
+	}
+
+	/**
+	 * Exponentiates every element of the vector by the same exponent. The result is the same as exponentiating each element individually, but the
+	 * exponentiations are computed as a single batch.
+	 *
+	 * @param bases    the elements to exponentiate. Must be non-null.
+	 * @param exponent the exponent. Must be non-null and of the same group order as the bases.
+	 * @return the vector of the exponentiated elements, in the same order and of the same group as the bases.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the exponent does not have the same group order as the bases.
+	 */
+	public static GroupVector<GqElement, GqGroup> vectorExponentiation(final GroupVector<GqElement, GqGroup> bases, final ZqElement exponent) {
+		return vectorExponentiation(bases, exponent, false);
+	}
+
+	/**
+	 * Exponentiates every element of the vector by the same exponent in variable time. The result is the same as
+	 * {@link #vectorExponentiation(GroupVector, ZqElement)} but, as for {@link #exponentiatePublic(ZqElement)}, the bases and the exponent must be
+	 * public.
+	 *
+	 * @param bases    the elements to exponentiate. Must be non-null.
+	 * @param exponent the public exponent. Must be non-null and of the same group order as the bases.
+	 * @return the vector of the exponentiated elements, in the same order and of the same group as the bases.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the exponent does not have the same group order as the bases.
+	 */
+	public static GroupVector<GqElement, GqGroup> vectorExponentiationPublic(final GroupVector<GqElement, GqGroup> bases,
+			final ZqElement exponent) {
+		return vectorExponentiation(bases, exponent, true);
+	}
+
+	private static GroupVector<GqElement, GqGroup> vectorExponentiation(final GroupVector<GqElement, GqGroup> bases, final ZqElement exponent,
+			final boolean isPublic) {
+		checkNotNull(bases);
+		checkNotNull(exponent);
+
+		if (bases.isEmpty()) {
+			return bases;
+		}
+		checkArgument(bases.getGroup().hasSameOrderAs(exponent.getGroup()), "The bases and exponent must have the same group order.");
+
+		final GqGroup group = bases.getGroup();
+		final List<BigInteger> baseValues = bases.stream().map(GqElement::getValue).toList();
+		final List<BigInteger> exponentValues = Collections.nCopies(baseValues.size(), exponent.getValue());
+
+		final List<BigInteger> resultValues = isPublic
+				? BigIntegerOperationsService.batchModExponentiatePublic(baseValues, exponentValues, group.getP())
+				: BigIntegerOperationsService.batchModExponentiate(baseValues, exponentValues, group.getP());
+		return resultValues.stream()
+				.map(resultValue -> new GqElement(resultValue, group))
+				.collect(GroupVector.toGroupVector());
+	}
+
+	/**
+	 * Returns a collector computing the product of the collected elements. The intermediate products are Montgomery products in the group's
+	 * cached Montgomery form, which is cheaper than reducing every intermediate product modulo p. On a parallel stream, the partial products
+	 * are combined in parallel as well.
+	 *
+	 * @param group the group of the elements. Must be non-null.
+	 * @return a collector whose result is the product of the elements, or the identity if there are none.
+	 * @throws NullPointerException     if the group is null.
+	 * @throws IllegalArgumentException when collecting, if an element does not belong to the group.
+	 */
+	public static Collector<GqElement, ?, GqElement> toProduct(final GqGroup group) {
+		checkNotNull(group);
+
+		final MontgomeryForm montgomeryForm = group.getMontgomeryForm();
+		return Collector.of(
+				montgomeryForm::newProduct,
+				(product, factor) -> {
+					checkArgument(factor.getGroup().equals(group), "All the factors must belong to the same group.");
+					product.multiply(factor.getValue());
+				},
+				MontgomeryForm.Product::combine,
+				product -> new GqElement(product.get(), group));
+	}
+
 	private boolean isOfSameOrderGroup(final ZqElement exponent) {
 		return this.group.hasSameOrderAs(exponent.getGroup());
 	}
@@ -93,6 +254,56 @@ public final class GqElement extends MultiplicativeGroupElement {
 		return this.multiply(divisor.invert());
 	}
 
+	/**
+	 * Inverts every element of the vector. The result is the same as inverting each element individually, but only a single modular inversion is
+	 * computed for the whole vector.
+	 *
+	 * @param elements the elements to invert. Must be non-null.
+	 * @return the vector of the inverted elements, in the same order and of the same group as the given elements.
+	 * @throws NullPointerException if the elements are null.
+	 */
+	public static GroupVector<GqElement, GqGroup> vectorInversion(final GroupVector<GqElement, GqGroup> elements) {
+		checkNotNull(elements);
+
+		if (elements.isEmpty()) {
+			return elements;
+		}
+
+		final GqGroup group = elements.getGroup();
+		final List<BigInteger> values = elements.stream().map(GqElement::getValue).toList();
+
+		return BigIntegerOperationsService.batchModInvert(values, group.getP()).stream()
+				.map(invertedValue -> new GqElement(invertedValue, group))
+				.collect(GroupVector.toGroupVector());
+	}
+
+	/**
+	 * Divides every element of the dividends by the element of the divisors at the same position. The result is the same as calling
+	 * {@link #divide(GqElement)} for every pair, but the divisors are inverted as a single batch.
+	 *
+	 * @param dividends the elements to divide. Must be non-null.
+	 * @param divisors  the elements by which to divide. Must be non-null, of the same size and of the same group as the dividends.
+	 * @return the vector of the quotients, in the same order and of the same group as the dividends.
+	 * @throws NullPointerException     if any of the arguments is null.
+	 * @throws IllegalArgumentException if the vectors do not have the same size or the same group.
+	 */
+	public static GroupVector<GqElement, GqGroup> vectorDivision(final GroupVector<GqElement, GqGroup> dividends,
+			final GroupVector<GqElement, GqGroup> divisors) {
+		checkNotNull(dividends);
+		checkNotNull(divisors);
+		checkArgument(dividends.size() == divisors.size(), "The dividends and divisors must have the same size.");
+
+		if (dividends.isEmpty()) {
+			return dividends;
+		}
+		checkArgument(dividends.getGroup().equals(divisors.getGroup()), "The dividends and divisors must have the same group.");
+
+		final GroupVector<GqElement, GqGroup> inverses = vectorInversion(divisors);
+		return IntStream.range(0, dividends.size())
+				.mapToObj(i -> dividends.get(i).multiply(inverses.get(i)))
+				.collect(GroupVector.toGroupVector());
+	}
+
 	@Override
 	public String toString() {
 		return "GqElement [value=" + value + "," + group.toString() + "]";
@@ -119,6 +330,35 @@ public final class GqElement extends MultiplicativeGroupElement {
 			return new GqElement(value, group);
 		}
 
+		/**
+		 * Creates a vector of {@code GqElement}s. The membership of all values is checked as a single batch.
+		 *
+		 * @param values the values of the elements. Must not be null and must all be elements of the group.
+		 * @param group  the {@link GqGroup} to which the elements belong. Must be non-null.
+		 * @return a new vector of GqElements with the specified values in the given group
+		 * @throws NullPointerException     if any of the arguments is null
+		 * @throws IllegalArgumentException if the values contain nulls or any of the values is not an element of the group
+		 */
+		public static GroupVector<GqElement, GqGroup> fromValues(final List<BigInteger> values, final GqGroup group) {
+			checkNotNull(values);
+			checkNotNull(group);
+			checkArgument(values.stream().allMatch(Objects::nonNull), "The values must not contain nulls.");
+
+			final BigInteger p = group.getP();
+			values.forEach(value -> checkArgument(value.signum() > 0 && value.compareTo(p) < 0,
+					"Cannot create a GroupElement with value %s as it is not an element of group %s", value, group));
+
+			final List<Integer> jacobiSymbols = BigIntegerOperationsService.batchGetJacobi(values, p);
+			for (int i = 0; i < values.size(); i++) {
+				checkArgument(jacobiSymbols.get(i) == 1, "Cannot create a GroupElement with value %s as it is not an element of group %s",
+						values.get(i), group);
+			}
+
+			return values.stream()
+					.map(value -> new GqElement(value, group))
+					.collect(GroupVector.toGroupVector());
+		}
+
 		/**
 		 * Creates a GqElement from a BigInteger by squaring it modulo p.
 		 *
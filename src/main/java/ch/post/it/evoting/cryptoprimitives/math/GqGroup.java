@@ -22,12 +22,18 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
-import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
+import ch.post.it.evoting.cryptoprimitives.hashing.ImmutableHashableList;
 import ch.post.it.evoting.cryptoprimitives.internal.math.BigIntegerOperationsService;
+import ch.post.it.evoting.cryptoprimitives.internal.math.FixedBaseExponentiation;
 import ch.post.it.evoting.cryptoprimitives.internal.math.MathematicalGroup;
+import ch.post.it.evoting.cryptoprimitives.internal.math.MontgomeryForm;
 import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SecurityLevelConfig;
 import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SecurityLevelInternal;
 
@@ -37,9 +43,21 @@ import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SecurityLevelI
  *
  * <p>A group can have multiple generators, which can generate all members of the group through exponentiation.
  *
+ * <p>Groups obtained through {@link #of(BigInteger, BigInteger, BigInteger)} are canonical: as long as a group is reachable, its parameters are
+ * not validated again and the same instance is returned for the same parameters, for which {@link #equals(Object)} reduces to a reference
+ * comparison.
+ *
  * <p>Instances of this class are immutable.
  */
-public final class GqGroup implements MathematicalGroup<GqGroup>, HashableList {
+public final class GqGroup implements MathematicalGroup<GqGroup>, ImmutableHashableList {
+
+	// Number of generator exponentiations after which the generator's fixed-base tables are built. Building the tables costs roughly as much
+	// as a few exponentiations, hence groups that are only used once do not pay for them.
+	static final int GENERATOR_TABLES_THRESHOLD = 8;
+
+	// The canonical groups, indexed by their parameters. The groups are held weakly, so that the registry does not retain groups, and their
+	// generator tables, which are no longer used.
+	private static final Cache<List<BigInteger>, GqGroup> CANONICAL_GROUPS = CacheBuilder.newBuilder().weakValues().build();
 
 	private final BigInteger p;
 
@@ -49,6 +67,14 @@ public final class GqGroup implements MathematicalGroup<GqGroup>, HashableList {
 
 	private final GqElement identity;
 
+	private final ZqGroup zqGroup;
+
+	private final AtomicInteger generatorExponentiations = new AtomicInteger();
+
+	private volatile FixedBaseExponentiation generatorTables;
+
+	private volatile MontgomeryForm montgomeryForm;
+
 	/***
 	 * @param p The modulus.
 	 * @param q The order of the group.
@@ -70,10 +96,7 @@ public final class GqGroup implements MathematicalGroup<GqGroup>, HashableList {
 		checkNotNull(q, "Group Gq parameter q should not be null");
 		checkNotNull(g, "Group Gq parameter g should not be null");
 
-		final SecurityLevelInternal securityLevel = SecurityLevelConfig.getSystemSecurityLevel();
-		checkArgument(securityLevel == SecurityLevelInternal.TESTING_ONLY || securityLevel.getPBitLength() == p.bitLength(),
-				"The given p bit length does not correspond to the given security level. [|p|: got %s, expected %s]", p.bitLength(),
-				securityLevel.getPBitLength());
+		final SecurityLevelInternal securityLevel = checkSecurityLevel(p);
 
 		//Validate p
 		checkArgument(p.isProbablePrime(securityLevel.getSecurityLevelBits()), "Group Gq parameter p must be prime");
@@ -94,6 +117,48 @@ public final class GqGroup implements MathematicalGroup<GqGroup>, HashableList {
 		generator = GqElementFactory.fromValue(g, this);
 
 		identity = GqElementFactory.fromValue(BigInteger.ONE, this);
+
+		zqGroup = ZqGroup.of(q);
+	}
+
+	/**
+	 * Returns the canonical group of the given parameters. The parameters are validated as in {@link #GqGroup(BigInteger, BigInteger, BigInteger)}
+	 * the first time they are given, later calls with the same parameters return the same instance without repeating the primality tests, as
+	 * long as that instance is reachable.
+	 *
+	 * @param p The modulus.
+	 * @param q The order of the group.
+	 * @param g A generator of the group.
+	 * @return the canonical group of (p, q, g).
+	 * @throws NullPointerException     if any argument is null.
+	 * @throws IllegalArgumentException if the parameters do not satisfy the preconditions of {@link #GqGroup(BigInteger, BigInteger, BigInteger)}.
+	 */
+	public static GqGroup of(final BigInteger p, final BigInteger q, final BigInteger g) {
+		checkNotNull(p, "Group Gq parameter p should not be null");
+		checkNotNull(q, "Group Gq parameter q should not be null");
+		checkNotNull(g, "Group Gq parameter g should not be null");
+
+		// The bit length of p depends on the security level, which is checked again for the groups already validated.
+		checkSecurityLevel(p);
+
+		final List<BigInteger> parameters = List.of(p, q, g);
+		final GqGroup group = CANONICAL_GROUPS.getIfPresent(parameters);
+		if (group != null) {
+			return group;
+		}
+		// The group is validated outside of the map, so that the primality tests do not block the registration of other groups. Threads validating
+		// the same parameters concurrently all return the first registered instance.
+		final GqGroup validatedGroup = new GqGroup(p, q, g);
+		final GqGroup registeredGroup = CANONICAL_GROUPS.asMap().putIfAbsent(parameters, validatedGroup);
+		return registeredGroup != null ? registeredGroup : validatedGroup;
+	}
+
+	private static SecurityLevelInternal checkSecurityLevel(final BigInteger p) {
+		final SecurityLevelInternal securityLevel = SecurityLevelConfig.getSystemSecurityLevel();
+		checkArgument(securityLevel == SecurityLevelInternal.TESTING_ONLY || securityLevel.getPBitLength() == p.bitLength(),
+				"The given p bit length does not correspond to the given security level. [|p|: got %s, expected %s]", p.bitLength(),
+				securityLevel.getPBitLength());
+		return securityLevel;
 	}
 
 	/**
@@ -132,6 +197,85 @@ public final class GqGroup implements MathematicalGroup<GqGroup>, HashableList {
 		return this.q;
 	}
 
+	/**
+	 * @return the interned group of integers modulo q, held by this group so that it is looked up only once.
+	 */
+	ZqGroup getZqGroup() {
+		return zqGroup;
+	}
+
+	/**
+	 * Exponentiates the generator of this group. Once the generator has been exponentiated {@value #GENERATOR_TABLES_THRESHOLD} times, the
+	 * exponentiation uses precomputed fixed-base tables held by this group. Every entry of the tables is read regardless of the exponent, hence the
+	 * exponent may be secret.
+	 *
+	 * @param exponent the exponent, in the range [0, q).
+	 * @return g<sup>exponent</sup> mod p.
+	 */
+	BigInteger exponentiateGenerator(final BigInteger exponent) {
+		final FixedBaseExponentiation tables = getGeneratorTablesIfUsed();
+		return tables == null
+				? BigIntegerOperationsService.modExponentiate(generator.getValue(), exponent, p)
+				: tables.exponentiate(exponent);
+	}
+
+	/**
+	 * Exponentiates the generator of this group by a public exponent. As in {@link #exponentiateGenerator(BigInteger)}, the precomputed tables are
+	 * used once the generator has been exponentiated {@value #GENERATOR_TABLES_THRESHOLD} times, but their lookups depend on the exponent. Secret
+	 * exponents must not be given to this method.
+	 *
+	 * @param exponent the public exponent, in the range [0, q).
+	 * @return g<sup>exponent</sup> mod p.
+	 */
+	BigInteger exponentiateGeneratorPublic(final BigInteger exponent) {
+		final FixedBaseExponentiation tables = getGeneratorTablesIfUsed();
+		return tables == null
+				? BigIntegerOperationsService.modExponentiatePublic(generator.getValue(), exponent, p)
+				: tables.exponentiatePublic(exponent);
+	}
+
+	/**
+	 * Counts a generator exponentiation and returns the generator tables, built once the threshold is reached, or null below it.
+	 */
+	private FixedBaseExponentiation getGeneratorTablesIfUsed() {
+		final FixedBaseExponentiation tables = generatorTables;
+		if (tables != null) {
+			return tables;
+		}
+		return generatorExponentiations.incrementAndGet() < GENERATOR_TABLES_THRESHOLD ? null : getGeneratorTables();
+	}
+
+	private FixedBaseExponentiation getGeneratorTables() {
+		FixedBaseExponentiation tables = generatorTables;
+		if (tables == null) {
+			synchronized (this) {
+				tables = generatorTables;
+				if (tables == null) {
+					tables = new FixedBaseExponentiation(generator.getValue(), p, q.bitLength());
+					generatorTables = tables;
+				}
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * @return the Montgomery representation modulo p, computed on first use and then shared by all the elements of this group.
+	 */
+	MontgomeryForm getMontgomeryForm() {
+		MontgomeryForm form = montgomeryForm;
+		if (form == null) {
+			synchronized (this) {
+				form = montgomeryForm;
+				if (form == null) {
+					form = new MontgomeryForm(p);
+					montgomeryForm = form;
+				}
+			}
+		}
+		return form;
+	}
+
 	@Override
 	public boolean equals(final Object o) {
 		if (this == o) {
@@ -17,13 +17,14 @@
  */
 package ch.post.it.evoting.cryptoprimitives.math;
 
-import static ch.post.it.evoting.cryptoprimitives.math.GroupVector.toGroupVector;
 import static ch.post.it.evoting.cryptoprimitives.utils.Validations.allEqual;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.AbstractList;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -53,6 +54,15 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 	private final int elementSize;
 
 	private GroupMatrix(final List<GroupVector<E, G>> rows) {
+		this.rows = rows;
+		this.numRows = rows.size();
+		this.numColumns = rows.get(0).size();
+		this.group = rows.get(0).get(0).getGroup();
+		this.elementSize = rows.get(0).get(0).size();
+	}
+
+	private static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupMatrix<E, G> validated(
+			final List<GroupVector<E, G>> rows) {
 		// Null checking.
 		checkNotNull(rows);
 		checkArgument(rows.stream().allMatch(Objects::nonNull), "A matrix cannot contain a null row.");
@@ -65,11 +75,15 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 		// Group checking.
 		checkArgument(allEqual(rows.stream(), GroupVector::getGroup), "All elements of the matrix must be in the same group.");
 
-		this.rows = rows;
-		this.numRows = rows.size();
-		this.numColumns = rows.get(0).size();
-		this.group = rows.get(0).get(0).getGroup();
-		this.elementSize = rows.get(0).get(0).size();
+		return new GroupMatrix<>(rows);
+	}
+
+	/**
+	 * Returns a GroupMatrix of {@code rows} without validating them. The rows must be non-empty, of the same size and of the same group and element
+	 * size.
+	 */
+	static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupMatrix<E, G> trusted(final List<GroupVector<E, G>> rows) {
+		return new GroupMatrix<>(rows);
 	}
 
 	/**
@@ -96,7 +110,7 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 				.map(GroupVector::from)
 				.toList();
 
-		return new GroupMatrix<>(rowVectors);
+		return validated(rowVectors);
 	}
 
 	/**
@@ -118,7 +132,7 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 
 	private static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupMatrix<E, G> fromColumnVector(
 			final List<GroupVector<E, G>> columns) {
-		return new GroupMatrix<>(columns).transpose();
+		return validated(columns).transpose();
 	}
 
 	/**
@@ -131,9 +145,10 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 	 */
 	public GroupMatrix<E, G> transpose() {
 		final int n = numColumns;
+		// The columns are copied rather than viewed, so that transposing repeatedly does not stack views.
 		return new GroupMatrix<>(
 				IntStream.range(0, n)
-						.mapToObj(this::getColumn)
+						.mapToObj(j -> GroupVector.trusted(this.rows.stream().map(row -> row.get(j)).toList()))
 						.toList()
 		);
 	}
@@ -171,12 +186,12 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 	}
 
 	/**
-	 * @return the jth row. j must be within bounds.
+	 * @return the jth column, as a view of this matrix. j must be within bounds.
 	 */
 	public GroupVector<E, G> getColumn(final int j) {
 		checkArgument(j >= 0, OUT_OF_BOUNDS_MESSAGE);
 		checkArgument(j < this.numColumns, OUT_OF_BOUNDS_MESSAGE);
-		return this.rows.stream().map(row -> row.get(j)).collect(toGroupVector());
+		return GroupVector.trusted(new ColumnView<>(this.rows, j));
 	}
 
 	/**
@@ -268,7 +283,8 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 		checkArgument(fromIdx >= 0);
 		checkArgument(fromIdx <= toIdx);
 		checkArgument(toIdx <= this.numColumns());
-		return GroupMatrix.fromColumns(this.transpose().rows.subList(fromIdx, toIdx));
+		checkArgument(fromIdx < toIdx, "Empty matrices are not supported.");
+		return new GroupMatrix<>(this.transpose().rows.subList(fromIdx, toIdx)).transpose();
 	}
 
 	@Override
@@ -293,6 +309,30 @@ public class GroupMatrix<E extends GroupVectorElement<G> & Hashable, G extends M
 		return "GroupMatrix{" + "rows=" + rows + '}';
 	}
 
+	/**
+	 * Unmodifiable view of a column of the rows of a matrix.
+	 */
+	private static final class ColumnView<E> extends AbstractList<E> implements RandomAccess {
+
+		private final List<? extends List<E>> rows;
+		private final int column;
+
+		private ColumnView(final List<? extends List<E>> rows, final int column) {
+			this.rows = rows;
+			this.column = column;
+		}
+
+		@Override
+		public E get(final int index) {
+			return rows.get(index).get(column);
+		}
+
+		@Override
+		public int size() {
+			return rows.size();
+		}
+	}
+
 	@Override
 	public List<? extends Hashable> toHashableForm() {
 		return this.rows;
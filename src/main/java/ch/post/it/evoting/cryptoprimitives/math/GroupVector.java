@@ -36,6 +36,7 @@ import com.google.common.collect.ForwardingList;
 import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.internal.math.MathematicalGroup;
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
 import ch.post.it.evoting.cryptoprimitives.utils.Validations;
 
 /**
@@ -51,6 +52,10 @@ import ch.post.it.evoting.cryptoprimitives.utils.Validations;
 public class GroupVector<E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> extends ForwardingList<E>
 		implements HashableList, RandomAccess, GroupVectorElement<G> {
 
+	static {
+		TrustedGroupVectors.register(new TrustedConstruction());
+	}
+
 	private final List<E> elements;
 	private final G group;
 	private final int elementSize;
@@ -71,10 +76,18 @@ public class GroupVector<E extends GroupVectorElement<G> & Hashable, G extends M
 	 *                 <li>all elements must be from the same {@link MathematicalGroup} </li>
 	 *                 <li>all elements must be of the same size</li>
 	 *                 </ul>
+	 *                 If the list is a GroupVector, it is returned as is.
 	 */
+	@SuppressWarnings("unchecked")
 	public static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupVector<E, G> from(final List<E> elements) {
-		//Check null values
 		checkNotNull(elements);
+
+		//A GroupVector is immutable and already valid
+		if (elements.getClass() == GroupVector.class) {
+			return (GroupVector<E, G>) elements;
+		}
+
+		//Check null values
 		checkArgument(elements.stream().allMatch(Objects::nonNull), "Elements must not contain nulls");
 
 		//Immutable copy
@@ -89,6 +102,14 @@ public class GroupVector<E extends GroupVectorElement<G> & Hashable, G extends M
 		return new GroupVector<>(elementsCopy);
 	}
 
+	/**
+	 * Returns a GroupVector of {@code elements} without copying nor validating them. The list must be unmodifiable and comply with the GroupVector
+	 * constraints.
+	 */
+	static <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupVector<E, G> trusted(final List<E> elements) {
+		return new GroupVector<>(elements);
+	}
+
 	/**
 	 * Returns a GroupVector of {@code elements}. The elements must comply with the GroupVector constraints.
 	 *
@@ -188,12 +209,10 @@ public class GroupVector<E extends GroupVectorElement<G> & Hashable, G extends M
 		// Ensure N = nm
 		checkArgument(this.size() == (m * n), "The vector of ciphertexts must be decomposable into m rows and n columns.");
 
-		// Create the matrix
-		return IntStream.range(0, m)
-				.mapToObj(i -> IntStream.range(0, n)
-						.mapToObj(j -> v.get(n * i + j))
-						.toList())
-				.collect(Collectors.collectingAndThen(Collectors.toList(), GroupMatrix::fromRows));
+		// Create the matrix, whose rows are views of this vector.
+		return GroupMatrix.trusted(IntStream.range(0, m)
+				.mapToObj(i -> v.subVector(n * i, n * (i + 1)))
+				.toList());
 	}
 
 	/**
@@ -207,10 +226,10 @@ public class GroupVector<E extends GroupVectorElement<G> & Hashable, G extends M
 	}
 
 	/*
-		Equivalent to java.util.List.subList
+		Equivalent to java.util.List.subList, returns a view of this vector.
 	 */
 	public GroupVector<E, G> subVector(final int fromIndex, final int toIndex) {
-		return GroupVector.from(this.elements.subList(fromIndex, toIndex));
+		return new GroupVector<>(this.elements.subList(fromIndex, toIndex));
 	}
 
 	@Override
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.math;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import ch.post.it.evoting.cryptoprimitives.hashing.Hashable;
+import ch.post.it.evoting.cryptoprimitives.internal.math.MathematicalGroup;
+import ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors;
+
+/**
+ * Gives the internal packages access to the construction of vectors, matrices and elements without validation, see {@link TrustedGroupVectors}.
+ */
+final class TrustedConstruction implements TrustedGroupVectors.Construction {
+
+	@Override
+	public <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupVector<E, G> vector(final List<E> elements) {
+		return GroupVector.trusted(elements);
+	}
+
+	@Override
+	public <E extends GroupVectorElement<G> & Hashable, G extends MathematicalGroup<G>> GroupMatrix<E, G> matrix(
+			final List<GroupVector<E, G>> rows) {
+		return GroupMatrix.trusted(rows);
+	}
+
+	@Override
+	public GroupVector<GqElement, GqGroup> gqElements(final List<BigInteger> values, final GqGroup group) {
+		return GroupVector.trusted(Lists.transform(values, value -> new GqElement(value, group)));
+	}
+}
@@ -21,14 +21,23 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.math.BigInteger;
 import java.util.Objects;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import ch.post.it.evoting.cryptoprimitives.internal.math.MathematicalGroup;
 
 /**
  * Group of integers modulo q.
  *
+ * <p>Groups obtained through {@link #of(BigInteger)} and {@link #sameOrderAs(GqGroup)} are interned per modulus, for as long as they are
+ * reachable. Elements of interned groups are thus checked for group equality with a reference comparison.</p>
+ *
  * <p> Instances of this class are immutable.</p>
  */
 public final class ZqGroup implements MathematicalGroup<ZqGroup> {
+
+	private static final Cache<BigInteger, ZqGroup> INTERNED_GROUPS = CacheBuilder.newBuilder().weakValues().build();
+
 	private final BigInteger q;
 	private final ZqElement identity;
 
@@ -41,11 +50,30 @@ public final class ZqGroup implements MathematicalGroup<ZqGroup> {
 	}
 
 	/**
-	 * Creates a ZqGroup with the same order as the given {@link GqGroup};
+	 * Returns the interned ZqGroup of the given modulus.
+	 *
+	 * @param q the modulus. Must be non-null and at least 2.
+	 * @return the same instance as the previous calls with an equal modulus, as long as that instance is reachable.
+	 */
+	public static ZqGroup of(final BigInteger q) {
+		checkNotNull(q);
+		checkArgument(q.compareTo(BigInteger.valueOf(2)) >= 0);
+
+		final ZqGroup group = INTERNED_GROUPS.getIfPresent(q);
+		if (group != null) {
+			return group;
+		}
+		final ZqGroup newGroup = new ZqGroup(q);
+		final ZqGroup internedGroup = INTERNED_GROUPS.asMap().putIfAbsent(q, newGroup);
+		return internedGroup != null ? internedGroup : newGroup;
+	}
+
+	/**
+	 * Returns the interned ZqGroup with the same order as the given {@link GqGroup}.
 	 */
 	public static ZqGroup sameOrderAs(final GqGroup gqGroup) {
 		checkNotNull(gqGroup);
-		return new ZqGroup(gqGroup.getQ());
+		return gqGroup.getZqGroup();
 	}
 
 	@Override
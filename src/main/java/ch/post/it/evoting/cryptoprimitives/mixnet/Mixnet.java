@@ -16,6 +16,7 @@
 package ch.post.it.evoting.cryptoprimitives.mixnet;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -41,6 +42,52 @@ public interface Mixnet {
 	VerifiableShuffle genVerifiableShuffle(final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts,
 			final ElGamalMultiRecipientPublicKey publicKey);
 
+	/**
+	 * Shuffles (including re-encryption) and provides a Bayer-Groth argument of the shuffle of ciphertexts stored in an
+	 * {@link ElGamalMultiRecipientCiphertextMatrix}. The result is distributed as the one of
+	 * {@link #genVerifiableShuffle(GroupVector, ElGamalMultiRecipientPublicKey)}, with the same preconditions. The shuffled ciphertexts of the
+	 * returned {@link VerifiableShuffle} are a view of a matrix of the same storage as {@code ciphertexts}, so that large shuffles do not hold the
+	 * ciphertexts as objects.
+	 *
+	 * @param ciphertexts C, the matrix of ciphertexts to be shuffled. Must not be null. The number of ciphertexts must be in the range [2, q - 2)
+	 *                    where q is the order of the group.
+	 * @param publicKey   pk, the {@link ElGamalMultiRecipientPublicKey} to be used for re-encrypting. Not null.
+	 * @return the Bayer-Groth shuffle proof and the shuffled ciphertexts as a {@link VerifiableShuffle}
+	 */
+	VerifiableShuffle genVerifiableShuffle(final ElGamalMultiRecipientCiphertextMatrix ciphertexts, final ElGamalMultiRecipientPublicKey publicKey);
+
+	/**
+	 * Precomputes the part of a verifiable shuffle that does not depend on the ciphertexts: the permutation, the re-encryption exponents, the
+	 * encryptions of ones and the commitment to the permutation. This is the bulk of the exponentiations of the re-encrypting shuffle, which can
+	 * thus be computed ahead of time and consumed by {@link #genVerifiableShuffle(GroupVector, ElGamalMultiRecipientPublicKey, ShufflePrecomputation)}.
+	 *
+	 * @param numberOfCiphertexts N, the number of ciphertexts to be shuffled. Must be in the range [2, q - 3], where q is the order of the group.
+	 * @param ciphertextSize      l, the number of elements of the ciphertexts to be shuffled. Must be in the range (0, k], where k is the size of
+	 *                            the public key.
+	 * @param publicKey           pk, the {@link ElGamalMultiRecipientPublicKey} to be used for re-encrypting. Not null.
+	 * @return the {@link ShufflePrecomputation}, to be kept secret and used for a single shuffle.
+	 */
+	ShufflePrecomputation genShufflePrecomputation(final int numberOfCiphertexts, final int ciphertextSize,
+			final ElGamalMultiRecipientPublicKey publicKey);
+
+	/**
+	 * Shuffles (including re-encryption) and provides a Bayer-Groth argument of the shuffle, using a precomputation obtained from
+	 * {@link #genShufflePrecomputation(int, int, ElGamalMultiRecipientPublicKey)}. The result has the same distribution as
+	 * {@link #genVerifiableShuffle(GroupVector, ElGamalMultiRecipientPublicKey)}.
+	 * <p>
+	 * Additionally to the preconditions of {@link #genVerifiableShuffle(GroupVector, ElGamalMultiRecipientPublicKey)}, the precomputation must
+	 * have been computed for the public key and for the number and size of the ciphertexts, and must not have been used for another shuffle. It is
+	 * marked as used by this call, hence a second shuffle with it fails with an {@link IllegalStateException}.
+	 *
+	 * @param ciphertexts    C, the collection of {@link ElGamalMultiRecipientCiphertext} to be shuffled. Must not be null and must not contain
+	 *                       nulls.
+	 * @param publicKey      pk, the {@link ElGamalMultiRecipientPublicKey} to be used for re-encrypting. Not null.
+	 * @param precomputation the {@link ShufflePrecomputation}. Not null.
+	 * @return the Bayer-Groth shuffle proof and the shuffled ciphertexts as a {@link VerifiableShuffle}
+	 */
+	VerifiableShuffle genVerifiableShuffle(final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts,
+			final ElGamalMultiRecipientPublicKey publicKey, final ShufflePrecomputation precomputation);
+
 	/**
 	 * Verifies the correctness of a shuffle argument for the given ciphertexts and their shuffled and re-encrypted counterparts.
 	 * <p>
@@ -18,6 +18,7 @@
 package ch.post.it.evoting.cryptoprimitives.mixnet;
 
 import ch.post.it.evoting.cryptoprimitives.internal.mixnet.MixnetService;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 public class MixnetFactory {
 
@@ -28,4 +29,11 @@ public class MixnetFactory {
 	public static Mixnet createMixnet() {
 		return new MixnetService();
 	}
+
+	/**
+	 * @param executionContext the execution context in which the returned service runs its operations. Not null.
+	 */
+	public static Mixnet createMixnet(final ExecutionContext executionContext) {
+		return new MixnetService(executionContext);
+	}
 }
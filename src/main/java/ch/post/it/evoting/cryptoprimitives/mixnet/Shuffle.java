@@ -19,6 +19,7 @@ package ch.post.it.evoting.cryptoprimitives.mixnet;
 import java.util.List;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 
 /**
@@ -33,7 +34,8 @@ public record Shuffle(List<ElGamalMultiRecipientCiphertext> ciphertexts,
 
 	public Shuffle(final List<ElGamalMultiRecipientCiphertext> ciphertexts, final Permutation permutation,
 			final List<ZqElement> reEncryptionExponents) {
-		this.ciphertexts = List.copyOf(ciphertexts);
+		// A GroupVector is immutable and may be a view of an ElGamalMultiRecipientCiphertextMatrix, which a copy would materialize.
+		this.ciphertexts = ciphertexts instanceof GroupVector ? ciphertexts : List.copyOf(ciphertexts);
 		this.permutation = permutation;
 		this.reEncryptionExponents = List.copyOf(reEncryptionExponents);
 	}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.mixnet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+
+/**
+ * The part of a verifiable shuffle that does not depend on the ciphertexts to shuffle, computed ahead of time by
+ * {@link Mixnet#genShufflePrecomputation(int, int, ElGamalMultiRecipientPublicKey)}.
+ * <p>
+ * It consists of the permutation &#120587;, the re-encryption exponents &#961;, the encryptions of ones under these exponents, and the
+ * commitment c<sub>A</sub> to the permutation together with its randomness r. All components are plain group elements and vectors, hence the
+ * precomputation can be stored and restored through its components.
+ * <p>
+ * The permutation and all the exponents are secret: a precomputation must be kept as confidential as the shuffle witness and be used for a single
+ * shuffle only. Two shuffles with the same precomputation would reveal the permutation, since the quotient of their outputs cancels the
+ * re-encryptions. An instance is therefore consumed by the shuffle it is used for, see {@link #markUsed()}, and a restored precomputation must be
+ * restored only once.
+ */
+@SuppressWarnings("java:S117")
+public final class ShufflePrecomputation {
+
+	private final ElGamalMultiRecipientPublicKey publicKey;
+	private final Permutation permutation;
+	private final GroupVector<ZqElement, ZqGroup> reEncryptionExponents;
+	private final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> encryptedOnes;
+	private final GroupVector<ZqElement, ZqGroup> commitmentExponents;
+	private final GroupVector<GqElement, GqGroup> permutationCommitment;
+	private final AtomicBoolean used = new AtomicBoolean();
+
+	/**
+	 * The components must comply with the following:
+	 * <ul>
+	 *     <li>the permutation, the re-encryption exponents and the encryptions of ones must have the same size N &ge; 2</li>
+	 *     <li>the commitment exponents and the commitment must have the same size m, which divides N</li>
+	 *     <li>the encryptions of ones must not be longer than the public key</li>
+	 *     <li>the group elements must belong to the group of the public key and the exponents to the group of the same order</li>
+	 * </ul>
+	 *
+	 * @param publicKey             pk, the public key of the re-encryptions. Must be non-null.
+	 * @param permutation           &#120587;, the permutation of size N. Must be non-null.
+	 * @param reEncryptionExponents &#961;, the N re-encryption exponents. Must be non-null.
+	 * @param encryptedOnes         the N encryptions of the message of ones under pk and &#961;. Must be non-null.
+	 * @param commitmentExponents   r, the m random exponents of the commitment to the permutation. Must be non-null.
+	 * @param permutationCommitment c<sub>A</sub>, the m commitments to the columns of the permutation matrix. Must be non-null.
+	 */
+	public ShufflePrecomputation(final ElGamalMultiRecipientPublicKey publicKey, final Permutation permutation,
+			final GroupVector<ZqElement, ZqGroup> reEncryptionExponents, final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> encryptedOnes,
+			final GroupVector<ZqElement, ZqGroup> commitmentExponents, final GroupVector<GqElement, GqGroup> permutationCommitment) {
+		checkNotNull(publicKey);
+		checkNotNull(permutation);
+		checkNotNull(reEncryptionExponents);
+		checkNotNull(encryptedOnes);
+		checkNotNull(commitmentExponents);
+		checkNotNull(permutationCommitment);
+
+		final int N = permutation.size();
+		checkArgument(N >= 2, "The permutation must be of size at least 2.");
+		checkArgument(reEncryptionExponents.size() == N, "There must be as many re-encryption exponents as elements in the permutation.");
+		checkArgument(encryptedOnes.size() == N, "There must be as many encryptions of ones as elements in the permutation.");
+		checkArgument(encryptedOnes.getElementSize() <= publicKey.size(), "The encryptions of ones must not be longer than the public key.");
+
+		final int m = commitmentExponents.size();
+		checkArgument(m > 0 && permutationCommitment.size() == m, "The commitment and its exponents must have the same non-zero size.");
+		checkArgument(N % m == 0, "The size of the commitment must divide the size of the permutation.");
+
+		final GqGroup gqGroup = publicKey.getGroup();
+		checkArgument(encryptedOnes.getGroup().equals(gqGroup), "The encryptions of ones must have the group of the public key.");
+		checkArgument(permutationCommitment.getGroup().equals(gqGroup), "The commitment must have the group of the public key.");
+		checkArgument(reEncryptionExponents.getGroup().hasSameOrderAs(gqGroup), "The re-encryption exponents must have the order of the group.");
+		checkArgument(commitmentExponents.getGroup().equals(reEncryptionExponents.getGroup()),
+				"The commitment exponents must have the same group as the re-encryption exponents.");
+
+		this.publicKey = publicKey;
+		this.permutation = permutation;
+		this.reEncryptionExponents = reEncryptionExponents;
+		this.encryptedOnes = encryptedOnes;
+		this.commitmentExponents = commitmentExponents;
+		this.permutationCommitment = permutationCommitment;
+	}
+
+	/**
+	 * Marks this precomputation as used by a shuffle. Called by the mixnet before shuffling with it.
+	 *
+	 * @throws IllegalStateException if this precomputation was already used.
+	 */
+	public void markUsed() {
+		checkState(used.compareAndSet(false, true), "The precomputation was already used for a shuffle.");
+	}
+
+	/**
+	 * @return whether this precomputation was already used by a shuffle.
+	 */
+	public boolean isUsed() {
+		return used.get();
+	}
+
+	public ElGamalMultiRecipientPublicKey publicKey() {
+		return publicKey;
+	}
+
+	public Permutation permutation() {
+		return permutation;
+	}
+
+	public GroupVector<ZqElement, ZqGroup> reEncryptionExponents() {
+		return reEncryptionExponents;
+	}
+
+	public GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> encryptedOnes() {
+		return encryptedOnes;
+	}
+
+	public GroupVector<ZqElement, ZqGroup> commitmentExponents() {
+		return commitmentExponents;
+	}
+
+	public GroupVector<GqElement, GqGroup> permutationCommitment() {
+		return permutationCommitment;
+	}
+
+	/**
+	 * @return N, the number of ciphertexts this precomputation can shuffle.
+	 */
+	public int size() {
+		return permutation.size();
+	}
+
+	/**
+	 * @return l, the number of elements of the ciphertexts this precomputation can shuffle.
+	 */
+	public int getCiphertextSize() {
+		return encryptedOnes.getElementSize();
+	}
+
+	public GqGroup getGroup() {
+		return publicKey.getGroup();
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final ShufflePrecomputation that = (ShufflePrecomputation) o;
+		return publicKey.equals(that.publicKey) && permutation.equals(that.permutation) && reEncryptionExponents.equals(that.reEncryptionExponents)
+				&& encryptedOnes.equals(that.encryptedOnes) && commitmentExponents.equals(that.commitmentExponents)
+				&& permutationCommitment.equals(that.permutationCommitment);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(publicKey, permutation, reEncryptionExponents, encryptedOnes, commitmentExponents, permutationCommitment);
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.utils;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Context in which the library runs its parallel loops: the fork/join pool running them, its parallelism level and the number of elements below
+ * which a loop runs sequentially.
+ *
+ * <p>The services accepting an execution context at construction run each of their operations within it, see {@link #execute(Supplier)}. All
+ * the parallel loops and forked computations of the operation, including those of the services it uses internally, then follow this context.
+ * This allows isolating and capping several jobs sharing a JVM. There are three kinds of contexts:</p>
+ * <ul>
+ *     <li>the {@link #getDefault() default context} runs operations in the calling thread and their parallel loops in the pool of the calling
+ *     thread, that is the common pool unless the caller is itself a fork/join task. It is sequential if the system property
+ *     {@code enable.parallel.streams} is false.</li>
+ *     <li>the {@link #sequential() sequential context} runs operations and all their loops in the calling thread.</li>
+ *     <li>the {@link #withParallelism(int, int) dedicated contexts} run operations and their parallel loops in their own pool, which is shut down
+ *     when the context is closed.</li>
+ * </ul>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public final class ExecutionContext implements AutoCloseable {
+
+	/**
+	 * The default minimal number of elements of a loop to run it in parallel.
+	 */
+	public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 2;
+
+	private static final boolean ENABLE_PARALLEL_STREAMS = Boolean.parseBoolean(
+			System.getProperty("enable.parallel.streams", Boolean.TRUE.toString()));
+
+	private static final ExecutionContext DEFAULT = new ExecutionContext(ENABLE_PARALLEL_STREAMS, DEFAULT_SEQUENTIAL_THRESHOLD);
+	private static final ExecutionContext SEQUENTIAL = new ExecutionContext(false, Integer.MAX_VALUE);
+
+	// The context of the operation running in the current thread, if any. Threads of a dedicated pool default to the context of the pool.
+	private static final ThreadLocal<ExecutionContext> OPERATION_CONTEXT = new ThreadLocal<>();
+
+	private final ContextPool pool;
+	private final boolean parallel;
+	private final int sequentialThreshold;
+
+	private ExecutionContext(final boolean parallel, final int sequentialThreshold) {
+		this.pool = null;
+		this.parallel = parallel;
+		this.sequentialThreshold = sequentialThreshold;
+	}
+
+	private ExecutionContext(final int parallelism, final int sequentialThreshold) {
+		this.pool = new ContextPool(parallelism, this);
+		this.parallel = parallelism > 1;
+		this.sequentialThreshold = sequentialThreshold;
+	}
+
+	/**
+	 * @return the default context, running parallel loops in the pool of the calling thread.
+	 */
+	public static ExecutionContext getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return the sequential context, running all loops in the calling thread.
+	 */
+	public static ExecutionContext sequential() {
+		return SEQUENTIAL;
+	}
+
+	/**
+	 * Creates a context with a dedicated pool and the {@link #DEFAULT_SEQUENTIAL_THRESHOLD default sequential threshold}.
+	 *
+	 * @param parallelism the number of threads of the pool. Must be strictly positive.
+	 * @return a context to be closed once no longer used.
+	 */
+	public static ExecutionContext withParallelism(final int parallelism) {
+		return withParallelism(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD);
+	}
+
+	/**
+	 * Creates a context with a dedicated pool.
+	 *
+	 * @param parallelism         the number of threads of the pool. Must be strictly positive and at most 32767.
+	 * @param sequentialThreshold the minimal number of elements of a loop to run it in parallel. Must be strictly positive.
+	 * @return a context to be closed once no longer used.
+	 */
+	public static ExecutionContext withParallelism(final int parallelism, final int sequentialThreshold) {
+		checkArgument(parallelism > 0, "The parallelism must be strictly positive.");
+		checkArgument(sequentialThreshold > 0, "The sequential threshold must be strictly positive.");
+
+		return new ExecutionContext(parallelism, sequentialThreshold);
+	}
+
+	/**
+	 * Gets the context of the current thread: the context of the operation running in it if any, the context of its pool if it belongs to a
+	 * dedicated pool, and the default context otherwise.
+	 *
+	 * @return the context to apply to the loops started by the current thread.
+	 */
+	public static ExecutionContext current() {
+		final ExecutionContext operationContext = OPERATION_CONTEXT.get();
+		if (operationContext != null) {
+			return operationContext;
+		}
+		if (ForkJoinTask.getPool() instanceof ContextPool contextPool) {
+			return contextPool.context;
+		}
+		return DEFAULT;
+	}
+
+	/**
+	 * @return the number of threads running the parallel loops of this context.
+	 */
+	public int getParallelism() {
+		if (pool != null) {
+			return pool.getParallelism();
+		}
+		return parallel ? ForkJoinPool.getCommonPoolParallelism() : 1;
+	}
+
+	/**
+	 * @return the minimal number of elements of a loop to run it in parallel.
+	 */
+	public int getSequentialThreshold() {
+		return sequentialThreshold;
+	}
+
+	/**
+	 * @return true if this context runs computations in parallel, at least for large enough loops.
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * @param size the number of elements of a loop.
+	 * @return true if a loop of the given size runs in parallel in this context.
+	 */
+	public boolean isParallel(final long size) {
+		return parallel && size >= sequentialThreshold;
+	}
+
+	/**
+	 * Runs an operation within this context and waits for its result. The default context runs the operation directly, leaving the current
+	 * context in place. The sequential context runs it in the calling thread. A dedicated context runs it in its pool, unless the calling thread
+	 * already belongs to this pool.
+	 *
+	 * @param operation the operation to run. Must be non-null.
+	 * @param <T>       the type of the result of the operation.
+	 * @return the result of the operation.
+	 * @throws RuntimeException                              the exception thrown by the operation, if any.
+	 * @throws java.util.concurrent.RejectedExecutionException if this context is closed.
+	 */
+	public <T> T execute(final Supplier<T> operation) {
+		checkNotNull(operation);
+
+		if (this == DEFAULT) {
+			return operation.get();
+		}
+		if (pool == null || ForkJoinTask.getPool() == pool) {
+			return runInCurrentThread(operation);
+		}
+
+		final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		final T result = pool.invoke(ForkJoinTask.adapt(() -> {
+			try {
+				return runInCurrentThread(operation);
+			} catch (final RuntimeException e) {
+				failure.set(e);
+				return null;
+			}
+		}));
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		return result;
+	}
+
+	/**
+	 * Starts an operation within this context without waiting for it, e.g. a background precomputation. The default context runs the operation
+	 * in the common pool, or in the calling thread if it is sequential. The sequential context runs it in the calling thread before returning. A
+	 * dedicated context runs it in its pool.
+	 *
+	 * @param operation the operation to run. Must be non-null.
+	 * @throws java.util.concurrent.RejectedExecutionException if this context is closed.
+	 */
+	public void executeAsync(final Runnable operation) {
+		checkNotNull(operation);
+
+		if (pool != null) {
+			pool.execute(ForkJoinTask.adapt(() -> runInCurrentThread(() -> {
+				operation.run();
+				return null;
+			})));
+		} else if (this == DEFAULT && parallel) {
+			ForkJoinPool.commonPool().execute(operation);
+		} else {
+			execute(() -> {
+				operation.run();
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Shuts down the pool of a dedicated context, once the operations already running complete. Has no effect on the default and sequential
+	 * contexts.
+	 */
+	@Override
+	public void close() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	private <T> T runInCurrentThread(final Supplier<T> operation) {
+		final ExecutionContext previous = OPERATION_CONTEXT.get();
+		OPERATION_CONTEXT.set(this);
+		try {
+			return operation.get();
+		} finally {
+			if (previous == null) {
+				OPERATION_CONTEXT.remove();
+			} else {
+				OPERATION_CONTEXT.set(previous);
+			}
+		}
+	}
+
+	private static final class ContextPool extends ForkJoinPool {
+
+		private final ExecutionContext context;
+
+		private ContextPool(final int parallelism, final ExecutionContext context) {
+			super(parallelism);
+			this.context = context;
+		}
+	}
+}
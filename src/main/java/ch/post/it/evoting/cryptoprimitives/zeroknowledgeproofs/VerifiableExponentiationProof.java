@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+
+/**
+ * An exponentiation proof together with the exponentiations it proves and the auxiliary information used to generate it, as verified by
+ * {@link ZeroKnowledgeProof#verifyExponentiations(GroupVector, List)}. The bases are shared by all proofs of a batch.
+ *
+ * @param exponentiations      y, the exponentiations that were used to generate the proof. Not null.
+ * @param proof                (e, z), the proof to be verified. Not null.
+ * @param auxiliaryInformation i<sub>aux</sub>, auxiliary information used for the hash. Not null and without null elements. Can be empty.
+ */
+public record VerifiableExponentiationProof(
+		GroupVector<GqElement, GqGroup> exponentiations,
+		ExponentiationProof proof,
+		List<String> auxiliaryInformation) {
+
+	public VerifiableExponentiationProof {
+		checkNotNull(exponentiations);
+		checkNotNull(proof);
+		checkNotNull(auxiliaryInformation);
+		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null elements.");
+
+		auxiliaryInformation = List.copyOf(auxiliaryInformation);
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+
+/**
+ * A plaintext equality proof together with the ciphertexts it proves and the auxiliary information used to generate it, as verified by
+ * {@link ZeroKnowledgeProof#verifyPlaintextEqualities(GqElement, GqElement, List)}. The public keys are shared by all proofs of a batch.
+ *
+ * @param firstCiphertext      C = (c<sub>0</sub>, c<sub>1</sub>), the first ciphertext. Not null.
+ * @param secondCiphertext     C' = (c'<sub>0</sub>, c'<sub>1</sub>), the second ciphertext. Not null.
+ * @param proof                (e, z), the proof to be verified. Not null.
+ * @param auxiliaryInformation i<sub>aux</sub>, auxiliary information used for the hash. Not null and without null elements. Can be empty.
+ */
+public record VerifiablePlaintextEqualityProof(
+		ElGamalMultiRecipientCiphertext firstCiphertext,
+		ElGamalMultiRecipientCiphertext secondCiphertext,
+		PlaintextEqualityProof proof,
+		List<String> auxiliaryInformation) {
+
+	public VerifiablePlaintextEqualityProof {
+		checkNotNull(firstCiphertext);
+		checkNotNull(secondCiphertext);
+		checkNotNull(proof);
+		checkNotNull(auxiliaryInformation);
+		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null objects.");
+
+		auxiliaryInformation = List.copyOf(auxiliaryInformation);
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+
+/**
+ * A Schnorr proof together with the statement y it proves and the auxiliary information used to generate it, as verified by
+ * {@link ZeroKnowledgeProof#verifySchnorrProofs(List)}.
+ *
+ * @param proof                (e,z) ∈ Z<sub>q</sub> X Z<sub>q</sub>. Not null.
+ * @param statement            y ∈ G<sub>q</sub>. Not null and of the same group order as the proof.
+ * @param auxiliaryInformation i<sub>aux</sub>, auxiliary information used for the hash. Not null and without null elements. Can be empty.
+ */
+public record VerifiableSchnorrProof(SchnorrProof proof, GqElement statement, List<String> auxiliaryInformation) {
+
+	public VerifiableSchnorrProof {
+		checkNotNull(proof);
+		checkNotNull(statement);
+		checkNotNull(auxiliaryInformation);
+		checkArgument(auxiliaryInformation.stream().allMatch(Objects::nonNull), "The auxiliary information must not contain null objects.");
+		checkArgument(proof.getGroup().hasSameOrderAs(statement.getGroup()), "The proof must have the same group order as the statement.");
+
+		auxiliaryInformation = List.copyOf(auxiliaryInformation);
+	}
+}
@@ -18,6 +18,7 @@ package ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs;
 import java.util.List;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
@@ -50,6 +51,26 @@ public interface ZeroKnowledgeProof {
 			final ElGamalMultiRecipientKeyPair keyPair,
 			final List<String> auxiliaryInformation);
 
+	/**
+	 * Decrypts the ciphertexts of an {@link ElGamalMultiRecipientCiphertextMatrix} in a verifiable way. The result is the same as
+	 * {@link #genVerifiableDecryptions(GroupVector, ElGamalMultiRecipientKeyPair, List)}, but the partially decrypted ciphertexts of the returned
+	 * {@link VerifiableDecryptions} are a view of a matrix of the same storage as {@code ciphertexts}. The N decryption proofs are still held as
+	 * {@link DecryptionProof} objects.
+	 *
+	 * @param ciphertexts          C, a matrix of ciphertexts to be decrypted. Non null.
+	 * @param keyPair              (pk, sk), a pair of a public key and a secret key. Non null.
+	 * @param auxiliaryInformation i<sub>Aux</sub>, a list of context specific strings. Non null. Can be empty.
+	 * @return a {@link VerifiableDecryptions} containing the partially decrypted ciphertexts and a decryption proof for each message
+	 * @throws NullPointerException     if any of the arguments is null
+	 * @throws IllegalArgumentException if
+	 *                                  <ul>
+	 *                                  	 <li>the ciphertexts and the keys in the key pair do not have the same group</li>
+	 *                                  	 <li>the ciphertexts are longer than the length of the key pair</li>
+	 *                                  </ul>
+	 */
+	VerifiableDecryptions genVerifiableDecryptions(final ElGamalMultiRecipientCiphertextMatrix ciphertexts,
+			final ElGamalMultiRecipientKeyPair keyPair, final List<String> auxiliaryInformation);
+
 	/**
 	 * Verifies the validity of the given {@link DecryptionProof}s.
 	 *
@@ -107,6 +128,19 @@ public interface ZeroKnowledgeProof {
 	boolean verifyExponentiation(final GroupVector<GqElement, GqGroup> bases, final GroupVector<GqElement, GqGroup> exponentiations,
 			final ExponentiationProof proof, final List<String> auxiliaryInformation);
 
+	/**
+	 * Verifies the validity of several {@link ExponentiationProof}s over the same bases. The result is the same as calling
+	 * {@link #verifyExponentiation} for every proof, but the bases are shared by the whole batch.
+	 *
+	 * @param bases                          g, the bases that were used to generate all the proofs. Must be non null.
+	 * @param verifiableExponentiationProofs the proofs, each with its exponentiations and auxiliary information. Must be non null.
+	 * @return the indices of the invalid proofs, in increasing order. The list is empty if all proofs are valid.
+	 * @throws NullPointerException     if any of the arguments is null or the proofs contain null elements
+	 * @throws IllegalArgumentException if any of the proofs does not satisfy the requirements of {@link #verifyExponentiation}
+	 */
+	List<Integer> verifyExponentiations(final GroupVector<GqElement, GqGroup> bases,
+			final List<VerifiableExponentiationProof> verifiableExponentiationProofs);
+
 	/**
 	 * Generates a proof of equality of the plaintext corresponding to the two provided encryptions.
 	 *
@@ -152,6 +186,20 @@ public interface ZeroKnowledgeProof {
 			final GqElement firstPublicKey, final GqElement secondPublicKey, final PlaintextEqualityProof plaintextEqualityProof,
 			final List<String> auxiliaryInformation);
 
+	/**
+	 * Verifies the validity of several {@link PlaintextEqualityProof}s under the same public keys. The result is the same as calling
+	 * {@link #verifyPlaintextEquality} for every proof, but the public keys are shared by the whole batch.
+	 *
+	 * @param firstPublicKey                    h, the public key of all first ciphertexts. Must be non null.
+	 * @param secondPublicKey                   h', the public key of all second ciphertexts. Must be non null.
+	 * @param verifiablePlaintextEqualityProofs the proofs, each with its ciphertexts and auxiliary information. Must be non null.
+	 * @return the indices of the invalid proofs, in increasing order. The list is empty if all proofs are valid.
+	 * @throws NullPointerException     if any of the arguments is null or the proofs contain null elements
+	 * @throws IllegalArgumentException if any of the proofs does not satisfy the requirements of {@link #verifyPlaintextEquality}
+	 */
+	List<Integer> verifyPlaintextEqualities(final GqElement firstPublicKey, final GqElement secondPublicKey,
+			final List<VerifiablePlaintextEqualityProof> verifiablePlaintextEqualityProofs);
+
 	/**
 	 * Generates a proof of knowledge of a discrete logarithm.
 	 *
@@ -175,4 +223,16 @@ public interface ZeroKnowledgeProof {
 	 */
 	boolean verifySchnorrProof(final SchnorrProof proof, final GqElement statement, final List<String> auxiliaryInformation);
 
+	/**
+	 * Verifies the validity of several Schnorr proofs. The result is the same as calling {@link #verifySchnorrProof} for every proof, but the proofs
+	 * are verified together.
+	 *
+	 * @param verifiableSchnorrProofs the proofs, each with its statement and auxiliary information. Must be non null and all statements must be
+	 *                                from the same group.
+	 * @return the indices of the invalid proofs, in increasing order. The list is empty if all proofs are valid.
+	 * @throws NullPointerException     if the proofs are null or contain null elements
+	 * @throws IllegalArgumentException if the statements are not all from the same group
+	 */
+	List<Integer> verifySchnorrProofs(final List<VerifiableSchnorrProof> verifiableSchnorrProofs);
+
 }
@@ -18,6 +18,7 @@
 package ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs;
 
 import ch.post.it.evoting.cryptoprimitives.internal.zeroknowledgeproofs.ZeroKnowledgeProofService;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 public class ZeroKnowledgeProofFactory {
 
@@ -27,4 +28,11 @@ public class ZeroKnowledgeProofFactory {
 	public static ZeroKnowledgeProof createZeroKnowledgeProof() {
 		return new ZeroKnowledgeProofService();
 	}
+
+	/**
+	 * @param executionContext the execution context in which the returned service runs its operations. Not null.
+	 */
+	public static ZeroKnowledgeProof createZeroKnowledgeProof(final ExecutionContext executionContext) {
+		return new ZeroKnowledgeProofService(executionContext);
+	}
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.elgamal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix.Storage;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.test.tools.TestGroupSetup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator;
+
+@DisplayName("A ciphertext matrix")
+class ElGamalMultiRecipientCiphertextMatrixTest extends TestGroupSetup {
+
+	private static final int NUM_CIPHERTEXTS = 7;
+	private static final int CIPHERTEXT_SIZE = 3;
+
+	private GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts;
+
+	@BeforeEach
+	void setUp() {
+		ciphertexts = new ElGamalGenerator(gqGroup).genRandomCiphertextVector(NUM_CIPHERTEXTS, CIPHERTEXT_SIZE);
+	}
+
+	@ParameterizedTest
+	@EnumSource(Storage.class)
+	@DisplayName("gives back the ciphertexts it was built from")
+	void fromGivesBackCiphertexts(final Storage storage) {
+		final ElGamalMultiRecipientCiphertextMatrix matrix = ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts, storage);
+
+		assertAll(
+				() -> assertEquals(NUM_CIPHERTEXTS, matrix.size()),
+				() -> assertEquals(CIPHERTEXT_SIZE, matrix.getElementSize()),
+				() -> assertEquals(gqGroup, matrix.getGroup()),
+				() -> assertEquals(storage, matrix.getStorage()),
+				() -> assertEquals(ciphertexts, matrix.asGroupVector()),
+				() -> assertEquals(ciphertexts.get(4), matrix.get(4))
+		);
+	}
+
+	@Test
+	@DisplayName("gives views of its gammas and phis")
+	void columnsAreViewsOfGammasAndPhis() {
+		final ElGamalMultiRecipientCiphertextMatrix matrix = ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts, Storage.HEAP);
+
+		final List<GqElement> gammas = ciphertexts.stream().map(ElGamalMultiRecipientCiphertext::getGamma).toList();
+		final List<GqElement> lastPhis = ciphertexts.stream().map(c -> c.get(CIPHERTEXT_SIZE - 1)).toList();
+
+		assertAll(
+				() -> assertEquals(gammas, matrix.getGammas()),
+				() -> assertEquals(lastPhis, matrix.getPhis(CIPHERTEXT_SIZE - 1)),
+				() -> assertThrows(IllegalArgumentException.class, () -> matrix.getPhis(CIPHERTEXT_SIZE)),
+				() -> assertThrows(IndexOutOfBoundsException.class, () -> matrix.getGammas().get(NUM_CIPHERTEXTS))
+		);
+	}
+
+	@Test
+	@DisplayName("is equal to a matrix of the same ciphertexts, regardless of the storage")
+	void equalsRegardlessOfStorage() {
+		final ElGamalMultiRecipientCiphertextMatrix heap = ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts, Storage.HEAP);
+		final ElGamalMultiRecipientCiphertextMatrix offHeap = ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts, Storage.OFF_HEAP);
+
+		assertEquals(heap, offHeap);
+		assertEquals(heap.hashCode(), offHeap.hashCode());
+	}
+
+	@Test
+	@DisplayName("built with invalid arguments throws")
+	void fromWithInvalidArgumentsThrows() {
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> empty = GroupVector.of();
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> ElGamalMultiRecipientCiphertextMatrix.from(null, Storage.HEAP)),
+				() -> assertThrows(NullPointerException.class, () -> ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> ElGamalMultiRecipientCiphertextMatrix.from(empty, Storage.HEAP))
+		);
+	}
+
+	@Test
+	@DisplayName("builder rejects invalid and missing rows")
+	void builderRejectsInvalidAndMissingRows() {
+		final ElGamalMultiRecipientCiphertextMatrix.Builder builder = ElGamalMultiRecipientCiphertextMatrix.builder(gqGroup, 2, CIPHERTEXT_SIZE,
+				Storage.HEAP);
+		final ElGamalMultiRecipientCiphertext otherGroupCiphertext = new ElGamalGenerator(otherGqGroup).genRandomCiphertext(CIPHERTEXT_SIZE);
+		final ElGamalMultiRecipientCiphertext longerCiphertext = new ElGamalGenerator(gqGroup).genRandomCiphertext(CIPHERTEXT_SIZE + 1);
+
+		builder.set(0, ciphertexts.get(0));
+
+		assertAll(
+				() -> assertThrows(IllegalArgumentException.class, () -> builder.set(0, ciphertexts.get(1))),
+				() -> assertThrows(IllegalArgumentException.class, () -> builder.set(2, ciphertexts.get(1))),
+				() -> assertThrows(IllegalArgumentException.class, () -> builder.set(1, otherGroupCiphertext)),
+				() -> assertThrows(IllegalArgumentException.class, () -> builder.set(1, longerCiphertext)),
+				() -> assertThrows(IllegalStateException.class, builder::build)
+		);
+
+		builder.set(1, ciphertexts.get(1));
+		assertEquals(ciphertexts.subVector(0, 2), builder.build().asGroupVector());
+		assertThrows(IllegalStateException.class, builder::build);
+	}
+}
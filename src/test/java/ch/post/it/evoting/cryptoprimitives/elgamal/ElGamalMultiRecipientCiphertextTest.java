@@ -393,6 +393,17 @@ class ElGamalMultiRecipientCiphertextTest extends TestGroupSetup {
 		assertEquals(exponentiatedOriginalMessage, decryptedExponentiatedCipherText);
 	}
 
+	@Test
+	@DisplayName("exponentiate the ciphertext with a public exponent gives the same ciphertext")
+	void publicExponentiationSameAsExponentiation() {
+		final ZqGroup zqGroup = ZqGroup.sameOrderAs(gqGroup);
+		final ZqElement exponent = ZqElement.create(randomService.genRandomInteger(zqGroup.getQ()), zqGroup);
+		final ElGamalMultiRecipientCiphertext ciphertext = ElGamalMultiRecipientCiphertext.create(validGamma, validPhis);
+
+		assertEquals(ciphertext.getCiphertextExponentiation(exponent), ciphertext.getCiphertextExponentiationPublic(exponent));
+		assertThrows(NullPointerException.class, () -> ciphertext.getCiphertextExponentiationPublic(null));
+	}
+
 	@Test
 	@DisplayName("test vector ciphertext exponentiation")
 	void compressedExponentiatedMessagesShouldEqualDecryptedExponentiatedCiphertextVector() {
@@ -490,6 +501,29 @@ class ElGamalMultiRecipientCiphertextTest extends TestGroupSetup {
 		assertEquals("Ciphertexts and exponents must be of the same group.", differentQIllegalArgumentException.getMessage());
 	}
 
+	@Test
+	void testCiphertextProductCollectorSameAsRepeatedProduct() {
+		final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts = elGamalGenerator.genRandomCiphertextVector(6, 3);
+
+		final ElGamalMultiRecipientCiphertext expected = ciphertexts.stream()
+				.reduce(ElGamalMultiRecipientCiphertexts.neutralElement(3, gqGroup), ElGamalMultiRecipientCiphertext::getCiphertextProduct);
+
+		assertEquals(expected, ciphertexts.stream().collect(ElGamalMultiRecipientCiphertexts.toCiphertextProduct(3, gqGroup)));
+		assertEquals(expected, ciphertexts.parallelStream().collect(ElGamalMultiRecipientCiphertexts.toCiphertextProduct(3, gqGroup)));
+		assertEquals(ElGamalMultiRecipientCiphertexts.neutralElement(3, gqGroup),
+				Stream.<ElGamalMultiRecipientCiphertext>empty().collect(ElGamalMultiRecipientCiphertexts.toCiphertextProduct(3, gqGroup)));
+	}
+
+	@Test
+	void testCiphertextProductCollectorParameterValidation() {
+		final Stream<ElGamalMultiRecipientCiphertext> differentSizes = elGamalGenerator.genRandomCiphertextVector(2, 2).stream();
+
+		assertThrows(NullPointerException.class, () -> ElGamalMultiRecipientCiphertexts.toCiphertextProduct(3, null));
+		assertThrows(IllegalArgumentException.class, () -> ElGamalMultiRecipientCiphertexts.toCiphertextProduct(0, gqGroup));
+		assertThrows(IllegalArgumentException.class,
+				() -> differentSizes.collect(ElGamalMultiRecipientCiphertexts.toCiphertextProduct(3, gqGroup)));
+	}
+
 	@Nested
 	@DisplayName("calling getPartialDecryption with")
 	class PartialDecryptionTest {
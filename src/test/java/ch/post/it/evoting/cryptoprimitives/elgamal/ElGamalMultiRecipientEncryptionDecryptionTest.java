@@ -17,6 +17,7 @@ package ch.post.it.evoting.cryptoprimitives.elgamal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts;
 import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.math.FixedBaseGqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
@@ -128,6 +130,60 @@ class ElGamalMultiRecipientEncryptionDecryptionTest {
 		assertEquals(message, otherMessage);
 	}
 
+	@RepeatedTest(10)
+	void testEncryptWithPrecomputedKeyGivesSameCiphertext() {
+		final ElGamalMultiRecipientKeyPair keyPair = ElGamalMultiRecipientKeyPair.genKeyPair(gqGroup, NUM_ELEMENTS + 1, randomService);
+		final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey = new ElGamalMultiRecipientPrecomputedPublicKey(keyPair.getPublicKey(),
+				NUM_ELEMENTS);
+		final ZqElement exponent = ZqElement.create(randomService.genRandomInteger(zqGroup.getQ()), zqGroup);
+
+		final ElGamalMultiRecipientCiphertext ciphertext = ElGamalMultiRecipientCiphertexts.getCiphertextWithPrecomputedKey(message, exponent,
+				precomputedPublicKey);
+
+		assertEquals(ElGamalMultiRecipientCiphertexts.getCiphertext(message, exponent, keyPair.getPublicKey()), ciphertext);
+		assertEquals(message, ElGamalMultiRecipientMessages.getMessage(ciphertext, keyPair.getPrivateKey()));
+	}
+
+	@Test
+	void testEncryptWithPrecomputedKeyBeyondTablesBudgetGivesSameCiphertext() {
+		final ElGamalMultiRecipientKeyPair keyPair = ElGamalMultiRecipientKeyPair.genKeyPair(gqGroup, NUM_ELEMENTS, randomService);
+		final long oneTableSize = FixedBaseGqElement.estimateSize(gqGroup);
+		final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey = new ElGamalMultiRecipientPrecomputedPublicKey(keyPair.getPublicKey(),
+				NUM_ELEMENTS, oneTableSize);
+		final ZqElement exponent = ZqElement.create(randomService.genRandomInteger(zqGroup.getQ()), zqGroup);
+
+		final ElGamalMultiRecipientCiphertext ciphertext = ElGamalMultiRecipientCiphertexts.getCiphertextWithPrecomputedKey(message, exponent,
+				precomputedPublicKey);
+
+		assertEquals(1, precomputedPublicKey.getNumberOfTables());
+		assertEquals(NUM_ELEMENTS, precomputedPublicKey.size());
+		assertEquals(ElGamalMultiRecipientCiphertexts.getCiphertext(message, exponent, keyPair.getPublicKey()), ciphertext);
+		assertEquals(0, new ElGamalMultiRecipientPrecomputedPublicKey(keyPair.getPublicKey(), NUM_ELEMENTS, 0).getNumberOfTables());
+	}
+
+	@Test
+	void testEncryptWithTooFewPrecomputedKeyElementsThrows() {
+		final ElGamalMultiRecipientKeyPair keyPair = ElGamalMultiRecipientKeyPair.genKeyPair(gqGroup, NUM_ELEMENTS, randomService);
+		final ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey = new ElGamalMultiRecipientPrecomputedPublicKey(keyPair.getPublicKey(),
+				NUM_ELEMENTS - 1);
+		final ZqElement exponent = genNonZeroExponent(gqGroup.getQ());
+
+		final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> ElGamalMultiRecipientCiphertexts.getCiphertextWithPrecomputedKey(message, exponent, precomputedPublicKey));
+		assertEquals("There cannot be more message elements than precomputed public key elements.", exception.getMessage());
+	}
+
+	@Test
+	void testPrecomputeKeyWithInvalidNumberOfElementsThrows() {
+		final ElGamalMultiRecipientPublicKey publicKey = ElGamalMultiRecipientKeyPair.genKeyPair(gqGroup, NUM_ELEMENTS, randomService)
+				.getPublicKey();
+
+		assertThrows(NullPointerException.class, () -> new ElGamalMultiRecipientPrecomputedPublicKey(null));
+		assertThrows(IllegalArgumentException.class, () -> new ElGamalMultiRecipientPrecomputedPublicKey(publicKey, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ElGamalMultiRecipientPrecomputedPublicKey(publicKey, NUM_ELEMENTS + 1));
+		assertThrows(IllegalArgumentException.class, () -> new ElGamalMultiRecipientPrecomputedPublicKey(publicKey, NUM_ELEMENTS, -1));
+	}
+
 	private ZqElement genNonZeroExponent(BigInteger q) {
 		final ZqGroup group = new ZqGroup(q);
 		final BigInteger qMinusOne = q.subtract(BigInteger.ONE);
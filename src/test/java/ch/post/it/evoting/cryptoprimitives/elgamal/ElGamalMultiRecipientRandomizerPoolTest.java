@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.elgamal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages;
+import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
+
+class ElGamalMultiRecipientRandomizerPoolTest {
+
+	private static final int NUM_ELEMENTS = 5;
+	private static final int DEPTH = 4;
+
+	private static RandomService randomService;
+	private static GqGroup gqGroup;
+	private static GqGroupGenerator generator;
+	private static ElGamalMultiRecipientKeyPair keyPair;
+	private static ElGamalMultiRecipientPrecomputedPublicKey precomputedPublicKey;
+
+	private ElGamalMultiRecipientMessage message;
+
+	@BeforeAll
+	static void setUpAll() {
+		randomService = new RandomService();
+		gqGroup = GroupTestData.getGqGroup();
+		generator = new GqGroupGenerator(gqGroup);
+		keyPair = ElGamalMultiRecipientKeyPair.genKeyPair(gqGroup, NUM_ELEMENTS, randomService);
+		precomputedPublicKey = new ElGamalMultiRecipientPrecomputedPublicKey(keyPair.getPublicKey());
+	}
+
+	@BeforeEach
+	void setUp() {
+		final GroupVector<GqElement, GqGroup> messageElements = Stream.generate(generator::genMember)
+				.limit(NUM_ELEMENTS)
+				.collect(GroupVector.toGroupVector());
+		message = new ElGamalMultiRecipientMessage(messageElements);
+	}
+
+	@RepeatedTest(5)
+	@DisplayName("encrypting with the pool and decrypting gives the original message")
+	void encryptAndDecryptGivesOriginalMessage() {
+		try (final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, randomService)) {
+			for (int i = 0; i < 2 * DEPTH; i++) {
+				final ElGamalMultiRecipientCiphertext ciphertext = pool.getCiphertext(message);
+				assertEquals(message, ElGamalMultiRecipientMessages.getMessage(ciphertext, keyPair.getPrivateKey()));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("encrypting a message shorter than the key gives a ciphertext of the message size")
+	void encryptShorterMessage() {
+		final ElGamalMultiRecipientMessage shortMessage = new ElGamalMultiRecipientMessage(message.getElements().subVector(0, 2));
+
+		try (final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, randomService)) {
+			final ElGamalMultiRecipientCiphertext ciphertext = pool.getCiphertext(shortMessage);
+
+			assertEquals(2, ciphertext.size());
+			assertEquals(shortMessage, ElGamalMultiRecipientMessages.getMessage(ciphertext, keyPair.getPrivateKey()));
+		}
+	}
+
+	@Test
+	@DisplayName("never uses the same randomizer twice")
+	void randomizersAreNotReused() {
+		// The exponents 1, 2, 3, ... give distinct gammas, even in the small test groups.
+		final AtomicInteger exponents = new AtomicInteger();
+		final RandomService countingRandomService = spy(RandomService.class);
+		doAnswer(invocation -> BigInteger.valueOf(exponents.incrementAndGet()).mod(invocation.getArgument(0)))
+				.when(countingRandomService).genRandomInteger(any());
+
+		try (final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, 0,
+				countingRandomService)) {
+			assertEquals(DEPTH, pool.size());
+
+			final List<GqElement> gammas = Stream.generate(() -> pool.getCiphertext(message))
+					.limit(DEPTH)
+					.map(ElGamalMultiRecipientCiphertext::getGamma)
+					.toList();
+
+			assertEquals(DEPTH, new HashSet<>(gammas).size());
+		}
+	}
+
+	@Test
+	@DisplayName("is refilled in its execution context")
+	void refillsInExecutionContext() {
+		try (final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, DEPTH / 2,
+				randomService, ExecutionContext.sequential())) {
+			pool.getCiphertext(message);
+			assertEquals(DEPTH - 1, pool.size());
+
+			// The sequential context refills the pool in the calling thread once the threshold is reached.
+			pool.getCiphertext(message);
+			assertEquals(DEPTH, pool.size());
+		}
+	}
+
+	@Test
+	@DisplayName("with a closed execution context encrypts without refilling")
+	void closedExecutionContextEncryptsDirectly() {
+		final ExecutionContext context = ExecutionContext.withParallelism(1);
+		context.close();
+
+		try (final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, DEPTH / 2,
+				randomService, context)) {
+			for (int i = 0; i < 2 * DEPTH; i++) {
+				final ElGamalMultiRecipientCiphertext ciphertext = pool.getCiphertext(message);
+				assertEquals(message, ElGamalMultiRecipientMessages.getMessage(ciphertext, keyPair.getPrivateKey()));
+			}
+			assertEquals(0, pool.size());
+		}
+	}
+
+	@Test
+	@DisplayName("closing discards the randomizers and prevents encryptions")
+	void closeDiscardsRandomizers() {
+		final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, randomService);
+		pool.fill();
+
+		pool.close();
+
+		assertEquals(0, pool.size());
+		assertThrows(IllegalStateException.class, () -> pool.getCiphertext(message));
+		assertThrows(IllegalStateException.class, pool::fill);
+	}
+
+	@Test
+	void getCiphertextWithInvalidMessageThrows() {
+		final ElGamalMultiRecipientPublicKey otherGroupKey = ElGamalMultiRecipientKeyPair.genKeyPair(GroupTestData.getDifferentGqGroup(gqGroup),
+				NUM_ELEMENTS, randomService).getPublicKey();
+		final GqGroupGenerator otherGenerator = new GqGroupGenerator(otherGroupKey.getGroup());
+		final ElGamalMultiRecipientMessage otherGroupMessage = new ElGamalMultiRecipientMessage(
+				Stream.generate(otherGenerator::genMember).limit(NUM_ELEMENTS).collect(GroupVector.toGroupVector()));
+		final ElGamalMultiRecipientMessage tooLongMessage = new ElGamalMultiRecipientMessage(
+				Stream.generate(generator::genMember).limit(NUM_ELEMENTS + 1L).collect(GroupVector.toGroupVector()));
+
+		try (final ElGamalMultiRecipientRandomizerPool pool = new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, randomService)) {
+			assertThrows(NullPointerException.class, () -> pool.getCiphertext(null));
+			assertThrows(IllegalArgumentException.class, () -> pool.getCiphertext(otherGroupMessage));
+			assertThrows(IllegalArgumentException.class, () -> pool.getCiphertext(tooLongMessage));
+		}
+	}
+
+	@Test
+	void constructionWithInvalidArgumentsThrows() {
+		assertThrows(NullPointerException.class, () -> new ElGamalMultiRecipientRandomizerPool(null, DEPTH, randomService));
+		assertThrows(NullPointerException.class, () -> new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, null));
+		assertThrows(NullPointerException.class, () -> new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, 0, randomService, null));
+		assertThrows(IllegalArgumentException.class, () -> new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, 0, randomService));
+		assertThrows(IllegalArgumentException.class, () -> new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, -1, randomService));
+		assertThrows(IllegalArgumentException.class,
+				() -> new ElGamalMultiRecipientRandomizerPool(precomputedPublicKey, DEPTH, DEPTH, randomService));
+	}
+}
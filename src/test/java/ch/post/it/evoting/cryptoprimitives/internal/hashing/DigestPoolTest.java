@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.hashing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("A DigestPool")
+class DigestPoolTest {
+
+	private DigestPool<Digest> pool;
+
+	@BeforeEach
+	void setUp() {
+		pool = new DigestPool<>(() -> new SHA3Digest(256));
+	}
+
+	@Test
+	@DisplayName("reuses the released digests of the current thread")
+	void reusesReleasedDigests() {
+		final Digest first = pool.acquire();
+		final Digest second = pool.acquire();
+		assertNotSame(first, second);
+
+		pool.release(second);
+		assertSame(second, pool.acquire());
+	}
+
+	@Test
+	@DisplayName("resets the released digests")
+	void resetsReleasedDigests() {
+		final Digest digest = pool.acquire();
+		final byte[] emptyHash = new byte[digest.getDigestSize()];
+		new SHA3Digest(256).doFinal(emptyHash, 0);
+
+		digest.update((byte) 0x42);
+		pool.release(digest);
+
+		final byte[] hash = new byte[digest.getDigestSize()];
+		pool.acquire().doFinal(hash, 0);
+		assertArrayEquals(emptyHash, hash);
+	}
+
+	@Test
+	@DisplayName("does not share digests between threads")
+	void doesNotShareDigestsBetweenThreads() {
+		final Digest digest = pool.acquire();
+		pool.release(digest);
+
+		assertNotSame(digest, CompletableFuture.supplyAsync(pool::acquire).join());
+	}
+
+	@Test
+	@DisplayName("with null arguments throws a NullPointerException")
+	void nullArgumentsThrow() {
+		assertThrows(NullPointerException.class, () -> new DigestPool<>(null));
+		assertThrows(NullPointerException.class, () -> pool.release(null));
+	}
+}
@@ -40,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -59,13 +60,18 @@ import ch.post.it.evoting.cryptoprimitives.hashing.HashableBigInteger;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableByteArray;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableList;
 import ch.post.it.evoting.cryptoprimitives.hashing.HashableString;
+import ch.post.it.evoting.cryptoprimitives.hashing.ImmutableHashableList;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SHA3_256;
+import ch.post.it.evoting.cryptoprimitives.internal.securitylevel.SHAKE256;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ByteArrays;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
 import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
 import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.JsonData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.TestParameters;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 class HashServiceTest {
 
@@ -252,6 +258,64 @@ class HashServiceTest {
 		assertArrayEquals(expected, hash);
 	}
 
+	@Test
+	void testRecursiveHashOfLongListReturnsHashOfConcatenatedIndividualHashes() {
+		final int size = 200;
+		final List<HashableByteArray> elements = Stream.generate(this::genRandomHashableByteArray).limit(size).toList();
+
+		final byte[] hash = hashService.recursiveHash(HashableList.from(elements));
+
+		final byte[] concatenation = new byte[hashLength * size + 1];
+		concatenation[0] = 0x03;
+		for (int i = 0; i < size; i++) {
+			final byte[] elementHash = messageDigest.digest(concat(new byte[] { 0x00 }, elements.get(i).toHashableForm()));
+			System.arraycopy(elementHash, 0, concatenation, hashLength * i + 1, hashLength);
+		}
+		assertArrayEquals(messageDigest.digest(concatenation), hash);
+		assertArrayEquals(hash, HashService.getInstance(ExecutionContext.sequential()).recursiveHash(HashableList.from(elements)));
+	}
+
+	@Test
+	void testRecursiveHashOfLengthCutsEachNestedHash() {
+		final int bitLength = 517;
+		final int length = 65;
+		final HashableByteArray first = genRandomHashableByteArray();
+		final HashableByteArray second = genRandomHashableByteArray();
+
+		final byte[] hash = hashService.recursiveHashOfLength(bitLength, first, second);
+
+		final SHAKE256 shake256 = SHAKE256.getInstance();
+		final byte[] concatenation = concat(new byte[] { 0x03 },
+				ByteArrays.cutToBitLength(shake256.xof(length, concat(new byte[] { 0x00 }, first.toHashableForm())), bitLength),
+				ByteArrays.cutToBitLength(shake256.xof(length, concat(new byte[] { 0x00 }, second.toHashableForm())), bitLength));
+		assertArrayEquals(ByteArrays.cutToBitLength(shake256.xof(length, concatenation), bitLength), hash);
+	}
+
+	@Test
+	void testRecursiveHashOfImmutableListIsMemoizedPerOutputLength() {
+		final List<HashableByteArray> elements = List.of(genRandomHashableByteArray(), genRandomHashableByteArray());
+		final AtomicInteger conversions = new AtomicInteger();
+		final ImmutableHashableList immutableList = () -> {
+			conversions.incrementAndGet();
+			return elements;
+		};
+		final HashService service = new HashService(SHA3_256.getInstance(), SHAKE256.getInstance());
+
+		final byte[] expectedHash = service.recursiveHash(HashableList.from(elements));
+		assertArrayEquals(expectedHash, service.recursiveHash(immutableList));
+		assertArrayEquals(service.recursiveHash(HashableList.of(HashableList.from(elements))), service.recursiveHash(HashableList.of(immutableList)));
+		assertEquals(1, conversions.get());
+
+		final byte[] expectedHashOfLength = service.recursiveHashOfLength(512, HashableList.from(elements));
+		assertArrayEquals(expectedHashOfLength, service.recursiveHashOfLength(512, immutableList));
+		assertArrayEquals(expectedHashOfLength, service.recursiveHashOfLength(512, immutableList));
+		assertEquals(2, conversions.get());
+
+		final byte[] hash = service.recursiveHash(immutableList);
+		hash[0]++;
+		assertArrayEquals(expectedHash, service.recursiveHash(immutableList));
+	}
+
 	@Test
 	void testRecursiveHashWithVarargsGivesSameResultAsWithList() {
 		final HashableBigInteger first = genRandomHashableBigInteger();
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link BigIntegerOperations} backends on the modulus sizes of the security levels. The GMP benchmarks require the native library.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BigIntegerOperationsBenchmark {
+
+	private final BigIntegerOperations java = new BigIntegerOperationsJava();
+	private final BigIntegerOperations gmp = new BigIntegerOperationsGMP();
+
+	@Param({ "2048", "3072" })
+	public int bitLength;
+
+	private BigInteger modulus;
+	private BigInteger base;
+	private BigInteger exponent;
+
+	@Setup
+	public void setUp() {
+		final SecureRandom random = new SecureRandom();
+		modulus = new BigInteger(bitLength, random).setBit(bitLength - 1).setBit(0);
+		base = new BigInteger(bitLength - 1, random);
+		exponent = new BigInteger(bitLength - 1, random);
+	}
+
+	@Benchmark
+	public BigInteger modExponentiateJava() {
+		return java.modExponentiate(base, exponent, modulus);
+	}
+
+	@Benchmark
+	public BigInteger modExponentiateGmp() {
+		return gmp.modExponentiate(base, exponent, modulus);
+	}
+
+	@Benchmark
+	public BigInteger modMultiplyJava() {
+		return java.modMultiply(base, exponent, modulus);
+	}
+
+	@Benchmark
+	public BigInteger modMultiplyGmp() {
+		return gmp.modMultiply(base, exponent, modulus);
+	}
+}
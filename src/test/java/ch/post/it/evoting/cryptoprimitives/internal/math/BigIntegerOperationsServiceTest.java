@@ -20,9 +20,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -32,6 +35,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
 
 class BigIntegerOperationsServiceTest {
 
@@ -163,6 +170,35 @@ class BigIntegerOperationsServiceTest {
 		);
 	}
 
+	@ParameterizedTest(name = "{0} bases")
+	@ValueSource(ints = { 1, 2, 5, MultiExponentiation.SIMULTANEOUS_THRESHOLD - 1, MultiExponentiation.SIMULTANEOUS_THRESHOLD, 64, 300 })
+	@DisplayName("multiModExp and multiModExpPublic give the product of the individual exponentiations")
+	void multiModExpLargeValues(final int numElements) {
+		final SecureRandom random = new SecureRandom();
+		final GqGroup group = GroupTestData.getLargeGqGroup();
+		final BigInteger p = group.getP();
+		final BigInteger q = group.getQ();
+
+		final List<BigInteger> largeBases = Stream.generate(() -> new BigInteger(p.bitLength(), random).mod(p)).limit(numElements).toList();
+		final List<BigInteger> largeExponents = Stream.generate(() -> new BigInteger(q.bitLength(), random).subtract(q.shiftRight(1)))
+				.limit(numElements).toList();
+
+		final BigInteger expected = IntStream.range(0, numElements)
+				.mapToObj(i -> largeBases.get(i).modPow(largeExponents.get(i), p))
+				.reduce(ONE, (a, b) -> a.multiply(b).mod(p));
+
+		assertEquals(expected, BigIntegerOperationsService.multiModExp(largeBases, largeExponents, p));
+		assertEquals(expected, BigIntegerOperationsService.multiModExpPublic(largeBases, largeExponents, p));
+	}
+
+	@Test
+	void multiModExpZeroExponents() {
+		final List<BigInteger> zeroExponents = List.of(ZERO, ZERO);
+
+		assertEquals(ONE, BigIntegerOperationsService.multiModExp(bases, zeroExponents, SEVEN));
+		assertEquals(ONE, BigIntegerOperationsService.multiModExpPublic(bases, zeroExponents, SEVEN));
+	}
+
 	@Test
 	void multiModExpBasesModulusNotRelativelyPrime() {
 		assertEquals(ZERO, BigIntegerOperationsService.multiModExp(bases, exponents, NINE));
@@ -238,4 +274,113 @@ class BigIntegerOperationsServiceTest {
 		assertEquals(-1, BigIntegerOperationsService.getJacobi(THREE, EIGHT));
 		assertEquals(0, BigIntegerOperationsService.getJacobi(TWENTY_ONE, SEVEN));
 	}
+
+	@Test
+	@DisplayName("batchModExponentiate gives the individual exponentiations")
+	void batchModExponentiateLargeValues() {
+		final SecureRandom random = new SecureRandom();
+		final GqGroup group = GroupTestData.getLargeGqGroup();
+		final BigInteger p = group.getP();
+		final BigInteger q = group.getQ();
+
+		final BigInteger sharedExponent = new BigInteger(q.bitLength(), random);
+		final List<BigInteger> largeBases = Stream.generate(() -> new BigInteger(p.bitLength() - 1, random).add(ONE)).limit(20).toList();
+		final List<BigInteger> largeExponents = IntStream.range(0, 20)
+				.mapToObj(i -> i < 10 ? sharedExponent : new BigInteger(q.bitLength(), random).subtract(q.shiftRight(1)))
+				.toList();
+
+		final List<BigInteger> expected = IntStream.range(0, 20)
+				.mapToObj(i -> largeBases.get(i).modPow(largeExponents.get(i), p))
+				.toList();
+
+		assertEquals(expected, BigIntegerOperationsService.batchModExponentiate(largeBases, largeExponents, p));
+		assertEquals(expected, new BigIntegerOperationsJava().batchModExponentiate(largeBases, largeExponents, p));
+	}
+
+	@Test
+	@DisplayName("modExponentiatePublic gives the same results as modExponentiate")
+	void modExponentiatePublicLargeValues() {
+		final SecureRandom random = new SecureRandom();
+		final GqGroup group = GroupTestData.getLargeGqGroup();
+		final BigInteger p = group.getP();
+		final BigInteger q = group.getQ();
+
+		final List<BigInteger> largeBases = Stream.generate(() -> new BigInteger(p.bitLength() - 1, random).add(ONE)).limit(10).toList();
+		final List<BigInteger> largeExponents = Stream.generate(() -> new BigInteger(q.bitLength(), random).subtract(q.shiftRight(1)))
+				.limit(10).toList();
+
+		final List<BigInteger> expected = IntStream.range(0, 10)
+				.mapToObj(i -> BigIntegerOperationsService.modExponentiate(largeBases.get(i), largeExponents.get(i), p))
+				.toList();
+		final List<BigInteger> individual = IntStream.range(0, 10)
+				.mapToObj(i -> BigIntegerOperationsService.modExponentiatePublic(largeBases.get(i), largeExponents.get(i), p))
+				.toList();
+
+		assertEquals(expected, individual);
+		assertEquals(expected, BigIntegerOperationsService.batchModExponentiatePublic(largeBases, largeExponents, p));
+	}
+
+	@Test
+	void modExponentiatePublicInvalidArguments() {
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.modExponentiatePublic(null, THREE, SEVEN)),
+				() -> assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.modExponentiatePublic(TWO, null, SEVEN)),
+				() -> assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.modExponentiatePublic(TWO, THREE, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.modExponentiatePublic(TWO, THREE, EIGHT)),
+				() -> assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.modExponentiatePublic(THREE, MINUS_ONE, NINE))
+		);
+	}
+
+	@Test
+	void batchModExponentiateInvalidArguments() {
+		final List<BigInteger> shorterExponents = List.of(FIVE);
+		final List<BigInteger> basesWithNull = Arrays.asList(TWO, null);
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.batchModExponentiate(null, exponents, SEVEN)),
+				() -> assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.batchModExponentiate(bases, null, SEVEN)),
+				() -> assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.batchModExponentiate(bases, exponents, null)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> BigIntegerOperationsService.batchModExponentiate(basesWithNull, exponents, SEVEN)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> BigIntegerOperationsService.batchModExponentiate(bases, shorterExponents, SEVEN)),
+				() -> assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchModExponentiate(bases, exponents, EIGHT)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> BigIntegerOperationsService.batchModExponentiate(List.of(THREE), List.of(MINUS_ONE), NINE))
+		);
+	}
+
+	@Test
+	void checkBatchModMultiply() {
+		assertEquals(List.of(SIX, FOUR), BigIntegerOperationsService.batchModMultiply(bases, List.of(THREE, SIX), SEVEN));
+		assertEquals(List.of(), BigIntegerOperationsService.batchModMultiply(List.of(), List.of(), SEVEN));
+		assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchModMultiply(bases, List.of(THREE), SEVEN));
+		assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchModMultiply(List.of(), List.of(), ONE));
+	}
+
+	@Test
+	void checkBatchModInvert() {
+		assertEquals(List.of(ONE, FIVE, FOUR), BigIntegerOperationsService.batchModInvert(List.of(ONE, THREE, TWO), SEVEN));
+		assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.batchModInvert(null, SEVEN));
+		assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchModInvert(List.of(ONE, THREE), SIX));
+		assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchModInvert(List.of(), ONE));
+	}
+
+	@Test
+	void checkBatchModInvertSameAsModInvert() {
+		final BigInteger modulus = BigInteger.probablePrime(256, new SecureRandom());
+		final List<BigInteger> values = Stream.generate(() -> new BigInteger(255, new SecureRandom()).add(ONE)).limit(20).toList();
+
+		assertEquals(values.stream().map(value -> BigIntegerOperationsService.modInvert(value, modulus)).toList(),
+				BigIntegerOperationsService.batchModInvert(values, modulus));
+		assertEquals(List.of(), BigIntegerOperationsService.batchModInvert(List.of(), modulus));
+		assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchModInvert(List.of(TWO, modulus, THREE), modulus));
+	}
+
+	@Test
+	void checkBatchGetJacobi() {
+		assertEquals(List.of(1, -1, 0), BigIntegerOperationsService.batchGetJacobi(List.of(TWO, THREE, TWENTY_ONE), SEVEN));
+		assertThrows(NullPointerException.class, () -> BigIntegerOperationsService.batchGetJacobi(List.of(ONE), null));
+		assertThrows(IllegalArgumentException.class, () -> BigIntegerOperationsService.batchGetJacobi(List.of(ONE, ZERO), SEVEN));
+	}
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+
+class FixedBaseExponentiationTest {
+
+	private static final SecureRandom random = new SecureRandom();
+
+	private static BigInteger p;
+	private static BigInteger q;
+	private static BigInteger g;
+	private static FixedBaseExponentiation fixedBaseExponentiation;
+
+	@BeforeAll
+	static void setUp() {
+		final GqGroup group = GroupTestData.getLargeGqGroup();
+		p = group.getP();
+		q = group.getQ();
+		g = group.getGenerator().getValue();
+		fixedBaseExponentiation = new FixedBaseExponentiation(g, p, q.bitLength());
+	}
+
+	@RepeatedTest(10)
+	void exponentiateGivesSameResultAsModPow() {
+		final BigInteger exponent = new BigInteger(q.bitLength(), random).mod(q);
+
+		assertEquals(g.modPow(exponent, p), fixedBaseExponentiation.exponentiate(exponent));
+		assertEquals(g.modPow(exponent, p), fixedBaseExponentiation.exponentiatePublic(exponent));
+	}
+
+	@Test
+	void exponentiateWithEdgeCaseExponents() {
+		final BigInteger maxExponent = BigInteger.ONE.shiftLeft(q.bitLength()).subtract(BigInteger.ONE);
+
+		assertAll(
+				() -> assertEquals(BigInteger.ONE, fixedBaseExponentiation.exponentiate(BigInteger.ZERO)),
+				() -> assertEquals(g, fixedBaseExponentiation.exponentiate(BigInteger.ONE)),
+				() -> assertEquals(g.modPow(q.subtract(BigInteger.ONE), p), fixedBaseExponentiation.exponentiate(q.subtract(BigInteger.ONE))),
+				() -> assertEquals(g.modPow(maxExponent, p), fixedBaseExponentiation.exponentiate(maxExponent)),
+				() -> assertEquals(BigInteger.ONE, fixedBaseExponentiation.exponentiatePublic(BigInteger.ZERO)),
+				() -> assertEquals(g.modPow(maxExponent, p), fixedBaseExponentiation.exponentiatePublic(maxExponent))
+		);
+	}
+
+	@Test
+	void exponentiateWithInvalidExponentThrows() {
+		final BigInteger tooLargeExponent = BigInteger.ONE.shiftLeft(q.bitLength());
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> fixedBaseExponentiation.exponentiate(null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> fixedBaseExponentiation.exponentiate(BigInteger.ONE.negate())),
+				() -> assertThrows(IllegalArgumentException.class, () -> fixedBaseExponentiation.exponentiate(tooLargeExponent)),
+				() -> assertThrows(NullPointerException.class, () -> fixedBaseExponentiation.exponentiatePublic(null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> fixedBaseExponentiation.exponentiatePublic(tooLargeExponent))
+		);
+	}
+
+	@RepeatedTest(10)
+	void multiExponentiateGivesSameResultAsProductOfModPow() {
+		final BigInteger h = g.modPow(new BigInteger(q.bitLength(), random).mod(q), p);
+		final FixedBaseExponentiation hExponentiation = new FixedBaseExponentiation(h, p, q.bitLength());
+		final BigInteger e0 = new BigInteger(q.bitLength(), random).mod(q);
+		final BigInteger e1 = new BigInteger(q.bitLength(), random).mod(q);
+
+		final BigInteger expected = g.modPow(e0, p).multiply(h.modPow(e1, p)).mod(p);
+
+		assertEquals(expected, FixedBaseExponentiation.multiExponentiate(List.of(fixedBaseExponentiation, hExponentiation), List.of(e0, e1)));
+	}
+
+	@Test
+	void multiExponentiateWithInvalidParametersThrows() {
+		final FixedBaseExponentiation otherModulus = new FixedBaseExponentiation(BigInteger.TWO, BigInteger.valueOf(23), 4);
+		final List<FixedBaseExponentiation> engines = List.of(fixedBaseExponentiation);
+		final List<FixedBaseExponentiation> mixedEngines = List.of(fixedBaseExponentiation, otherModulus);
+		final List<BigInteger> twoExponents = List.of(BigInteger.ONE, BigInteger.ONE);
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> FixedBaseExponentiation.multiExponentiate(null, List.of(BigInteger.ONE))),
+				() -> assertThrows(NullPointerException.class, () -> FixedBaseExponentiation.multiExponentiate(engines, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> FixedBaseExponentiation.multiExponentiate(List.of(), List.of())),
+				() -> assertThrows(IllegalArgumentException.class, () -> FixedBaseExponentiation.multiExponentiate(engines, twoExponents)),
+				() -> assertThrows(IllegalArgumentException.class, () -> FixedBaseExponentiation.multiExponentiate(mixedEngines, twoExponents)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> FixedBaseExponentiation.multiExponentiate(engines, List.of(BigInteger.ONE.negate())))
+		);
+	}
+
+	@Test
+	void estimateTableSizeGrowsWithBitLengths() {
+		final long size = FixedBaseExponentiation.estimateTableSize(p.bitLength(), q.bitLength());
+
+		assertAll(
+				() -> assertTrue(size > 0),
+				() -> assertTrue(FixedBaseExponentiation.estimateTableSize(2 * p.bitLength(), q.bitLength()) > size),
+				() -> assertTrue(FixedBaseExponentiation.estimateTableSize(p.bitLength(), 2 * q.bitLength()) > size),
+				() -> assertThrows(IllegalArgumentException.class, () -> FixedBaseExponentiation.estimateTableSize(0, 1))
+		);
+	}
+
+	@Test
+	void constructWithInvalidParametersThrows() {
+		final int bitLength = q.bitLength();
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> new FixedBaseExponentiation(null, p, bitLength)),
+				() -> assertThrows(NullPointerException.class, () -> new FixedBaseExponentiation(g, null, bitLength)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation(g, BigInteger.ONE, bitLength)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation(BigInteger.ZERO, p, bitLength)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation(p, p, bitLength)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new FixedBaseExponentiation(g, p, 0))
+		);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Montgomery products of {@link MontgomeryForm} with multiply followed by mod, for a single product and for chains of products, on
+ * the modulus sizes of the security levels. The chains include the final compensation of the factors R<sup>-1</sup>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MontgomeryFormBenchmark {
+
+	@Param({ "2048", "3072" })
+	public int bitLength;
+
+	@Param({ "2", "8", "64" })
+	public int chainLength;
+
+	private BigInteger modulus;
+	private MontgomeryForm montgomeryForm;
+	private BigInteger first;
+	private BigInteger second;
+	private List<BigInteger> chain;
+
+	@Setup
+	public void setUp() {
+		final SecureRandom random = new SecureRandom();
+		modulus = new BigInteger(bitLength, random).setBit(bitLength - 1).setBit(0);
+		montgomeryForm = new MontgomeryForm(modulus);
+		first = new BigInteger(bitLength - 1, random);
+		second = new BigInteger(bitLength - 1, random);
+		chain = Stream.generate(() -> new BigInteger(bitLength - 1, random)).limit(chainLength).toList();
+	}
+
+	@Benchmark
+	public BigInteger multiplyMod() {
+		return first.multiply(second).mod(modulus);
+	}
+
+	@Benchmark
+	public BigInteger montgomeryMultiply() {
+		return montgomeryForm.multiply(first, second);
+	}
+
+	@Benchmark
+	public BigInteger chainMultiplyMod() {
+		BigInteger product = BigInteger.ONE;
+		for (final BigInteger value : chain) {
+			product = product.multiply(value).mod(modulus);
+		}
+		return product;
+	}
+
+	@Benchmark
+	public BigInteger chainMontgomery() {
+		return montgomeryForm.product(chain);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+
+class MontgomeryFormTest {
+
+	private static final SecureRandom random = new SecureRandom();
+
+	private static BigInteger p;
+	private static MontgomeryForm montgomeryForm;
+
+	@BeforeAll
+	static void setUp() {
+		p = GroupTestData.getLargeGqGroup().getP();
+		montgomeryForm = new MontgomeryForm(p);
+	}
+
+	@RepeatedTest(10)
+	void multiplyInMontgomeryFormGivesModularProduct() {
+		final BigInteger a = new BigInteger(p.bitLength(), random).mod(p);
+		final BigInteger b = new BigInteger(p.bitLength(), random).mod(p);
+
+		final BigInteger product = montgomeryForm.multiply(montgomeryForm.toMontgomery(a), montgomeryForm.toMontgomery(b));
+
+		assertEquals(a.multiply(b).mod(p), montgomeryForm.fromMontgomery(product));
+	}
+
+	@Test
+	void conversionsAreInverse() {
+		final BigInteger x = new BigInteger(p.bitLength(), random).mod(p);
+
+		assertAll(
+				() -> assertEquals(x, montgomeryForm.fromMontgomery(montgomeryForm.toMontgomery(x))),
+				() -> assertEquals(BigInteger.ONE, montgomeryForm.fromMontgomery(montgomeryForm.one())),
+				() -> assertEquals(BigInteger.ZERO, montgomeryForm.toMontgomery(BigInteger.ZERO))
+		);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 2, 3, 100 })
+	void productGivesModularProduct(final int numberOfValues) {
+		final List<BigInteger> values = Stream.generate(() -> new BigInteger(p.bitLength(), random).mod(p)).limit(numberOfValues).toList();
+
+		final BigInteger expected = values.stream().reduce(BigInteger.ONE, (a, b) -> a.multiply(b).mod(p));
+
+		assertEquals(expected, montgomeryForm.product(values));
+	}
+
+	@Test
+	void combinedProductsGiveModularProduct() {
+		final List<BigInteger> values = Stream.generate(() -> new BigInteger(p.bitLength(), random).mod(p)).limit(7).toList();
+		final MontgomeryForm.Product left = montgomeryForm.newProduct();
+		final MontgomeryForm.Product right = montgomeryForm.newProduct();
+		values.subList(0, 3).forEach(left::multiply);
+		values.subList(3, 7).forEach(right::multiply);
+
+		final BigInteger expected = values.stream().reduce(BigInteger.ONE, (a, b) -> a.multiply(b).mod(p));
+
+		assertAll(
+				() -> assertEquals(expected, left.combine(montgomeryForm.newProduct()).combine(right).get()),
+				() -> assertEquals(expected, montgomeryForm.newProduct().combine(left).get()),
+				() -> assertEquals(expected, values.parallelStream()
+						.collect(montgomeryForm::newProduct, MontgomeryForm.Product::multiply, MontgomeryForm.Product::combine)
+						.get())
+		);
+	}
+
+	@Test
+	void smallModulus() {
+		final MontgomeryForm smallForm = new MontgomeryForm(BigInteger.valueOf(23));
+
+		assertEquals(BigInteger.valueOf(7), smallForm.product(List.of(BigInteger.valueOf(2), BigInteger.valueOf(3), BigInteger.valueOf(5))));
+		assertEquals(BigInteger.valueOf(5), smallForm.fromMontgomery(smallForm.multiply(smallForm.toMontgomery(BigInteger.valueOf(12)),
+				smallForm.toMontgomery(BigInteger.valueOf(10)))));
+	}
+
+	@Test
+	void invalidArguments() {
+		final List<BigInteger> valuesWithNull = Arrays.asList(BigInteger.ONE, null);
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> new MontgomeryForm(null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new MontgomeryForm(BigInteger.ONE)),
+				() -> assertThrows(IllegalArgumentException.class, () -> new MontgomeryForm(BigInteger.valueOf(24))),
+				() -> assertThrows(NullPointerException.class, () -> montgomeryForm.product(null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> montgomeryForm.product(valuesWithNull)),
+				() -> assertThrows(IllegalArgumentException.class,
+						() -> montgomeryForm.newProduct().combine(new MontgomeryForm(BigInteger.valueOf(23)).newProduct()))
+		);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.math;
+
+import static ch.post.it.evoting.cryptoprimitives.internal.math.TrustedGroupVectors.toTrustedGroupVector;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.math.GroupMatrix;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.test.tools.TestGroupElement;
+import ch.post.it.evoting.cryptoprimitives.test.tools.math.TestGroup;
+
+@DisplayName("TrustedGroupVectors")
+class TrustedGroupVectorsTest {
+
+	private TestGroup group;
+	private List<TestGroupElement> elements;
+
+	@BeforeEach
+	void setUp() {
+		group = new TestGroup();
+		elements = new ArrayList<>(Stream.generate(() -> new TestGroupElement(group)).limit(4).toList());
+	}
+
+	@Test
+	@DisplayName("vector returns an unmodifiable vector equal to the validated one")
+	void vectorEqualsValidatedVector() {
+		final GroupVector<TestGroupElement, TestGroup> vector = TrustedGroupVectors.vector(elements);
+
+		assertEquals(GroupVector.from(elements), vector);
+		assertEquals(group, vector.getGroup());
+		assertThrows(UnsupportedOperationException.class, () -> vector.set(0, new TestGroupElement(group)));
+	}
+
+	@Test
+	@DisplayName("toTrustedGroupVector collects into a vector equal to the validated one")
+	void collectorEqualsValidatedCollector() {
+		assertEquals(elements.stream().collect(GroupVector.toGroupVector()), elements.stream().collect(toTrustedGroupVector()));
+	}
+
+	@Test
+	@DisplayName("matrix returns a matrix equal to the validated one")
+	void matrixEqualsValidatedMatrix() {
+		final List<List<TestGroupElement>> rows = List.of(elements.subList(0, 2), elements.subList(2, 4));
+		final List<GroupVector<TestGroupElement, TestGroup>> rowVectors = rows.stream().map(GroupVector::from).toList();
+
+		final GroupMatrix<TestGroupElement, TestGroup> matrix = TrustedGroupVectors.matrix(rowVectors);
+
+		assertEquals(GroupMatrix.fromRows(rows), matrix);
+		assertEquals(GroupMatrix.fromRows(rows).transpose(), matrix.transpose());
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+
+class CommitmentKeyCacheTest {
+
+	private static final String TAG = "TEST";
+
+	private static GqGroup gqGroup;
+	private static CommitmentKeyService commitmentKeyService;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeAll
+	static void setUpAll() {
+		gqGroup = GroupTestData.getLargeGqGroup();
+		commitmentKeyService = new CommitmentKeyService(HashService.getInstance());
+	}
+
+	@Test
+	@DisplayName("returns the cached key on a hit")
+	void cachedKeyIsReturned() {
+		final CommitmentKeyCache cache = new CommitmentKeyCache(Long.MAX_VALUE);
+		final AtomicInteger generations = new AtomicInteger();
+		final Supplier<CommitmentKey> generator = countingGenerator(3, generations);
+
+		final CommitmentKey first = cache.get(3, gqGroup, generator);
+		final CommitmentKey second = cache.get(3, gqGroup, generator);
+
+		assertSame(first, second);
+		assertEquals(1, generations.get());
+		assertEquals(commitmentKeyService.getVerifiableCommitmentKey(3, gqGroup), first);
+	}
+
+	@Test
+	@DisplayName("caching service returns the same key as the uncached one")
+	void cachingServiceReturnsSameKey() {
+		final CommitmentKeyService cachingService = new CommitmentKeyService(HashService.getInstance(), new CommitmentKeyCache(Long.MAX_VALUE));
+
+		final CommitmentKey cached = cachingService.getVerifiableCommitmentKey(4, gqGroup);
+
+		assertEquals(commitmentKeyService.getVerifiableCommitmentKey(4, gqGroup), cached);
+		assertSame(cached, cachingService.getVerifiableCommitmentKey(4, gqGroup));
+	}
+
+	@Test
+	@DisplayName("evicts the least recently used keys above the maximum weight")
+	void leastRecentlyUsedKeyIsEvicted() {
+		final long maximumWeight = CommitmentKeyCache.estimateWeight(2, gqGroup) + CommitmentKeyCache.estimateWeight(3, gqGroup);
+		final CommitmentKeyCache cache = new CommitmentKeyCache(maximumWeight);
+		final AtomicInteger generations = new AtomicInteger();
+
+		cache.get(2, gqGroup, countingGenerator(2, generations));
+		cache.get(3, gqGroup, countingGenerator(3, generations));
+		cache.get(2, gqGroup, countingGenerator(2, generations));
+		assertEquals(2, generations.get());
+
+		// Key of size 3 is the least recently used one.
+		cache.get(1, gqGroup, countingGenerator(1, generations));
+		assertTrue(cache.weight() <= maximumWeight);
+		cache.get(2, gqGroup, countingGenerator(2, generations));
+		assertEquals(3, generations.get());
+		cache.get(3, gqGroup, countingGenerator(3, generations));
+		assertEquals(4, generations.get());
+	}
+
+	@Test
+	@DisplayName("with zero maximum weight does not retain keys")
+	void zeroWeightDisablesCache() {
+		final CommitmentKeyCache cache = new CommitmentKeyCache(0);
+		final AtomicInteger generations = new AtomicInteger();
+
+		cache.get(2, gqGroup, countingGenerator(2, generations));
+		cache.get(2, gqGroup, countingGenerator(2, generations));
+
+		assertEquals(2, generations.get());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("reads persisted keys back in a new cache")
+	void persistedKeysAreReadBack() {
+		final Path file = tempDir.resolve("commitment-keys");
+		final AtomicInteger generations = new AtomicInteger();
+
+		final CommitmentKey generated = new CommitmentKeyCache(Long.MAX_VALUE, file, TAG).get(3, gqGroup, countingGenerator(3, generations));
+		final CommitmentKey read = new CommitmentKeyCache(Long.MAX_VALUE, file, TAG).get(3, gqGroup, countingGenerator(3, generations));
+
+		assertEquals(generated, read);
+		assertEquals(1, generations.get());
+	}
+
+	@Test
+	@DisplayName("ignores persisted keys with another tag")
+	void persistedKeysWithOtherTagAreIgnored() {
+		final Path file = tempDir.resolve("commitment-keys");
+		final AtomicInteger generations = new AtomicInteger();
+
+		new CommitmentKeyCache(Long.MAX_VALUE, file, TAG).get(3, gqGroup, countingGenerator(3, generations));
+		new CommitmentKeyCache(Long.MAX_VALUE, file, "OTHER").get(3, gqGroup, countingGenerator(3, generations));
+
+		assertEquals(2, generations.get());
+	}
+
+	@Test
+	@DisplayName("ignores invalid persisted keys")
+	void invalidPersistedKeysAreIgnored() throws IOException {
+		final Path file = tempDir.resolve("commitment-keys");
+		final AtomicInteger generations = new AtomicInteger();
+		final CommitmentKey expected = commitmentKeyService.getVerifiableCommitmentKey(2, gqGroup);
+
+		final String prefix = String.join(";", TAG, gqGroup.getP().toString(16), gqGroup.getQ().toString(16),
+				gqGroup.getGenerator().getValue().toString(16), "2") + ";";
+		Files.write(file, List.of(
+				prefix + "1;4;9",
+				prefix + "zz",
+				prefix + gqGroup.getP().subtract(BigInteger.ONE).toString(16) + ";4;9"), StandardCharsets.UTF_8);
+
+		final CommitmentKey read = new CommitmentKeyCache(Long.MAX_VALUE, file, TAG).get(2, gqGroup, countingGenerator(2, generations));
+
+		assertEquals(expected, read);
+		assertEquals(1, generations.get());
+	}
+
+	@Test
+	@DisplayName("never returns a persisted key for a derived key")
+	void derivedKeyIgnoresPersistedKey() throws IOException {
+		final Path file = tempDir.resolve("commitment-keys");
+		final AtomicInteger generations = new AtomicInteger();
+		final CommitmentKey expected = commitmentKeyService.getVerifiableCommitmentKey(2, gqGroup);
+
+		// A valid key of the group, but not the derived one.
+		final String prefix = String.join(";", TAG, gqGroup.getP().toString(16), gqGroup.getQ().toString(16),
+				gqGroup.getGenerator().getValue().toString(16), "2") + ";";
+		Files.write(file, List.of(prefix + "4;9;10"), StandardCharsets.UTF_8);
+
+		final CommitmentKeyCache cache = new CommitmentKeyCache(Long.MAX_VALUE, file, TAG);
+		final CommitmentKey persisted = cache.get(2, gqGroup, countingGenerator(2, generations));
+		assertNotEquals(expected, persisted);
+		assertEquals(0, generations.get());
+
+		final CommitmentKey derived = cache.getDerived(2, gqGroup, countingGenerator(2, generations));
+		assertEquals(expected, derived);
+		assertEquals(1, generations.get());
+
+		// The derived key replaced the persisted one in memory.
+		assertSame(derived, cache.get(2, gqGroup, countingGenerator(2, generations)));
+		assertSame(derived, cache.getDerived(2, gqGroup, countingGenerator(2, generations)));
+		assertEquals(1, generations.get());
+		assertEquals(CommitmentKeyCache.estimateWeight(2, gqGroup), cache.weight());
+	}
+
+	@Test
+	@DisplayName("neither reads nor writes the file for a derived key")
+	void derivedKeyDoesNotUseFile() throws IOException {
+		final Path file = tempDir.resolve("commitment-keys");
+		final AtomicInteger generations = new AtomicInteger();
+
+		final CommitmentKeyCache cache = new CommitmentKeyCache(Long.MAX_VALUE, file, TAG);
+		final CommitmentKey derived = cache.getDerived(2, gqGroup, countingGenerator(2, generations));
+
+		assertEquals(commitmentKeyService.getVerifiableCommitmentKey(2, gqGroup), derived);
+		assertEquals(1, generations.get());
+		assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void constructionWithInvalidArgumentsThrows() {
+		final Path file = tempDir.resolve("commitment-keys");
+
+		assertThrows(IllegalArgumentException.class, () -> new CommitmentKeyCache(-1));
+		assertThrows(NullPointerException.class, () -> new CommitmentKeyCache(0, null, TAG));
+		assertThrows(NullPointerException.class, () -> new CommitmentKeyCache(0, file, null));
+		assertThrows(IllegalArgumentException.class, () -> new CommitmentKeyCache(0, file, "A;B"));
+		assertThrows(IllegalArgumentException.class, () -> new CommitmentKeyCache(0, file, " "));
+	}
+
+	private static Supplier<CommitmentKey> countingGenerator(final int numberOfElements, final AtomicInteger generations) {
+		return () -> {
+			generations.incrementAndGet();
+			return commitmentKeyService.getVerifiableCommitmentKey(numberOfElements, gqGroup);
+		};
+	}
+}
@@ -143,6 +143,13 @@ class CommitmentServiceTest {
 			assertEquals(gqGroup, CommitmentService.getCommitment(validElements, randomValue, validCommitmentKey).getGroup());
 		}
 
+		@RepeatedTest(10)
+		@DisplayName("returns the same commitment as getCommitmentPublic")
+		void getCommitmentSameAsGetCommitmentPublic() {
+			assertEquals(CommitmentService.getCommitment(validElements, randomValue, validCommitmentKey),
+					CommitmentService.getCommitmentPublic(validElements, randomValue, validCommitmentKey));
+		}
+
 		@RepeatedTest(100)
 		@DisplayName("returns the same commitment when elements are added to the commitment key")
 		void getCommitmentWithLongerCommitmentKeyYieldsSameResult() {
@@ -263,6 +270,28 @@ class CommitmentServiceTest {
 			assertEquals(commitmentExactCK, commitmentLongerCK);
 		}
 
+		@RepeatedTest(10)
+		@DisplayName("with the fixed-base tables of the key returns the same commitments")
+		void getCommitmentMatrixWithFixedBaseTablesYieldsSameResult() {
+			final int columns = CommitmentService.PRECOMPUTATION_THRESHOLD;
+			final GroupMatrix<ZqElement, ZqGroup> matrix = zqGroupGenerator.genRandomZqElementMatrix(n, columns);
+			final GroupVector<ZqElement, ZqGroup> randomValues = zqGroupGenerator.genRandomZqElementVector(columns);
+			final CommitmentKey withoutTables = new CommitmentKey(validCommitmentKey.getH(), validCommitmentKey.getG(), 0);
+			final CommitmentKey withTables = new CommitmentKey(validCommitmentKey.getH(), validCommitmentKey.getG(), Long.MAX_VALUE);
+
+			assertTrue(withTables.getFixedBaseTablesIfBuilt().isEmpty());
+			assertEquals(CommitmentService.getCommitmentMatrix(matrix, randomValues, withoutTables),
+					CommitmentService.getCommitmentMatrix(matrix, randomValues, withTables));
+			assertEquals(KEY_LENGTH + 1, withTables.getFixedBaseTablesIfBuilt().size());
+			assertTrue(withoutTables.getFixedBaseTables().isEmpty());
+
+			final GroupVector<ZqElement, ZqGroup> column = matrix.getColumn(0);
+			final ZqElement randomValue = randomValues.get(0);
+			assertEquals(CommitmentService.getCommitment(column, randomValue, withoutTables),
+					CommitmentService.getCommitment(column, randomValue, withTables));
+			assertEquals(withoutTables, withTables);
+		}
+
 		@Test
 		void getCommitmentMatrixWithSpecificValues() {
 
@@ -546,6 +546,22 @@ class HadamardArgumentServiceTest extends TestGroupSetup {
 					String.format("assertion failed for: %s", description));
 		}
 
+		@ParameterizedTest
+		@MethodSource("verifyHadamardArgumentRealValuesProvider")
+		@DisplayName("with real values gives expected result when verified as a batch of equations")
+		void verifyBatchedEquationsRealValues(final ElGamalMultiRecipientPublicKey publicKey, final CommitmentKey commitmentKey,
+				final HadamardStatement hadamardStatement, final HadamardArgument hadamardArgument, final boolean expectedOutput,
+				final String description) {
+
+			final HashService hashService = HashService.getInstance();
+
+			final HadamardArgumentService service = new HadamardArgumentService(randomService, hashService, publicKey, commitmentKey);
+			final VerificationEquations equations = new VerificationEquations(publicKey.getGroup(), randomService);
+			service.addVerificationEquations(hadamardStatement, hadamardArgument, equations);
+
+			assertEquals(expectedOutput, equations.verify(), String.format("assertion failed for: %s", description));
+		}
+
 		Stream<Arguments> verifyHadamardArgumentRealValuesProvider() {
 			final List<TestParameters> parametersList = TestParameters.fromResource("/mixnet/verify-hadamard-argument.json");
 
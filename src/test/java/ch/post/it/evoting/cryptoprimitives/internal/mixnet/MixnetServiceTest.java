@@ -16,28 +16,35 @@
 package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.HashService;
 import ch.post.it.evoting.cryptoprimitives.internal.hashing.TestHashService;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
 import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
 import ch.post.it.evoting.cryptoprimitives.mixnet.Mixnet;
+import ch.post.it.evoting.cryptoprimitives.mixnet.Permutation;
 import ch.post.it.evoting.cryptoprimitives.mixnet.ShuffleArgument;
+import ch.post.it.evoting.cryptoprimitives.mixnet.ShufflePrecomputation;
 import ch.post.it.evoting.cryptoprimitives.mixnet.VerifiableShuffle;
 import ch.post.it.evoting.cryptoprimitives.test.tools.TestGroupSetup;
 import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
 
 class MixnetServiceTest extends TestGroupSetup {
 
@@ -60,7 +67,9 @@ class MixnetServiceTest extends TestGroupSetup {
 
 			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> inputCiphertextList = new ElGamalGenerator(gqGroup)
 					.genRandomCiphertextVector(5, 5);
-			assertThrows(NullPointerException.class, () -> mixnet.genVerifiableShuffle(null, publicKey));
+			assertThrows(NullPointerException.class,
+					() -> mixnet.genVerifiableShuffle((GroupVector<ElGamalMultiRecipientCiphertext, GqGroup>) null, publicKey));
+			assertThrows(NullPointerException.class, () -> mixnet.genVerifiableShuffle((ElGamalMultiRecipientCiphertextMatrix) null, publicKey));
 			assertThrows(NullPointerException.class, () -> mixnet.genVerifiableShuffle(inputCiphertextList, null));
 		}
 
@@ -149,6 +158,29 @@ class MixnetServiceTest extends TestGroupSetup {
 
 		}
 
+		@Test
+		void testValidShuffleOfCiphertextMatrix() {
+			final GqGroup group = GroupTestData.getLargeGqGroup();
+
+			publicKey = new ElGamalGenerator(group).genRandomPublicKey(keySize);
+
+			final HashService hashService = TestHashService.create(gqGroup.getQ());
+			final Mixnet mixnet = new MixnetService(hashService);
+
+			final int Nc = secureRandom.nextInt(10) + 2;
+			final int l = secureRandom.nextInt(keySize) + 1;
+			final ElGamalGenerator elGamalGenerator = new ElGamalGenerator(group);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> inputCiphertextList = elGamalGenerator.genRandomCiphertextVector(Nc, l);
+			final ElGamalMultiRecipientCiphertextMatrix inputCiphertexts = ElGamalMultiRecipientCiphertextMatrix.from(inputCiphertextList,
+					ElGamalMultiRecipientCiphertextMatrix.Storage.OFF_HEAP);
+
+			final VerifiableShuffle verifiableShuffle = mixnet.genVerifiableShuffle(inputCiphertexts, publicKey);
+
+			assertEquals(inputCiphertextList.size(), verifiableShuffle.shuffledCiphertexts().size());
+			assertTrue(mixnet.verifyShuffle(inputCiphertextList, verifiableShuffle.shuffledCiphertexts(), verifiableShuffle.shuffleArgument(),
+					publicKey).isVerified());
+		}
+
 		@Test
 		void testNumberOfCipherTextsGreaterthanPublicKey() {
 			final HashService hashService = TestHashService.create(gqGroup.getQ());
@@ -374,5 +406,121 @@ class MixnetServiceTest extends TestGroupSetup {
 
 			assertTrue(() -> mixnet.verifyShuffle(ciphertexts, shuffledCiphertexts, shuffleArgument, publicKey).isVerified());
 		}
+
+		@Test
+		void testVerifiesArgumentGeneratedInOtherExecutionContext() {
+			final GqGroup gqGroup = GroupTestData.getLargeGqGroup();
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts = new ElGamalGenerator(gqGroup).genRandomCiphertextVector(4, 2);
+			final ElGamalMultiRecipientPublicKey publicKey = new ElGamalGenerator(gqGroup).genRandomPublicKey(2);
+
+			try (final ExecutionContext dedicatedContext = ExecutionContext.withParallelism(2)) {
+				final VerifiableShuffle verifiableShuffle = new MixnetService(dedicatedContext).genVerifiableShuffle(ciphertexts, publicKey);
+				final Mixnet sequentialMixnet = new MixnetService(ExecutionContext.sequential());
+
+				assertTrue(sequentialMixnet.verifyShuffle(ciphertexts, verifiableShuffle.shuffledCiphertexts(), verifiableShuffle.shuffleArgument(),
+						publicKey).isVerified());
+			}
+		}
+	}
+	@Nested
+	class GenVerifiableShuffleWithPrecomputationTest {
+
+		private GqGroup largeGqGroup;
+		private Mixnet mixnet;
+		private ElGamalMultiRecipientPublicKey largePublicKey;
+		private int Nc;
+		private int l;
+
+		@BeforeEach
+		void setUp() {
+			largeGqGroup = GroupTestData.getLargeGqGroup();
+			mixnet = new MixnetService(HashService.getInstance());
+			largePublicKey = new ElGamalGenerator(largeGqGroup).genRandomPublicKey(keySize);
+			Nc = secureRandom.nextInt(4) + 2;
+			l = secureRandom.nextInt(keySize) + 1;
+		}
+
+		@Test
+		void testVerifiesShuffleGeneratedWithPrecomputation() {
+			final ShufflePrecomputation precomputation = mixnet.genShufflePrecomputation(Nc, l, largePublicKey);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts = new ElGamalGenerator(largeGqGroup)
+					.genRandomCiphertextVector(Nc, l);
+
+			final VerifiableShuffle verifiableShuffle = mixnet.genVerifiableShuffle(ciphertexts, largePublicKey, precomputation);
+
+			assertEquals(Nc, precomputation.size());
+			assertEquals(l, precomputation.getCiphertextSize());
+			assertEquals(Nc, verifiableShuffle.shuffledCiphertexts().size());
+			assertTrue(mixnet.verifyShuffle(ciphertexts, verifiableShuffle.shuffledCiphertexts(), verifiableShuffle.shuffleArgument(),
+					largePublicKey).isVerified());
+		}
+
+		@Test
+		void testNullChecking() {
+			final ShufflePrecomputation precomputation = mixnet.genShufflePrecomputation(Nc, l, largePublicKey);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts = new ElGamalGenerator(largeGqGroup)
+					.genRandomCiphertextVector(Nc, l);
+
+			assertThrows(NullPointerException.class, () -> mixnet.genShufflePrecomputation(Nc, l, null));
+			assertThrows(NullPointerException.class, () -> mixnet.genVerifiableShuffle(null, largePublicKey, precomputation));
+			assertThrows(NullPointerException.class, () -> mixnet.genVerifiableShuffle(ciphertexts, null, precomputation));
+			assertThrows(NullPointerException.class, () -> mixnet.genVerifiableShuffle(ciphertexts, largePublicKey, null));
+		}
+
+		@Test
+		void testInvalidPrecomputationArgumentsThrow() {
+			final IllegalArgumentException tooFew = assertThrows(IllegalArgumentException.class,
+					() -> mixnet.genShufflePrecomputation(1, l, largePublicKey));
+			assertEquals("N must be >= 2", tooFew.getMessage());
+
+			final IllegalArgumentException tooLong = assertThrows(IllegalArgumentException.class,
+					() -> mixnet.genShufflePrecomputation(Nc, keySize + 1, largePublicKey));
+			assertEquals("Ciphertexts must not contain more elements than the publicKey", tooLong.getMessage());
+		}
+
+		@Test
+		void testMismatchingPrecomputationThrows() {
+			final ShufflePrecomputation precomputation = mixnet.genShufflePrecomputation(Nc, l, largePublicKey);
+			final ElGamalGenerator elGamalGenerator = new ElGamalGenerator(largeGqGroup);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> moreCiphertexts = elGamalGenerator.genRandomCiphertextVector(Nc + 1, l);
+			final ElGamalMultiRecipientPublicKey otherPublicKey = elGamalGenerator.genRandomPublicKey(keySize);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts = elGamalGenerator.genRandomCiphertextVector(Nc, l);
+
+			final IllegalArgumentException wrongSize = assertThrows(IllegalArgumentException.class,
+					() -> mixnet.genVerifiableShuffle(moreCiphertexts, largePublicKey, precomputation));
+			assertEquals("The precomputation must have been computed for N ciphertexts", wrongSize.getMessage());
+
+			final IllegalArgumentException wrongKey = assertThrows(IllegalArgumentException.class,
+					() -> mixnet.genVerifiableShuffle(ciphertexts, otherPublicKey, precomputation));
+			assertEquals("The precomputation must have been computed for the publicKey", wrongKey.getMessage());
+		}
+
+		@Test
+		void testReusedPrecomputationThrows() {
+			final ShufflePrecomputation precomputation = mixnet.genShufflePrecomputation(Nc, l, largePublicKey);
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts = new ElGamalGenerator(largeGqGroup)
+					.genRandomCiphertextVector(Nc, l);
+
+			assertFalse(precomputation.isUsed());
+			mixnet.genVerifiableShuffle(ciphertexts, largePublicKey, precomputation);
+			assertTrue(precomputation.isUsed());
+
+			final IllegalStateException reused = assertThrows(IllegalStateException.class,
+					() -> mixnet.genVerifiableShuffle(ciphertexts, largePublicKey, precomputation));
+			assertEquals("The precomputation was already used for a shuffle.", reused.getMessage());
+		}
+
+		@Test
+		void testInconsistentPrecomputationComponentsThrow() {
+			final ShufflePrecomputation precomputation = mixnet.genShufflePrecomputation(Nc, l, largePublicKey);
+			final Permutation shorterPermutation = new Permutation(IntStream.range(0, Nc - 1).boxed().toList());
+
+			assertThrows(IllegalArgumentException.class,
+					() -> new ShufflePrecomputation(largePublicKey, shorterPermutation, precomputation.reEncryptionExponents(),
+							precomputation.encryptedOnes(), precomputation.commitmentExponents(), precomputation.permutationCommitment()));
+			assertThrows(NullPointerException.class,
+					() -> new ShufflePrecomputation(null, precomputation.permutation(), precomputation.reEncryptionExponents(),
+							precomputation.encryptedOnes(), precomputation.commitmentExponents(), precomputation.permutationCommitment()));
+		}
 	}
 }
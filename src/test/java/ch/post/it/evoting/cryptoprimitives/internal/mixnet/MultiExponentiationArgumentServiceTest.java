@@ -505,6 +505,23 @@ class MultiExponentiationArgumentServiceTest extends TestGroupSetup {
 					String.format("assertion failed for: %s", description));
 		}
 
+		@ParameterizedTest(name = "{5}")
+		@MethodSource("verifyMultiExponentiationArgumentRealValueProvider")
+		@DisplayName("with real values gives expected result when verified as a batch of equations")
+		void verifyBatchedEquationsRealValues(final ElGamalMultiRecipientPublicKey publicKey, final CommitmentKey commitmentKey,
+				final MultiExponentiationStatement statement, final MultiExponentiationArgument argument, final boolean expectedOutput,
+				final String description) {
+
+			final HashService hashService = HashService.getInstance();
+
+			final MultiExponentiationArgumentService service = new MultiExponentiationArgumentService(publicKey, commitmentKey, randomService,
+					hashService);
+			final VerificationEquations equations = new VerificationEquations(publicKey.getGroup(), randomService);
+			service.addVerificationEquations(statement, argument, equations);
+
+			assertEquals(expectedOutput, equations.verify(), String.format("assertion failed for: %s", description));
+		}
+
 		Stream<Arguments> verifyMultiExponentiationArgumentRealValueProvider() {
 			final List<TestParameters> parametersList = TestParameters.fromResource("/mixnet/verify-multiexp-argument.json");
 
@@ -613,6 +613,23 @@ class ProductArgumentServiceTest extends TestGroupSetup {
 					String.format("assertion failed for: %s", description));
 		}
 
+		@ParameterizedTest(name = "{5}")
+		@MethodSource("verifyProductArgumentRealValuesProvider")
+		@DisplayName("with real values gives expected result when verified as a batch of equations")
+		void verifyBatchedEquationsRealValues(final ElGamalMultiRecipientPublicKey publicKey, final CommitmentKey commitmentKey,
+				final ProductStatement productStatement, final ProductArgument productArgument, final boolean expectedOutput,
+				final String description) {
+
+			final HashService hashService = HashService.getInstance();
+
+			final ProductArgumentService service = new ProductArgumentService(randomService, hashService, publicKey,
+					commitmentKey);
+			final VerificationEquations equations = new VerificationEquations(publicKey.getGroup(), randomService);
+			service.addVerificationEquations(productStatement, productArgument, equations);
+
+			assertEquals(expectedOutput, equations.verify(), String.format("assertion failed for: %s", description));
+		}
+
 		Stream<Arguments> verifyProductArgumentRealValuesProvider() {
 			final List<TestParameters> parametersList = TestParameters.fromResource("/mixnet/verify-product-argument.json");
 
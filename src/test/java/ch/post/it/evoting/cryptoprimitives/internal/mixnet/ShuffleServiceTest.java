@@ -33,8 +33,12 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientMessage;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalUtils;
+import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientCiphertexts;
+import ch.post.it.evoting.cryptoprimitives.internal.elgamal.ElGamalMultiRecipientMessages;
 import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
 import ch.post.it.evoting.cryptoprimitives.math.GqElement;
 import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
@@ -69,7 +73,8 @@ class ShuffleServiceTest {
 
 	@Test
 	void testNullCiphertextsThrows() {
-		assertThrows(NullPointerException.class, () -> shuffleService.genShuffle(null, randomPublicKey));
+		assertThrows(NullPointerException.class, () -> shuffleService.genShuffle((List<ElGamalMultiRecipientCiphertext>) null, randomPublicKey));
+		assertThrows(NullPointerException.class, () -> shuffleService.genShuffle((ElGamalMultiRecipientCiphertextMatrix) null, randomPublicKey));
 	}
 
 	@Test
@@ -104,6 +109,40 @@ class ShuffleServiceTest {
 		assertNotEquals(ciphertexts, shuffle.getCiphertexts());
 	}
 
+	@Test
+	void testShuffleWithPrecomputedKeyGivesReEncryptionsOfPermutedCiphertexts() {
+		final int numCiphertexts = ShuffleService.PRECOMPUTATION_THRESHOLD;
+		final ElGamalMultiRecipientPublicKey publicKey = elGamalGenerator.genRandomPublicKey(NUM_ELEMENTS);
+		final List<ElGamalMultiRecipientCiphertext> ciphertexts = elGamalGenerator.genRandomCiphertexts(publicKey, NUM_ELEMENTS, numCiphertexts);
+		final ElGamalMultiRecipientMessage ones = ElGamalMultiRecipientMessages.ones(group, NUM_ELEMENTS);
+
+		final Shuffle shuffle = shuffleService.genShuffle(ciphertexts, publicKey);
+
+		for (int i = 0; i < numCiphertexts; i++) {
+			final ElGamalMultiRecipientCiphertext expected = ElGamalMultiRecipientCiphertexts.getCiphertext(ones,
+					shuffle.getReEncryptionExponents().get(i), publicKey).getCiphertextProduct(ciphertexts.get(shuffle.getPermutation().get(i)));
+			assertEquals(expected, shuffle.getCiphertexts().get(i));
+		}
+	}
+
+	@Test
+	void testShuffleOfCiphertextMatrixGivesReEncryptionsOfPermutedCiphertexts() {
+		final ElGamalMultiRecipientPublicKey publicKey = elGamalGenerator.genRandomPublicKey(NUM_ELEMENTS);
+		final List<ElGamalMultiRecipientCiphertext> ciphertexts = elGamalGenerator.genRandomCiphertexts(publicKey, NUM_ELEMENTS, NUM_CIPHERTEXTS);
+		final ElGamalMultiRecipientCiphertextMatrix matrix = ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts,
+				ElGamalMultiRecipientCiphertextMatrix.Storage.HEAP);
+		final ElGamalMultiRecipientMessage ones = ElGamalMultiRecipientMessages.ones(group, NUM_ELEMENTS);
+
+		final Shuffle shuffle = shuffleService.genShuffle(matrix, publicKey);
+
+		assertEquals(NUM_CIPHERTEXTS, shuffle.getCiphertexts().size());
+		for (int i = 0; i < NUM_CIPHERTEXTS; i++) {
+			final ElGamalMultiRecipientCiphertext expected = ElGamalMultiRecipientCiphertexts.getCiphertext(ones,
+					shuffle.getReEncryptionExponents().get(i), publicKey).getCiphertextProduct(ciphertexts.get(shuffle.getPermutation().get(i)));
+			assertEquals(expected, shuffle.getCiphertexts().get(i));
+		}
+	}
+
 	@Test
 	void immutableShuffle() {
 		final List<ElGamalMultiRecipientCiphertext> ciphertexts = new ArrayList<>();
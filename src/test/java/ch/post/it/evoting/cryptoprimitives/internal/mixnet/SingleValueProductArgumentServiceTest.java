@@ -352,6 +352,23 @@ class SingleValueProductArgumentServiceTest extends TestGroupSetup {
 					String.format("assertion failed for: %s", description));
 		}
 
+		@ParameterizedTest
+		@MethodSource("verifySingleValueProductArgumentRealValuesProvider")
+		@DisplayName("with real values gives expected result when verified as a batch of equations")
+		void verifyBatchedEquationsRealValues(final ElGamalMultiRecipientPublicKey publicKey, final CommitmentKey commitmentKey,
+				final SingleValueProductStatement singleValueProductStatement, final SingleValueProductArgument singleValueProductArgument, final boolean expectedOutput,
+				final String description) {
+
+			final HashService hashService = HashService.getInstance();
+
+			final SingleValueProductArgumentService service = new SingleValueProductArgumentService(randomService, hashService, publicKey,
+					commitmentKey);
+			final VerificationEquations equations = new VerificationEquations(publicKey.getGroup(), randomService);
+			service.addVerificationEquations(singleValueProductStatement, singleValueProductArgument, equations);
+
+			assertEquals(expectedOutput, equations.verify(), String.format("assertion failed for: %s", description));
+		}
+
 		Stream<Arguments> verifySingleValueProductArgumentRealValuesProvider() {
 			final List<TestParameters> parametersList = TestParameters.fromResource("/mixnet/verify-single-value-product-argument.json");
 
@@ -48,7 +48,7 @@ class TestContextParser {
 			default -> throw new IllegalArgumentException("Unexpected bit length of p");
 			}
 
-			this.gqGroup = new GqGroup(p, q, g);
+			this.gqGroup = GqGroup.of(p, q, g);
 			this.context = contextData;
 		}
 	}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.mixnet;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.RandomService;
+import ch.post.it.evoting.cryptoprimitives.math.GqElement;
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.math.GroupVector;
+import ch.post.it.evoting.cryptoprimitives.math.ZqElement;
+import ch.post.it.evoting.cryptoprimitives.math.ZqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ZqGroupGenerator;
+
+class VerificationEquationsTest {
+
+	private static final int KEY_LENGTH = 4;
+	private static final RandomService randomService = new RandomService();
+
+	private static GqGroup gqGroup;
+	private static ZqGroupGenerator zqGroupGenerator;
+	private static CommitmentKey commitmentKey;
+
+	private VerificationEquations equations;
+	private GqElement base;
+	private ZqElement exponent;
+
+	@BeforeAll
+	static void setUpAll() {
+		gqGroup = GroupTestData.getLargeGqGroup();
+		zqGroupGenerator = new ZqGroupGenerator(ZqGroup.sameOrderAs(gqGroup));
+		commitmentKey = new TestCommitmentKeyGenerator(gqGroup).genCommitmentKey(KEY_LENGTH);
+	}
+
+	@BeforeEach
+	void setUp() {
+		equations = new VerificationEquations(gqGroup, randomService);
+		base = gqGroup.getGenerator().exponentiate(zqGroupGenerator.genRandomZqElementMember());
+		exponent = zqGroupGenerator.genRandomZqElementMember();
+	}
+
+	@Test
+	@DisplayName("without equations verifies")
+	void emptyVerifies() {
+		assertTrue(equations.verify());
+	}
+
+	@Test
+	@DisplayName("with true equations verifies")
+	void trueEquationsVerify() {
+		final GqElement power = base.exponentiate(exponent);
+		equations.addEquation(List.of(base), List.of(exponent), List.of(power), List.of(one()));
+		equations.addEquation(List.of(power, base), List.of(one(), exponent.negate()), List.of(), List.of());
+		equations.addCondition(true);
+
+		assertTrue(equations.verify());
+	}
+
+	@Test
+	@DisplayName("with a false equation does not verify")
+	void falseEquationDoesNotVerify() {
+		final GqElement power = base.exponentiate(exponent);
+		equations.addEquation(List.of(base), List.of(exponent), List.of(power), List.of(one()));
+		equations.addEquation(List.of(base), List.of(exponent), List.of(power.multiply(base)), List.of(one()));
+
+		assertFalse(equations.verify());
+	}
+
+	@Test
+	@DisplayName("with a false condition does not verify")
+	void falseConditionDoesNotVerify() {
+		equations.addCondition(false);
+		equations.addCondition(true);
+
+		assertFalse(equations.verify());
+	}
+
+	@Test
+	@DisplayName("with commitment equations verifies iff the commitments are correct")
+	void commitmentEquations() {
+		final GroupVector<ZqElement, ZqGroup> a = zqGroupGenerator.genRandomZqElementVector(KEY_LENGTH - 1);
+		final ZqElement r = zqGroupGenerator.genRandomZqElementMember();
+		final GqElement commitment = CommitmentService.getCommitment(a, r, commitmentKey);
+		final GqElement otherCommitment = CommitmentService.getCommitment(a, exponent, commitmentKey);
+
+		equations.addCommitmentEquation(List.of(commitment), List.of(one()), a, r, commitmentKey);
+		equations.addCommitmentEquation(List.of(otherCommitment), List.of(one()), a, exponent, commitmentKey);
+		assertTrue(equations.verify());
+
+		equations.addCommitmentEquation(List.of(commitment), List.of(one()), a, exponent, commitmentKey);
+		assertFalse(equations.verify());
+	}
+
+	@Test
+	@DisplayName("with the equations of another batch verifies iff both batches verify")
+	void addAllMergesBatches() {
+		final GqElement power = base.exponentiate(exponent);
+		final VerificationEquations other = new VerificationEquations(gqGroup, randomService);
+		other.addEquation(List.of(base), List.of(exponent), List.of(power), List.of(one()));
+		equations.addEquation(List.of(power), List.of(one()), List.of(base), List.of(exponent));
+		equations.addAll(other);
+		assertTrue(equations.verify());
+
+		final VerificationEquations falseOther = new VerificationEquations(gqGroup, randomService);
+		falseOther.addCondition(false);
+		equations.addAll(falseOther);
+		assertFalse(equations.verify());
+
+		assertThrows(NullPointerException.class, () -> equations.addAll(null));
+	}
+
+	@Test
+	@DisplayName("is not applicable to groups smaller than the weights")
+	void smallGroupNotApplicable() {
+		final GqGroup smallGroup = GroupTestData.getGqGroup();
+
+		assertFalse(VerificationEquations.isApplicable(smallGroup));
+		assertTrue(VerificationEquations.isApplicable(gqGroup));
+		assertThrows(IllegalArgumentException.class, () -> new VerificationEquations(smallGroup, randomService));
+		assertThrows(NullPointerException.class, () -> new VerificationEquations(null, randomService));
+		assertThrows(NullPointerException.class, () -> new VerificationEquations(gqGroup, null));
+	}
+
+	@Test
+	@DisplayName("with mismatching sizes or groups throws")
+	void invalidEquationThrows() {
+		final List<GqElement> bases = List.of(base);
+		final List<ZqElement> exponents = List.of(exponent);
+		final List<GqElement> otherGroupBases = List.of(GroupTestData.getGqGroup().getGenerator());
+
+		assertThrows(IllegalArgumentException.class, () -> equations.addEquation(bases, List.of(), bases, exponents));
+		assertThrows(IllegalArgumentException.class, () -> equations.addEquation(bases, exponents, List.of(), exponents));
+		assertThrows(IllegalArgumentException.class, () -> equations.addEquation(otherGroupBases, exponents, bases, exponents));
+	}
+
+	private ZqElement one() {
+		return ZqElement.create(1, exponent.getGroup());
+	}
+}
@@ -554,6 +554,25 @@ class ZeroArgumentServiceTest extends TestGroupSetup {
 			assertTrue(verifyZeroArgumentService.verifyZeroArgument(statement, zeroArgument).verify().isVerified());
 		}
 
+		@Test
+		@DisplayName("with a valid argument verifies as a batch of equations")
+		void verifyBatchedEquationsTest() {
+			// The random weights of the batch need a large group.
+			final GqGroup largeGqGroup = GroupTestData.getLargeGqGroup();
+			final CommitmentKey largeCommitmentKey = new TestCommitmentKeyGenerator(largeGqGroup).genCommitmentKey(KEY_ELEMENTS_NUMBER);
+			final ElGamalMultiRecipientPublicKey largePublicKey = new ElGamalGenerator(largeGqGroup).genRandomPublicKey(KEY_ELEMENTS_NUMBER);
+			final ZeroArgumentService largeZeroArgumentService = new ZeroArgumentService(largePublicKey, largeCommitmentKey, randomService,
+					HashService.getInstance());
+			final ZeroArgumentTestData testData = new ZeroArgumentTestData(largeCommitmentKey, largeZeroArgumentService);
+			final ZeroStatement statement = testData.getZeroStatement();
+			final ZeroArgument zeroArgument = largeZeroArgumentService.getZeroArgument(statement, testData.getZeroWitness());
+
+			final VerificationEquations equations = new VerificationEquations(largeGqGroup, randomService);
+			largeZeroArgumentService.addVerificationEquations(statement, zeroArgument, equations);
+
+			assertTrue(equations.verify());
+		}
+
 		@Test
 		void testNullInputParameters() {
 			final ZeroArgument zeroArgument = mock(ZeroArgument.class);
@@ -608,6 +627,22 @@ class ZeroArgumentServiceTest extends TestGroupSetup {
 					String.format("assertion failed for: %s", description));
 		}
 
+		@ParameterizedTest(name = "{5}")
+		@MethodSource("verifyZeroArgumentRealValuesProvider")
+		@DisplayName("with real values gives expected result when verified as a batch of equations")
+		void verifyBatchedEquationsRealValues(final ElGamalMultiRecipientPublicKey publicKey, final CommitmentKey commitmentKey,
+				final ZeroStatement zeroStatement, final ZeroArgument zeroArgument, final boolean expectedOutput,
+				final String description) {
+
+			final HashService hashService = HashService.getInstance();
+
+			final ZeroArgumentService service = new ZeroArgumentService(publicKey, commitmentKey, randomService, hashService);
+			final VerificationEquations equations = new VerificationEquations(publicKey.getGroup(), randomService);
+			service.addVerificationEquations(zeroStatement, zeroArgument, equations);
+
+			assertEquals(expectedOutput, equations.verify(), String.format("assertion failed for: %s", description));
+		}
+
 		Stream<Arguments> verifyZeroArgumentRealValuesProvider() {
 			final List<TestParameters> parametersList = TestParameters.fromResource("/mixnet/verify-zero-argument.json");
 
@@ -69,9 +69,8 @@ public class ZeroArgumentTestData {
 		n = secureRandom.nextInt(RANDOM_UPPER_BOUND) + 1;
 
 		// Construct valid witness and statement so that the zero product property holds. To do so, pick at random every witness parameters and
-		// the witness' y value. Then isolate the last element of matrix B, B_(n,m) in the expanded zero product property. Once done, try every
-		// member of the Zq group as a value for B_(n,m) until the zero product property is satisfied. This is fast as long as the test groups are
-		// small.
+		// the witness' y value. Then isolate the last element of matrix B, B_(n,m) in the expanded zero product property and solve for it. Its
+		// factor is inverted with Fermat's little theorem, q being prime, hence this works in the large test groups as well.
 		GroupVector<ZqElement, ZqGroup> exponentsR = zqGroupGenerator.genRandomZqElementVector(m);
 		GroupVector<ZqElement, ZqGroup> exponentsS = zqGroupGenerator.genRandomZqElementVector(m);
 
@@ -106,13 +105,10 @@ public class ZeroArgumentTestData {
 					.reduce(zqGroup.getIdentity(), ZqElement::add).negate();
 			final ZqElement otherTerms = sumOfOtherZeroProductTerms.add(sumOfOtherStarMapTerms);
 
-			matrixBLastElem = IntStream.range(0, zqGroup.getQ().intValue())
-					.mapToObj(i -> ZqElement.create(BigInteger.valueOf(i), zqGroup))
-					.filter(candidate -> finalMatrixA.get(n - 1, m - 1)
-							.multiply(candidate)
-							.multiply(finalY.exponentiate(BigInteger.valueOf(n)))
-							.equals(otherTerms))
-					.findAny();
+			final ZqElement factor = finalMatrixA.get(n - 1, m - 1).multiply(finalY.exponentiate(BigInteger.valueOf(n)));
+			matrixBLastElem = factor.equals(zqGroup.getIdentity())
+					? Optional.empty()
+					: Optional.of(otherTerms.multiply(factor.exponentiate(zqGroup.getQ().subtract(BigInteger.TWO))));
 		} while (!matrixBLastElem.isPresent());
 
 		// Replace B_(n,m) by the value satisfying the ensure equation.
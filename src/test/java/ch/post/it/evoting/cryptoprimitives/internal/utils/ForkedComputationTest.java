@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("A ForkedComputation")
+class ForkedComputationTest {
+
+	@Test
+	@DisplayName("joined returns the result of the computation")
+	void joinReturnsResult() {
+		final ForkedComputation<Integer> computation = ForkedComputation.fork(() -> IntStream.rangeClosed(1, 100).parallel().sum());
+
+		assertEquals(5050, computation.join());
+	}
+
+	@Test
+	@DisplayName("joined rethrows the original exception of the computation")
+	void joinRethrowsOriginalException() {
+		final IllegalArgumentException exception = new IllegalArgumentException("Invalid argument.");
+		final ForkedComputation<Integer> computation = ForkedComputation.fork(() -> {
+			throw exception;
+		});
+
+		final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, computation::join);
+		assertSame(exception, thrown);
+	}
+
+	@Test
+	@DisplayName("forked with a null computation throws a NullPointerException")
+	void forkNullComputationThrows() {
+		assertThrows(NullPointerException.class, () -> ForkedComputation.fork(null));
+	}
+}
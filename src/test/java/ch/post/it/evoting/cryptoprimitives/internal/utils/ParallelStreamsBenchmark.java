@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.utils;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.post.it.evoting.cryptoprimitives.internal.math.BigIntegerOperationsService;
+
+/**
+ * Measures the loops of modular multiplications, exponentiations and hashes, run sequentially, in parallel and as decided by
+ * {@link ParallelStreams} from their {@link Workload}, on the modulus sizes of the security levels. The size at which the parallel loop overtakes
+ * the sequential one is the crossover that {@link ParallelStreams#MINIMAL_PARALLEL_WORK} approximates; the adaptive loop should follow the
+ * faster of both on each side of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParallelStreamsBenchmark {
+
+	@Param({ "2048", "3072" })
+	public int bitLength;
+
+	@Param({ "1", "2", "4", "8", "16", "32", "64", "128" })
+	public int size;
+
+	private BigInteger modulus;
+	private BigInteger[] bases;
+	private BigInteger[] exponents;
+
+	@Setup
+	public void setUp() {
+		final SecureRandom random = new SecureRandom();
+		modulus = new BigInteger(bitLength, random).setBit(bitLength - 1).setBit(0);
+		bases = IntStream.range(0, size).mapToObj(i -> new BigInteger(bitLength - 1, random)).toArray(BigInteger[]::new);
+		exponents = IntStream.range(0, size).mapToObj(i -> new BigInteger(bitLength - 1, random)).toArray(BigInteger[]::new);
+	}
+
+	@Benchmark
+	public List<BigInteger> multiplySequential() {
+		return IntStream.range(0, size).sequential().mapToObj(this::multiply).toList();
+	}
+
+	@Benchmark
+	public List<BigInteger> multiplyParallel() {
+		return IntStream.range(0, size).parallel().mapToObj(this::multiply).toList();
+	}
+
+	@Benchmark
+	public List<BigInteger> multiplyAdaptive() {
+		return ParallelStreams.range(0, size, Workload.MULTIPLICATION.of(bitLength)).mapToObj(this::multiply).toList();
+	}
+
+	@Benchmark
+	public List<BigInteger> exponentiateSequential() {
+		return IntStream.range(0, size).sequential().mapToObj(this::exponentiate).toList();
+	}
+
+	@Benchmark
+	public List<BigInteger> exponentiateParallel() {
+		return IntStream.range(0, size).parallel().mapToObj(this::exponentiate).toList();
+	}
+
+	@Benchmark
+	public List<BigInteger> exponentiateAdaptive() {
+		return ParallelStreams.range(0, size, Workload.EXPONENTIATION.of(bitLength)).mapToObj(this::exponentiate).toList();
+	}
+
+	@Benchmark
+	public List<byte[]> hashSequential() {
+		return IntStream.range(0, size).sequential().mapToObj(hash()).toList();
+	}
+
+	@Benchmark
+	public List<byte[]> hashParallel() {
+		return IntStream.range(0, size).parallel().mapToObj(hash()).toList();
+	}
+
+	@Benchmark
+	public List<byte[]> hashAdaptive() {
+		return ParallelStreams.range(0, size, Workload.HASH.of(bitLength)).mapToObj(hash()).toList();
+	}
+
+	private BigInteger multiply(final int i) {
+		return BigIntegerOperationsService.modMultiply(bases[i], exponents[i], modulus);
+	}
+
+	private BigInteger exponentiate(final int i) {
+		return BigIntegerOperationsService.modExponentiate(bases[i], exponents[i], modulus);
+	}
+
+	private IntFunction<byte[]> hash() {
+		return i -> {
+			try {
+				return MessageDigest.getInstance("SHA3-256").digest(ConversionsInternal.integerToByteArray(bases[i]));
+			} catch (final NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+}
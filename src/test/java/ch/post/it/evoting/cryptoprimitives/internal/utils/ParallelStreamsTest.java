@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ch.post.it.evoting.cryptoprimitives.math.GqGroup;
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
+import ch.post.it.evoting.cryptoprimitives.utils.ExecutionContext;
+
+@DisplayName("ParallelStreams")
+class ParallelStreamsTest {
+
+	private static ExecutionContext parallelContext;
+
+	@BeforeAll
+	static void setUpAll() {
+		parallelContext = ExecutionContext.withParallelism(2);
+	}
+
+	@AfterAll
+	static void tearDownAll() {
+		parallelContext.close();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 2048, 3072 })
+	@DisplayName("runs small loops of multiplications sequentially and large ones in parallel")
+	void multiplicationLoopsParallelOnlyWhenLarge(final int bitLength) {
+		final long work = Workload.MULTIPLICATION.of(bitLength);
+		final long crossover = (ParallelStreams.MINIMAL_PARALLEL_WORK + work - 1) / work;
+
+		assertTrue(crossover > 5);
+		assertFalse(inParallelContext(() -> ParallelStreams.isParallel(crossover - 1, work)));
+		assertTrue(inParallelContext(() -> ParallelStreams.isParallel(crossover, work)));
+		assertFalse(inParallelContext(() -> ParallelStreams.range(0, 5, work).isParallel()));
+		assertTrue(inParallelContext(() -> ParallelStreams.range(0, (int) crossover, work).isParallel()));
+	}
+
+	@Test
+	@DisplayName("runs loops of a few hashes sequentially")
+	void smallHashLoopsSequential() {
+		final List<Integer> elements = List.of(1, 2, 3, 4, 5);
+
+		assertFalse(inParallelContext(() -> ParallelStreams.stream(elements, Workload.HASH.of(3072)).isParallel()));
+		assertTrue(inParallelContext(() -> ParallelStreams.stream(elements).isParallel()));
+	}
+
+	@Test
+	@DisplayName("runs loops of two exponentiations in parallel")
+	void exponentiationLoopsParallel() {
+		final GqGroup largeGroup = GroupTestData.getLargeGqGroup();
+		final long work = Workload.EXPONENTIATION.of(largeGroup);
+
+		assertTrue(inParallelContext(() -> ParallelStreams.isParallel(2, work)));
+		assertTrue(inParallelContext(() -> ParallelStreams.parallel(List.of(1, 2).stream(), 2, work).isParallel()));
+		assertFalse(inParallelContext(() -> ParallelStreams.isParallel(1, work)));
+		assertFalse(inParallelContext(() -> ParallelStreams.isParallel(0, work)));
+	}
+
+	@Test
+	@DisplayName("runs all loops sequentially in the sequential context")
+	void sequentialContextNeverParallel() {
+		final long work = Workload.EXPONENTIATION.of(3072);
+
+		assertFalse(ExecutionContext.sequential().execute(() -> ParallelStreams.isParallel(1000, work)));
+		assertFalse(ExecutionContext.sequential().execute(() -> ParallelStreams.range(0, 1000, work).isParallel()));
+	}
+
+	@Test
+	@DisplayName("estimates more work for larger values and heavier operations")
+	void workloadEstimates() {
+		for (final Workload workload : Workload.values()) {
+			assertTrue(workload.of(3072) > workload.of(2048));
+		}
+		assertTrue(Workload.EXPONENTIATION.of(2048) > Workload.MULTIPLICATION.of(2048));
+		assertTrue(Workload.MULTIPLICATION.of(2048) > Workload.HASH.of(2048));
+		final GqGroup largeGroup = GroupTestData.getLargeGqGroup();
+		assertEquals(Workload.MULTIPLICATION.of(largeGroup.getQ().bitLength()), Workload.MULTIPLICATION.of(largeGroup));
+	}
+
+	@Test
+	@DisplayName("with invalid arguments throws")
+	void invalidArgumentsThrow() {
+		final List<Integer> elements = List.of(1);
+
+		assertThrows(NullPointerException.class, () -> ParallelStreams.stream(null, 1));
+		assertThrows(NullPointerException.class, () -> ParallelStreams.parallel((IntStream) null, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> ParallelStreams.parallel(elements.stream(), -1, 1));
+		assertThrows(IllegalArgumentException.class, () -> ParallelStreams.isParallel(1, -1));
+		assertThrows(IllegalArgumentException.class, () -> Workload.HASH.of(0));
+		assertThrows(NullPointerException.class, () -> Workload.HASH.of(null));
+	}
+
+	private static boolean inParallelContext(final Supplier<Boolean> check) {
+		return parallelContext.execute(check);
+	}
+}
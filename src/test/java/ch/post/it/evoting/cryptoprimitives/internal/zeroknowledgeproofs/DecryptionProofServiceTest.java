@@ -29,6 +29,7 @@ import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -64,6 +65,7 @@ import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator
 import ch.post.it.evoting.cryptoprimitives.test.tools.generator.Generators;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.JsonData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.TestParameters;
+import ch.post.it.evoting.cryptoprimitives.utils.VerificationResult;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.DecryptionProof;
 
 class DecryptionProofServiceTest extends TestGroupSetup {
@@ -587,4 +589,109 @@ class DecryptionProofServiceTest extends TestGroupSetup {
 			assertEquals(expected, actual, String.format("assertion failed for: %s", description));
 		}
 	}
+
+	@Nested
+	@DisplayName("Verifying a batch of decryption proofs...")
+	class VerifyDecryptionsTest {
+
+		private ElGamalMultiRecipientPublicKey publicKey;
+		private GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> ciphertexts;
+		private List<ElGamalMultiRecipientMessage> messages;
+		private GroupVector<DecryptionProof, ZqGroup> decryptionProofs;
+
+		@BeforeEach
+		void setup() {
+			final int keyLength = random.nextInt(4) + 1;
+			final int messageLength = random.nextInt(keyLength) + 1;
+			final int N = DecryptionProofService.PRECOMPUTATION_THRESHOLD + 1;
+			final ElGamalMultiRecipientKeyPair keyPair = elGamal.genKeyPair(gqGroup, keyLength, randomService);
+			publicKey = keyPair.getPublicKey();
+			messages = Stream.generate(() -> new ElGamalMultiRecipientMessage(gqGroupGenerator.genRandomGqElementVector(messageLength)))
+					.limit(N)
+					.toList();
+			ciphertexts = messages.stream()
+					.map(m -> elGamal.getCiphertext(m, zqGroupGenerator.genRandomZqElementMember(), publicKey))
+					.collect(toGroupVector());
+			decryptionProofs = IntStream.range(0, N)
+					.mapToObj(i -> decryptionProofService.genDecryptionProof(ciphertexts.get(i), keyPair, messages.get(i), auxiliaryInformation))
+					.collect(toGroupVector());
+		}
+
+		@Test
+		@DisplayName("with null arguments throws a NullPointerException")
+		void verifyDecryptionsWithNullArguments() {
+			assertAll(
+					() -> assertThrows(NullPointerException.class,
+							() -> decryptionProofService.verifyDecryptions(null, publicKey, messages, decryptionProofs, auxiliaryInformation)),
+					() -> assertThrows(NullPointerException.class,
+							() -> decryptionProofService.verifyDecryptions(ciphertexts, null, messages, decryptionProofs, auxiliaryInformation)),
+					() -> assertThrows(NullPointerException.class,
+							() -> decryptionProofService.verifyDecryptions(ciphertexts, publicKey, null, decryptionProofs, auxiliaryInformation)),
+					() -> assertThrows(NullPointerException.class,
+							() -> decryptionProofService.verifyDecryptions(ciphertexts, publicKey, messages, null, auxiliaryInformation)),
+					() -> assertThrows(NullPointerException.class,
+							() -> decryptionProofService.verifyDecryptions(ciphertexts, publicKey, messages, decryptionProofs, null))
+			);
+		}
+
+		@Test
+		@DisplayName("with valid input returns true")
+		void verifyDecryptionsWithValidInput() {
+			assertTrue(decryptionProofService.verifyDecryptions(ciphertexts, publicKey, messages, decryptionProofs, auxiliaryInformation).verify()
+					.isVerified());
+		}
+
+		@Test
+		@DisplayName("with a batch smaller than the precomputation threshold returns true")
+		void verifyDecryptionsWithSmallBatch() {
+			final GroupVector<ElGamalMultiRecipientCiphertext, GqGroup> smallCiphertexts = ciphertexts.subVector(0, 2);
+			final List<ElGamalMultiRecipientMessage> smallMessages = messages.subList(0, 2);
+			final GroupVector<DecryptionProof, ZqGroup> smallProofs = decryptionProofs.subVector(0, 2);
+
+			assertTrue(decryptionProofService.verifyDecryptions(smallCiphertexts, publicKey, smallMessages, smallProofs, auxiliaryInformation)
+					.verify().isVerified());
+		}
+
+		@Test
+		@DisplayName("with one invalid proof returns false and identifies the invalid proof")
+		void verifyDecryptionsWithOneInvalidProof() {
+			final int invalidIndex = random.nextInt(ciphertexts.size());
+			final DecryptionProof validProof = decryptionProofs.get(invalidIndex);
+			final DecryptionProof invalidProof = new DecryptionProof(validProof.e().add(ZqElement.create(1, validProof.getGroup())), validProof.z());
+			final GroupVector<DecryptionProof, ZqGroup> tamperedProofs = IntStream.range(0, decryptionProofs.size())
+					.mapToObj(i -> i == invalidIndex ? invalidProof : decryptionProofs.get(i))
+					.collect(toGroupVector());
+
+			final VerificationResult result = decryptionProofService.verifyDecryptions(ciphertexts, publicKey, messages, tamperedProofs,
+					auxiliaryInformation).verify();
+
+			// The test groups are tiny, so a tampered proof can still verify by chance: compare with the individual verification.
+			final VerificationResult expected = decryptionProofService.verifyDecryption(ciphertexts.get(invalidIndex), publicKey,
+					messages.get(invalidIndex), invalidProof, auxiliaryInformation).verify();
+
+			assertEquals(expected.isVerified(), result.isVerified());
+			if (!expected.isVerified()) {
+				assertEquals(String.format("Could not verify decryption proof of ciphertext %s.", ciphertexts.get(invalidIndex)),
+						result.getErrorMessages().getFirst());
+			}
+		}
+
+		@Test
+		@DisplayName("with different numbers of ciphertexts, messages and proofs throws an IllegalArgumentException")
+		void verifyDecryptionsWithDifferentSizes() {
+			final List<ElGamalMultiRecipientMessage> shorterMessages = messages.subList(1, messages.size());
+			final GroupVector<DecryptionProof, ZqGroup> shorterProofs = decryptionProofs.subVector(1, decryptionProofs.size());
+
+			assertAll(
+					() -> assertThrows(IllegalArgumentException.class,
+							() -> decryptionProofService.verifyDecryptions(ciphertexts, publicKey, shorterMessages, decryptionProofs,
+									auxiliaryInformation)),
+					() -> assertThrows(IllegalArgumentException.class,
+							() -> decryptionProofService.verifyDecryptions(ciphertexts, publicKey, messages, shorterProofs, auxiliaryInformation)),
+					() -> assertThrows(IllegalArgumentException.class,
+							() -> decryptionProofService.verifyDecryptions(GroupVector.of(), publicKey, List.of(), GroupVector.of(),
+									auxiliaryInformation))
+			);
+		}
+	}
 }
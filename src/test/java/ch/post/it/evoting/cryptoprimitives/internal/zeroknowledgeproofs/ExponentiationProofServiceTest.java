@@ -25,10 +25,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mockStatic;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -57,6 +59,7 @@ import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.JsonData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.TestParameters;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ExponentiationProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableExponentiationProof;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.ZeroKnowledgeProof;
 
 class ExponentiationProofServiceTest extends TestGroupSetup {
@@ -488,4 +491,73 @@ class ExponentiationProofServiceTest extends TestGroupSetup {
 			assertEquals(expected, actual, String.format("assertion failed for: %s", description));
 		}
 	}
+
+	@Nested
+	class VerifyExponentiationsTest {
+
+		private final List<String> auxiliaryInformation = Arrays.asList("aux", "3");
+		private GroupVector<GqElement, GqGroup> bases;
+		private List<VerifiableExponentiationProof> verifiableExponentiationProofs;
+
+		@BeforeEach
+		void setup() {
+			final int n = secureRandom.nextInt(MAX_NUMBER_EXPONENTIATIONS) + 1;
+			bases = gqGroupGenerator.genRandomGqElementVector(n);
+			verifiableExponentiationProofs = Stream.generate(() -> {
+						final ZqElement exponent = zqGroupGenerator.genRandomZqElementMember();
+						final GroupVector<GqElement, GqGroup> exponentiations = GqElement.vectorExponentiation(bases, exponent);
+						final ExponentiationProof proof = proofService.genExponentiationProof(bases, exponent, exponentiations, auxiliaryInformation);
+						return new VerifiableExponentiationProof(exponentiations, proof, auxiliaryInformation);
+					})
+					.limit(ExponentiationProofService.PRECOMPUTATION_THRESHOLD + 1)
+					.toList();
+		}
+
+		@Test
+		void notNullChecks() {
+			final List<VerifiableExponentiationProof> proofsWithNull = new ArrayList<>(verifiableExponentiationProofs);
+			proofsWithNull.set(0, null);
+
+			assertThrows(NullPointerException.class, () -> proofService.verifyExponentiations(null, verifiableExponentiationProofs));
+			assertThrows(NullPointerException.class, () -> proofService.verifyExponentiations(bases, null));
+			assertThrows(IllegalArgumentException.class, () -> proofService.verifyExponentiations(bases, proofsWithNull));
+		}
+
+		@Test
+		void validProofs() {
+			assertEquals(List.of(), proofService.verifyExponentiations(bases, verifiableExponentiationProofs));
+			assertEquals(List.of(), proofService.verifyExponentiations(bases, verifiableExponentiationProofs.subList(0, 2)));
+			assertEquals(List.of(), proofService.verifyExponentiations(bases, List.of()));
+		}
+
+		@Test
+		void invalidProofs() {
+			final int last = verifiableExponentiationProofs.size() - 1;
+			final List<VerifiableExponentiationProof> proofs = new ArrayList<>(verifiableExponentiationProofs);
+			for (final int i : List.of(0, last)) {
+				final VerifiableExponentiationProof valid = proofs.get(i);
+				final ExponentiationProof invalidProof = new ExponentiationProof(valid.proof().get_e(),
+						valid.proof().get_z().add(ZqElement.create(1, valid.proof().getGroup())));
+				proofs.set(i, new VerifiableExponentiationProof(valid.exponentiations(), invalidProof, valid.auxiliaryInformation()));
+			}
+
+			// The test groups are tiny, so a tampered proof can still verify by chance: compare with the individual verifications.
+			final List<Integer> expected = IntStream.range(0, proofs.size())
+					.filter(i -> !proofService.verifyExponentiation(bases, proofs.get(i).exponentiations(), proofs.get(i).proof(),
+							proofs.get(i).auxiliaryInformation()))
+					.boxed()
+					.toList();
+
+			assertEquals(expected, proofService.verifyExponentiations(bases, proofs));
+			assertEquals(expected.stream().filter(i -> i < 2).toList(), proofService.verifyExponentiations(bases, proofs.subList(0, 2)));
+		}
+
+		@Test
+		void basesAndExponentiationsSameSizeCheck() {
+			final GroupVector<GqElement, GqGroup> longerBases = bases.append(gqGroupGenerator.genMember());
+			final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> proofService.verifyExponentiations(longerBases, verifiableExponentiationProofs));
+			assertEquals("Bases and exponentiations must have the same size.", exception.getMessage());
+		}
+	}
 }
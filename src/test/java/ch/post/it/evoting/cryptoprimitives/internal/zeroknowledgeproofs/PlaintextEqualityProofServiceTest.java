@@ -25,9 +25,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mockStatic;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -60,6 +62,7 @@ import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.JsonData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.TestParameters;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.PlaintextEqualityProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiablePlaintextEqualityProof;
 
 @DisplayName("PlaintextEqualityProofService calling")
 class PlaintextEqualityProofServiceTest extends TestGroupSetup {
@@ -545,4 +548,90 @@ class PlaintextEqualityProofServiceTest extends TestGroupSetup {
 
 		}
 	}
+
+	@Nested
+	@DisplayName("verifyPlaintextEqualities with")
+	class VerifyPlaintextEqualities {
+
+		private GqElement firstPublicKey;
+		private GqElement secondPublicKey;
+		private List<VerifiablePlaintextEqualityProof> verifiablePlaintextEqualityProofs;
+
+		@BeforeEach
+		void setUp() {
+			firstPublicKey = gqGroupGenerator.genMember();
+			secondPublicKey = gqGroupGenerator.genMember();
+			final List<String> auxiliaryInformation = List.of(randomService.genRandomBase16String(4));
+
+			verifiablePlaintextEqualityProofs = Stream.generate(() -> {
+						final ElGamalMultiRecipientMessage plaintext = elGamalGenerator.genRandomMessage(1);
+						final GroupVector<ZqElement, ZqGroup> randomness = zqGroupGenerator.genRandomZqElementVector(2);
+						final ElGamalMultiRecipientCiphertext firstCiphertext = elGamal.getCiphertext(plaintext, randomness.get(0),
+								new ElGamalMultiRecipientPublicKey(GroupVector.of(firstPublicKey)));
+						final ElGamalMultiRecipientCiphertext secondCiphertext = elGamal.getCiphertext(plaintext, randomness.get(1),
+								new ElGamalMultiRecipientPublicKey(GroupVector.of(secondPublicKey)));
+						final PlaintextEqualityProof proof = plaintextEqualityProofService.genPlaintextEqualityProof(firstCiphertext, secondCiphertext,
+								firstPublicKey, secondPublicKey, randomness, auxiliaryInformation);
+						return new VerifiablePlaintextEqualityProof(firstCiphertext, secondCiphertext, proof, auxiliaryInformation);
+					})
+					.limit(PlaintextEqualityProofService.PRECOMPUTATION_THRESHOLD + 1)
+					.toList();
+		}
+
+		@Test
+		@DisplayName("valid proofs returns no failing index")
+		void validParams() {
+			assertEquals(List.of(),
+					plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, secondPublicKey, verifiablePlaintextEqualityProofs));
+			assertEquals(List.of(), plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, secondPublicKey,
+					verifiablePlaintextEqualityProofs.subList(0, 2)));
+		}
+
+		@Test
+		@DisplayName("invalid proofs returns their indices")
+		void invalidProofs() {
+			final int last = verifiablePlaintextEqualityProofs.size() - 1;
+			final List<VerifiablePlaintextEqualityProof> proofs = new ArrayList<>(verifiablePlaintextEqualityProofs);
+			for (final int i : List.of(1, last)) {
+				final VerifiablePlaintextEqualityProof valid = proofs.get(i);
+				final GroupVector<ZqElement, ZqGroup> z = valid.proof().get_z();
+				final PlaintextEqualityProof invalidProof = new PlaintextEqualityProof(valid.proof().get_e(),
+						GroupVector.of(z.get(0).add(ZqElement.create(1, z.getGroup())), z.get(1)));
+				proofs.set(i, new VerifiablePlaintextEqualityProof(valid.firstCiphertext(), valid.secondCiphertext(), invalidProof,
+						valid.auxiliaryInformation()));
+			}
+
+			// The test groups are tiny, so a tampered proof can still verify by chance: compare with the individual verifications.
+			final List<Integer> expected = IntStream.range(0, proofs.size())
+					.filter(i -> !plaintextEqualityProofService.verifyPlaintextEquality(proofs.get(i).firstCiphertext(),
+							proofs.get(i).secondCiphertext(), firstPublicKey, secondPublicKey, proofs.get(i).proof(),
+							proofs.get(i).auxiliaryInformation()))
+					.boxed()
+					.toList();
+
+			assertEquals(expected, plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, secondPublicKey, proofs));
+			assertEquals(expected.stream().filter(i -> i < 2).toList(),
+					plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, secondPublicKey, proofs.subList(0, 2)));
+		}
+
+		@Test
+		@DisplayName("null parameters throws NullPointerException")
+		void nullParams() {
+			assertThrows(NullPointerException.class,
+					() -> plaintextEqualityProofService.verifyPlaintextEqualities(null, secondPublicKey, verifiablePlaintextEqualityProofs));
+			assertThrows(NullPointerException.class,
+					() -> plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, null, verifiablePlaintextEqualityProofs));
+			assertThrows(NullPointerException.class,
+					() -> plaintextEqualityProofService.verifyPlaintextEqualities(firstPublicKey, secondPublicKey, null));
+		}
+
+		@Test
+		@DisplayName("public key from another group throws IllegalArgumentException")
+		void differentGroupPublicKey() {
+			final GqElement otherPublicKey = otherGqGroupGenerator.genMember();
+			final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> plaintextEqualityProofService.verifyPlaintextEqualities(otherPublicKey, secondPublicKey, verifiablePlaintextEqualityProofs));
+			assertEquals("The ciphertexts and public keys must all belong to the same group.", exception.getMessage());
+		}
+	}
 }
@@ -25,9 +25,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -54,6 +56,7 @@ import ch.post.it.evoting.cryptoprimitives.test.tools.generator.ElGamalGenerator
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.JsonData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.serialization.TestParameters;
 import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.SchnorrProof;
+import ch.post.it.evoting.cryptoprimitives.zeroknowledgeproofs.VerifiableSchnorrProof;
 
 @DisplayName("SchnorrProofService calling")
 class SchnorrProofServiceTest extends TestGroupSetup {
@@ -296,4 +299,76 @@ class SchnorrProofServiceTest extends TestGroupSetup {
 			assertEquals(expected, actual, String.format("assertion failed for: %s", description));
 		}
 	}
+
+	@Nested
+	@DisplayName("verifySchnorrProofs with")
+	class VerifySchnorrProofs {
+
+		private static final int NUM_PROOFS = 5;
+		private List<VerifiableSchnorrProof> verifiableSchnorrProofs;
+
+		@BeforeEach
+		void setUp() {
+			verifiableSchnorrProofs = Stream.generate(() -> {
+						final ZqElement witness = zqGroupGenerator.genRandomZqElementMember();
+						final GqElement statement = gqGroup.getGenerator().exponentiate(witness);
+						final List<String> auxiliaryInformation = List.of(randomService.genRandomBase16String(4));
+						return new VerifiableSchnorrProof(schnorrProofService.genSchnorrProof(witness, statement, auxiliaryInformation), statement,
+								auxiliaryInformation);
+					})
+					.limit(NUM_PROOFS)
+					.toList();
+		}
+
+		@Test
+		@DisplayName("valid proofs returns no failing index")
+		void validParams() {
+			assertEquals(List.of(), schnorrProofService.verifySchnorrProofs(verifiableSchnorrProofs));
+			assertEquals(List.of(), schnorrProofService.verifySchnorrProofs(List.of()));
+		}
+
+		@Test
+		@DisplayName("invalid proofs returns their indices")
+		void invalidProofs() {
+			final List<VerifiableSchnorrProof> proofs = new ArrayList<>(verifiableSchnorrProofs);
+			for (final int i : List.of(1, 3)) {
+				final VerifiableSchnorrProof valid = proofs.get(i);
+				final SchnorrProof invalidProof = new SchnorrProof(valid.proof().get_e(),
+						valid.proof().get_z().add(ZqElement.create(1, valid.proof().getGroup())));
+				proofs.set(i, new VerifiableSchnorrProof(invalidProof, valid.statement(), valid.auxiliaryInformation()));
+			}
+
+			// The test groups are tiny, so a tampered proof can still verify by chance: compare with the individual verifications.
+			final List<Integer> expected = IntStream.range(0, proofs.size())
+					.filter(i -> !schnorrProofService.verifySchnorrProof(proofs.get(i).proof(), proofs.get(i).statement(),
+							proofs.get(i).auxiliaryInformation()))
+					.boxed()
+					.toList();
+
+			assertEquals(expected, schnorrProofService.verifySchnorrProofs(proofs));
+		}
+
+		@Test
+		@DisplayName("null parameters throws NullPointerException")
+		void nullParams() {
+			final List<VerifiableSchnorrProof> proofsWithNull = new ArrayList<>(verifiableSchnorrProofs);
+			proofsWithNull.set(0, null);
+
+			assertThrows(NullPointerException.class, () -> schnorrProofService.verifySchnorrProofs(null));
+			assertThrows(IllegalArgumentException.class, () -> schnorrProofService.verifySchnorrProofs(proofsWithNull));
+		}
+
+		@Test
+		@DisplayName("statements of different groups throws IllegalArgumentException")
+		void differentGroups() {
+			final ZqGroup otherExponentGroup = ZqGroup.sameOrderAs(otherGqGroup);
+			final SchnorrProof otherProof = new SchnorrProof(ZqElement.create(1, otherExponentGroup), ZqElement.create(2, otherExponentGroup));
+			final List<VerifiableSchnorrProof> proofs = new ArrayList<>(verifiableSchnorrProofs);
+			proofs.add(new VerifiableSchnorrProof(otherProof, otherGqGroup.getGenerator(), List.of()));
+
+			final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> schnorrProofService.verifySchnorrProofs(proofs));
+			assertEquals("All statements must have the same group.", exception.getMessage());
+		}
+	}
 }
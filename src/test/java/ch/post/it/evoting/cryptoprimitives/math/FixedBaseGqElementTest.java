@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package ch.post.it.evoting.cryptoprimitives.math;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.test.tools.TestGroupSetup;
+
+class FixedBaseGqElementTest extends TestGroupSetup {
+
+	@RepeatedTest(10)
+	void exponentiateGivesSameResultAsElementExponentiation() {
+		final GqElement base = gqGroupGenerator.genMember();
+		final ZqElement exponent = zqGroupGenerator.genRandomZqElementMember();
+
+		final FixedBaseGqElement fixedBaseElement = new FixedBaseGqElement(base);
+
+		assertEquals(base.exponentiate(exponent), fixedBaseElement.exponentiate(exponent));
+		assertEquals(base.exponentiate(exponent), fixedBaseElement.exponentiatePublic(exponent));
+		assertEquals(base, fixedBaseElement.getBase());
+		assertEquals(gqGroup, fixedBaseElement.getGroup());
+	}
+
+	@Test
+	void exponentiateWithInvalidExponentThrows() {
+		final FixedBaseGqElement fixedBaseElement = new FixedBaseGqElement(gqGroupGenerator.genMember());
+		final ZqElement otherExponent = otherZqGroupGenerator.genRandomZqElementMember();
+
+		assertThrows(NullPointerException.class, () -> new FixedBaseGqElement(null));
+		assertThrows(NullPointerException.class, () -> fixedBaseElement.exponentiate(null));
+		assertThrows(IllegalArgumentException.class, () -> fixedBaseElement.exponentiate(otherExponent));
+		assertThrows(NullPointerException.class, () -> fixedBaseElement.exponentiatePublic(null));
+		assertThrows(IllegalArgumentException.class, () -> fixedBaseElement.exponentiatePublic(otherExponent));
+	}
+
+	@RepeatedTest(10)
+	void multiExponentiateGivesSameResultAsMultiModExp() {
+		final GroupVector<GqElement, GqGroup> bases = gqGroupGenerator.genRandomGqElementVector(3);
+		final GroupVector<ZqElement, ZqGroup> exponents = zqGroupGenerator.genRandomZqElementVector(3);
+		final List<FixedBaseGqElement> fixedBaseElements = bases.stream().map(FixedBaseGqElement::new).toList();
+
+		assertEquals(GqElement.multiModExp(bases, exponents), FixedBaseGqElement.multiExponentiate(fixedBaseElements, exponents));
+	}
+
+	@Test
+	void multiExponentiateWithInvalidParametersThrows() {
+		final List<FixedBaseGqElement> fixedBaseElements = List.of(new FixedBaseGqElement(gqGroupGenerator.genMember()));
+		final List<FixedBaseGqElement> mixedGroups = List.of(new FixedBaseGqElement(gqGroupGenerator.genMember()),
+				new FixedBaseGqElement(otherGqGroupGenerator.genMember()));
+		final GroupVector<ZqElement, ZqGroup> exponents = zqGroupGenerator.genRandomZqElementVector(1);
+		final GroupVector<ZqElement, ZqGroup> twoExponents = zqGroupGenerator.genRandomZqElementVector(2);
+		final GroupVector<ZqElement, ZqGroup> otherExponents = otherZqGroupGenerator.genRandomZqElementVector(1);
+
+		assertThrows(NullPointerException.class, () -> FixedBaseGqElement.multiExponentiate(null, exponents));
+		assertThrows(NullPointerException.class, () -> FixedBaseGqElement.multiExponentiate(fixedBaseElements, null));
+		assertThrows(IllegalArgumentException.class, () -> FixedBaseGqElement.multiExponentiate(List.of(), GroupVector.of()));
+		assertThrows(IllegalArgumentException.class, () -> FixedBaseGqElement.multiExponentiate(fixedBaseElements, twoExponents));
+		assertThrows(IllegalArgumentException.class, () -> FixedBaseGqElement.multiExponentiate(mixedGroups, twoExponents));
+		assertThrows(IllegalArgumentException.class, () -> FixedBaseGqElement.multiExponentiate(fixedBaseElements, otherExponents));
+	}
+}
@@ -22,12 +22,18 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import ch.post.it.evoting.cryptoprimitives.test.tools.data.GroupTestData;
 import ch.post.it.evoting.cryptoprimitives.test.tools.generator.GqGroupGenerator;
 
 class GqElementTest {
@@ -169,6 +175,201 @@ class GqElementTest {
 		exponentiateAndAssert(value, exponentValue, expectedResult);
 	}
 
+	@Test
+	void givenGeneratorWhenExponentiatedRepeatedlyThenFixedBaseTablesGiveSameResults() {
+		final GqGroup largeGroup = GroupTestData.getLargeGqGroup();
+		final ZqGroup exponentGroup = ZqGroup.sameOrderAs(largeGroup);
+		final GqElement generator = largeGroup.getGenerator();
+
+		for (int i = 0; i < 2 * GqGroup.GENERATOR_TABLES_THRESHOLD; i++) {
+			final BigInteger exponentValue = new BigInteger(largeGroup.getQ().bitLength(), new SecureRandom()).mod(largeGroup.getQ());
+			final ZqElement exponent = ZqElement.create(exponentValue, exponentGroup);
+			final BigInteger expectedResult = generator.getValue().modPow(exponentValue, largeGroup.getP());
+
+			assertEquals(expectedResult, generator.exponentiatePublic(exponent).getValue());
+			assertEquals(expectedResult, generator.exponentiate(exponent).getValue());
+		}
+	}
+
+	@Test
+	void givenBasesAndExponentsWhenMultiModExpThenProductOfPowers() {
+		final ZqGroup exponentGroup = ZqGroup.sameOrderAs(group);
+		final GroupVector<GqElement, GqGroup> bases = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(4), group), GqElementFactory.fromValue(BigInteger.valueOf(13), group));
+		final GroupVector<ZqElement, ZqGroup> exponents = GroupVector.of(ZqElement.create(2, exponentGroup), ZqElement.create(7, exponentGroup),
+				ZqElement.create(10, exponentGroup));
+
+		final GqElement expected = bases.get(0).exponentiate(exponents.get(0)).multiply(bases.get(1).exponentiate(exponents.get(1)))
+				.multiply(bases.get(2).exponentiate(exponents.get(2)));
+
+		assertEquals(expected, GqElement.multiModExp(bases, exponents));
+		assertEquals(expected, GqElement.multiModExpPublic(bases, exponents));
+	}
+
+	@Test
+	void givenInvalidArgumentsWhenMultiModExpThenException() {
+		final ZqGroup exponentGroup = ZqGroup.sameOrderAs(group);
+		final GroupVector<GqElement, GqGroup> bases = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group));
+		final GroupVector<ZqElement, ZqGroup> exponents = GroupVector.of(ZqElement.create(2, exponentGroup));
+		final GroupVector<ZqElement, ZqGroup> longerExponents = exponents.append(ZqElement.create(3, exponentGroup));
+		final GroupVector<ZqElement, ZqGroup> otherExponents = GroupVector.of(ZqElement.create(2, new ZqGroup(BigInteger.valueOf(3))));
+		final GroupVector<GqElement, GqGroup> emptyBases = GroupVector.of();
+		final GroupVector<ZqElement, ZqGroup> emptyExponents = GroupVector.of();
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> GqElement.multiModExp(null, exponents)),
+				() -> assertThrows(NullPointerException.class, () -> GqElement.multiModExp(bases, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.multiModExp(emptyBases, emptyExponents)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.multiModExp(bases, longerExponents)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.multiModExp(bases, otherExponents)),
+				() -> assertThrows(NullPointerException.class, () -> GqElement.multiModExpPublic(null, exponents)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.multiModExpPublic(emptyBases, emptyExponents)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.multiModExpPublic(bases, otherExponents))
+		);
+	}
+
+	@Test
+	void givenVectorAndExponentWhenVectorExponentiationThenIndividualPowers() {
+		final ZqElement exponent = ZqElement.create(7, ZqGroup.sameOrderAs(group));
+		final GroupVector<GqElement, GqGroup> bases = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(4), group), group.getGenerator());
+
+		final GroupVector<GqElement, GqGroup> expected = GroupVector.of(bases.get(0).exponentiate(exponent), bases.get(1).exponentiate(exponent),
+				bases.get(2).exponentiate(exponent));
+
+		assertEquals(expected, GqElement.vectorExponentiation(bases, exponent));
+		assertEquals(GroupVector.of(), GqElement.vectorExponentiation(GroupVector.of(), exponent));
+	}
+
+	@Test
+	void givenInvalidArgumentsWhenVectorExponentiationThenException() {
+		final GroupVector<GqElement, GqGroup> bases = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group));
+		final ZqElement exponent = ZqElement.create(2, ZqGroup.sameOrderAs(group));
+		final ZqElement otherExponent = ZqElement.create(2, new ZqGroup(BigInteger.valueOf(3)));
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> GqElement.vectorExponentiation(null, exponent)),
+				() -> assertThrows(NullPointerException.class, () -> GqElement.vectorExponentiation(bases, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.vectorExponentiation(bases, otherExponent))
+		);
+	}
+
+	@Test
+	void givenElementAndExponentWhenExponentiatePublicThenSameAsExponentiate() {
+		final ZqGroup exponentGroup = ZqGroup.sameOrderAs(group);
+		final GqElement element = GqElementFactory.fromValue(BigInteger.valueOf(13), group);
+
+		for (int i = 0; i < 11; i++) {
+			final ZqElement exponent = ZqElement.create(i, exponentGroup);
+			assertEquals(element.exponentiate(exponent), element.exponentiatePublic(exponent));
+			assertEquals(group.getGenerator().exponentiate(exponent), group.getGenerator().exponentiatePublic(exponent));
+		}
+		assertThrows(NullPointerException.class, () -> element.exponentiatePublic(null));
+		final ZqElement otherExponent = ZqElement.create(2, new ZqGroup(BigInteger.valueOf(3)));
+		assertThrows(IllegalArgumentException.class, () -> element.exponentiatePublic(otherExponent));
+	}
+
+	@Test
+	void givenVectorAndExponentWhenVectorExponentiationPublicThenSameAsVectorExponentiation() {
+		final ZqElement exponent = ZqElement.create(9, ZqGroup.sameOrderAs(group));
+		final GroupVector<GqElement, GqGroup> bases = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(16), group));
+
+		assertEquals(GqElement.vectorExponentiation(bases, exponent), GqElement.vectorExponentiationPublic(bases, exponent));
+	}
+
+	@Test
+	void givenVectorWhenVectorInversionThenSameAsInvertingEachElement() {
+		final GroupVector<GqElement, GqGroup> elements = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(16), group), group.getIdentity(), GqElementFactory.fromValue(BigInteger.valueOf(3), group));
+
+		final GroupVector<GqElement, GqGroup> expected = elements.stream().map(GqElement::invert).collect(GroupVector.toGroupVector());
+
+		assertEquals(expected, GqElement.vectorInversion(elements));
+		assertEquals(GroupVector.of(elements.get(1).invert()), GqElement.vectorInversion(GroupVector.of(elements.get(1))));
+		assertEquals(GroupVector.of(), GqElement.vectorInversion(GroupVector.of()));
+		assertThrows(NullPointerException.class, () -> GqElement.vectorInversion(null));
+	}
+
+	@Test
+	void givenVectorsWhenVectorDivisionThenSameAsDividingEachElement() {
+		final GroupVector<GqElement, GqGroup> dividends = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(16), group), GqElementFactory.fromValue(BigInteger.valueOf(13), group));
+		final GroupVector<GqElement, GqGroup> divisors = GroupVector.of(GqElementFactory.fromValue(BigInteger.valueOf(18), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(2), group), GqElementFactory.fromValue(BigInteger.valueOf(16), group));
+
+		final GroupVector<GqElement, GqGroup> expected = GroupVector.of(dividends.get(0).divide(divisors.get(0)),
+				dividends.get(1).divide(divisors.get(1)), dividends.get(2).divide(divisors.get(2)));
+
+		assertEquals(expected, GqElement.vectorDivision(dividends, divisors));
+		assertEquals(GroupVector.of(), GqElement.vectorDivision(GroupVector.of(), GroupVector.of()));
+	}
+
+	@Test
+	void givenInvalidArgumentsWhenVectorDivisionThenException() {
+		final GqGroup otherGroup = new GqGroup(BigInteger.valueOf(7), BigInteger.valueOf(3), BigInteger.valueOf(2));
+		final GroupVector<GqElement, GqGroup> dividends = GroupVector.of(group.getGenerator());
+		final GroupVector<GqElement, GqGroup> otherGroupDivisors = GroupVector.of(otherGroup.getGenerator());
+		final GroupVector<GqElement, GqGroup> longerDivisors = GroupVector.of(group.getGenerator(), group.getIdentity());
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> GqElement.vectorDivision(null, dividends)),
+				() -> assertThrows(NullPointerException.class, () -> GqElement.vectorDivision(dividends, null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.vectorDivision(dividends, otherGroupDivisors)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElement.vectorDivision(dividends, longerDivisors))
+		);
+	}
+
+	@Test
+	void givenElementsWhenCollectedToProductThenSameAsRepeatedMultiplication() {
+		final List<GqElement> factors = List.of(GqElementFactory.fromValue(BigInteger.valueOf(3), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(13), group), GqElementFactory.fromValue(BigInteger.valueOf(18), group),
+				GqElementFactory.fromValue(BigInteger.valueOf(2), group));
+
+		final GqElement expected = factors.stream().reduce(group.getIdentity(), GqElement::multiply);
+
+		assertEquals(expected, factors.stream().collect(GqElement.toProduct(group)));
+		assertEquals(expected, factors.parallelStream().collect(GqElement.toProduct(group)));
+		assertEquals(group.getIdentity(), Stream.<GqElement>empty().collect(GqElement.toProduct(group)));
+	}
+
+	@Test
+	void givenElementOfOtherGroupWhenCollectedToProductThenException() {
+		final GqGroup otherGroup = new GqGroup(BigInteger.valueOf(7), BigInteger.valueOf(3), BigInteger.valueOf(2));
+		final List<GqElement> factors = List.of(group.getGenerator(), otherGroup.getGenerator());
+		final Stream<GqElement> factorStream = factors.stream();
+		final Collector<GqElement, ?, GqElement> toProduct = GqElement.toProduct(group);
+
+		assertThrows(NullPointerException.class, () -> GqElement.toProduct(null));
+		assertThrows(IllegalArgumentException.class, () -> factorStream.collect(toProduct));
+	}
+
+	@Test
+	void givenGroupMembersWhenFromValuesThenSameAsFromValue() {
+		final List<BigInteger> values = List.of(BigInteger.ONE, BigInteger.valueOf(6), BigInteger.valueOf(18));
+
+		final GroupVector<GqElement, GqGroup> expected = values.stream()
+				.map(value -> GqElementFactory.fromValue(value, group))
+				.collect(GroupVector.toGroupVector());
+
+		assertEquals(expected, GqElementFactory.fromValues(values, group));
+	}
+
+	@Test
+	void givenNonMembersWhenFromValuesThenException() {
+		final List<BigInteger> nonResidue = List.of(BigInteger.ONE, BigInteger.valueOf(5));
+		final List<BigInteger> outOfRange = List.of(BigInteger.ONE, BigInteger.valueOf(23));
+		final List<BigInteger> withNull = Arrays.asList(BigInteger.ONE, null);
+
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> GqElementFactory.fromValues(null, group)),
+				() -> assertThrows(NullPointerException.class, () -> GqElementFactory.fromValues(List.of(BigInteger.ONE), null)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElementFactory.fromValues(nonResidue, group)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElementFactory.fromValues(outOfRange, group)),
+				() -> assertThrows(IllegalArgumentException.class, () -> GqElementFactory.fromValues(withNull, group))
+		);
+	}
+
 	@Test
 	void testExponentiateWithANullElement() {
 		GqElement element = GqElementFactory.fromValue(BigInteger.ONE, group);
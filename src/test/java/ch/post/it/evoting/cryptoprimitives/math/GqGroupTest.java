@@ -19,6 +19,8 @@ import static ch.post.it.evoting.cryptoprimitives.math.GqElement.GqElementFactor
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,6 +77,24 @@ class GqGroupTest {
 		assertThrows(IllegalArgumentException.class, () -> new GqGroup(p, q, nonMember));
 	}
 
+	@Test
+	void testOfReturnsCanonicalGroup() {
+		final GqGroup group = GqGroup.of(p, q, g);
+
+		assertSame(group, GqGroup.of(BigInteger.valueOf(23), BigInteger.valueOf(11), BigInteger.valueOf(2)));
+		assertNotSame(group, GqGroup.of(BigInteger.valueOf(47), BigInteger.valueOf(23), BigInteger.valueOf(2)));
+		assertEquals(smallGroup, group);
+	}
+
+	@Test
+	void testOfWithInvalidParametersFails() {
+		final BigInteger nonSafePrimeQ = BigInteger.valueOf(7);
+		assertThrows(IllegalArgumentException.class, () -> GqGroup.of(p, nonSafePrimeQ, g));
+		// Failed validations are not cached, hence the same invalid parameters are rejected again.
+		assertThrows(IllegalArgumentException.class, () -> GqGroup.of(p, nonSafePrimeQ, g));
+		assertThrows(NullPointerException.class, () -> GqGroup.of(null, q, g));
+	}
+
 	//Methods
 
 	@Test
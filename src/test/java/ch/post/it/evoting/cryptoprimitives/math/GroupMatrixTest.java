@@ -196,6 +196,26 @@ class GroupMatrixTest {
 		assertEquals(expected, matrix.getColumn(column));
 	}
 
+	@Test
+	void getColumnReturnsUnmodifiableColumn() {
+		final GroupMatrix<TestGroupElement, TestGroup> matrix = GroupMatrix.fromRows(matrixElements);
+		final int column = secureRandom.nextInt(numColumns);
+
+		final GroupVector<TestGroupElement, TestGroup> columnVector = matrix.getColumn(column);
+
+		assertEquals(matrix.transpose().getRow(column).hashCode(), columnVector.hashCode());
+		assertEquals(group, columnVector.getGroup());
+		assertThrows(UnsupportedOperationException.class, () -> columnVector.set(0, new TestGroupElement(group)));
+	}
+
+	@Test
+	void subColumnsWithEmptyRangeThrows() {
+		final GroupMatrix<TestGroupElement, TestGroup> matrix = GroupMatrix.fromRows(matrixElements);
+
+		final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> matrix.subColumns(0, 0));
+		assertEquals("Empty matrices are not supported.", exception.getMessage());
+	}
+
 	@RepeatedTest(10)
 	void matrixFromColumnsIsMatrixFromRowsTransposed() {
 		int n = secureRandom.nextInt(BOUND_MATRIX_SIZE) + 1;
@@ -315,6 +315,21 @@ class GroupVectorTest {
 		assertEquals(expected, actual);
 	}
 
+	@Test
+	void subVectorReturnsUnmodifiableViewOfElements() {
+		int n = random.nextInt(10) + 2;
+		TestGroup group = new TestGroup();
+		List<TestGroupElement> elements = Stream.generate(() -> new TestGroupElement(group)).limit(n).collect(Collectors.toList());
+		GroupVector<TestGroupElement, TestGroup> groupVector = GroupVector.from(elements);
+
+		final GroupVector<TestGroupElement, TestGroup> subVector = groupVector.subVector(1, n);
+
+		assertEquals(GroupVector.from(elements.subList(1, n)), subVector);
+		assertEquals(group, subVector.getGroup());
+		assertThrows(UnsupportedOperationException.class, () -> subVector.set(0, new TestGroupElement(group)));
+		assertThrows(IndexOutOfBoundsException.class, () -> groupVector.subVector(0, n + 1));
+	}
+
 	private static class TestValuedElement extends GroupElement<TestGroup> {
 		protected TestValuedElement(BigInteger value, TestGroup group) {
 			super(value, group);
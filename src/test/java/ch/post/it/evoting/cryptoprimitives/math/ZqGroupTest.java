@@ -18,6 +18,8 @@ package ch.post.it.evoting.cryptoprimitives.math;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,6 +53,25 @@ class ZqGroupTest {
 		assertThrows(IllegalArgumentException.class, () -> new ZqGroup(negativeQ));
 	}
 
+	@Test
+	void testOfReturnsInternedGroup() {
+		final ZqGroup group = ZqGroup.of(BigInteger.valueOf(11));
+
+		assertSame(group, ZqGroup.of(BigInteger.valueOf(11)));
+		assertNotSame(group, ZqGroup.of(BigInteger.valueOf(13)));
+		assertEquals(new ZqGroup(BigInteger.valueOf(11)), group);
+		assertThrows(NullPointerException.class, () -> ZqGroup.of(null));
+		assertThrows(IllegalArgumentException.class, () -> ZqGroup.of(BigInteger.ONE));
+	}
+
+	@Test
+	void testSameOrderAsReturnsInternedGroup() {
+		final GqGroup gqGroup = GqGroup.of(BigInteger.valueOf(23), BigInteger.valueOf(11), BigInteger.valueOf(2));
+
+		assertSame(ZqGroup.of(BigInteger.valueOf(11)), ZqGroup.sameOrderAs(gqGroup));
+		assertSame(ZqGroup.sameOrderAs(gqGroup), ZqGroup.sameOrderAs(gqGroup));
+	}
+
 	@Test
 	void testNullIsNotGroupMember() {
 		assertFalse(testGroup.isGroupMember(null));
@@ -41,7 +41,7 @@ public class GqGroupLoader {
 		final BigInteger q = new BigInteger(jsonNode.get("q").asText(), 10);
 		final BigInteger g = new BigInteger(jsonNode.get("g").asText(), 10);
 
-		this.group = new GqGroup(p, q, g);
+		this.group = GqGroup.of(p, q, g);
 	}
 
 	GqGroup getGroup() {
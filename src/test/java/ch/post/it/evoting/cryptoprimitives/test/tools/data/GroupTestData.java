@@ -46,22 +46,22 @@ public class GroupTestData {
 			final BigInteger p1 = BigInteger.valueOf(11);
 			final BigInteger q1 = BigInteger.valueOf(5);
 			final BigInteger g1 = BigInteger.valueOf(3);
-			final GqGroup group1 = new GqGroup(p1, q1, g1);
+			final GqGroup group1 = GqGroup.of(p1, q1, g1);
 
 			final BigInteger p2 = BigInteger.valueOf(23);
 			final BigInteger q2 = BigInteger.valueOf(11);
 			final BigInteger g2 = BigInteger.valueOf(2);
-			final GqGroup group2 = new GqGroup(p2, q2, g2);
+			final GqGroup group2 = GqGroup.of(p2, q2, g2);
 
 			final BigInteger p3 = BigInteger.valueOf(47);
 			final BigInteger q3 = BigInteger.valueOf(23);
 			final BigInteger g3 = BigInteger.valueOf(2);
-			final GqGroup group3 = new GqGroup(p3, q3, g3);
+			final GqGroup group3 = GqGroup.of(p3, q3, g3);
 
 			final BigInteger p4 = BigInteger.valueOf(59);
 			final BigInteger q4 = BigInteger.valueOf(29);
 			final BigInteger g4 = BigInteger.valueOf(3);
-			final GqGroup group4 = new GqGroup(p4, q4, g4);
+			final GqGroup group4 = GqGroup.of(p4, q4, g4);
 
 			smallTestGroups = List.of(group1, group2, group3, group4);
 		}
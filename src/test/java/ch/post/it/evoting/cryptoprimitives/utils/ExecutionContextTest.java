@@ -0,0 +1,199 @@
+/*
+ * Copyright 2022 Post CH Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.post.it.evoting.cryptoprimitives.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ForkedComputation;
+import ch.post.it.evoting.cryptoprimitives.internal.utils.ParallelStreams;
+
+@DisplayName("An ExecutionContext")
+class ExecutionContextTest {
+
+	private static final int LOOP_SIZE = 1000;
+
+	@Test
+	@DisplayName("outside of any operation is the default context")
+	void currentOutsideOperationIsDefault() {
+		assertSame(ExecutionContext.getDefault(), ExecutionContext.current());
+		assertEquals(ExecutionContext.DEFAULT_SEQUENTIAL_THRESHOLD, ExecutionContext.getDefault().getSequentialThreshold());
+	}
+
+	@Test
+	@DisplayName("created with invalid arguments throws an IllegalArgumentException")
+	void withParallelismInvalidArgumentsThrows() {
+		assertThrows(IllegalArgumentException.class, () -> ExecutionContext.withParallelism(0));
+		assertThrows(IllegalArgumentException.class, () -> ExecutionContext.withParallelism(2, 0));
+	}
+
+	@Test
+	@DisplayName("executing a null operation throws a NullPointerException")
+	void executeNullOperationThrows() {
+		final ExecutionContext sequential = ExecutionContext.sequential();
+		assertThrows(NullPointerException.class, () -> sequential.execute(null));
+	}
+
+	@Nested
+	@DisplayName("that is sequential")
+	class Sequential {
+
+		private final ExecutionContext context = ExecutionContext.sequential();
+
+		@Test
+		@DisplayName("runs operations and their loops in the calling thread")
+		void runsInCallingThread() {
+			final Thread caller = Thread.currentThread();
+
+			final Set<Thread> threads = context.execute(() -> {
+				assertSame(context, ExecutionContext.current());
+				assertFalse(ParallelStreams.range(0, LOOP_SIZE).isParallel());
+				return ParallelStreams.range(0, LOOP_SIZE).mapToObj(i -> Thread.currentThread()).collect(Collectors.toSet());
+			});
+
+			assertEquals(Set.of(caller), threads);
+			assertFalse(context.isParallel(LOOP_SIZE));
+			assertEquals(1, context.getParallelism());
+		}
+
+		@Test
+		@DisplayName("runs forked computations in the calling thread")
+		void forkedComputationsRunInCallingThread() {
+			final Thread caller = Thread.currentThread();
+
+			final Thread thread = context.execute(() -> ForkedComputation.fork(Thread::currentThread).join());
+
+			assertSame(caller, thread);
+		}
+
+		@Test
+		@DisplayName("runs asynchronous operations in the calling thread before returning")
+		void asyncRunsInCallingThread() {
+			final Thread caller = Thread.currentThread();
+			final AtomicReference<Thread> thread = new AtomicReference<>();
+
+			context.executeAsync(() -> thread.set(Thread.currentThread()));
+
+			assertSame(caller, thread.get());
+		}
+
+		@Test
+		@DisplayName("restores the previous context after the operation")
+		void restoresPreviousContext() {
+			context.execute(() -> "done");
+
+			assertSame(ExecutionContext.getDefault(), ExecutionContext.current());
+		}
+	}
+
+	@Nested
+	@DisplayName("with a dedicated pool")
+	class Dedicated {
+
+		@Test
+		@DisplayName("runs operations and their loops only in its pool")
+		void runsInDedicatedPool() {
+			try (final ExecutionContext context = ExecutionContext.withParallelism(3)) {
+				final Set<ForkJoinPool> pools = context.execute(() -> {
+					assertSame(context, ExecutionContext.current());
+					assertTrue(ParallelStreams.range(0, LOOP_SIZE).isParallel());
+					return ParallelStreams.range(0, LOOP_SIZE)
+							.mapToObj(i -> {
+								assertSame(context, ExecutionContext.current());
+								return ForkJoinTask.getPool();
+							})
+							.collect(Collectors.toSet());
+				});
+
+				assertEquals(1, pools.size());
+				assertNotSame(ForkJoinPool.commonPool(), pools.iterator().next());
+				assertEquals(3, context.getParallelism());
+			}
+		}
+
+		@Test
+		@DisplayName("runs loops smaller than the sequential threshold sequentially")
+		void smallLoopsAreSequential() {
+			try (final ExecutionContext context = ExecutionContext.withParallelism(2, 10)) {
+				assertFalse(context.isParallel(9));
+				assertTrue(context.isParallel(10));
+				assertFalse(context.execute(() -> ParallelStreams.range(0, 9).isParallel()));
+				assertTrue(context.execute(() -> ParallelStreams.range(0, 10).isParallel()));
+			}
+		}
+
+		@Test
+		@DisplayName("rethrows the original exception of the operation")
+		void rethrowsOriginalException() {
+			final IllegalArgumentException exception = new IllegalArgumentException("Invalid argument.");
+
+			try (final ExecutionContext context = ExecutionContext.withParallelism(2)) {
+				final IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> context.execute(() -> {
+					throw exception;
+				}));
+				assertSame(exception, thrown);
+			}
+		}
+
+		@Test
+		@DisplayName("runs asynchronous operations in its pool")
+		void asyncRunsInDedicatedPool() throws InterruptedException {
+			try (final ExecutionContext context = ExecutionContext.withParallelism(2)) {
+				final CountDownLatch done = new CountDownLatch(1);
+				final AtomicReference<ExecutionContext> current = new AtomicReference<>();
+				final AtomicReference<ForkJoinPool> pool = new AtomicReference<>();
+
+				context.executeAsync(() -> {
+					current.set(ExecutionContext.current());
+					pool.set(ForkJoinTask.getPool());
+					done.countDown();
+				});
+
+				assertTrue(done.await(10, TimeUnit.SECONDS));
+				assertSame(context, current.get());
+				assertNotSame(ForkJoinPool.commonPool(), pool.get());
+			}
+		}
+
+		@Test
+		@DisplayName("once closed rejects operations")
+		void closedRejectsOperations() {
+			final ExecutionContext context = ExecutionContext.withParallelism(2);
+			context.close();
+
+			assertThrows(RejectedExecutionException.class, () -> context.execute(() -> "rejected"));
+			assertThrows(RejectedExecutionException.class, () -> context.executeAsync(() -> {
+			}));
+		}
+	}
+}
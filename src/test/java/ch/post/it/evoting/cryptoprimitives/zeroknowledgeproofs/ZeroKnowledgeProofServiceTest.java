@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamal;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertext;
+import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientCiphertextMatrix;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientKeyPair;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPrivateKey;
 import ch.post.it.evoting.cryptoprimitives.elgamal.ElGamalMultiRecipientPublicKey;
@@ -88,7 +89,12 @@ class ZeroKnowledgeProofServiceTest extends TestGroupSetup {
 		@Test
 		@DisplayName("Generating verifiable decryptions with null arguments throws a NullPointerException")
 		void genVerifiableDecryptionsWithNullArguments() {
-			assertThrows(NullPointerException.class, () -> zeroKnowledgeProofservice.genVerifiableDecryptions(null, keyPair, auxiliaryInformation));
+			assertThrows(NullPointerException.class,
+					() -> zeroKnowledgeProofservice.genVerifiableDecryptions((GroupVector<ElGamalMultiRecipientCiphertext, GqGroup>) null, keyPair,
+							auxiliaryInformation));
+			assertThrows(NullPointerException.class,
+					() -> zeroKnowledgeProofservice.genVerifiableDecryptions((ElGamalMultiRecipientCiphertextMatrix) null, keyPair,
+							auxiliaryInformation));
 			assertThrows(NullPointerException.class,
 					() -> zeroKnowledgeProofservice.genVerifiableDecryptions(ciphertexts, null, auxiliaryInformation));
 			assertThrows(NullPointerException.class, () -> zeroKnowledgeProofservice.genVerifiableDecryptions(ciphertexts, keyPair, null));
@@ -101,6 +107,20 @@ class ZeroKnowledgeProofServiceTest extends TestGroupSetup {
 			assertDoesNotThrow(() -> zeroKnowledgeProofservice.genVerifiableDecryptions(ciphertexts, keyPair, auxiliaryInformation));
 		}
 
+		@Test
+		@DisplayName("Generating verifiable decryptions of a ciphertext matrix gives verifiable decryptions of its ciphertexts")
+		void genVerifiableDecryptionsOfCiphertextMatrix() {
+			final ElGamalMultiRecipientCiphertextMatrix matrix = ElGamalMultiRecipientCiphertextMatrix.from(ciphertexts,
+					ElGamalMultiRecipientCiphertextMatrix.Storage.OFF_HEAP);
+
+			final VerifiableDecryptions verifiableDecryptions = zeroKnowledgeProofservice.genVerifiableDecryptions(matrix, keyPair,
+					auxiliaryInformation);
+
+			assertEquals(numCiphertexts, verifiableDecryptions.get_N());
+			assertTrue(zeroKnowledgeProofservice.verifyDecryptions(ciphertexts, keyPair.getPublicKey(), verifiableDecryptions, auxiliaryInformation)
+					.isVerified());
+		}
+
 		@Test
 		@DisplayName("Generating verifiable decryptions with an empty list ciphertexts throws an IllegalArgumentException")
 		void genVerifiableDecryptionsWithEmptyCiphertextList() {